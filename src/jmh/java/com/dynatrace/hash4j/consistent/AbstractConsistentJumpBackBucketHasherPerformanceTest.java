@@ -40,13 +40,19 @@ public abstract class AbstractConsistentJumpBackBucketHasherPerformanceTest {
   @Param({"1", "10", "100", "1000", "10000", "100000", "1000000"})
   int numBuckets;
 
+  private static final int BATCH_SIZE = 1000;
+
   private SplittableRandom random;
   private ConsistentBucketHasher consistentBucketHasher;
+  private long[] hashes;
+  private int[] buckets;
 
   @Setup
   public void init() {
     random = new SplittableRandom(0x87c5950e6677341eL);
     consistentBucketHasher = getConsistentBucketHasher();
+    hashes = random.longs(BATCH_SIZE).toArray();
+    buckets = new int[BATCH_SIZE];
   }
 
   @Benchmark
@@ -56,5 +62,21 @@ public abstract class AbstractConsistentJumpBackBucketHasherPerformanceTest {
     blackhole.consume(bucketIdx);
   }
 
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void getBucketLoop(Blackhole blackhole) {
+    for (int i = 0; i < BATCH_SIZE; ++i) {
+      buckets[i] = consistentBucketHasher.getBucket(hashes[i], numBuckets);
+    }
+    blackhole.consume(buckets);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void getBuckets(Blackhole blackhole) {
+    consistentBucketHasher.getBuckets(hashes, numBuckets, buckets);
+    blackhole.consume(buckets);
+  }
+
   protected abstract ConsistentBucketHasher getConsistentBucketHasher();
 }
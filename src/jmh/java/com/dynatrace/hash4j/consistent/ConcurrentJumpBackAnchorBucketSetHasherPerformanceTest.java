@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.consistent;
+
+import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@Fork(value = 1)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS, batchSize = 1)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConcurrentJumpBackAnchorBucketSetHasherPerformanceTest {
+
+  @State(Scope.Group)
+  public static class HasherState {
+
+    @Param({"10", "100", "1000", "10000"})
+    int numBuckets;
+
+    ConsistentBucketSetHasher hasher;
+
+    @Setup
+    public void init() {
+      hasher =
+          ConsistentHashing.concurrentJumpBackAnchorHash(
+              PseudoRandomGeneratorProvider.splitMix64_V1());
+      for (int i = 0; i < numBuckets; ++i) {
+        hasher.addBucket();
+      }
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class ThreadState {
+
+    SplittableRandom random;
+
+    @Setup
+    public void init() {
+      random = new SplittableRandom();
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @Threads(4)
+  public void getBucket(HasherState hasherState, ThreadState threadState, Blackhole blackhole) {
+    blackhole.consume(hasherState.hasher.getBucket(threadState.random.nextLong()));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @Group("churn")
+  @GroupThreads(4)
+  public void getBucketUnderChurn(
+      HasherState hasherState, ThreadState threadState, Blackhole blackhole) {
+    blackhole.consume(hasherState.hasher.getBucket(threadState.random.nextLong()));
+  }
+
+  // removes a random bucket and adds a new one, keeping the number of buckets constant
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @Group("churn")
+  @GroupThreads(1)
+  public void removeAndAddBucket(HasherState hasherState, ThreadState threadState) {
+    ConsistentBucketSetHasher hasher = hasherState.hasher;
+    int[] buckets = hasher.getBuckets();
+    hasher.removeBucket(buckets[threadState.random.nextInt(buckets.length)]);
+    hasher.addBucket();
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.consistent;
+
+import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@Fork(value = 1)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS, batchSize = 1)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConsistentBoundedLoadBucketHasherPerformanceTest {
+
+  // average number of keys per bucket
+  private static final int LOAD_FACTOR = 10;
+
+  @State(Scope.Thread)
+  public static class TestState {
+
+    @Param({"10", "100", "1000", "10000"})
+    int numBuckets;
+
+    @Param({"1.1", "1.25", "1.5", "2"})
+    double capacityFactor;
+
+    ConsistentBucketHasher consistentBucketHasher;
+    ConsistentBoundedLoadBucketHasher boundedLoadBucketHasher;
+    SplittableRandom random;
+
+    // keys are assigned and released in FIFO order, keeping the total load constant
+    int[] assignedBuckets;
+    int[] loads;
+    int nextIndex;
+
+    @Setup
+    public void init() {
+      consistentBucketHasher =
+          ConsistentHashing.jumpBackHash(PseudoRandomGeneratorProvider.splitMix64_V1());
+      boundedLoadBucketHasher =
+          ConsistentHashing.boundedLoad(
+              ConsistentHashing.jumpBackHash(PseudoRandomGeneratorProvider.splitMix64_V1()),
+              PseudoRandomGeneratorProvider.splitMix64_V1(),
+              capacityFactor);
+      random = new SplittableRandom(0x87c5950e6677341eL);
+      assignedBuckets = new int[LOAD_FACTOR * numBuckets];
+      loads = new int[numBuckets];
+      for (int i = 0; i < assignedBuckets.length; ++i) {
+        int bucket = boundedLoadBucketHasher.getBucket(random.nextLong(), loads, i);
+        loads[bucket] += 1;
+        assignedBuckets[i] = bucket;
+      }
+      nextIndex = 0;
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void getBucketJumpBackHash(TestState testState, Blackhole blackhole) {
+    int bucket =
+        testState.consistentBucketHasher.getBucket(
+            testState.random.nextLong(), testState.numBuckets);
+    blackhole.consume(bucket);
+  }
+
+  // releases the oldest key and assigns a new one
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void getBucketBoundedLoad(TestState testState, Blackhole blackhole) {
+    int[] loads = testState.loads;
+    int[] assignedBuckets = testState.assignedBuckets;
+    int index = testState.nextIndex;
+    loads[assignedBuckets[index]] -= 1;
+    int bucket =
+        testState.boundedLoadBucketHasher.getBucket(
+            testState.random.nextLong(), loads, assignedBuckets.length - 1);
+    loads[bucket] += 1;
+    assignedBuckets[index] = bucket;
+    index += 1;
+    testState.nextIndex = (index == assignedBuckets.length) ? 0 : index;
+    blackhole.consume(bucket);
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.consistent;
+
+import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@Fork(value = 1)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS, batchSize = 1)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConsistentBucketSetHasherStatePerformanceTest {
+
+  @State(Scope.Thread)
+  public static class TestState {
+
+    @Param({"10000", "100000", "1000000"})
+    int numBuckets;
+
+    ConsistentBucketSetHasher hasher;
+    byte[] emptyState;
+    byte[] state;
+    byte[] compactState;
+
+    // a small change consisting of the removal of a single bucket
+    byte[] changedState;
+    byte[] forwardStateDelta;
+    byte[] backwardStateDelta;
+
+    @Setup
+    public void init() {
+      SplittableRandom random = new SplittableRandom(0x87c5950e6677341eL);
+      hasher = create();
+      emptyState = hasher.getState();
+      for (int i = 0; i < numBuckets; ++i) {
+        hasher.addBucket();
+      }
+      // remove 10% of the buckets
+      for (int i = 0; i < numBuckets / 10; ++i) {
+        hasher.removeBucket(random.nextInt(numBuckets));
+      }
+      state = hasher.getState();
+      compactState = hasher.getStateDelta(emptyState);
+      int[] buckets = hasher.getBuckets();
+      hasher.removeBucket(buckets[random.nextInt(buckets.length)]);
+      changedState = hasher.getState();
+      forwardStateDelta = hasher.getStateDelta(state);
+      backwardStateDelta = create().setState(state).getStateDelta(changedState);
+    }
+  }
+
+  private static ConsistentBucketSetHasher create() {
+    return ConsistentHashing.jumpBackAnchorHash(PseudoRandomGeneratorProvider.splitMix64_V1());
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void getState(TestState testState, Blackhole blackhole) {
+    blackhole.consume(testState.hasher.getState());
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void setState(TestState testState, Blackhole blackhole) {
+    blackhole.consume(create().setState(testState.state));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void getCompactState(TestState testState, Blackhole blackhole) {
+    blackhole.consume(testState.hasher.getStateDelta(testState.emptyState));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void setCompactState(TestState testState, Blackhole blackhole) {
+    blackhole.consume(create().applyStateDelta(testState.compactState));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void getStateDelta(TestState testState, Blackhole blackhole) {
+    blackhole.consume(testState.hasher.getStateDelta(testState.state));
+  }
+
+  // applies the small change and reverts it afterwards
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void applyStateDelta(TestState testState, Blackhole blackhole) {
+    testState.hasher.applyStateDelta(testState.backwardStateDelta);
+    testState.hasher.applyStateDelta(testState.forwardStateDelta);
+    blackhole.consume(testState.hasher);
+  }
+}
@@ -40,6 +40,8 @@ public class ConsistentJumpBucketHasherPerformanceTest {
   private static final ConsistentBucketHasher CONSISTENT_BUCKET_HASHER =
       ConsistentHashing.jumpHash(PseudoRandomGeneratorProvider.splitMix64_V1());
 
+  private static final int BATCH_SIZE = 1000;
+
   @State(Scope.Thread)
   public static class TestState {
 
@@ -47,10 +49,14 @@ public class ConsistentJumpBucketHasherPerformanceTest {
     int numBuckets;
 
     SplittableRandom random;
+    long[] hashes;
+    int[] buckets;
 
     @Setup
     public void init() {
       random = new SplittableRandom(0x87c5950e6677341eL);
+      hashes = random.longs(BATCH_SIZE).toArray();
+      buckets = new int[BATCH_SIZE];
     }
   }
 
@@ -61,4 +67,21 @@ public class ConsistentJumpBucketHasherPerformanceTest {
         CONSISTENT_BUCKET_HASHER.getBucket(testState.random.nextLong(), testState.numBuckets);
     blackhole.consume(bucket);
   }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void getBucketLoop(TestState testState, Blackhole blackhole) {
+    for (int i = 0; i < BATCH_SIZE; ++i) {
+      testState.buckets[i] =
+          CONSISTENT_BUCKET_HASHER.getBucket(testState.hashes[i], testState.numBuckets);
+    }
+    blackhole.consume(testState.buckets);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void getBuckets(TestState testState, Blackhole blackhole) {
+    CONSISTENT_BUCKET_HASHER.getBuckets(testState.hashes, testState.numBuckets, testState.buckets);
+    blackhole.consume(testState.buckets);
+  }
 }
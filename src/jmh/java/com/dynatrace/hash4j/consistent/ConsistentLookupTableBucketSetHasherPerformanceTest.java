@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.consistent;
+
+import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@Fork(value = 1)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS, batchSize = 1)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConsistentLookupTableBucketSetHasherPerformanceTest {
+
+  @State(Scope.Thread)
+  public static class TestState {
+
+    @Param({"10", "100", "1000", "10000"})
+    int numBuckets;
+
+    // the table takes 4 * 2^tableSizeBits bytes
+    @Param({"16", "20"})
+    int tableSizeBits;
+
+    ConsistentBucketSetHasher directHasher;
+    ConsistentBucketSetHasher lookupTableHasher;
+    byte[] state;
+    SplittableRandom random;
+
+    @Setup
+    public void init() {
+      random = new SplittableRandom(0x87c5950e6677341eL);
+      directHasher =
+          ConsistentHashing.jumpBackAnchorHash(PseudoRandomGeneratorProvider.splitMix64_V1());
+      for (int i = 0; i < numBuckets; ++i) {
+        directHasher.addBucket();
+      }
+      // remove 10% of the buckets to exercise the anchor part of the algorithm
+      for (int i = 0; i < numBuckets / 10; ++i) {
+        directHasher.removeBucket(random.nextInt(numBuckets));
+      }
+      state = directHasher.getState();
+      lookupTableHasher =
+          ConsistentHashing.jumpBackAnchorHashWithLookupTable(
+                  PseudoRandomGeneratorProvider.splitMix64_V1(), tableSizeBits)
+              .setState(state);
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void getBucketDirect(TestState testState, Blackhole blackhole) {
+    blackhole.consume(testState.directHasher.getBucket(testState.random.nextLong()));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void getBucketLookupTable(TestState testState, Blackhole blackhole) {
+    blackhole.consume(testState.lookupTableHasher.getBucket(testState.random.nextLong()));
+  }
+
+  // removal only recomputes the slots of the removed bucket, addition recomputes all slots
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void removeAndAddBucketLookupTable(TestState testState, Blackhole blackhole) {
+    ConsistentBucketSetHasher hasher = testState.lookupTableHasher;
+    int[] buckets = hasher.getBuckets();
+    int bucketId = buckets[testState.random.nextInt(buckets.length)];
+    hasher.removeBucket(bucketId);
+    blackhole.consume(hasher.addBucket());
+  }
+
+  // builds the complete table
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void setStateLookupTable(TestState testState, Blackhole blackhole) {
+    blackhole.consume(testState.lookupTableHasher.setState(testState.state));
+  }
+}
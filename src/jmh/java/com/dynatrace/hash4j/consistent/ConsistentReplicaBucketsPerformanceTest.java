@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.consistent;
+
+import com.dynatrace.hash4j.random.PseudoRandomGenerator;
+import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@Fork(value = 1)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS, batchSize = 1)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConsistentReplicaBucketsPerformanceTest {
+
+  @State(Scope.Thread)
+  public static class TestState {
+
+    @Param({"10", "100", "1000", "10000"})
+    int numBuckets;
+
+    @Param({"1", "2", "3", "5"})
+    int replicas;
+
+    ConsistentBucketHasher consistentBucketHasher;
+    ConsistentBucketSetHasher consistentBucketSetHasher;
+    PseudoRandomGenerator pseudoRandomGenerator;
+    SplittableRandom random;
+    int[] buckets;
+
+    @Setup
+    public void init() {
+      consistentBucketHasher =
+          ConsistentHashing.jumpBackHash(PseudoRandomGeneratorProvider.splitMix64_V1());
+      consistentBucketSetHasher =
+          ConsistentHashing.jumpBackAnchorHash(PseudoRandomGeneratorProvider.splitMix64_V1());
+      for (int i = 0; i < numBuckets; ++i) {
+        consistentBucketSetHasher.addBucket();
+      }
+      pseudoRandomGenerator = PseudoRandomGeneratorProvider.splitMix64_V1().create();
+      random = new SplittableRandom(0x87c5950e6677341eL);
+      buckets = new int[replicas];
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void getBucketsJumpBackHash(TestState testState, Blackhole blackhole) {
+    testState.consistentBucketHasher.getBuckets(
+        testState.random.nextLong(), testState.numBuckets, testState.replicas, testState.buckets);
+    blackhole.consume(testState.buckets);
+  }
+
+  // derives further hash values from a pseudo-random sequence seeded with the hash value of the key
+  // and skips duplicates
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void getBucketsJumpBackHashNaive(TestState testState, Blackhole blackhole) {
+    int[] buckets = testState.buckets;
+    PseudoRandomGenerator pseudoRandomGenerator = testState.pseudoRandomGenerator;
+    long hash = testState.random.nextLong();
+    pseudoRandomGenerator.reset(hash);
+    int numFound = 0;
+    while (numFound < testState.replicas) {
+      int bucket = testState.consistentBucketHasher.getBucket(hash, testState.numBuckets);
+      boolean isDuplicate = false;
+      for (int i = 0; i < numFound; ++i) {
+        if (buckets[i] == bucket) {
+          isDuplicate = true;
+          break;
+        }
+      }
+      if (!isDuplicate) buckets[numFound++] = bucket;
+      hash = pseudoRandomGenerator.nextLong();
+    }
+    blackhole.consume(buckets);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void getBucketsJumpBackAnchorHash(TestState testState, Blackhole blackhole) {
+    testState.consistentBucketSetHasher.getBuckets(
+        testState.random.nextLong(), testState.replicas, testState.buckets);
+    blackhole.consume(testState.buckets);
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.consistent;
+
+import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@Fork(value = 1)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS, batchSize = 1)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConsistentWeightedJumpBackBucketHasherPerformanceTest {
+
+  @State(Scope.Thread)
+  public static class TestState {
+
+    @Param({"1", "10", "100", "1000", "10000", "100000"})
+    int numBuckets;
+
+    // weights are uniformly distributed in [1, maxWeight]
+    @Param({"1", "2", "10", "100"})
+    double maxWeight;
+
+    ConsistentWeightedBucketHasher hasher;
+    SplittableRandom random;
+
+    @Setup
+    public void init() {
+      random = new SplittableRandom(0x87c5950e6677341eL);
+      double[] weights = new double[numBuckets];
+      for (int i = 0; i < numBuckets; ++i) {
+        weights[i] = 1. + (maxWeight - 1.) * random.nextDouble();
+      }
+      hasher =
+          ConsistentHashing.weightedJumpBackHash(PseudoRandomGeneratorProvider.splitMix64_V1())
+              .setWeights(weights);
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void getBucket(TestState testState, Blackhole blackhole) {
+    blackhole.consume(testState.hasher.getBucket(testState.random.nextLong()));
+  }
+}
@@ -41,6 +41,8 @@ public class ImprovedConsistentWeightedSamplingPerformanceTest {
       ConsistentHashing.improvedConsistentWeightedSampling(
           PseudoRandomGeneratorProvider.splitMix64_V1());
 
+  private static final int BATCH_SIZE = 1000;
+
   @State(Scope.Thread)
   public static class TestState {
 
@@ -48,10 +50,14 @@ public class ImprovedConsistentWeightedSamplingPerformanceTest {
     int numBuckets;
 
     SplittableRandom random;
+    long[] hashes;
+    int[] buckets;
 
     @Setup
     public void init() {
       random = new SplittableRandom(0x87c5950e6677341eL);
+      hashes = random.longs(BATCH_SIZE).toArray();
+      buckets = new int[BATCH_SIZE];
     }
   }
 
@@ -62,4 +68,21 @@ public class ImprovedConsistentWeightedSamplingPerformanceTest {
         CONSISTENT_BUCKET_HASHER.getBucket(testState.random.nextLong(), testState.numBuckets);
     blackhole.consume(bucket);
   }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void getBucketLoop(TestState testState, Blackhole blackhole) {
+    for (int i = 0; i < BATCH_SIZE; ++i) {
+      testState.buckets[i] =
+          CONSISTENT_BUCKET_HASHER.getBucket(testState.hashes[i], testState.numBuckets);
+    }
+    blackhole.consume(testState.buckets);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void getBuckets(TestState testState, Blackhole blackhole) {
+    CONSISTENT_BUCKET_HASHER.getBuckets(testState.hashes, testState.numBuckets, testState.buckets);
+    blackhole.consume(testState.buckets);
+  }
 }
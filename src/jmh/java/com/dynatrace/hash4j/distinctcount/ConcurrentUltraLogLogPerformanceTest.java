@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+// measures the throughput of insertions into a single sketch shared by all threads compared to
+// insertions into thread-local sketches (sharding), which is the alternative without contention
+@Fork(value = 1)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.Throughput)
+public class ConcurrentUltraLogLogPerformanceTest {
+
+  @State(Scope.Benchmark)
+  public static class SharedState {
+
+    @Param({"8", "12", "16"})
+    public int precision;
+
+    public ConcurrentUltraLogLog sketch;
+
+    @Setup(Level.Trial)
+    public void init() {
+      sketch = ConcurrentUltraLogLog.create(precision);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class ThreadState {
+
+    public SplittableRandom random;
+
+    public UltraLogLog sketch;
+
+    @Setup(Level.Trial)
+    public void init(SharedState sharedState) {
+      random = new SplittableRandom();
+      sketch = UltraLogLog.create(sharedState.precision);
+    }
+  }
+
+  private static ConcurrentUltraLogLog addShared(SharedState sharedState, ThreadState threadState) {
+    return sharedState.sketch.add(threadState.random.nextLong());
+  }
+
+  private static UltraLogLog addThreadLocal(ThreadState threadState) {
+    return threadState.sketch.add(threadState.random.nextLong());
+  }
+
+  @Benchmark
+  @Threads(1)
+  public ConcurrentUltraLogLog concurrentAdd1Thread(
+      SharedState sharedState, ThreadState threadState) {
+    return addShared(sharedState, threadState);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public ConcurrentUltraLogLog concurrentAdd4Threads(
+      SharedState sharedState, ThreadState threadState) {
+    return addShared(sharedState, threadState);
+  }
+
+  @Benchmark
+  @Threads(16)
+  public ConcurrentUltraLogLog concurrentAdd16Threads(
+      SharedState sharedState, ThreadState threadState) {
+    return addShared(sharedState, threadState);
+  }
+
+  @Benchmark
+  @Threads(64)
+  public ConcurrentUltraLogLog concurrentAdd64Threads(
+      SharedState sharedState, ThreadState threadState) {
+    return addShared(sharedState, threadState);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public UltraLogLog threadLocalAdd1Thread(ThreadState threadState) {
+    return addThreadLocal(threadState);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public UltraLogLog threadLocalAdd4Threads(ThreadState threadState) {
+    return addThreadLocal(threadState);
+  }
+
+  @Benchmark
+  @Threads(16)
+  public UltraLogLog threadLocalAdd16Threads(ThreadState threadState) {
+    return addThreadLocal(threadState);
+  }
+
+  @Benchmark
+  @Threads(64)
+  public UltraLogLog threadLocalAdd64Threads(ThreadState threadState) {
+    return addThreadLocal(threadState);
+  }
+}
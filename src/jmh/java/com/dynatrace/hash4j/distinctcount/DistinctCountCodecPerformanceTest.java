@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@Fork(value = 1)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS, batchSize = 1)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DistinctCountCodecPerformanceTest {
+
+  public enum SketchType {
+    ULTRALOGLOG,
+    HYPERLOGLOG
+  }
+
+  @State(Scope.Benchmark)
+  public static class CodecState {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    public int numElements;
+
+    @Param({"12", "14", "16"})
+    public int precision;
+
+    @Param public SketchType sketchType;
+
+    UltraLogLog ultraLogLog;
+    HyperLogLog hyperLogLog;
+    byte[] encoded;
+    int rawLength;
+
+    @Setup(Level.Trial)
+    public void init() {
+      SplittableRandom random = new SplittableRandom();
+      ultraLogLog = UltraLogLog.create(precision);
+      hyperLogLog = HyperLogLog.create(precision);
+      for (int i = 0; i < numElements; ++i) {
+        long hash = random.nextLong();
+        ultraLogLog.add(hash);
+        hyperLogLog.add(hash);
+      }
+      if (sketchType == SketchType.ULTRALOGLOG) {
+        encoded = DistinctCountCodec.encode(ultraLogLog);
+        rawLength = ultraLogLog.getState().length;
+      } else {
+        encoded = DistinctCountCodec.encode(hyperLogLog);
+        rawLength = hyperLogLog.getState().length;
+      }
+    }
+  }
+
+  // the ratio of the encodedBytes and rawBytes rates gives the compression ratio
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class SizeCounters {
+    public long encodedBytes;
+    public long rawBytes;
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  public byte[] encode(CodecState state, SizeCounters counters) {
+    byte[] encoded;
+    if (state.sketchType == SketchType.ULTRALOGLOG) {
+      encoded = DistinctCountCodec.encode(state.ultraLogLog);
+    } else {
+      encoded = DistinctCountCodec.encode(state.hyperLogLog);
+    }
+    counters.encodedBytes += encoded.length;
+    counters.rawBytes += state.rawLength;
+    return encoded;
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  public void decode(CodecState state, Blackhole blackhole) {
+    if (state.sketchType == SketchType.ULTRALOGLOG) {
+      blackhole.consume(DistinctCountCodec.decodeUltraLogLog(state.encoded));
+    } else {
+      blackhole.consume(DistinctCountCodec.decodeHyperLogLog(state.encoded));
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  public void decodeAndAdd(CodecState state, Blackhole blackhole) {
+    if (state.sketchType == SketchType.ULTRALOGLOG) {
+      UltraLogLog sketch = UltraLogLog.create(state.precision);
+      blackhole.consume(DistinctCountCodec.decodeAndAdd(state.encoded, sketch));
+    } else {
+      HyperLogLog sketch = HyperLogLog.create(state.precision);
+      blackhole.consume(DistinctCountCodec.decodeAndAdd(state.encoded, sketch));
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  public void decodeThenAdd(CodecState state, Blackhole blackhole) {
+    if (state.sketchType == SketchType.ULTRALOGLOG) {
+      UltraLogLog sketch = UltraLogLog.create(state.precision);
+      blackhole.consume(sketch.add(DistinctCountCodec.decodeUltraLogLog(state.encoded)));
+    } else {
+      HyperLogLog sketch = HyperLogLog.create(state.precision);
+      blackhole.consume(sketch.add(DistinctCountCodec.decodeHyperLogLog(state.encoded)));
+    }
+  }
+}
@@ -87,6 +87,93 @@ public class HyperLogLogPerformanceTest {
     blackhole.consume(martingaleEstimator.getDistinctCountEstimate());
   }
 
+  @State(Scope.Thread)
+  public static class AddAllState {
+
+    @Param({"1000", "100000"})
+    public int numElements;
+
+    @Param({"10", "14", "18", "22"})
+    public int precision;
+
+    public long[] hashValues;
+
+    @Setup(Level.Trial)
+    public void init() {
+      hashValues = new SplittableRandom().longs(numElements).toArray();
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void distinctCountAddLoop(AddAllState addAllState, Blackhole blackhole) {
+    final HyperLogLog sketch = HyperLogLog.create(addAllState.precision);
+    for (long hashValue : addAllState.hashValues) {
+      sketch.add(hashValue);
+    }
+    blackhole.consume(sketch);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void distinctCountAddAll(AddAllState addAllState, Blackhole blackhole) {
+    final HyperLogLog sketch = HyperLogLog.create(addAllState.precision);
+    sketch.addAll(addAllState.hashValues, 0, addAllState.hashValues.length);
+    blackhole.consume(sketch);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void distinctCountAddAllWithMartingaleEstimator(
+      AddAllState addAllState, Blackhole blackhole) {
+    final HyperLogLog sketch = HyperLogLog.create(addAllState.precision);
+    final MartingaleEstimator martingaleEstimator = new MartingaleEstimator();
+    sketch.addAll(addAllState.hashValues, 0, addAllState.hashValues.length, martingaleEstimator);
+    blackhole.consume(martingaleEstimator.getDistinctCountEstimate());
+  }
+
+  @State(Scope.Thread)
+  public static class MergeState {
+
+    @Param({"10", "1000"})
+    public int numSketches;
+
+    @Param({"14"})
+    public int precision;
+
+    public List<HyperLogLog> sketches;
+
+    @Setup(Level.Trial)
+    public void init() {
+      SplittableRandom random = new SplittableRandom();
+      sketches =
+          Stream.generate(
+                  () -> {
+                    HyperLogLog sketch = HyperLogLog.create(precision);
+                    random.longs(1L << precision).forEach(sketch::add);
+                    return sketch;
+                  })
+              .limit(numSketches)
+              .collect(toList());
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void mergeLoop(MergeState mergeState, Blackhole blackhole) {
+    final HyperLogLog sketch = HyperLogLog.create(mergeState.precision);
+    for (HyperLogLog other : mergeState.sketches) {
+      sketch.add(other);
+    }
+    blackhole.consume(sketch);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void mergeAll(MergeState mergeState, Blackhole blackhole) {
+    blackhole.consume(HyperLogLog.mergeAll(mergeState.sketches));
+  }
+
   public enum Estimator {
     MAXIMUM_LIKELIHOOD_ESTIMATOR(HyperLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR),
     CORRECTED_RAW_ESTIMATOR(HyperLogLog.CORRECTED_RAW_ESTIMATOR);
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// measures the insert and query rates of a sliding window distinct counter, queries are compared
+// to merging all bucket sketches of the window from scratch
+@Fork(value = 1)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.Throughput)
+public class SlidingWindowUltraLogLogPerformanceTest {
+
+  @State(Scope.Thread)
+  public static class WindowState {
+
+    @Param({"10", "14"})
+    public int precision;
+
+    @Param({"10", "60"})
+    public int numBuckets;
+
+    // number of insertions per bucket
+    @Param({"1000"})
+    public long bucketDuration;
+
+    public SplittableRandom random;
+
+    public SlidingWindowUltraLogLog slidingWindowSketch;
+
+    public List<UltraLogLog> bucketSketches;
+
+    public long timestamp;
+
+    @Setup(Level.Trial)
+    public void init() {
+      random = new SplittableRandom();
+      slidingWindowSketch = SlidingWindowUltraLogLog.create(precision, numBuckets, bucketDuration);
+      bucketSketches = new ArrayList<>();
+      for (int i = 0; i < numBuckets; ++i) {
+        UltraLogLog bucketSketch = UltraLogLog.create(precision);
+        for (long j = 0; j < bucketDuration; ++j) {
+          long hashValue = random.nextLong();
+          slidingWindowSketch.add(hashValue, timestamp);
+          bucketSketch.add(hashValue);
+          timestamp += 1;
+        }
+        bucketSketches.add(bucketSketch);
+      }
+    }
+  }
+
+  @Benchmark
+  public SlidingWindowUltraLogLog insert(WindowState windowState) {
+    long timestamp = windowState.timestamp;
+    windowState.timestamp = timestamp + 1;
+    return windowState.slidingWindowSketch.add(windowState.random.nextLong(), timestamp);
+  }
+
+  @Benchmark
+  public double query(WindowState windowState) {
+    return windowState.slidingWindowSketch.getDistinctCountEstimate();
+  }
+
+  @Benchmark
+  public double queryByMergingAllBuckets(WindowState windowState) {
+    return UltraLogLog.mergeAll(windowState.bucketSketches).getDistinctCountEstimate();
+  }
+}
@@ -87,6 +87,93 @@ public class UltraLogLogPerformanceTest {
     blackhole.consume(martingaleEstimator.getDistinctCountEstimate());
   }
 
+  @State(Scope.Thread)
+  public static class AddAllState {
+
+    @Param({"1000", "100000"})
+    public int numElements;
+
+    @Param({"10", "14", "18", "22"})
+    public int precision;
+
+    public long[] hashValues;
+
+    @Setup(Level.Trial)
+    public void init() {
+      hashValues = new SplittableRandom().longs(numElements).toArray();
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void distinctCountAddLoop(AddAllState addAllState, Blackhole blackhole) {
+    final UltraLogLog sketch = UltraLogLog.create(addAllState.precision);
+    for (long hashValue : addAllState.hashValues) {
+      sketch.add(hashValue);
+    }
+    blackhole.consume(sketch);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void distinctCountAddAll(AddAllState addAllState, Blackhole blackhole) {
+    final UltraLogLog sketch = UltraLogLog.create(addAllState.precision);
+    sketch.addAll(addAllState.hashValues, 0, addAllState.hashValues.length);
+    blackhole.consume(sketch);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void distinctCountAddAllWithMartingaleEstimator(
+      AddAllState addAllState, Blackhole blackhole) {
+    final UltraLogLog sketch = UltraLogLog.create(addAllState.precision);
+    final MartingaleEstimator martingaleEstimator = new MartingaleEstimator();
+    sketch.addAll(addAllState.hashValues, 0, addAllState.hashValues.length, martingaleEstimator);
+    blackhole.consume(martingaleEstimator.getDistinctCountEstimate());
+  }
+
+  @State(Scope.Thread)
+  public static class MergeState {
+
+    @Param({"10", "1000"})
+    public int numSketches;
+
+    @Param({"14"})
+    public int precision;
+
+    public List<UltraLogLog> sketches;
+
+    @Setup(Level.Trial)
+    public void init() {
+      SplittableRandom random = new SplittableRandom();
+      sketches =
+          Stream.generate(
+                  () -> {
+                    UltraLogLog sketch = UltraLogLog.create(precision);
+                    random.longs(1L << precision).forEach(sketch::add);
+                    return sketch;
+                  })
+              .limit(numSketches)
+              .collect(toList());
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void mergeLoop(MergeState mergeState, Blackhole blackhole) {
+    final UltraLogLog sketch = UltraLogLog.create(mergeState.precision);
+    for (UltraLogLog other : mergeState.sketches) {
+      sketch.add(other);
+    }
+    blackhole.consume(sketch);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void mergeAll(MergeState mergeState, Blackhole blackhole) {
+    blackhole.consume(UltraLogLog.mergeAll(mergeState.sketches));
+  }
+
   public enum Estimator {
     MAXIMUM_LIKELIHOOD_ESTIMATOR(UltraLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR),
     OPTIMAL_FGRA_ESTIMATOR(UltraLogLog.OPTIMAL_FGRA_ESTIMATOR);
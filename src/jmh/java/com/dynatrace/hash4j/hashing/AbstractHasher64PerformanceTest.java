@@ -19,6 +19,14 @@ import static com.dynatrace.hash4j.hashing.PerformanceTestUtil.HASH4J_BYTES_FUNN
 import static com.dynatrace.hash4j.hashing.PerformanceTestUtil.HASH4J_CHARS_FUNNEL;
 import static com.dynatrace.hash4j.hashing.PerformanceTestUtil.HASH4J_CHARS_UTF8_FUNNEL;
 
+import java.util.SplittableRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.infra.Blackhole;
 
 public abstract class AbstractHasher64PerformanceTest extends AbstractPerformanceTest {
@@ -59,5 +67,65 @@ public abstract class AbstractHasher64PerformanceTest extends AbstractPerformanc
     blackhole.consume(getHasherInstance().hashToLong(s, HASH4J_CHARS_UTF8_FUNNEL));
   }
 
+  @State(Scope.Thread)
+  public static class PrimitiveArrayState {
+    @Param({"16", "1024", "65536"})
+    public int size;
+
+    public int[] intValues;
+    public long[] longValues;
+    public long[] hashValues;
+
+    @Setup
+    public void setup() {
+      SplittableRandom random = new SplittableRandom(0x6f0c9e4f1a8d6b25L ^ size);
+      intValues = random.ints(size).toArray();
+      longValues = random.longs(size).toArray();
+      hashValues = new long[size];
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void hashIntsToLongsScalar(PrimitiveArrayState state, Blackhole blackhole) {
+    Hasher64 hasher = getHasherInstance();
+    int[] values = state.intValues;
+    long[] hashValues = state.hashValues;
+    for (int i = 0; i < values.length; ++i) {
+      hashValues[i] = hasher.hashIntToLong(values[i]);
+    }
+    blackhole.consume(hashValues);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void hashIntsToLongsBatch(PrimitiveArrayState state, Blackhole blackhole) {
+    int[] values = state.intValues;
+    long[] hashValues = state.hashValues;
+    getHasherInstance().hashIntsToLongs(values, 0, hashValues, 0, values.length);
+    blackhole.consume(hashValues);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void hashLongsToLongsScalar(PrimitiveArrayState state, Blackhole blackhole) {
+    Hasher64 hasher = getHasherInstance();
+    long[] values = state.longValues;
+    long[] hashValues = state.hashValues;
+    for (int i = 0; i < values.length; ++i) {
+      hashValues[i] = hasher.hashLongToLong(values[i]);
+    }
+    blackhole.consume(hashValues);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void hashLongsToLongsBatch(PrimitiveArrayState state, Blackhole blackhole) {
+    long[] values = state.longValues;
+    long[] hashValues = state.hashValues;
+    getHasherInstance().hashLongsToLongs(values, 0, hashValues, 0, values.length);
+    blackhole.consume(hashValues);
+  }
+
   protected abstract Hasher64 getHasherInstance();
 }
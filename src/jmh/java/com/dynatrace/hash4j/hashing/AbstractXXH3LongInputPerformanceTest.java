@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025-2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.hashing;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS, batchSize = 1)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public abstract class AbstractXXH3LongInputPerformanceTest {
+
+  private static final Hasher64 XXH3_64 = Hashing.xxh3_64();
+  private static final Hasher128 XXH3_128 = Hashing.xxh3_128();
+
+  @State(Scope.Thread)
+  public static class LongInputState {
+    @Param({"1024", "4096", "16384", "65536", "262144", "1048576"})
+    public int len;
+
+    public byte[] data;
+
+    @Setup
+    public void setup() {
+      data = new byte[len];
+      new SplittableRandom(0x1c0f1b5ad0f6e2b3L ^ len).nextBytes(data);
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void hashBytesXXH3_64(LongInputState state, Blackhole blackhole) {
+    blackhole.consume(XXH3_64.hashBytesToLong(state.data));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void hashBytesXXH3_128(LongInputState state, Blackhole blackhole) {
+    blackhole.consume(XXH3_128.hashBytesTo128Bits(state.data));
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.random;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@Fork(value = 1)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS, batchSize = 1)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PseudoRandomGeneratorPerformanceTest {
+
+  private static final int BULK_SIZE = 1024;
+
+  public enum Algorithm {
+    SPLIT_MIX_64_V1(PseudoRandomGeneratorProvider.splitMix64_V1()),
+    WY_RAND_V1(PseudoRandomGeneratorProvider.wyRand_V1()),
+    XOROSHIRO_128_PLUS_PLUS_V1(PseudoRandomGeneratorProvider.xoroshiro128PlusPlus_V1()),
+    SQUARES_64_V1(PseudoRandomGeneratorProvider.squares64_V1());
+
+    private final PseudoRandomGeneratorProvider pseudoRandomGeneratorProvider;
+
+    Algorithm(PseudoRandomGeneratorProvider pseudoRandomGeneratorProvider) {
+      this.pseudoRandomGeneratorProvider = pseudoRandomGeneratorProvider;
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class TestState {
+
+    @Param Algorithm algorithm;
+
+    PseudoRandomGenerator prng;
+    final long[] longs = new long[BULK_SIZE];
+    long seed = 0x5b2f8e1c7d4a3690L;
+
+    @Setup
+    public void init() {
+      prng = algorithm.pseudoRandomGeneratorProvider.create(seed);
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void nextLong(TestState testState, Blackhole blackhole) {
+    blackhole.consume(testState.prng.nextLong());
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void nextExponential(TestState testState, Blackhole blackhole) {
+    blackhole.consume(testState.prng.nextExponential());
+  }
+
+  // typical usage pattern in hashing algorithms, where the generator is seeded with a hash value
+  // and only a few values are generated
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void resetAndNextLong(TestState testState, Blackhole blackhole) {
+    testState.seed += 1;
+    blackhole.consume(testState.prng.reset(testState.seed).nextLong());
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void nextLongs(TestState testState, Blackhole blackhole) {
+    testState.prng.nextLongs(testState.longs, 0, BULK_SIZE);
+    blackhole.consume(testState.longs);
+  }
+}
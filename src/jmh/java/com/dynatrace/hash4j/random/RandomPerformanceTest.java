@@ -38,6 +38,17 @@ public class RandomPerformanceTest {
         PseudoRandomGeneratorProvider.splitMix64_V1().create();
   }
 
+  private static final int BULK_SIZE = 1024;
+
+  @State(Scope.Thread)
+  public static class BulkState {
+    public final PseudoRandomGenerator prng =
+        PseudoRandomGeneratorProvider.splitMix64_V1().create();
+    public final long[] longs = new long[BULK_SIZE];
+    public final double[] doubles = new double[BULK_SIZE];
+    public final int[] ints = new int[BULK_SIZE];
+  }
+
   @Benchmark
   @BenchmarkMode(Mode.AverageTime)
   public void randomLong(RandomGeneratorState randomGeneratorState, Blackhole blackhole) {
@@ -68,4 +79,72 @@ public class RandomPerformanceTest {
       RandomGeneratorState randomGeneratorState, Blackhole blackhole) {
     blackhole.consume(StrictMath.log1p(-randomGeneratorState.prng.nextDouble()));
   }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void randomLongsLoop(BulkState bulkState, Blackhole blackhole) {
+    long[] longs = bulkState.longs;
+    for (int i = 0; i < BULK_SIZE; ++i) {
+      longs[i] = bulkState.prng.nextLong();
+    }
+    blackhole.consume(longs);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void randomLongsBulk(BulkState bulkState, Blackhole blackhole) {
+    bulkState.prng.nextLongs(bulkState.longs, 0, BULK_SIZE);
+    blackhole.consume(bulkState.longs);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void randomDoublesLoop(BulkState bulkState, Blackhole blackhole) {
+    double[] doubles = bulkState.doubles;
+    for (int i = 0; i < BULK_SIZE; ++i) {
+      doubles[i] = bulkState.prng.nextDouble();
+    }
+    blackhole.consume(doubles);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void randomDoublesBulk(BulkState bulkState, Blackhole blackhole) {
+    bulkState.prng.nextDoubles(bulkState.doubles, 0, BULK_SIZE);
+    blackhole.consume(bulkState.doubles);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void randomExponentialsLoop(BulkState bulkState, Blackhole blackhole) {
+    double[] doubles = bulkState.doubles;
+    for (int i = 0; i < BULK_SIZE; ++i) {
+      doubles[i] = bulkState.prng.nextExponential();
+    }
+    blackhole.consume(doubles);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void randomExponentialsBulk(BulkState bulkState, Blackhole blackhole) {
+    bulkState.prng.nextExponentials(bulkState.doubles, 0, BULK_SIZE);
+    blackhole.consume(bulkState.doubles);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void uniformIntsLoop(BulkState bulkState, Blackhole blackhole) {
+    int[] ints = bulkState.ints;
+    for (int i = 0; i < BULK_SIZE; ++i) {
+      ints[i] = bulkState.prng.uniformInt(1000);
+    }
+    blackhole.consume(ints);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void uniformIntsBulk(BulkState bulkState, Blackhole blackhole) {
+    bulkState.prng.uniformInts(1000, bulkState.ints, 0, BULK_SIZE);
+    blackhole.consume(bulkState.ints);
+  }
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@Fork(value = 1)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS, batchSize = 1)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BatchSignatureComparatorPerformanceTest {
+
+  @State(Scope.Benchmark)
+  public static class TestState {
+
+    @Param({"1", "8", "16", "64"})
+    int bitSize;
+
+    @Param({"64", "1024"})
+    int numberOfComponents;
+
+    @Param({"10000"})
+    int numberOfSignatures;
+
+    SimilarityHashPolicy policy;
+    BatchSignatureComparator comparator;
+    byte[] query;
+    byte[] signatures;
+    byte[][] separateSignatures;
+    int[] result;
+
+    @Setup
+    public void init() {
+      SplittableRandom random = new SplittableRandom(0x8f3b1d6e2a5c7049L);
+      policy = SimilarityHashing.minHash(numberOfComponents, bitSize);
+      comparator = BatchSignatureComparator.create(policy);
+      int signatureSize = policy.getSignatureSizeInBytes();
+      query = new byte[signatureSize];
+      random.nextBytes(query);
+      signatures = new byte[numberOfSignatures * signatureSize];
+      random.nextBytes(signatures);
+      separateSignatures = new byte[numberOfSignatures][];
+      for (int i = 0; i < numberOfSignatures; ++i) {
+        separateSignatures[i] = new byte[signatureSize];
+        System.arraycopy(signatures, i * signatureSize, separateSignatures[i], 0, signatureSize);
+      }
+      result = new int[numberOfSignatures];
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void compareOneToMany(TestState state, Blackhole blackhole) {
+    state.comparator.compareOneToMany(state.query, state.signatures, state.result);
+    blackhole.consume(state.result);
+  }
+
+  // baseline comparing the signatures one by one using the policy
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void compareOneByOne(TestState state, Blackhole blackhole) {
+    for (int i = 0; i < state.separateSignatures.length; ++i) {
+      state.result[i] =
+          state.policy.getNumberOfEqualComponents(state.query, state.separateSignatures[i]);
+    }
+    blackhole.consume(state.result);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void findMostSimilar(TestState state, Blackhole blackhole) {
+    blackhole.consume(state.comparator.findMostSimilar(state.query, state.signatures, 10));
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@Fork(value = 1)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS, batchSize = 1)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class IncrementalSimilarityHashingPerformanceTest {
+
+  public enum Algorithm {
+    MIN_HASH {
+      @Override
+      SimilarityHashPolicy create(int numberOfComponents) {
+        return SimilarityHashing.minHash(numberOfComponents, 16);
+      }
+    },
+    SUPER_MIN_HASH {
+      @Override
+      SimilarityHashPolicy create(int numberOfComponents) {
+        return SimilarityHashing.superMinHash(numberOfComponents, 16);
+      }
+    },
+    SIM_HASH {
+      @Override
+      SimilarityHashPolicy create(int numberOfComponents) {
+        return SimilarityHashing.simHash(numberOfComponents);
+      }
+    },
+    FAST_SIM_HASH {
+      @Override
+      SimilarityHashPolicy create(int numberOfComponents) {
+        return SimilarityHashing.fastSimHash(numberOfComponents);
+      }
+    };
+
+    abstract SimilarityHashPolicy create(int numberOfComponents);
+  }
+
+  @State(Scope.Thread)
+  public static class TestState {
+
+    @Param({"MIN_HASH", "SUPER_MIN_HASH", "SIM_HASH", "FAST_SIM_HASH"})
+    Algorithm algorithm;
+
+    @Param({"64", "256", "1024"})
+    int numberOfComponents;
+
+    // number of elements added before the measurement starts
+    @Param({"1000"})
+    int numberOfInitialElements;
+
+    final SplittableRandom random = new SplittableRandom(0x2e7c4a9f1b3d5068L);
+    IncrementalSimilarityHasher hasher;
+    IncrementalSimilarityHasher otherHasher;
+    IncrementalSimilarityHasher mergeHasher;
+
+    @Setup
+    public void init() {
+      SimilarityHashPolicy policy = algorithm.create(numberOfComponents);
+      hasher = policy.createIncrementalHasher();
+      otherHasher = policy.createIncrementalHasher();
+      mergeHasher = policy.createIncrementalHasher();
+      for (int i = 0; i < numberOfInitialElements; ++i) {
+        hasher.add(random.nextLong());
+        otherHasher.add(random.nextLong());
+      }
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void add(TestState state) {
+    state.hasher.add(state.random.nextLong());
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void addAndGetSignature(TestState state, Blackhole blackhole) {
+    blackhole.consume(state.hasher.add(state.random.nextLong()).getSignature());
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void merge(TestState state, Blackhole blackhole) {
+    state.mergeHasher.reset().merge(state.hasher).merge(state.otherHasher);
+    blackhole.consume(state.mergeHasher);
+  }
+}
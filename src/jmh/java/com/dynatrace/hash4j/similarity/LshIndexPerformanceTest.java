@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@Fork(value = 1)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS, batchSize = 1)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+public class LshIndexPerformanceTest {
+
+  private static final SimilarityHashPolicy POLICY = SimilarityHashing.minHash(64, 16);
+  private static final int NUM_BANDS = 16;
+  private static final int ROWS_PER_BAND = 4;
+
+  // the signatures are generated from per-ID seeds, so that they do not need to be stored
+  private static void createSignature(long seed, byte[] signature) {
+    new SplittableRandom(seed).nextBytes(signature);
+  }
+
+  @State(Scope.Benchmark)
+  public static class BuildState {
+
+    @Param({"1000000", "10000000"})
+    int numSignatures;
+  }
+
+  @State(Scope.Benchmark)
+  public static class QueryState {
+
+    @Param({"1000000", "10000000"})
+    int numSignatures;
+
+    LshIndex index;
+    final SplittableRandom random = new SplittableRandom(0x3f8d1b6a9c2e4075L);
+    final byte[] signature = new byte[POLICY.getSignatureSizeInBytes()];
+
+    @Setup
+    public void init() {
+      index = LshIndex.create(POLICY, NUM_BANDS, ROWS_PER_BAND);
+      for (int i = 0; i < numSignatures; ++i) {
+        createSignature(i, signature);
+        index.add(signature);
+      }
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public void build(BuildState buildState, Blackhole blackhole) {
+    LshIndex index = LshIndex.create(POLICY, NUM_BANDS, ROWS_PER_BAND);
+    byte[] signature = new byte[POLICY.getSignatureSizeInBytes()];
+    for (int i = 0; i < buildState.numSignatures; ++i) {
+      createSignature(i, signature);
+      index.add(signature);
+    }
+    blackhole.consume(index);
+  }
+
+  // queries a near-duplicate of a random indexed signature with a few modified components
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public void query(QueryState queryState, Blackhole blackhole) {
+    SplittableRandom random = queryState.random;
+    byte[] signature = queryState.signature;
+    createSignature(random.nextInt(queryState.numSignatures), signature);
+    for (int i = 0; i < 4; ++i) {
+      signature[random.nextInt(signature.length)] = (byte) random.nextInt();
+    }
+    blackhole.consume(queryState.index.getCandidates(signature));
+  }
+}
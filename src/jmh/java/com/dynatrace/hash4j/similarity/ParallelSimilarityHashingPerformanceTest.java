@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@Fork(value = 1)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS, batchSize = 1)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParallelSimilarityHashingPerformanceTest {
+
+  public enum Algorithm {
+    MIN_HASH {
+      @Override
+      SimilarityHashPolicy create(int numberOfComponents) {
+        return SimilarityHashing.minHash(numberOfComponents, 16);
+      }
+    },
+    SUPER_MIN_HASH {
+      @Override
+      SimilarityHashPolicy create(int numberOfComponents) {
+        return SimilarityHashing.superMinHash(numberOfComponents, 16);
+      }
+    },
+    SIM_HASH {
+      @Override
+      SimilarityHashPolicy create(int numberOfComponents) {
+        return SimilarityHashing.simHash(numberOfComponents);
+      }
+    },
+    FAST_SIM_HASH {
+      @Override
+      SimilarityHashPolicy create(int numberOfComponents) {
+        return SimilarityHashing.fastSimHash(numberOfComponents);
+      }
+    };
+
+    abstract SimilarityHashPolicy create(int numberOfComponents);
+  }
+
+  @State(Scope.Benchmark)
+  public static class TestState {
+
+    @Param({"MIN_HASH", "SUPER_MIN_HASH", "SIM_HASH", "FAST_SIM_HASH"})
+    Algorithm algorithm;
+
+    @Param({"256"})
+    int numberOfComponents;
+
+    @Param({"100000", "1000000"})
+    int numberOfElements;
+
+    // number of worker threads of the fork/join pool
+    @Param({"1", "2", "4", "8"})
+    int parallelism;
+
+    ForkJoinPool forkJoinPool;
+    SimilarityHasher hasher;
+    SimilarityHasher parallelHasher;
+    ElementHashProvider elementHashProvider;
+
+    @Setup
+    public void init() {
+      SimilarityHashPolicy policy = algorithm.create(numberOfComponents);
+      forkJoinPool = new ForkJoinPool(parallelism);
+      hasher = policy.createHasher();
+      parallelHasher = policy.createParallelHasher(forkJoinPool);
+      elementHashProvider =
+          ElementHashProvider.ofValues(
+              new SplittableRandom(0x6c3e9a1f5d2b7048L).longs(numberOfElements).toArray());
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+      forkJoinPool.shutdown();
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void computeParallel(TestState state, Blackhole blackhole) {
+    blackhole.consume(state.parallelHasher.compute(state.elementHashProvider));
+  }
+
+  // baseline, independent of the parallelism parameter
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void computeSequential(TestState state, Blackhole blackhole) {
+    blackhole.consume(state.hasher.compute(state.elementHashProvider));
+  }
+}
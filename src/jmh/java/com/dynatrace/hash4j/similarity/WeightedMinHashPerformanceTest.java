@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import com.dynatrace.hash4j.hashing.Hasher64;
+import com.dynatrace.hash4j.hashing.Hashing;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+// Compares weighted MinHash policies with unweighted policies applied to sets in which every
+// element with integer weight w is replicated w times, which is the traditional way to estimate the
+// weighted Jaccard similarity of integer weighted sets.
+@Fork(value = 1)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS, batchSize = 1)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WeightedMinHashPerformanceTest {
+
+  private static final Hasher64 REPLICATION_HASHER = Hashing.komihash5_0();
+
+  public enum Algorithm {
+    WEIGHTED_MIN_HASH {
+      @Override
+      WeightedSimilarityHasher createHasher(int numberOfComponents) {
+        return SimilarityHashing.weightedMinHash(numberOfComponents, 16).createHasher();
+      }
+    },
+    FAST_WEIGHTED_MIN_HASH {
+      @Override
+      WeightedSimilarityHasher createHasher(int numberOfComponents) {
+        return SimilarityHashing.fastWeightedMinHash(numberOfComponents, 16).createHasher();
+      }
+    },
+    REPLICATED_MIN_HASH {
+      @Override
+      WeightedSimilarityHasher createHasher(int numberOfComponents) {
+        return createReplicatingHasher(SimilarityHashing.minHash(numberOfComponents, 16));
+      }
+    },
+    REPLICATED_SUPER_MIN_HASH {
+      @Override
+      WeightedSimilarityHasher createHasher(int numberOfComponents) {
+        return createReplicatingHasher(SimilarityHashing.superMinHash(numberOfComponents, 16));
+      }
+    };
+
+    abstract WeightedSimilarityHasher createHasher(int numberOfComponents);
+  }
+
+  // replicates each element according to its integer weight
+  private static WeightedSimilarityHasher createReplicatingHasher(SimilarityHashPolicy policy) {
+    SimilarityHasher hasher = policy.createHasher();
+    return weightedElementHashProvider -> {
+      int numberOfElements = weightedElementHashProvider.getNumberOfElements();
+      int numberOfReplicatedElements = 0;
+      for (int i = 0; i < numberOfElements; ++i) {
+        numberOfReplicatedElements += (int) weightedElementHashProvider.getElementWeight(i);
+      }
+      long[] replicatedElementHashes = new long[numberOfReplicatedElements];
+      int idx = 0;
+      for (int i = 0; i < numberOfElements; ++i) {
+        long elementHash = weightedElementHashProvider.getElementHash(i);
+        int weight = (int) weightedElementHashProvider.getElementWeight(i);
+        for (int j = 0; j < weight; ++j) {
+          replicatedElementHashes[idx++] = REPLICATION_HASHER.hashLongLongToLong(elementHash, j);
+        }
+      }
+      return hasher.compute(ElementHashProvider.ofValues(replicatedElementHashes));
+    };
+  }
+
+  @State(Scope.Thread)
+  public static class TestState {
+
+    @Param({
+      "WEIGHTED_MIN_HASH",
+      "FAST_WEIGHTED_MIN_HASH",
+      "REPLICATED_MIN_HASH",
+      "REPLICATED_SUPER_MIN_HASH"
+    })
+    Algorithm algorithm;
+
+    @Param({"64", "256", "1024", "4096"})
+    int numberOfComponents;
+
+    @Param({"10", "1000"})
+    int numberOfElements;
+
+    // weights are uniformly distributed integers from [1, maxWeight]
+    @Param({"1", "10", "100"})
+    int maxWeight;
+
+    final SplittableRandom random = new SplittableRandom(0x4b8e1d3f6a2c9075L);
+    WeightedSimilarityHasher hasher;
+    long[] elementHashes;
+    double[] elementWeights;
+
+    @Setup
+    public void init() {
+      hasher = algorithm.createHasher(numberOfComponents);
+      elementHashes = new long[numberOfElements];
+      elementWeights = new double[numberOfElements];
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void compute(TestState state, Blackhole blackhole) {
+    for (int i = 0; i < state.numberOfElements; ++i) {
+      state.elementHashes[i] = state.random.nextLong();
+      state.elementWeights[i] = 1 + state.random.nextInt(state.maxWeight);
+    }
+    blackhole.consume(
+        state.hasher.compute(
+            WeightedElementHashProvider.ofValues(state.elementHashes, state.elementWeights)));
+  }
+}
@@ -17,6 +17,8 @@ package com.dynatrace.hash4j.consistent;
 
 import static com.dynatrace.hash4j.consistent.ConsistentHashingUtil.checkNumberOfBuckets;
 
+import java.util.Arrays;
+
 abstract class AbstractConsistentJumpBackBucketHasher implements ConsistentBucketHasher {
 
   protected abstract long initState(long seed);
@@ -57,4 +59,32 @@ abstract class AbstractConsistentJumpBackBucketHasher implements ConsistentBucke
       xMasked ^= bucketRangeMin;
     }
   }
+
+  @Override
+  public void getBuckets(long[] hashes, int numBuckets, int[] out) {
+    if (numBuckets <= 1) {
+      checkNumberOfBuckets(numBuckets);
+      Arrays.fill(out, 0, hashes.length, 0);
+      return;
+    }
+    int mask = 0xFFFFFFFF >>> Integer.numberOfLeadingZeros(numBuckets - 1);
+    for (int i = 0; i < hashes.length; ++i) {
+      // the first bucket candidate is accepted with a probability of more than 50%, as its
+      // computation does not depend on previous iterations, the processor is able to interleave the
+      // computations for consecutive hashes
+      long r0 = nextLong(initState(hashes[i]));
+      int xMasked = (int) (r0 ^ (r0 >>> 32)) & mask;
+      int bucketIdx = 0;
+      if (xMasked != 0) {
+        int bucketRangeMin = 1 << ~Integer.numberOfLeadingZeros(xMasked);
+        bucketIdx =
+            bucketRangeMin
+                + ((int) (r0 >>> (Integer.bitCount(xMasked) << 5)) & (bucketRangeMin - 1));
+        if (bucketIdx >= numBuckets) {
+          bucketIdx = getBucket(hashes[i], numBuckets);
+        }
+      }
+      out[i] = bucketIdx;
+    }
+  }
 }
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.consistent;
+
+import static com.dynatrace.hash4j.consistent.ConsistentHashingUtil.checkNumberOfReplicas;
+import static com.dynatrace.hash4j.consistent.ConsistentHashingUtil.contains;
+import static com.dynatrace.hash4j.consistent.ConsistentHashingUtil.getMaxReplicaAttempts;
+import static com.dynatrace.hash4j.consistent.ConsistentHashingUtil.getReplicaHash;
+import static java.util.Objects.requireNonNull;
+
+import com.dynatrace.hash4j.random.PseudoRandomGenerator;
+import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
+
+/**
+ * A thread-safe variant of {@link ConsistentJumpBackAnchorBucketSetHasher}.
+ *
+ * <p>The current state is kept in an immutable snapshot that is published via a volatile reference.
+ * Modifications are serialized and copy the snapshot before applying the change (copy-on-write).
+ * Lookups read the current snapshot and use a thread-local pseudo-random generator, and are
+ * therefore lock-free and do not allocate any memory (except for the first lookup of a thread).
+ * This makes this implementation suitable for routing tables with frequent lookups and rare
+ * membership changes. A modification takes time and space proportional to the maximum number of
+ * buckets.
+ */
+class ConcurrentJumpBackAnchorBucketSetHasher implements ConsistentBucketSetHasher {
+
+  private final PseudoRandomGeneratorProvider pseudoRandomGeneratorProvider;
+
+  private final ThreadLocal<PseudoRandomGenerator> pseudoRandomGenerators;
+
+  // never modified after publication, modifications are applied to copies while holding the lock
+  private volatile ConsistentJumpBackAnchorBucketSetHasher snapshot;
+
+  private final Object lock = new Object();
+
+  ConcurrentJumpBackAnchorBucketSetHasher(
+      PseudoRandomGeneratorProvider pseudoRandomGeneratorProvider) {
+    requireNonNull(pseudoRandomGeneratorProvider);
+    this.pseudoRandomGeneratorProvider = pseudoRandomGeneratorProvider;
+    this.pseudoRandomGenerators = ThreadLocal.withInitial(pseudoRandomGeneratorProvider::create);
+    this.snapshot = new ConsistentJumpBackAnchorBucketSetHasher(pseudoRandomGeneratorProvider);
+  }
+
+  @Override
+  public int addBucket() {
+    synchronized (lock) {
+      ConsistentJumpBackAnchorBucketSetHasher newSnapshot = snapshot.copy();
+      int bucketId = newSnapshot.addBucket();
+      snapshot = newSnapshot;
+      return bucketId;
+    }
+  }
+
+  @Override
+  public boolean removeBucket(int bucketId) {
+    synchronized (lock) {
+      ConsistentJumpBackAnchorBucketSetHasher newSnapshot = snapshot.copy();
+      if (!newSnapshot.removeBucket(bucketId)) return false;
+      snapshot = newSnapshot;
+      return true;
+    }
+  }
+
+  /**
+   * Returns a bucket ID based on a 64-bit hash value of the key.
+   *
+   * <p>In contrast to {@link ConsistentBucketSetHasher#getBucket(long)}, this function is
+   * thread-safe and may be called concurrently with modifications. It returns the bucket ID
+   * according to the state after the latest completed modification.
+   *
+   * @param hash a 64-bit hash value of the key
+   * @return the bucket ID
+   */
+  @Override
+  public int getBucket(long hash) {
+    return snapshot.getBucket(hash, pseudoRandomGenerators.get(), null);
+  }
+
+  /**
+   * Computes distinct bucket IDs for a 64-bit hash value of a key.
+   *
+   * <p>In contrast to {@link ConsistentBucketSetHasher#getBuckets(long, int, int[])}, this function
+   * is thread-safe and may be called concurrently with modifications. All returned bucket IDs are
+   * computed from the state after the same completed modification.
+   *
+   * @param hash a 64-bit hash value of the key
+   * @param replicas the number of distinct bucket IDs
+   * @param out the array to which the bucket IDs are written
+   */
+  @Override
+  public void getBuckets(long hash, int replicas, int[] out) {
+    ConsistentJumpBackAnchorBucketSetHasher currentSnapshot = snapshot;
+    PseudoRandomGenerator pseudoRandomGenerator = pseudoRandomGenerators.get();
+    checkNumberOfReplicas(replicas, currentSnapshot.getNumBuckets());
+    // same as ConsistentHashingUtil.getReplicaBuckets and completeReplicaBuckets, but inlined to
+    // avoid the allocation of a capturing lambda and of the array of bucket IDs
+    int numFound = 0;
+    int maxAttempts = getMaxReplicaAttempts(replicas);
+    for (int attempt = 0; numFound < replicas && attempt < maxAttempts; ++attempt) {
+      int bucket =
+          currentSnapshot.getBucket(getReplicaHash(hash, attempt), pseudoRandomGenerator, null);
+      if (!contains(out, numFound, bucket)) {
+        out[numFound++] = bucket;
+      }
+    }
+    for (int bucket = 0; numFound < replicas; ++bucket) {
+      if (currentSnapshot.containsBucket(bucket) && !contains(out, numFound, bucket)) {
+        out[numFound++] = bucket;
+      }
+    }
+  }
+
+  @Override
+  public int[] getBuckets() {
+    return snapshot.getBuckets();
+  }
+
+  @Override
+  public int getNumBuckets() {
+    return snapshot.getNumBuckets();
+  }
+
+  @Override
+  public byte[] getState() {
+    return snapshot.getState();
+  }
+
+  @Override
+  public ConsistentBucketSetHasher setState(byte[] state) {
+    // the new instance is only published if the state is valid
+    ConsistentJumpBackAnchorBucketSetHasher newSnapshot =
+        new ConsistentJumpBackAnchorBucketSetHasher(pseudoRandomGeneratorProvider);
+    newSnapshot.setState(state);
+    synchronized (lock) {
+      snapshot = newSnapshot;
+    }
+    return this;
+  }
+
+  @Override
+  public byte[] getStateDelta(byte[] baseState) {
+    return snapshot.getStateDelta(baseState);
+  }
+
+  @Override
+  public ConsistentBucketSetHasher applyStateDelta(byte[] stateDelta) {
+    synchronized (lock) {
+      ConsistentJumpBackAnchorBucketSetHasher newSnapshot = snapshot.copy();
+      newSnapshot.applyStateDelta(stateDelta);
+      snapshot = newSnapshot;
+    }
+    return this;
+  }
+}
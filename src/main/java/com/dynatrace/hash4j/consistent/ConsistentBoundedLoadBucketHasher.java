@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.consistent;
+
+/**
+ * A hash function that maps a given hash consistently to a bucket index of given range, while
+ * making sure that no bucket exceeds a capacity given by the average load times a capacity factor.
+ */
+public interface ConsistentBoundedLoadBucketHasher {
+
+  /**
+   * Returns a bucket index in the range {@code [0, loads.length)} based on a 64-bit hash value of
+   * the key and the current loads of the buckets.
+   *
+   * <p>The returned bucket has a load that is smaller than the capacity returned by {@link
+   * #getCapacity(long, int)} for the given total load and number of buckets. Therefore, if the
+   * returned bucket is assigned the key, its load will not exceed the capacity.
+   *
+   * <p>If no bucket is overloaded, the returned bucket index is the same as that of the underlying
+   * {@link ConsistentBucketHasher}. Otherwise, the first bucket that is not overloaded is returned
+   * from a deterministic sequence of buckets derived from the hash value.
+   *
+   * <p>This function is not necessarily thread-safe!
+   *
+   * @param hash a 64-bit hash value of the key
+   * @param loads the current loads of the buckets, the array length defines the number of buckets
+   * @param totalLoad the sum of all loads, excluding the key
+   * @return the bucket index
+   * @throws IllegalArgumentException if the loads array is empty or if all buckets are overloaded
+   *     because the total load is smaller than the sum of all loads
+   */
+  int getBucket(long hash, int[] loads, long totalLoad);
+
+  /**
+   * Returns a bucket index in the range {@code [0, loads.length)} based on a 64-bit hash value of
+   * the key and the current loads of the buckets.
+   *
+   * <p>Equivalent to {@link #getBucket(long, int[], long)} with the sum of all loads as total load.
+   * Callers that track the total load should prefer {@link #getBucket(long, int[], long)} to avoid
+   * summing up all loads.
+   *
+   * <p>This function is not necessarily thread-safe!
+   *
+   * @param hash a 64-bit hash value of the key
+   * @param loads the current loads of the buckets, the array length defines the number of buckets
+   * @return the bucket index
+   * @throws IllegalArgumentException if the loads array is empty
+   */
+  default int getBucket(long hash, int[] loads) {
+    long totalLoad = 0;
+    for (int load : loads) {
+      totalLoad += load;
+    }
+    return getBucket(hash, loads, totalLoad);
+  }
+
+  /**
+   * Returns the capacity factor.
+   *
+   * @return the capacity factor
+   */
+  double getCapacityFactor();
+
+  /**
+   * Returns the capacity of a bucket, which is given by {@code ceil(c * (totalLoad + 1) /
+   * numBuckets)} where {@code c} denotes the capacity factor.
+   *
+   * <p>A bucket is considered as overloaded, if its load is not smaller than the capacity.
+   *
+   * @param totalLoad the sum of all loads, excluding the key to be assigned
+   * @param numBuckets the number of buckets, must be positive
+   * @return the capacity
+   * @throws IllegalArgumentException if the number of buckets is not positive
+   */
+  long getCapacity(long totalLoad, int numBuckets);
+}
@@ -15,6 +15,11 @@
  */
 package com.dynatrace.hash4j.consistent;
 
+import static com.dynatrace.hash4j.consistent.ConsistentHashingUtil.checkNumberOfBuckets;
+import static com.dynatrace.hash4j.consistent.ConsistentHashingUtil.checkNumberOfReplicas;
+import static com.dynatrace.hash4j.consistent.ConsistentHashingUtil.completeReplicaBuckets;
+import static com.dynatrace.hash4j.consistent.ConsistentHashingUtil.getReplicaBuckets;
+
 /** A hash function that maps a given hash consistently to a bucket index of given range. */
 public interface ConsistentBucketHasher {
 
@@ -35,4 +40,58 @@ public interface ConsistentBucketHasher {
    * @return the bucket index
    */
   int getBucket(long hash, int numBuckets);
+
+  /**
+   * Computes the bucket indices in the range {@code [0, numBuckets)} for an array of 64-bit hash
+   * values of keys.
+   *
+   * <p>Equivalent to {@code for (int i = 0; i < hashes.length; ++i) out[i] = getBucket(hashes[i],
+   * numBuckets);}
+   *
+   * <p>This function is not necessarily thread-safe!
+   *
+   * @param hashes an array of 64-bit hash values of the keys
+   * @param numBuckets the number of buckets, must be positive
+   * @param out the array to which the bucket indices are written, must not be shorter than {@code
+   *     hashes}
+   */
+  default void getBuckets(long[] hashes, int numBuckets, int[] out) {
+    checkNumberOfBuckets(numBuckets);
+    for (int i = 0; i < hashes.length; ++i) {
+      out[i] = getBucket(hashes[i], numBuckets);
+    }
+  }
+
+  /**
+   * Computes {@code replicas} distinct bucket indices in the range {@code [0, numBuckets)} for a
+   * 64-bit hash value of a key, for example, to determine the nodes that store the replicas of a
+   * key.
+   *
+   * <p>The first bucket index is always equal to {@code getBucket(hash, numBuckets)}. The further
+   * bucket indices are the first distinct results of {@link #getBucket(long, int)} for a sequence
+   * of hash values derived from the given one. Since each lookup of this sequence is consistent,
+   * changing {@code numBuckets} by one typically changes at most one of the returned bucket
+   * indices. If no further distinct bucket is found within a bounded number of lookups, which is
+   * only likely if {@code replicas} is close to {@code numBuckets}, the remaining bucket indices
+   * are chosen by a cyclic scan.
+   *
+   * <p>This function is not necessarily thread-safe!
+   *
+   * @param hash a 64-bit hash value of the key
+   * @param numBuckets the number of buckets, must be positive
+   * @param replicas the number of distinct bucket indices, must be in the range {@code [0,
+   *     numBuckets]}
+   * @param out the array to which the bucket indices are written, must not be shorter than {@code
+   *     replicas}
+   * @throws IllegalArgumentException if {@code numBuckets} is not positive or {@code replicas} is
+   *     out of range
+   */
+  default void getBuckets(long hash, int numBuckets, int replicas, int[] out) {
+    checkNumberOfBuckets(numBuckets);
+    checkNumberOfReplicas(replicas, numBuckets);
+    int numFound = getReplicaBuckets(hash, replicas, out, h -> getBucket(h, numBuckets));
+    if (numFound < replicas) {
+      completeReplicaBuckets(out, numFound, replicas, numBuckets);
+    }
+  }
 }
@@ -15,6 +15,11 @@
  */
 package com.dynatrace.hash4j.consistent;
 
+import static com.dynatrace.hash4j.consistent.ConsistentHashingUtil.checkNumberOfReplicas;
+import static com.dynatrace.hash4j.consistent.ConsistentHashingUtil.completeReplicaBuckets;
+import static com.dynatrace.hash4j.consistent.ConsistentHashingUtil.getReplicaBuckets;
+import static java.util.Objects.requireNonNull;
+
 /** A hash function that maps a given hash consistently to a bucket from a set of buckets. */
 public interface ConsistentBucketSetHasher {
 
@@ -51,6 +56,36 @@ public interface ConsistentBucketSetHasher {
    */
   int getBucket(long hash);
 
+  /**
+   * Computes {@code replicas} distinct bucket IDs for a 64-bit hash value of a key, for example, to
+   * determine the nodes that store the replicas of a key.
+   *
+   * <p>The first bucket ID is always equal to {@code getBucket(hash)}. The further bucket IDs are
+   * the first distinct results of {@link #getBucket(long)} for a sequence of hash values derived
+   * from the given one. Since each lookup of this sequence is consistent, removing a bucket leaves
+   * the result unchanged if that bucket was not returned, and otherwise typically only replaces
+   * that bucket by another one. Similarly, adding a bucket typically changes at most one of the
+   * returned bucket IDs. If no further distinct bucket is found within a bounded number of lookups,
+   * which is only likely if {@code replicas} is close to the number of buckets, the remaining
+   * bucket IDs are taken from {@link #getBuckets()}.
+   *
+   * <p>This function is not thread-safe!
+   *
+   * @param hash a 64-bit hash value of the key
+   * @param replicas the number of distinct bucket IDs, must be in the range {@code [0,
+   *     getNumBuckets()]}
+   * @param out the array to which the bucket IDs are written, must not be shorter than {@code
+   *     replicas}
+   * @throws IllegalArgumentException if {@code replicas} is out of range
+   */
+  default void getBuckets(long hash, int replicas, int[] out) {
+    checkNumberOfReplicas(replicas, getNumBuckets());
+    int numFound = getReplicaBuckets(hash, replicas, out, this::getBucket);
+    if (numFound < replicas) {
+      completeReplicaBuckets(out, numFound, replicas, getBuckets());
+    }
+  }
+
   /**
    * Returns an array of all bucket IDs. In general, there is no particular ordering of IDs.
    * However, the ordering is reproducible, if the same history of {@link #addBucket()} and {@link
@@ -89,4 +124,52 @@ public interface ConsistentBucketSetHasher {
    * @throws IllegalArgumentException if the state is invalid
    */
   ConsistentBucketSetHasher setState(byte[] state);
+
+  /**
+   * Returns a delta that transforms the given base state into the current internal state.
+   *
+   * <p>The base state must have been obtained from {@link #getState()}, for example, of this
+   * instance at an earlier point in time. The size of the delta is proportional to the number of
+   * modifications that are needed to transform the base state into the current state, and bucket
+   * IDs are encoded using a variable-length encoding. This allows to propagate changes of the state
+   * to other instances in a distributed environment at low cost using {@link
+   * #applyStateDelta(byte[])}. The delta relative to the state of an empty instance is a compact
+   * encoding of the full state.
+   *
+   * <p>The default implementation ignores the base state and returns the full state obtained from
+   * {@link #getState()}. Implementations should override this method together with {@link
+   * #applyStateDelta(byte[])} to encode the actual modifications.
+   *
+   * <p>Note: There is no guaranteed compatibility of deltas across different Hash4j library
+   * versions!
+   *
+   * @param baseState a byte array holding the base state
+   * @return a new byte array holding the delta
+   * @throws IllegalArgumentException if the base state is invalid
+   */
+  default byte[] getStateDelta(byte[] baseState) {
+    requireNonNull(baseState);
+    return getState();
+  }
+
+  /**
+   * Applies a delta obtained from {@link #getStateDelta(byte[])} to the internal state.
+   *
+   * <p>The current state must be equal to the base state of the delta. The result is the same as if
+   * the state from which the delta was computed had been set using {@link #setState(byte[])}.
+   * However, only the modifications encoded in the delta are applied, which is much faster than
+   * setting the full state, if the delta is small.
+   *
+   * <p>The default implementation expects the full state as returned by the default implementation
+   * of {@link #getStateDelta(byte[])} and sets it using {@link #setState(byte[])}. Therefore, it
+   * cannot detect if the current state does not correspond to the base state of the delta.
+   *
+   * @param stateDelta a byte array holding the delta
+   * @return a reference to this
+   * @throws IllegalArgumentException if the delta is invalid or if the current state does not
+   *     correspond to the base state of the delta, in which case the state remains unchanged
+   */
+  default ConsistentBucketSetHasher applyStateDelta(byte[] stateDelta) {
+    return setState(stateDelta);
+  }
 }
@@ -165,4 +165,114 @@ public final class ConsistentHashing {
       PseudoRandomGeneratorProvider pseudoRandomGeneratorProvider) {
     return new ConsistentJumpBackAnchorBucketSetHasher(pseudoRandomGeneratorProvider);
   }
+
+  /**
+   * Returns a thread-safe {@link ConsistentBucketSetHasher}.
+   *
+   * <p>The returned {@link ConsistentBucketSetHasher} maps keys to buckets exactly like the
+   * instance returned by {@link #jumpBackAnchorHash(PseudoRandomGeneratorProvider)}, if the same
+   * sequence of modifications is applied. However, all its methods are thread-safe. Lookups via
+   * {@link ConsistentBucketSetHasher#getBucket(long)} are lock-free and do not allocate memory, as
+   * they read an immutable snapshot of the state and use thread-local pseudo-random generators.
+   * Modifications are serialized and replace the snapshot by a modified copy, which takes time and
+   * space linear in the maximum number of buckets. Therefore, this implementation is intended for
+   * use cases like routing tables, where lookups are much more frequent than membership changes.
+   *
+   * @param pseudoRandomGeneratorProvider a {@link PseudoRandomGeneratorProvider}
+   * @return a {@link ConsistentBucketSetHasher}
+   */
+  public static ConsistentBucketSetHasher concurrentJumpBackAnchorHash(
+      PseudoRandomGeneratorProvider pseudoRandomGeneratorProvider) {
+    return new ConcurrentJumpBackAnchorBucketSetHasher(pseudoRandomGeneratorProvider);
+  }
+
+  /**
+   * Returns a {@link ConsistentBucketSetHasher} that answers lookups with a single array access.
+   *
+   * <p>The returned {@link ConsistentBucketSetHasher} compiles the mapping of the instance returned
+   * by {@link #jumpBackAnchorHash(PseudoRandomGeneratorProvider)} into a lookup table with {@code
+   * 2^tableSizeBits} slots, which are addressed by the most significant bits of the hash value. All
+   * keys of a slot are mapped to the same bucket. Therefore, the mapping is consistent at the
+   * granularity of slots. Removing a bucket only remaps keys of this bucket, and adding a bucket
+   * only remaps keys to the new bucket. The relative deviation of the number of slots assigned to a
+   * bucket is roughly {@code sqrt(n / 2^tableSizeBits)}, where {@code n} denotes the number of
+   * buckets. Hence, the table size should be chosen much larger than the number of buckets.
+   *
+   * <p>The table takes {@code 4 * 2^tableSizeBits} bytes of memory. Removing a bucket requires a
+   * scan of the table and recomputes only the slots of the removed bucket. Adding a bucket and
+   * setting the state recompute all slots. Therefore, this implementation is intended for use cases
+   * with very frequent lookups and rare membership changes. The state, that can be obtained via
+   * {@link ConsistentBucketSetHasher#getState()}, is compatible with that of {@link
+   * #jumpBackAnchorHash(PseudoRandomGeneratorProvider)}.
+   *
+   * @param pseudoRandomGeneratorProvider a {@link PseudoRandomGeneratorProvider}
+   * @param tableSizeBits the base-2 logarithm of the number of slots, must be in the range {@code
+   *     [1, 30]}
+   * @return a {@link ConsistentBucketSetHasher}
+   * @throws IllegalArgumentException if {@code tableSizeBits} is out of range
+   */
+  public static ConsistentBucketSetHasher jumpBackAnchorHashWithLookupTable(
+      PseudoRandomGeneratorProvider pseudoRandomGeneratorProvider, int tableSizeBits) {
+    return new ConsistentLookupTableBucketSetHasher(pseudoRandomGeneratorProvider, tableSizeBits);
+  }
+
+  /**
+   * Returns a {@link ConsistentBoundedLoadBucketHasher}.
+   *
+   * <p>This algorithm is based on Mirrokni, Vahab, Mikkel Thorup, and Morteza Zadimoghaddam.
+   * "Consistent hashing with bounded loads." Proceedings of the Twenty-Ninth Annual ACM-SIAM
+   * Symposium on Discrete Algorithms (2018), <a
+   * href="https://doi.org/10.1137/1.9781611975031.39">10.1137/1.9781611975031.39</a>. Instead of
+   * walking along a hash ring, the probe sequence is obtained by applying the given {@link
+   * ConsistentBucketHasher} to a sequence of pseudo-random values seeded with the hash of the key.
+   * The first probe corresponds to the bucket returned by the given {@link ConsistentBucketHasher}
+   * for the hash of the key. Therefore, keys are only remapped to other buckets, if their primary
+   * bucket is overloaded. Random probing avoids the cascading overflow to neighboring buckets that
+   * is observed with linear probing.
+   *
+   * <p>The capacity factor {@code c} must be at least 1. A bucket is considered as overloaded if
+   * its load is not smaller than {@code ceil(c * (totalLoad + 1) / numBuckets)}. Smaller capacity
+   * factors lead to a better balance, while larger capacity factors lead to fewer remappings when
+   * buckets are added or removed. The expected number of probes is bounded by {@code c / (c - 1)}.
+   *
+   * @param consistentBucketHasher the underlying {@link ConsistentBucketHasher}
+   * @param pseudoRandomGeneratorProvider a {@link PseudoRandomGeneratorProvider} used for the
+   *     generation of the probe sequence
+   * @param capacityFactor the capacity factor
+   * @return a {@link ConsistentBoundedLoadBucketHasher}
+   * @throws IllegalArgumentException if the capacity factor is smaller than 1 or not finite
+   */
+  public static ConsistentBoundedLoadBucketHasher boundedLoad(
+      ConsistentBucketHasher consistentBucketHasher,
+      PseudoRandomGeneratorProvider pseudoRandomGeneratorProvider,
+      double capacityFactor) {
+    return new ConsistentProbingBoundedLoadBucketHasher(
+        consistentBucketHasher, pseudoRandomGeneratorProvider, capacityFactor);
+  }
+
+  /**
+   * Returns a {@link ConsistentWeightedBucketHasher}.
+   *
+   * <p>Each bucket has a non-negative real-valued weight. Keys are mapped to buckets with
+   * probabilities proportional to the weights. If the weight of a bucket is changed, only keys
+   * mapped to or from this bucket are remapped. Hence, the number of remapped keys is optimal and
+   * proportional to the change of the weight. This also holds, if the maximum weight changes.
+   * Changing the number of buckets leads to a few additional remappings comparable to those of
+   * {@link #jumpBackHash(PseudoRandomGeneratorProvider)}. They can be avoided by preallocating
+   * buckets with zero weight.
+   *
+   * <p>The expected lookup time is {@code O(w_max / w_mean)}, where {@code w_max} and {@code
+   * w_mean} denote the maximum and the mean weight, respectively. In particular, it depends neither
+   * on the number of buckets nor on the scale of the weights, as long as the maximum weight is not
+   * subnormal. Weight updates take constant time.
+   *
+   * <p>The returned {@link ConsistentWeightedBucketHasher} is not thread-safe.
+   *
+   * @param pseudoRandomGeneratorProvider a {@link PseudoRandomGeneratorProvider}
+   * @return a {@link ConsistentWeightedBucketHasher}
+   */
+  public static ConsistentWeightedBucketHasher weightedJumpBackHash(
+      PseudoRandomGeneratorProvider pseudoRandomGeneratorProvider) {
+    return new ConsistentWeightedJumpBackBucketHasher(pseudoRandomGeneratorProvider);
+  }
 }
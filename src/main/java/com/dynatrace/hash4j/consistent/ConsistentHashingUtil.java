@@ -17,6 +17,8 @@ package com.dynatrace.hash4j.consistent;
 
 import static com.dynatrace.hash4j.internal.Preconditions.checkArgument;
 
+import java.util.function.LongToIntFunction;
+
 class ConsistentHashingUtil {
 
   private ConsistentHashingUtil() {}
@@ -24,4 +26,79 @@ class ConsistentHashingUtil {
   static void checkNumberOfBuckets(int numBuckets) {
     checkArgument(numBuckets > 0, "number of buckets must be positive");
   }
+
+  static void checkNumberOfReplicas(int replicas, int numBuckets) {
+    checkArgument(
+        replicas >= 0 && replicas <= numBuckets,
+        "number of replicas must be non-negative and must not exceed the number of buckets");
+  }
+
+  // the number of derived hash values tried per replica before falling back to a linear scan
+  private static final int MAX_REPLICA_ATTEMPTS_PER_REPLICA = 4;
+  private static final int MAX_REPLICA_ATTEMPTS_OFFSET = 16;
+
+  static int getMaxReplicaAttempts(int replicas) {
+    return MAX_REPLICA_ATTEMPTS_PER_REPLICA * replicas + MAX_REPLICA_ATTEMPTS_OFFSET;
+  }
+
+  /**
+   * Returns the hash value used for the given replica attempt. Attempt 0 uses the hash value
+   * itself, all further attempts use a cheap bijective mix of the hash value and the attempt index.
+   */
+  static long getReplicaHash(long hash, int attempt) {
+    if (attempt == 0) return hash;
+    long z = hash + attempt * 0xbb67ae8584caa73bL;
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+
+  static boolean contains(int[] array, int length, int value) {
+    for (int i = 0; i < length; ++i) {
+      if (array[i] == value) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Writes the first distinct buckets obtained for the sequence of replica hash values to {@code
+   * out} until {@code replicas} buckets are found or the maximum number of attempts is reached.
+   *
+   * @return the number of distinct buckets found
+   */
+  static int getReplicaBuckets(
+      long hash, int replicas, int[] out, LongToIntFunction bucketFunction) {
+    int numFound = 0;
+    int maxAttempts = getMaxReplicaAttempts(replicas);
+    for (int attempt = 0; numFound < replicas && attempt < maxAttempts; ++attempt) {
+      int bucket = bucketFunction.applyAsInt(getReplicaHash(hash, attempt));
+      if (!contains(out, numFound, bucket)) {
+        out[numFound++] = bucket;
+      }
+    }
+    return numFound;
+  }
+
+  /**
+   * Fills {@code out} with buckets from {@code [0, numBuckets)} that are not yet contained,
+   * scanning cyclically starting after the first bucket.
+   */
+  static void completeReplicaBuckets(int[] out, int numFound, int replicas, int numBuckets) {
+    int bucket = out[0];
+    while (numFound < replicas) {
+      bucket = (bucket + 1 == numBuckets) ? 0 : bucket + 1;
+      if (!contains(out, numFound, bucket)) {
+        out[numFound++] = bucket;
+      }
+    }
+  }
+
+  /** Fills {@code out} with buckets from the given bucket IDs that are not yet contained. */
+  static void completeReplicaBuckets(int[] out, int numFound, int replicas, int[] bucketIds) {
+    for (int i = 0; numFound < replicas; ++i) {
+      if (!contains(out, numFound, bucketIds[i])) {
+        out[numFound++] = bucketIds[i];
+      }
+    }
+  }
 }
@@ -51,8 +51,11 @@ import static com.dynatrace.hash4j.internal.ByteArrayUtil.getInt;
 import static com.dynatrace.hash4j.internal.ByteArrayUtil.setInt;
 import static com.dynatrace.hash4j.internal.EmptyArray.EMPTY_INT_ARRAY;
 import static com.dynatrace.hash4j.internal.EmptyArray.EMPTY_LONG_ARRAY;
+import static com.dynatrace.hash4j.internal.VarIntUtil.getVarIntLength;
+import static com.dynatrace.hash4j.internal.VarIntUtil.putVarInt;
 import static java.util.Objects.requireNonNull;
 
+import com.dynatrace.hash4j.internal.VarIntUtil;
 import com.dynatrace.hash4j.random.PseudoRandomGenerator;
 import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
 import java.util.Arrays;
@@ -61,6 +64,9 @@ class ConsistentJumpBackAnchorBucketSetHasher implements ConsistentBucketSetHash
 
   private static final String ILLEGAL_STATE_EXCEPTION_MESSAGE = "Illegal state!";
   private static final String NO_BUCKETS_AVAILABLE_EXCEPTION_MESSAGE = "No buckets available!";
+  private static final String ILLEGAL_STATE_DELTA_EXCEPTION_MESSAGE = "Illegal state delta!";
+
+  static final byte STATE_DELTA_VERSION = 1;
 
   private int historicMaxNumBuckets = 0; // corresponds to "a" in the paper
   private int numRemovedBuckets = 0;
@@ -86,6 +92,27 @@ class ConsistentJumpBackAnchorBucketSetHasher implements ConsistentBucketSetHash
     this.ka = EMPTY_LONG_ARRAY;
   }
 
+  private ConsistentJumpBackAnchorBucketSetHasher(ConsistentJumpBackAnchorBucketSetHasher other) {
+    this.pseudoRandomGenerator = other.pseudoRandomGenerator;
+    this.historicMaxNumBuckets = other.historicMaxNumBuckets;
+    this.numRemovedBuckets = other.numRemovedBuckets;
+    this.removedBuckets = other.removedBuckets.clone();
+    this.ka = other.ka.clone();
+  }
+
+  /**
+   * Returns a deep copy of this instance.
+   *
+   * <p>The copy shares the pseudo-random generator with this instance. Therefore, concurrent calls
+   * of {@link #getBucket(long)} on both instances are not safe, but {@link #getBucket(long,
+   * PseudoRandomGenerator, Debug)} may be used with a separate generator.
+   *
+   * @return a copy
+   */
+  ConsistentJumpBackAnchorBucketSetHasher copy() {
+    return new ConsistentJumpBackAnchorBucketSetHasher(this);
+  }
+
   @Override
   public int addBucket() {
     final int b;
@@ -112,26 +139,30 @@ class ConsistentJumpBackAnchorBucketSetHasher implements ConsistentBucketSetHash
     } else if (b == historicMaxNumBuckets - 1 && numRemovedBuckets == 0) {
       historicMaxNumBuckets -= 1;
     } else {
-      if (removedBuckets.length <= numRemovedBuckets) {
-        removedBuckets =
-            Arrays.copyOf(
-                removedBuckets,
-                Math.min(
-                    historicMaxNumBuckets - 1,
-                    increaseArraySize(removedBuckets.length, numRemovedBuckets)));
-      }
-      removedBuckets[numRemovedBuckets] = b;
-      numRemovedBuckets += 1;
-      int n = historicMaxNumBuckets - numRemovedBuckets;
-      int h = bucketAtView(n, n + 1, null);
-      if (ka.length <= b) {
-        ka = Arrays.copyOf(ka, Math.min(historicMaxNumBuckets, increaseArraySize(ka.length, b)));
-      }
-      ka[b] = ((long) (h - b) << 32) | (0xFFFFFFFFL & n);
+      pushRemovedBucket(b);
     }
     return true;
   }
 
+  private void pushRemovedBucket(int b) {
+    if (removedBuckets.length <= numRemovedBuckets) {
+      removedBuckets =
+          Arrays.copyOf(
+              removedBuckets,
+              Math.min(
+                  historicMaxNumBuckets,
+                  increaseArraySize(removedBuckets.length, numRemovedBuckets)));
+    }
+    removedBuckets[numRemovedBuckets] = b;
+    numRemovedBuckets += 1;
+    int n = historicMaxNumBuckets - numRemovedBuckets;
+    int h = bucketAtView(n, n + 1, null);
+    if (ka.length <= b) {
+      ka = Arrays.copyOf(ka, Math.min(historicMaxNumBuckets, increaseArraySize(ka.length, b)));
+    }
+    ka[b] = ((long) (h - b) << 32) | (0xFFFFFFFFL & n);
+  }
+
   private boolean isRemoved(int b) {
     return b < ka.length && ka[b] != 0;
   }
@@ -146,16 +177,27 @@ class ConsistentJumpBackAnchorBucketSetHasher implements ConsistentBucketSetHash
   }
 
   int getBucket(long hash, Debug debug) {
+    return getBucket(hash, pseudoRandomGenerator, debug);
+  }
+
+  /**
+   * Returns a bucket ID using the given pseudo-random generator.
+   *
+   * <p>This method does not modify the state of this instance. Hence, it can be called concurrently
+   * from multiple threads, as long as each thread uses its own generator and no thread modifies
+   * this instance.
+   */
+  int getBucket(long hash, PseudoRandomGenerator generator, Debug debug) {
     if (historicMaxNumBuckets <= numRemovedBuckets) {
       throw new IllegalStateException(NO_BUCKETS_AVAILABLE_EXCEPTION_MESSAGE);
     }
     if (historicMaxNumBuckets <= 1) return 0;
-    pseudoRandomGenerator.reset(hash);
-    int b = ConsistentJumpBackBucketHasher.getBucket(historicMaxNumBuckets, pseudoRandomGenerator);
+    generator.reset(hash);
+    int b = ConsistentJumpBackBucketHasher.getBucket(historicMaxNumBuckets, generator);
     while (b < ka.length) {
       int ab = (int) ka[b];
       if (ab == 0) break;
-      b = bucketAtView(pseudoRandomGenerator.uniformInt(ab), ab, debug);
+      b = bucketAtView(generator.uniformInt(ab), ab, debug);
     }
     return b;
   }
@@ -195,6 +237,174 @@ class ConsistentJumpBackAnchorBucketSetHasher implements ConsistentBucketSetHash
     return setState(state, null);
   }
 
+  /*
+   * A state delta consists of a version byte followed by the following variable-length encoded
+   * values: the historic maximum number of buckets and the number of removed buckets of the base
+   * state, the historic maximum number of buckets of the new state, the number of removed buckets
+   * that must be restored followed by their IDs in the order they are restored, and the number of
+   * buckets that must be removed afterwards followed by their IDs. The IDs of the restored buckets
+   * are used to detect if a delta is applied to a state other than its base state.
+   */
+  @Override
+  public byte[] getStateDelta(byte[] baseState) {
+    requireNonNull(baseState);
+    if (baseState.length < 4 || (baseState.length & 0x3) != 0)
+      throw new IllegalArgumentException(ILLEGAL_STATE_EXCEPTION_MESSAGE);
+    int baseHistoricMaxNumBuckets = getInt(baseState, 0);
+    if (baseHistoricMaxNumBuckets < 0)
+      throw new IllegalArgumentException(ILLEGAL_STATE_EXCEPTION_MESSAGE);
+    int baseNumRemovedBuckets = (baseState.length - 4) >>> 2;
+
+    // length of the common prefix of the stacks of removed buckets
+    int numCommon = 0;
+    if (baseHistoricMaxNumBuckets == historicMaxNumBuckets) {
+      int maxNumCommon = Math.min(baseNumRemovedBuckets, numRemovedBuckets);
+      while (numCommon < maxNumCommon
+          && getInt(baseState, 4 + 4 * numCommon) == removedBuckets[numCommon]) {
+        numCommon += 1;
+      }
+    }
+    int numRestored = baseNumRemovedBuckets - numCommon;
+    int numNewlyRemoved = numRemovedBuckets - numCommon;
+
+    long size =
+        1L
+            + getVarIntLength(baseHistoricMaxNumBuckets)
+            + getVarIntLength(baseNumRemovedBuckets)
+            + getVarIntLength(historicMaxNumBuckets)
+            + getVarIntLength(numRestored)
+            + getVarIntLength(numNewlyRemoved);
+    for (int r = baseNumRemovedBuckets - 1; r >= numCommon; --r) {
+      size += getVarIntLength(getInt(baseState, 4 + 4 * r));
+    }
+    for (int r = numCommon; r < numRemovedBuckets; ++r) {
+      size += getVarIntLength(removedBuckets[r]);
+    }
+
+    byte[] result = new byte[Math.toIntExact(size)];
+    result[0] = STATE_DELTA_VERSION;
+    int off = 1;
+    off = putVarInt(result, off, baseHistoricMaxNumBuckets);
+    off = putVarInt(result, off, baseNumRemovedBuckets);
+    off = putVarInt(result, off, historicMaxNumBuckets);
+    off = putVarInt(result, off, numRestored);
+    for (int r = baseNumRemovedBuckets - 1; r >= numCommon; --r) {
+      off = putVarInt(result, off, getInt(baseState, 4 + 4 * r));
+    }
+    off = putVarInt(result, off, numNewlyRemoved);
+    for (int r = numCommon; r < numRemovedBuckets; ++r) {
+      off = putVarInt(result, off, removedBuckets[r]);
+    }
+    return result;
+  }
+
+  @Override
+  public ConsistentBucketSetHasher applyStateDelta(byte[] stateDelta) {
+    applyStateDeltaAndCheckForAddedBuckets(stateDelta);
+    return this;
+  }
+
+  /**
+   * Applies the given state delta and returns {@code true} if buckets might have been added.
+   *
+   * <p>The delta is completely validated before the state is modified.
+   */
+  boolean applyStateDeltaAndCheckForAddedBuckets(byte[] stateDelta) {
+    requireNonNull(stateDelta);
+    if (stateDelta.length < 1 || stateDelta[0] != STATE_DELTA_VERSION) {
+      throw new IllegalArgumentException(ILLEGAL_STATE_DELTA_EXCEPTION_MESSAGE);
+    }
+    VarIntUtil.Reader reader =
+        new VarIntUtil.Reader(stateDelta, 1, ILLEGAL_STATE_DELTA_EXCEPTION_MESSAGE);
+    int baseHistoricMaxNumBuckets = reader.nextNonNegative();
+    int baseNumRemovedBuckets = reader.nextNonNegative();
+    int newHistoricMaxNumBuckets = reader.nextNonNegative();
+    if (baseHistoricMaxNumBuckets != historicMaxNumBuckets
+        || baseNumRemovedBuckets != numRemovedBuckets) {
+      throw new IllegalArgumentException(ILLEGAL_STATE_DELTA_EXCEPTION_MESSAGE);
+    }
+    int numRestored = reader.nextCount();
+    if (numRestored > numRemovedBuckets) {
+      throw new IllegalArgumentException(ILLEGAL_STATE_DELTA_EXCEPTION_MESSAGE);
+    }
+    for (int i = 0; i < numRestored; ++i) {
+      if (reader.nextNonNegative() != removedBuckets[numRemovedBuckets - 1 - i]) {
+        throw new IllegalArgumentException(ILLEGAL_STATE_DELTA_EXCEPTION_MESSAGE);
+      }
+    }
+    int numCommon = numRemovedBuckets - numRestored;
+    if (numCommon > 0 && newHistoricMaxNumBuckets != historicMaxNumBuckets) {
+      throw new IllegalArgumentException(ILLEGAL_STATE_DELTA_EXCEPTION_MESSAGE);
+    }
+    int numNewlyRemoved = reader.nextCount();
+    int[] newlyRemovedBuckets = new int[numNewlyRemoved];
+    for (int i = 0; i < numNewlyRemoved; ++i) {
+      newlyRemovedBuckets[i] = reader.nextNonNegative();
+    }
+    if (!reader.isAtEnd()) {
+      throw new IllegalArgumentException(ILLEGAL_STATE_DELTA_EXCEPTION_MESSAGE);
+    }
+    checkNewlyRemovedBuckets(newlyRemovedBuckets, numRestored, newHistoricMaxNumBuckets);
+
+    for (int i = 0; i < numRestored; ++i) {
+      addBucket();
+    }
+    if (numRemovedBuckets == 0) {
+      historicMaxNumBuckets = newHistoricMaxNumBuckets;
+    }
+    // avoid repeated resizing when many buckets are removed
+    if (removedBuckets.length < numRemovedBuckets + numNewlyRemoved) {
+      removedBuckets = Arrays.copyOf(removedBuckets, numRemovedBuckets + numNewlyRemoved);
+    }
+    int maxNewlyRemovedBucket = -1;
+    for (int b : newlyRemovedBuckets) {
+      maxNewlyRemovedBucket = Math.max(maxNewlyRemovedBucket, b);
+    }
+    if (ka.length <= maxNewlyRemovedBucket) {
+      ka = Arrays.copyOf(ka, maxNewlyRemovedBucket + 1);
+    }
+    for (int b : newlyRemovedBuckets) {
+      pushRemovedBucket(b);
+    }
+    return numRestored > 0 || newHistoricMaxNumBuckets > baseHistoricMaxNumBuckets;
+  }
+
+  // newly removed buckets must be distinct, in range, and not removed after restoring buckets
+  private void checkNewlyRemovedBuckets(
+      int[] newlyRemovedBuckets, int numRestored, int newHistoricMaxNumBuckets) {
+    int[] restoredBuckets =
+        Arrays.copyOfRange(removedBuckets, numRemovedBuckets - numRestored, numRemovedBuckets);
+    Arrays.sort(restoredBuckets);
+    for (int b : newlyRemovedBuckets) {
+      if (b >= newHistoricMaxNumBuckets
+          || (isRemoved(b) && Arrays.binarySearch(restoredBuckets, b) < 0)) {
+        throw new IllegalArgumentException(ILLEGAL_STATE_DELTA_EXCEPTION_MESSAGE);
+      }
+    }
+    // use a bit set for duplicate detection, if its size is small compared to the delta
+    if ((long) newlyRemovedBuckets.length << 6 >= newHistoricMaxNumBuckets) {
+      long[] visited = new long[(newHistoricMaxNumBuckets + 63) >>> 6];
+      for (int b : newlyRemovedBuckets) {
+        if ((visited[b >>> 6] & (1L << b)) != 0) {
+          throw new IllegalArgumentException(ILLEGAL_STATE_DELTA_EXCEPTION_MESSAGE);
+        }
+        visited[b >>> 6] |= 1L << b;
+      }
+    } else {
+      int[] sortedNewlyRemovedBuckets = newlyRemovedBuckets.clone();
+      Arrays.sort(sortedNewlyRemovedBuckets);
+      for (int i = 1; i < sortedNewlyRemovedBuckets.length; ++i) {
+        if (sortedNewlyRemovedBuckets[i - 1] == sortedNewlyRemovedBuckets[i]) {
+          throw new IllegalArgumentException(ILLEGAL_STATE_DELTA_EXCEPTION_MESSAGE);
+        }
+      }
+    }
+  }
+
+  boolean containsBucket(int b) {
+    return b >= 0 && b < historicMaxNumBuckets && !isRemoved(b);
+  }
+
   private int bucketAtView(int b, int v, Debug debug) {
     while (b < ka.length) {
       long kah = ka[b];
@@ -20,6 +20,7 @@ import static java.util.Objects.requireNonNull;
 
 import com.dynatrace.hash4j.random.PseudoRandomGenerator;
 import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
+import java.util.Arrays;
 
 class ConsistentJumpBackBucketHasher implements ConsistentBucketHasher {
 
@@ -40,6 +41,19 @@ class ConsistentJumpBackBucketHasher implements ConsistentBucketHasher {
     return getBucket(numBuckets, pseudoRandomGenerator);
   }
 
+  @Override
+  public void getBuckets(long[] hashes, int numBuckets, int[] out) {
+    if (numBuckets <= 1) {
+      checkNumberOfBuckets(numBuckets);
+      Arrays.fill(out, 0, hashes.length, 0);
+      return;
+    }
+    for (int i = 0; i < hashes.length; ++i) {
+      pseudoRandomGenerator.reset(hashes[i]);
+      out[i] = getBucket(numBuckets, pseudoRandomGenerator);
+    }
+  }
+
   // numBuckets must be at least 2!
   static final int getBucket(int numBuckets, PseudoRandomGenerator pseudoRandomGenerator) {
     long r0 = pseudoRandomGenerator.nextLong();
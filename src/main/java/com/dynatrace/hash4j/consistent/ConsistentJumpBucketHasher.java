@@ -40,6 +40,7 @@ import static java.util.Objects.requireNonNull;
 
 import com.dynatrace.hash4j.random.PseudoRandomGenerator;
 import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
+import java.util.Arrays;
 
 class ConsistentJumpBucketHasher implements ConsistentBucketHasher {
 
@@ -54,11 +55,28 @@ class ConsistentJumpBucketHasher implements ConsistentBucketHasher {
   // see
   // https://github.com/google/guava/blob/0a17f4a429323589396c38d8ce75ca058faa6c64/guava/src/com/google/common/hash/Hashing.java#L559
   @Override
-  public strictfp int getBucket(long hash, int numBuckets) {
+  public int getBucket(long hash, int numBuckets) {
     if (numBuckets <= 1) {
       checkNumberOfBuckets(numBuckets);
       return 0;
     }
+    return getBucketInternal(hash, numBuckets);
+  }
+
+  @Override
+  public void getBuckets(long[] hashes, int numBuckets, int[] out) {
+    if (numBuckets <= 1) {
+      checkNumberOfBuckets(numBuckets);
+      Arrays.fill(out, 0, hashes.length, 0);
+      return;
+    }
+    for (int i = 0; i < hashes.length; ++i) {
+      out[i] = getBucketInternal(hashes[i], numBuckets);
+    }
+  }
+
+  // numBuckets must be at least 2!
+  private strictfp int getBucketInternal(long hash, int numBuckets) {
     pseudoRandomGenerator.reset(hash);
 
     int candidate = 0;
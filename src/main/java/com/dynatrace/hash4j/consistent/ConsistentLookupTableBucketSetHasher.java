@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.consistent;
+
+import static com.dynatrace.hash4j.internal.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
+import java.util.Arrays;
+
+/**
+ * A {@link ConsistentBucketSetHasher} that answers lookups with a single array access.
+ *
+ * <p>The range of hash values is divided into {@code 2^tableSizeBits} slots given by the most
+ * significant bits of the hash value. The table stores for each slot the bucket that {@link
+ * ConsistentJumpBackAnchorBucketSetHasher} returns for a representative hash value of the slot.
+ * Since the table is compiled from a consistent hasher, the consistency properties carry over at
+ * the granularity of slots. When a bucket is removed, only the slots pointing to that bucket are
+ * recomputed. When a bucket is added, all slots are recomputed, but only slots that are mapped to
+ * the new bucket change.
+ */
+class ConsistentLookupTableBucketSetHasher implements ConsistentBucketSetHasher {
+
+  private static final String NO_BUCKETS_AVAILABLE_EXCEPTION_MESSAGE = "No buckets available!";
+
+  static final int MIN_TABLE_SIZE_BITS = 1;
+  static final int MAX_TABLE_SIZE_BITS = 30;
+
+  private final PseudoRandomGeneratorProvider pseudoRandomGeneratorProvider;
+  private ConsistentJumpBackAnchorBucketSetHasher hasher;
+  private final int[] table;
+  private final int shift;
+
+  ConsistentLookupTableBucketSetHasher(
+      PseudoRandomGeneratorProvider pseudoRandomGeneratorProvider, int tableSizeBits) {
+    requireNonNull(pseudoRandomGeneratorProvider);
+    checkArgument(
+        tableSizeBits >= MIN_TABLE_SIZE_BITS && tableSizeBits <= MAX_TABLE_SIZE_BITS,
+        "illegal table size bits");
+    this.pseudoRandomGeneratorProvider = pseudoRandomGeneratorProvider;
+    this.hasher = new ConsistentJumpBackAnchorBucketSetHasher(pseudoRandomGeneratorProvider);
+    this.table = new int[1 << tableSizeBits];
+    this.shift = 64 - tableSizeBits;
+  }
+
+  // the representative hash value of a slot, must be a high-quality hash value, as the slot
+  // indices are consecutive
+  static long getSlotHash(int slot) {
+    long z = slot * 0x9e3779b97f4a7c15L + 0x632be59bd9b4e019L;
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+
+  int getSlot(long hash) {
+    return (int) (hash >>> shift);
+  }
+
+  private void rebuildTable() {
+    if (hasher.getNumBuckets() == 0) return;
+    for (int slot = 0; slot < table.length; ++slot) {
+      table[slot] = hasher.getBucket(getSlotHash(slot));
+    }
+  }
+
+  @Override
+  public int addBucket() {
+    int bucketId = hasher.addBucket();
+    if (hasher.getNumBuckets() == 1) {
+      Arrays.fill(table, bucketId);
+    } else {
+      // only slots that are mapped to the new bucket change
+      for (int slot = 0; slot < table.length; ++slot) {
+        if (hasher.getBucket(getSlotHash(slot)) == bucketId) table[slot] = bucketId;
+      }
+    }
+    return bucketId;
+  }
+
+  @Override
+  public boolean removeBucket(int bucketId) {
+    if (!hasher.removeBucket(bucketId)) return false;
+    if (hasher.getNumBuckets() == 0) return true;
+    // only slots that were mapped to the removed bucket change
+    for (int slot = 0; slot < table.length; ++slot) {
+      if (table[slot] == bucketId) table[slot] = hasher.getBucket(getSlotHash(slot));
+    }
+    return true;
+  }
+
+  @Override
+  public int getBucket(long hash) {
+    if (hasher.getNumBuckets() == 0) {
+      throw new IllegalStateException(NO_BUCKETS_AVAILABLE_EXCEPTION_MESSAGE);
+    }
+    return table[getSlot(hash)];
+  }
+
+  @Override
+  public int[] getBuckets() {
+    return hasher.getBuckets();
+  }
+
+  @Override
+  public int getNumBuckets() {
+    return hasher.getNumBuckets();
+  }
+
+  @Override
+  public byte[] getState() {
+    return hasher.getState();
+  }
+
+  @Override
+  public ConsistentBucketSetHasher setState(byte[] state) {
+    // the table is only rebuilt if the state is valid
+    ConsistentJumpBackAnchorBucketSetHasher newHasher =
+        new ConsistentJumpBackAnchorBucketSetHasher(pseudoRandomGeneratorProvider);
+    newHasher.setState(state);
+    hasher = newHasher;
+    rebuildTable();
+    return this;
+  }
+
+  @Override
+  public byte[] getStateDelta(byte[] baseState) {
+    return hasher.getStateDelta(baseState);
+  }
+
+  @Override
+  public ConsistentBucketSetHasher applyStateDelta(byte[] stateDelta) {
+    if (hasher.applyStateDeltaAndCheckForAddedBuckets(stateDelta)) {
+      rebuildTable();
+    } else if (hasher.getNumBuckets() > 0) {
+      // only slots that were mapped to removed buckets change
+      for (int slot = 0; slot < table.length; ++slot) {
+        if (!hasher.containsBucket(table[slot])) table[slot] = hasher.getBucket(getSlotHash(slot));
+      }
+    }
+    return this;
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.consistent;
+
+import static com.dynatrace.hash4j.consistent.ConsistentHashingUtil.checkNumberOfBuckets;
+import static com.dynatrace.hash4j.internal.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.dynatrace.hash4j.random.PseudoRandomGenerator;
+import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
+
+class ConsistentProbingBoundedLoadBucketHasher implements ConsistentBoundedLoadBucketHasher {
+
+  // number of random probes before falling back to a linear scan, which guarantees termination
+  private static final int MAX_NUM_RANDOM_PROBES = 64;
+
+  private final ConsistentBucketHasher consistentBucketHasher;
+  private final PseudoRandomGenerator pseudoRandomGenerator;
+  private final double capacityFactor;
+
+  ConsistentProbingBoundedLoadBucketHasher(
+      ConsistentBucketHasher consistentBucketHasher,
+      PseudoRandomGeneratorProvider pseudoRandomGeneratorProvider,
+      double capacityFactor) {
+    requireNonNull(consistentBucketHasher);
+    requireNonNull(pseudoRandomGeneratorProvider);
+    checkArgument(
+        capacityFactor >= 1. && capacityFactor < Double.POSITIVE_INFINITY,
+        "capacity factor must be finite and not smaller than 1");
+    this.consistentBucketHasher = consistentBucketHasher;
+    this.pseudoRandomGenerator = pseudoRandomGeneratorProvider.create();
+    this.capacityFactor = capacityFactor;
+  }
+
+  @Override
+  public int getBucket(long hash, int[] loads, long totalLoad) {
+    int numBuckets = loads.length;
+    long capacity = getCapacity(totalLoad, numBuckets);
+    int bucket = consistentBucketHasher.getBucket(hash, numBuckets);
+    if (loads[bucket] < capacity) return bucket;
+    // the probe sequence is derived from the hash only, hence it is the same for all numbers of
+    // buckets and the consistency of the underlying consistent bucket hasher carries over to all
+    // probes
+    pseudoRandomGenerator.reset(hash);
+    for (int i = 0; i < MAX_NUM_RANDOM_PROBES; ++i) {
+      bucket = consistentBucketHasher.getBucket(pseudoRandomGenerator.nextLong(), numBuckets);
+      if (loads[bucket] < capacity) return bucket;
+    }
+    // as the capacity multiplied by the number of buckets exceeds the total load, there is always
+    // a bucket that is not overloaded, unless the given total load is inconsistent with the loads
+    for (int i = 0; i < numBuckets; ++i) {
+      bucket += 1;
+      if (bucket == numBuckets) bucket = 0;
+      if (loads[bucket] < capacity) return bucket;
+    }
+    throw new IllegalArgumentException("total load is smaller than the sum of loads");
+  }
+
+  @Override
+  public double getCapacityFactor() {
+    return capacityFactor;
+  }
+
+  @Override
+  public long getCapacity(long totalLoad, int numBuckets) {
+    checkNumberOfBuckets(numBuckets);
+    return (long) Math.ceil(capacityFactor * (totalLoad + 1.) / numBuckets);
+  }
+}
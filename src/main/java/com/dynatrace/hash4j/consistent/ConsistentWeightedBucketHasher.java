@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.consistent;
+
+/**
+ * A hash function that maps a given hash consistently to a bucket index, where each bucket has a
+ * non-negative real-valued weight. The probability that a key is mapped to a bucket is proportional
+ * to its weight.
+ */
+public interface ConsistentWeightedBucketHasher {
+
+  /**
+   * Returns a bucket index in the range {@code [0, getNumBuckets())} based on a 64-bit hash value
+   * of the key.
+   *
+   * <p>The returned bucket index is distributed proportionally to the weights of the buckets.
+   * Buckets with zero weight are never returned. If the weight of a bucket is changed, remapping is
+   * minimized.
+   *
+   * <p>This function is not thread-safe!
+   *
+   * <p>This function relies on a high-quality 64-bit hash value of the key. Low-quality hashes may
+   * distribute the keys non-uniformly over the buckets.
+   *
+   * @param hash a 64-bit hash value of the key
+   * @return the bucket index
+   * @throws IllegalStateException if there is no bucket with positive weight
+   */
+  int getBucket(long hash);
+
+  /**
+   * Sets the weights of all buckets. The number of buckets is given by the length of the array.
+   *
+   * @param weights the weights, which must be non-negative and finite
+   * @return a reference to this
+   * @throws IllegalArgumentException if a weight is negative, infinite, or NaN
+   */
+  ConsistentWeightedBucketHasher setWeights(double... weights);
+
+  /**
+   * Sets the weight of a single bucket.
+   *
+   * @param bucketIdx the bucket index
+   * @param weight the weight, which must be non-negative and finite
+   * @return a reference to this
+   * @throws IllegalArgumentException if the bucket index is out of range, or if the weight is
+   *     negative, infinite, or NaN
+   */
+  ConsistentWeightedBucketHasher setWeight(int bucketIdx, double weight);
+
+  /**
+   * Returns the weight of a bucket.
+   *
+   * @param bucketIdx the bucket index
+   * @return the weight
+   * @throws IllegalArgumentException if the bucket index is out of range
+   */
+  double getWeight(int bucketIdx);
+
+  /**
+   * Returns the total number of buckets including those with zero weight.
+   *
+   * @return the total number of buckets
+   */
+  int getNumBuckets();
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.consistent;
+
+import static com.dynatrace.hash4j.internal.EmptyArray.EMPTY_DOUBLE_ARRAY;
+import static com.dynatrace.hash4j.internal.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.dynatrace.hash4j.random.PseudoRandomGenerator;
+import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
+import java.util.Arrays;
+
+/**
+ * Weighted consistent hashing based on thinning of Poisson processes.
+ *
+ * <p>Consider the points of a Poisson process in the 3-dimensional space spanned by time, bucket
+ * index, and height. A key is mapped to the bucket of the earliest point whose height is smaller
+ * than the weight of its bucket. Changing the weight of a bucket only affects the acceptance of
+ * points that belong to this bucket, which leads to optimal remapping.
+ *
+ * <p>The height dimension is divided into layers, one for each binary exponent of double values,
+ * and a layer {@code [0, 2^-1022)} for subnormal values. Each layer is realized by a separate
+ * pseudo-random sequence seeded with the hash of the key and the layer index, that yields points in
+ * ascending time order with uniformly distributed heights within the layer. The bucket index of a
+ * point is obtained by applying JumpBackHash to a pseudo-random value, which makes the mapping also
+ * consistent with respect to the number of buckets.
+ *
+ * <p>The time of the first point of each layer is not drawn independently. Instead, layers {@code
+ * 0} to {@code j} are split into layer {@code j} and layers {@code 0} to {@code j - 1}, which cover
+ * height ranges of equal width. Therefore, each part contains the first point with probability 1/2,
+ * and the first point of the other part is later by an exponentially distributed increment. As the
+ * random values for this split are taken from the sequence of layer {@code j}, and only relative
+ * times matter, the points are the same for all weight configurations. A lookup starts with all
+ * layers up to the highest one containing a weight, and splits off lower layers only when needed.
+ * Layers far below the maximum weight are hardly ever reached, as their first points are late.
+ * Hence, the expected number of processed layers and points is bounded by a constant plus twice the
+ * ratio {@code w_max / w_mean}, where {@code w_max} and {@code w_mean} denote the maximum and the
+ * mean weight, respectively, provided that {@code w_max} is not subnormal. In particular, the costs
+ * do not depend on the scale of the weights.
+ */
+class ConsistentWeightedJumpBackBucketHasher implements ConsistentWeightedBucketHasher {
+
+  private static final String NO_BUCKETS_AVAILABLE_EXCEPTION_MESSAGE = "No buckets available!";
+
+  // layer 0 covers heights in [0, 2^-1022), and layer j >= 1 covers [2^(j-1023), 2^(j-1022))
+  private static final int LAYER_OFFSET = 1 - Double.MIN_EXPONENT;
+  private static final int NUM_LAYERS = Double.MAX_EXPONENT + LAYER_OFFSET + 1;
+
+  private static final long[] LAYER_SEEDS = createLayerSeeds();
+
+  private static long[] createLayerSeeds() {
+    PseudoRandomGenerator pseudoRandomGenerator =
+        PseudoRandomGeneratorProvider.splitMix64_V1().create(0x1c6a9e4f27d08b35L);
+    long[] seeds = new long[NUM_LAYERS];
+    for (int j = 0; j < NUM_LAYERS; ++j) {
+      seeds[j] = pseudoRandomGenerator.nextLong();
+    }
+    return seeds;
+  }
+
+  private double[] weights = EMPTY_DOUBLE_ARRAY;
+
+  // numBucketsWithTopLayer[j] is the number of buckets whose weight is within layer j
+  private final int[] numBucketsWithTopLayer = new int[NUM_LAYERS];
+  private int numBucketsWithPositiveWeight = 0;
+  private int topLayer = -1;
+
+  // generators are only created for layers that are actually reached during lookups
+  private final PseudoRandomGenerator[] layerGenerators = new PseudoRandomGenerator[NUM_LAYERS];
+  private final PseudoRandomGenerator bucketGenerator;
+  private final PseudoRandomGeneratorProvider pseudoRandomGeneratorProvider;
+
+  // time of the next point of each layer, used to avoid allocations during lookups
+  private final double[] layerTimes = new double[NUM_LAYERS];
+
+  ConsistentWeightedJumpBackBucketHasher(
+      PseudoRandomGeneratorProvider pseudoRandomGeneratorProvider) {
+    requireNonNull(pseudoRandomGeneratorProvider);
+    this.pseudoRandomGeneratorProvider = pseudoRandomGeneratorProvider;
+    this.bucketGenerator = pseudoRandomGeneratorProvider.create();
+  }
+
+  // returns the index of the highest layer with a nonempty intersection with [0, weight),
+  // or -1 if the weight is zero
+  static int getTopLayer(double weight) {
+    if (weight <= Double.MIN_NORMAL) {
+      return (weight > 0.) ? 0 : -1;
+    }
+    int exponent = Math.getExponent(weight);
+    return (weight == Math.scalb(1., exponent))
+        ? exponent + LAYER_OFFSET - 1
+        : exponent + LAYER_OFFSET;
+  }
+
+  private static void checkWeight(double weight) {
+    checkArgument(
+        weight >= 0. && weight < Double.POSITIVE_INFINITY,
+        "weight must be non-negative and finite");
+  }
+
+  private void checkBucketIndex(int bucketIdx) {
+    checkArgument(bucketIdx >= 0 && bucketIdx < weights.length, "bucket index out of range");
+  }
+
+  private void addToLayerStatistics(double weight, int delta) {
+    int layer = getTopLayer(weight);
+    if (layer < 0) return;
+    numBucketsWithPositiveWeight += delta;
+    numBucketsWithTopLayer[layer] += delta;
+  }
+
+  // the top layer must not be smaller than the highest layer containing a weight
+  private void updateTopLayer(int topLayer) {
+    while (topLayer >= 0 && numBucketsWithTopLayer[topLayer] == 0) {
+      topLayer -= 1;
+    }
+    this.topLayer = topLayer;
+  }
+
+  @Override
+  public ConsistentWeightedBucketHasher setWeights(double... weights) {
+    requireNonNull(weights);
+    for (double weight : weights) {
+      checkWeight(weight);
+    }
+    this.weights = Arrays.copyOf(weights, weights.length);
+    Arrays.fill(numBucketsWithTopLayer, 0);
+    numBucketsWithPositiveWeight = 0;
+    for (double weight : weights) {
+      addToLayerStatistics(weight, 1);
+    }
+    updateTopLayer(NUM_LAYERS - 1);
+    return this;
+  }
+
+  @Override
+  public ConsistentWeightedBucketHasher setWeight(int bucketIdx, double weight) {
+    checkBucketIndex(bucketIdx);
+    checkWeight(weight);
+    addToLayerStatistics(weights[bucketIdx], -1);
+    addToLayerStatistics(weight, 1);
+    weights[bucketIdx] = weight;
+    updateTopLayer(Math.max(topLayer, getTopLayer(weight)));
+    return this;
+  }
+
+  @Override
+  public double getWeight(int bucketIdx) {
+    checkBucketIndex(bucketIdx);
+    return weights[bucketIdx];
+  }
+
+  @Override
+  public int getNumBuckets() {
+    return weights.length;
+  }
+
+  private PseudoRandomGenerator getLayerGenerator(int layer) {
+    PseudoRandomGenerator layerGenerator = layerGenerators[layer];
+    if (layerGenerator == null) {
+      layerGenerator = pseudoRandomGeneratorProvider.create();
+      layerGenerators[layer] = layerGenerator;
+    }
+    return layerGenerator;
+  }
+
+  // scales an exponentially distributed random value to a time increment of the given layer, the
+  // times are relative to the width of the top layer, which is equal to the width of layer 0 for
+  // top layers 0 and 1
+  private double getTimeIncrement(int layer, double exponential) {
+    return Math.scalb(exponential, Math.max(topLayer, 1) - Math.max(layer, 1));
+  }
+
+  // returns a height that is uniformly distributed within the given layer
+  private static double getHeight(int layer, double uniform) {
+    if (layer == 0) {
+      return Math.scalb(uniform, Double.MIN_EXPONENT);
+    } else {
+      return Math.scalb(1. + uniform, layer - LAYER_OFFSET);
+    }
+  }
+
+  private int getBucketIndex(long bucketSeed) {
+    bucketGenerator.reset(bucketSeed);
+    if (weights.length <= 1) return 0;
+    return ConsistentJumpBackBucketHasher.getBucket(weights.length, bucketGenerator);
+  }
+
+  @Override
+  public int getBucket(long hash) {
+    if (numBucketsWithPositiveWeight <= 0) {
+      throw new IllegalStateException(NO_BUCKETS_AVAILABLE_EXCEPTION_MESSAGE);
+    }
+    // layers 0 to prefixLayer have not been split off yet, and their first point is at prefixTime,
+    // all times are relative to the first point of layers 0 to topLayer
+    int prefixLayer = topLayer;
+    double prefixTime = 0.;
+    while (true) {
+      int layer = -1;
+      double time = (prefixLayer >= 0) ? prefixTime : Double.POSITIVE_INFINITY;
+      for (int j = prefixLayer + 1; j <= topLayer; ++j) {
+        if (layerTimes[j] < time) {
+          layer = j;
+          time = layerTimes[j];
+        }
+      }
+      if (layer < 0) {
+        PseudoRandomGenerator layerGenerator =
+            getLayerGenerator(prefixLayer).reset(hash ^ LAYER_SEEDS[prefixLayer]);
+        layerTimes[prefixLayer] = prefixTime;
+        if (prefixLayer > 0) {
+          double increment = getTimeIncrement(prefixLayer, layerGenerator.nextExponential());
+          if (layerGenerator.nextLong() < 0) {
+            prefixTime += increment;
+          } else {
+            layerTimes[prefixLayer] += increment;
+          }
+        }
+        prefixLayer -= 1;
+        continue;
+      }
+      PseudoRandomGenerator layerGenerator = layerGenerators[layer];
+      double height = getHeight(layer, layerGenerator.nextDouble());
+      int bucketIdx = getBucketIndex(layerGenerator.nextLong());
+      if (height < weights[bucketIdx]) return bucketIdx;
+      layerTimes[layer] += getTimeIncrement(layer, layerGenerator.nextExponential());
+    }
+  }
+}
@@ -20,6 +20,7 @@ import static java.util.Objects.requireNonNull;
 
 import com.dynatrace.hash4j.random.PseudoRandomGenerator;
 import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
+import java.util.Arrays;
 
 /**
  * Consistent hashing algorithm based on a simplified version of the algorithm described in Sergey
@@ -332,20 +333,56 @@ class ImprovedConsistentWeightedSampling implements ConsistentBucketHasher {
     // The same argumentation also holds in case of the log-function for StrictMath.log and
     // Math.log(x). Furthermore, to avoid also the log evaluation at all for small bucket numbers, a
     // lookup table with precalculated logarithms is used.
-    double t;
+    double logBucketsLow;
+    double logBucketsHigh;
     if (numBuckets - 2 < LOG_INT.length) {
-      double logBuckets =
-          LOG_INT[numBuckets - 2]; // get StrictMath.log(numBuckets) from lookup table
-      t = Math.floor(logBuckets / r + b);
+      logBucketsLow = LOG_INT[numBuckets - 2]; // get StrictMath.log(numBuckets) from lookup table
+      logBucketsHigh = logBucketsLow;
     } else {
       double logBuckets = Math.log(numBuckets); // try first without StrictMath
-      t = Math.floor(Double.longBitsToDouble(Double.doubleToRawLongBits(logBuckets) - 1) / r + b);
-      double tHigh =
-          Math.floor(Double.longBitsToDouble(Double.doubleToRawLongBits(logBuckets) + 1) / r + b);
+      logBucketsLow = Double.longBitsToDouble(Double.doubleToRawLongBits(logBuckets) - 1);
+      logBucketsHigh = Double.longBitsToDouble(Double.doubleToRawLongBits(logBuckets) + 1);
+    }
+    return getBucket(numBuckets, logBucketsLow, logBucketsHigh, r, b);
+  }
+
+  @Override
+  public void getBuckets(long[] hashes, int numBuckets, int[] out) {
+    if (numBuckets <= 1) {
+      checkNumberOfBuckets(numBuckets);
+      Arrays.fill(out, 0, hashes.length, 0);
+      return;
+    }
+    // the bracket of the logarithm of the number of buckets is computed only once for all hashes
+    double logBucketsLow;
+    double logBucketsHigh;
+    if (numBuckets - 2 < LOG_INT.length) {
+      logBucketsLow = LOG_INT[numBuckets - 2];
+      logBucketsHigh = logBucketsLow;
+    } else {
+      double logBuckets = Math.log(numBuckets);
+      logBucketsLow = Double.longBitsToDouble(Double.doubleToRawLongBits(logBuckets) - 1);
+      logBucketsHigh = Double.longBitsToDouble(Double.doubleToRawLongBits(logBuckets) + 1);
+    }
+    for (int i = 0; i < hashes.length; ++i) {
+      pseudoRandomGenerator.reset(hashes[i]);
+      double r = pseudoRandomGenerator.nextExponential() + pseudoRandomGenerator.nextExponential();
+      double b = pseudoRandomGenerator.nextDouble();
+      out[i] = getBucket(numBuckets, logBucketsLow, logBucketsHigh, r, b);
+    }
+  }
+
+  // logBucketsLow and logBucketsHigh must bracket StrictMath.log(numBuckets), if both are equal,
+  // they must be equal to StrictMath.log(numBuckets)
+  private static strictfp int getBucket(
+      int numBuckets, double logBucketsLow, double logBucketsHigh, double r, double b) {
+    double t = Math.floor(logBucketsLow / r + b);
+    if (logBucketsLow != logBucketsHigh) {
+      double tHigh = Math.floor(logBucketsHigh / r + b);
       if (t != tHigh) {
         // if result is close to an integer and bracket boundaries yield different results,
         // repeat computation with StrictMath to guarantee platform-independence
-        logBuckets = StrictMath.log(numBuckets);
+        double logBuckets = StrictMath.log(numBuckets);
         t = Math.floor(logBuckets / r + b);
       }
     }
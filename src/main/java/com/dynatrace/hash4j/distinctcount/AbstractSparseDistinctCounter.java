@@ -0,0 +1,361 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static com.dynatrace.hash4j.internal.VarIntUtil.getVarIntLength;
+import static com.dynatrace.hash4j.internal.VarIntUtil.putVarInt;
+import static java.util.Objects.requireNonNull;
+
+import com.dynatrace.hash4j.distinctcount.DistinctCountUtil.TokenIterator;
+import com.dynatrace.hash4j.internal.VarIntUtil;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+// package-private base class for distinct counters that start with a sparse representation based on
+// 32-bit hash tokens and switch to the dense representation of the underlying sketch, as soon as
+// the sparse representation would need more memory
+abstract class AbstractSparseDistinctCounter<
+    S extends AbstractSparseDistinctCounter<S, T, R>,
+    T extends DistinctCounter<T, R>,
+    R extends DistinctCounter.Estimator<T>> {
+
+  private static final int[] EMPTY_TOKENS = {};
+  private static final int MIN_TOKEN_CAPACITY = 4;
+
+  static final byte SPARSE_FORMAT = 0;
+  static final byte DENSE_FORMAT = 1;
+
+  private final int p;
+
+  // the maximum number of tokens that can be buffered, such that the token buffer does not require
+  // more memory than the dense representation
+  private final int maxTokenCapacity;
+
+  // buffered tokens, null if the dense representation is used
+  private int[] tokens = EMPTY_TOKENS;
+  private int numTokens = 0;
+
+  // the dense representation, null as long as the sparse representation is used
+  private T dense = null;
+
+  AbstractSparseDistinctCounter(int p, int denseStateLength) {
+    this.p = p;
+    this.maxTokenCapacity = Math.max(1, denseStateLength / Integer.BYTES);
+  }
+
+  abstract S self();
+
+  abstract S createSparse(int p);
+
+  abstract T createDense(int p);
+
+  /**
+   * Returns the precision parameter of this sketch.
+   *
+   * @return the precision parameter
+   */
+  public int getP() {
+    return p;
+  }
+
+  /**
+   * Returns {@code true} if this sketch still uses the sparse representation.
+   *
+   * @return {@code true} if this sketch uses the sparse representation
+   */
+  public boolean isSparse() {
+    return dense == null;
+  }
+
+  /**
+   * Adds a new element represented by a 64-bit hash value to this sketch.
+   *
+   * <p>In order to get good estimates, it is important that the hash value is calculated using a
+   * high-quality hash algorithm.
+   *
+   * @param hashValue a 64-bit hash value
+   * @return this sketch
+   */
+  public S add(long hashValue) {
+    return addToken(DistinctCountUtil.computeToken(hashValue));
+  }
+
+  /**
+   * Adds a new element represented by a 32-bit token obtained from {@code computeToken(long)}.
+   *
+   * <p>{@code addToken(computeToken(hash))} is equivalent to {@code add(hash)}
+   *
+   * @param token a 32-bit hash token
+   * @return this sketch
+   */
+  public S addToken(int token) {
+    if (dense != null) {
+      dense.addToken(token);
+      return self();
+    }
+    if (numTokens == tokens.length) {
+      numTokens = DistinctCountUtil.deduplicateTokens(tokens, 0, numTokens);
+      if (2 * numTokens >= tokens.length) {
+        if (tokens.length >= maxTokenCapacity) {
+          densify().addToken(token);
+          return self();
+        }
+        tokens =
+            Arrays.copyOf(
+                tokens,
+                Math.min(Math.max(2 * tokens.length, MIN_TOKEN_CAPACITY), maxTokenCapacity));
+      }
+    }
+    tokens[numTokens++] = token;
+    return self();
+  }
+
+  private T densify() {
+    T sketch = createDense(p);
+    for (int i = 0; i < numTokens; ++i) {
+      sketch.addToken(tokens[i]);
+    }
+    dense = sketch;
+    tokens = null;
+    numTokens = 0;
+    return sketch;
+  }
+
+  /**
+   * Adds another sketch.
+   *
+   * <p>The precision parameter of the added sketch must not be smaller than the precision parameter
+   * of this sketch. Otherwise, an {@link IllegalArgumentException} will be thrown.
+   *
+   * @param other the other sketch
+   * @return this sketch
+   * @throws NullPointerException if the argument is null
+   */
+  public S add(S other) {
+    requireNonNull(other, "null argument");
+    AbstractSparseDistinctCounter<S, T, R> o = other;
+    if (o.p < p) {
+      throw new IllegalArgumentException("other has smaller precision");
+    }
+    if (o.dense != null) {
+      return add(o.dense);
+    }
+    // copy the other tokens first, as the other sketch might be this sketch
+    int[] otherTokens = Arrays.copyOf(o.tokens, o.numTokens);
+    for (int token : otherTokens) {
+      addToken(token);
+    }
+    return self();
+  }
+
+  /**
+   * Adds a sketch using the dense representation.
+   *
+   * <p>The precision parameter of the added sketch must not be smaller than the precision parameter
+   * of this sketch. Otherwise, an {@link IllegalArgumentException} will be thrown. This sketch will
+   * use the dense representation afterwards.
+   *
+   * @param other the other sketch
+   * @return this sketch
+   * @throws NullPointerException if the argument is null
+   */
+  public S add(T other) {
+    requireNonNull(other, "null argument");
+    if (other.getP() < p) {
+      throw new IllegalArgumentException("other has smaller precision");
+    }
+    if (dense == null) {
+      densify();
+    }
+    dense.add(other);
+    return self();
+  }
+
+  private void deduplicate() {
+    numTokens = DistinctCountUtil.deduplicateTokens(tokens, 0, numTokens);
+  }
+
+  /**
+   * Returns an estimate of the number of distinct elements added to this sketch.
+   *
+   * <p>As long as the sparse representation is used, the estimate is computed directly from the
+   * hash tokens, which gives more accurate estimates than the dense representation.
+   *
+   * @return estimated number of distinct elements
+   */
+  public double getDistinctCountEstimate() {
+    if (dense != null) {
+      return dense.getDistinctCountEstimate();
+    }
+    deduplicate();
+    return DistinctCountUtil.estimateDistinctCountFromTokens(
+        () ->
+            new TokenIterator() {
+              private int idx = 0;
+
+              @Override
+              public boolean hasNext() {
+                return idx < numTokens;
+              }
+
+              @Override
+              public int nextToken() {
+                return tokens[idx++];
+              }
+            });
+  }
+
+  /**
+   * Returns an estimate of the number of distinct elements added to this sketch using the given
+   * estimator.
+   *
+   * <p>The estimator is always applied to the dense representation. If this sketch is still sparse,
+   * a temporary dense representation is created for that purpose.
+   *
+   * @param estimator the estimator
+   * @return estimated number of distinct elements
+   */
+  public double getDistinctCountEstimate(R estimator) {
+    requireNonNull(estimator, "null argument");
+    return estimator.estimate((dense != null) ? dense : toDense());
+  }
+
+  // returns a new sketch in the dense representation
+  T toDense() {
+    if (dense != null) {
+      return dense.copy();
+    }
+    T sketch = createDense(p);
+    for (int i = 0; i < numTokens; ++i) {
+      sketch.addToken(tokens[i]);
+    }
+    return sketch;
+  }
+
+  /**
+   * Returns {@code true} if the sketch is empty, corresponding to the initial state.
+   *
+   * @return {@code true} if the sketch is empty
+   */
+  public boolean isEmpty() {
+    if (dense != null) {
+      return dense.isEmpty();
+    }
+    return numTokens == 0;
+  }
+
+  /**
+   * Resets this sketch to its initial state representing an empty set.
+   *
+   * <p>The sketch will use the sparse representation afterwards.
+   *
+   * @return this sketch
+   */
+  public S reset() {
+    tokens = EMPTY_TOKENS;
+    numTokens = 0;
+    dense = null;
+    return self();
+  }
+
+  /**
+   * Creates a copy of this sketch.
+   *
+   * @return the copy
+   */
+  public S copy() {
+    S copy = createSparse(p);
+    AbstractSparseDistinctCounter<S, T, R> c = copy;
+    if (dense != null) {
+      c.dense = dense.copy();
+      c.tokens = null;
+    } else {
+      c.tokens = Arrays.copyOf(tokens, numTokens);
+      c.numTokens = numTokens;
+    }
+    return copy;
+  }
+
+  /**
+   * Serializes this sketch into a byte array.
+   *
+   * <p>The first byte indicates the representation and the second byte the precision parameter. In
+   * case of the sparse representation, the sorted and deduplicated tokens follow, encoded as
+   * variable-length differences of consecutive tokens. In case of the dense representation, the
+   * state of the underlying sketch follows.
+   *
+   * @return the serialized sketch
+   */
+  public byte[] toByteArray() {
+    if (dense != null) {
+      byte[] state = dense.getState();
+      byte[] result = new byte[2 + state.length];
+      result[0] = DENSE_FORMAT;
+      result[1] = (byte) p;
+      System.arraycopy(state, 0, result, 2, state.length);
+      return result;
+    }
+    deduplicate();
+    int size = 2;
+    int previous = Integer.MIN_VALUE;
+    for (int i = 0; i < numTokens; ++i) {
+      size += getVarIntLength(tokens[i] - previous);
+      previous = tokens[i];
+    }
+    byte[] result = new byte[size];
+    result[0] = SPARSE_FORMAT;
+    result[1] = (byte) p;
+    int off = 2;
+    previous = Integer.MIN_VALUE;
+    for (int i = 0; i < numTokens; ++i) {
+      off = putVarInt(result, off, tokens[i] - previous);
+      previous = tokens[i];
+    }
+    return result;
+  }
+
+  static <
+          S extends AbstractSparseDistinctCounter<S, T, R>,
+          T extends DistinctCounter<T, R>,
+          R extends DistinctCounter.Estimator<T>>
+      S fromByteArray(byte[] data, IntFunction<S> sparseFactory, Function<byte[], T> denseWrapper) {
+    requireNonNull(data, "null argument");
+    if (data.length < 2) {
+      throw new IllegalArgumentException("invalid serialized sketch");
+    }
+    S sketch = sparseFactory.apply(data[1]);
+    AbstractSparseDistinctCounter<S, T, R> s = sketch;
+    if (data[0] == DENSE_FORMAT) {
+      T dense = denseWrapper.apply(Arrays.copyOfRange(data, 2, data.length));
+      if (dense.getP() != s.p) {
+        throw new IllegalArgumentException("invalid serialized sketch");
+      }
+      s.tokens = null;
+      s.dense = dense;
+    } else if (data[0] == SPARSE_FORMAT) {
+      int token = Integer.MIN_VALUE;
+      VarIntUtil.Reader reader = new VarIntUtil.Reader(data, 2, "invalid serialized sketch");
+      while (!reader.isAtEnd()) {
+        token += reader.next();
+        sketch.addToken(token);
+      }
+    } else {
+      throw new IllegalArgumentException("invalid serialized sketch");
+    }
+    return sketch;
+  }
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static com.dynatrace.hash4j.distinctcount.DistinctCountUtil.checkPrecisionParameter;
+import static com.dynatrace.hash4j.distinctcount.UltraLogLog.getScaledRegisterChangeProbability;
+import static com.dynatrace.hash4j.distinctcount.UltraLogLog.pack;
+import static com.dynatrace.hash4j.distinctcount.UltraLogLog.unpack;
+import static java.util.Objects.requireNonNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * A thread-safe variant of {@link UltraLogLog} that allows concurrent insertions from many threads
+ * into a single sketch.
+ *
+ * <p>Registers are updated lock-free using compare-and-set operations. As register updates are
+ * commutative and idempotent, the final state does not depend on the order in which elements were
+ * added and is exactly the same as that of an {@link UltraLogLog} sketch with the same precision to
+ * which all elements were added. In particular, the state returned by {@link #getState()} has the
+ * same format as {@link UltraLogLog#getState()}.
+ *
+ * <p>Read operations like {@link #getDistinctCountEstimate()} can be performed concurrently to
+ * insertions. They reflect all insertions that happened before, and possibly some of the insertions
+ * that happen concurrently.
+ */
+public final class ConcurrentUltraLogLog {
+
+  private static final VarHandle REGISTER_HANDLE =
+      MethodHandles.arrayElementVarHandle(byte[].class);
+
+  private final byte[] state;
+
+  private ConcurrentUltraLogLog(byte[] state) {
+    this.state = state;
+  }
+
+  /**
+   * Creates an empty {@link ConcurrentUltraLogLog} sketch with given precision.
+   *
+   * <p>The precision parameter {@code p} must be in the range {@code {3, 4, 5, ..., 25, 26}}. It
+   * also defines the size of the internal state, which is a byte array of length {@code 2^p}.
+   *
+   * @param p the precision parameter
+   * @return the new sketch
+   * @throws IllegalArgumentException if the precision parameter is invalid
+   */
+  public static ConcurrentUltraLogLog create(int p) {
+    checkPrecisionParameter(p, UltraLogLog.MIN_P, UltraLogLog.MAX_P);
+    return new ConcurrentUltraLogLog(new byte[1 << p]);
+  }
+
+  /**
+   * Creates a {@link ConcurrentUltraLogLog} sketch from the given state.
+   *
+   * <p>The state is copied. It must have a length that is a power of two of a valid precision
+   * parameter. If the state is not valid (it was not retrieved using {@link #getState()} or {@link
+   * UltraLogLog#getState()}) the behavior will be undefined.
+   *
+   * @param state the state
+   * @return the new sketch
+   * @throws NullPointerException if the passed array is null
+   * @throws IllegalArgumentException if the passed array has invalid length
+   */
+  public static ConcurrentUltraLogLog create(byte[] state) {
+    return new ConcurrentUltraLogLog(UltraLogLog.wrap(state).copy().getState());
+  }
+
+  /**
+   * Returns the precision parameter of this sketch.
+   *
+   * @return the precision parameter
+   */
+  public int getP() {
+    return 31 - Integer.numberOfLeadingZeros(state.length);
+  }
+
+  /**
+   * Adds a new element represented by a 64-bit hash value to this sketch.
+   *
+   * <p>In order to get good estimates, it is important that the hash value is calculated using a
+   * high-quality hash algorithm.
+   *
+   * @param hashValue a 64-bit hash value
+   * @return this sketch
+   */
+  public ConcurrentUltraLogLog add(long hashValue) {
+    return add(hashValue, null);
+  }
+
+  /**
+   * Adds a new element represented by a 32-bit token obtained from {@link
+   * UltraLogLog#computeToken(long)}.
+   *
+   * @param token a 32-bit hash token
+   * @return this sketch
+   */
+  public ConcurrentUltraLogLog addToken(int token) {
+    return add(DistinctCountUtil.reconstructHash(token));
+  }
+
+  /**
+   * Adds a new element represented by a 64-bit hash value to this sketch and passes, if the
+   * internal state has changed, decrements of the state change probability to the given {@link
+   * StateChangeObserver}.
+   *
+   * <p>The observer is called by the thread that performed the state change. It must be thread-safe
+   * if it is shared by multiple threads.
+   *
+   * @param hashValue a 64-bit hash value
+   * @param stateChangeObserver a state change observer
+   * @return this sketch
+   */
+  public ConcurrentUltraLogLog add(long hashValue, StateChangeObserver stateChangeObserver) {
+    int q = Long.numberOfLeadingZeros(state.length - 1L); // q = 64 - p
+    int idx = (int) (hashValue >>> q);
+    int nlz = Long.numberOfLeadingZeros(~(~hashValue << -q)); // nlz in {0, 1, ..., 64-p}
+    long hashPrefix = 1L << (nlz + ~q); // (nlz + (~q)) = (nlz + p - 1) in {p-1, ... 63}
+    byte oldState = update(idx, hashPrefix);
+    if (stateChangeObserver != null) {
+      byte newState = pack(unpack(oldState) | hashPrefix);
+      if (newState != oldState) {
+        int p = 64 - q;
+        stateChangeObserver.stateChanged(
+            (getScaledRegisterChangeProbability(oldState, p)
+                    - getScaledRegisterChangeProbability(newState, p))
+                * 0x1p-64);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Adds a new element, represented by a 32-bit token obtained from {@link
+   * UltraLogLog#computeToken(long)}, to this sketch and passes, if the internal state has changed,
+   * decrements of the state change probability to the given {@link StateChangeObserver}.
+   *
+   * @param token a 32-bit hash token
+   * @param stateChangeObserver a state change observer
+   * @return this sketch
+   */
+  public ConcurrentUltraLogLog addToken(int token, StateChangeObserver stateChangeObserver) {
+    return add(DistinctCountUtil.reconstructHash(token), stateChangeObserver);
+  }
+
+  // merges the given hash prefix into the register with given index and returns the previous
+  // register value
+  private byte update(int idx, long hashPrefix) {
+    byte oldState = (byte) REGISTER_HANDLE.getOpaque(state, idx);
+    while (true) {
+      byte newState = pack(unpack(oldState) | hashPrefix);
+      if (newState == oldState) return oldState;
+      byte witness = (byte) REGISTER_HANDLE.compareAndExchange(state, idx, oldState, newState);
+      if (witness == oldState) return oldState;
+      oldState = witness;
+    }
+  }
+
+  /**
+   * Adds another sketch.
+   *
+   * <p>The precision parameter of the added sketch must not be smaller than the precision parameter
+   * of this sketch. Otherwise, an {@link IllegalArgumentException} will be thrown.
+   *
+   * @param other the other sketch
+   * @return this sketch
+   * @throws NullPointerException if the argument is null
+   */
+  public ConcurrentUltraLogLog add(UltraLogLog other) {
+    requireNonNull(other, "null argument");
+    return add(other.getState());
+  }
+
+  /**
+   * Adds another concurrent sketch.
+   *
+   * <p>The precision parameter of the added sketch must not be smaller than the precision parameter
+   * of this sketch. Otherwise, an {@link IllegalArgumentException} will be thrown.
+   *
+   * @param other the other sketch
+   * @return this sketch
+   * @throws NullPointerException if the argument is null
+   */
+  public ConcurrentUltraLogLog add(ConcurrentUltraLogLog other) {
+    requireNonNull(other, "null argument");
+    return add(other.state);
+  }
+
+  private ConcurrentUltraLogLog add(byte[] otherData) {
+    if (otherData.length < state.length) {
+      throw new IllegalArgumentException("other has smaller precision");
+    } else if (otherData.length == state.length) {
+      for (int i = 0; i < state.length; ++i) {
+        byte otherR = (byte) REGISTER_HANDLE.getOpaque(otherData, i);
+        if (otherR != 0) {
+          update(i, unpack(otherR));
+        }
+      }
+    } else {
+      final int p = getP();
+      final int otherP = 31 - Integer.numberOfLeadingZeros(otherData.length);
+      final int otherPMinusOne = otherP - 1;
+      final long kUpperBound = 1L << (otherP - p);
+      int j = 0;
+      for (int i = 0; i < state.length; ++i) {
+        long hashPrefix = unpack((byte) REGISTER_HANDLE.getOpaque(otherData, j));
+        j += 1;
+        for (long k = 1; k < kUpperBound; ++k) {
+          if ((byte) REGISTER_HANDLE.getOpaque(otherData, j) != 0) {
+            hashPrefix |= 1L << (Long.numberOfLeadingZeros(k) + otherPMinusOne);
+          }
+          j += 1;
+        }
+        if (hashPrefix != 0) {
+          update(i, hashPrefix);
+        }
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Returns a copy of the current state of this sketch.
+   *
+   * <p>The returned state has the same format as {@link UltraLogLog#getState()} and can be passed
+   * to {@link UltraLogLog#wrap(byte[])}.
+   *
+   * @return a copy of the state of this sketch
+   */
+  public byte[] getState() {
+    byte[] copy = new byte[state.length];
+    for (int i = 0; i < state.length; ++i) {
+      copy[i] = (byte) REGISTER_HANDLE.getOpaque(state, i);
+    }
+    return copy;
+  }
+
+  /**
+   * Returns an {@link UltraLogLog} sketch that reflects the current state of this sketch.
+   *
+   * @return an {@link UltraLogLog} sketch
+   */
+  public UltraLogLog toUltraLogLog() {
+    return UltraLogLog.wrap(getState());
+  }
+
+  /**
+   * Returns an estimate of the number of distinct elements added to this sketch.
+   *
+   * @return estimated number of distinct elements
+   */
+  public double getDistinctCountEstimate() {
+    return getDistinctCountEstimate(UltraLogLog.DEFAULT_ESTIMATOR);
+  }
+
+  /**
+   * Returns an estimate of the number of distinct elements added to this sketch using the given
+   * estimator.
+   *
+   * @param estimator the estimator
+   * @return estimated number of distinct elements
+   */
+  public double getDistinctCountEstimate(UltraLogLog.Estimator estimator) {
+    return estimator.estimate(toUltraLogLog());
+  }
+
+  /**
+   * Returns the probability of an internal state change when a new distinct element is added.
+   *
+   * @return the state change probability
+   */
+  public double getStateChangeProbability() {
+    return toUltraLogLog().getStateChangeProbability();
+  }
+
+  /**
+   * Returns {@code true} if the sketch is empty, corresponding to the initial state.
+   *
+   * @return {@code true} if the sketch is empty
+   */
+  public boolean isEmpty() {
+    for (int i = 0; i < state.length; ++i) {
+      if ((byte) REGISTER_HANDLE.getOpaque(state, i) != 0) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Resets this sketch to its initial state representing an empty set.
+   *
+   * <p>Insertions that happen concurrently to a reset may or may not be reflected afterwards.
+   *
+   * @return this sketch
+   */
+  public ConcurrentUltraLogLog reset() {
+    Arrays.fill(state, (byte) 0);
+    return this;
+  }
+}
@@ -0,0 +1,507 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static com.dynatrace.hash4j.distinctcount.DistinctCountUtil.checkPrecisionParameter;
+import static com.dynatrace.hash4j.distinctcount.UltraLogLog.pack;
+import static com.dynatrace.hash4j.distinctcount.UltraLogLog.unpack;
+import static com.dynatrace.hash4j.internal.VarIntUtil.getVarIntLength;
+import static com.dynatrace.hash4j.internal.VarIntUtil.putVarInt;
+import static java.util.Objects.requireNonNull;
+
+import com.dynatrace.hash4j.internal.VarIntUtil;
+import com.dynatrace.hash4j.util.PackedArray;
+import com.dynatrace.hash4j.util.PackedArray.PackedArrayHandler;
+import java.util.PriorityQueue;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A codec for compact serialization of {@link UltraLogLog} and {@link HyperLogLog} states.
+ *
+ * <p>The encoded form starts with a 4-byte header consisting of the format version, the sketch
+ * type, the precision parameter, and the register encoding. Registers are either encoded sparsely
+ * as list of variable-length index differences and values of all nonzero registers, or using a
+ * canonical Huffman code built from the register value frequencies. The encoding that yields the
+ * smaller result is chosen.
+ *
+ * <p>Encoded states can be merged directly into an existing sketch using {@link
+ * #decodeAndAdd(byte[], UltraLogLog)} and {@link #decodeAndAdd(byte[], HyperLogLog)}, respectively.
+ * This avoids the allocation of the decoded state, which is useful when aggregating many encoded
+ * sketches.
+ */
+public final class DistinctCountCodec {
+
+  static final byte VERSION = 1;
+
+  static final byte ULTRALOGLOG_TYPE = 0;
+  static final byte HYPERLOGLOG_TYPE = 1;
+
+  static final byte SPARSE_ENCODING = 0;
+  static final byte HUFFMAN_ENCODING = 1;
+
+  static final int HEADER_LENGTH = 4;
+
+  // limits the code length of the Huffman code
+  static final int MAX_CODE_LENGTH = 24;
+
+  private static final int NUM_SYMBOLS = 256;
+
+  private static final int MAX_ULTRALOGLOG_REGISTER_VALUE = 255;
+  private static final int MAX_HYPERLOGLOG_REGISTER_VALUE = 63;
+
+  private static final PackedArrayHandler HYPERLOGLOG_ARRAY_HANDLER = PackedArray.getHandler(6);
+
+  private DistinctCountCodec() {}
+
+  @FunctionalInterface
+  private interface RegisterConsumer {
+    void accept(int idx, int value);
+  }
+
+  /**
+   * Encodes the state of the given {@link UltraLogLog} sketch.
+   *
+   * @param sketch the sketch
+   * @return the encoded state
+   * @throws NullPointerException if the argument is null
+   */
+  public static byte[] encode(UltraLogLog sketch) {
+    requireNonNull(sketch, "null argument");
+    byte[] state = sketch.getState();
+    return encode(ULTRALOGLOG_TYPE, sketch.getP(), i -> state[i] & 0xFF);
+  }
+
+  /**
+   * Encodes the state of the given {@link HyperLogLog} sketch.
+   *
+   * @param sketch the sketch
+   * @return the encoded state
+   * @throws NullPointerException if the argument is null
+   */
+  public static byte[] encode(HyperLogLog sketch) {
+    requireNonNull(sketch, "null argument");
+    byte[] state = sketch.getState();
+    return encode(
+        HYPERLOGLOG_TYPE, sketch.getP(), i -> (int) HYPERLOGLOG_ARRAY_HANDLER.get(state, i));
+  }
+
+  /**
+   * Decodes an {@link UltraLogLog} sketch from its encoded state as returned by {@link
+   * #encode(UltraLogLog)}.
+   *
+   * @param data the encoded state
+   * @return the decoded sketch
+   * @throws NullPointerException if the argument is null
+   * @throws IllegalArgumentException if the encoded state is invalid
+   */
+  public static UltraLogLog decodeUltraLogLog(byte[] data) {
+    return decodeAndAdd(data, UltraLogLog.create(getP(data, ULTRALOGLOG_TYPE)));
+  }
+
+  /**
+   * Decodes a {@link HyperLogLog} sketch from its encoded state as returned by {@link
+   * #encode(HyperLogLog)}.
+   *
+   * @param data the encoded state
+   * @return the decoded sketch
+   * @throws NullPointerException if the argument is null
+   * @throws IllegalArgumentException if the encoded state is invalid
+   */
+  public static HyperLogLog decodeHyperLogLog(byte[] data) {
+    return decodeAndAdd(data, HyperLogLog.create(getP(data, HYPERLOGLOG_TYPE)));
+  }
+
+  /**
+   * Adds a sketch given by its encoded state to the given {@link UltraLogLog} sketch.
+   *
+   * <p>The result is the same as {@code sketch.add(decodeUltraLogLog(data))}, but the decoded
+   * registers are merged directly without materializing the decoded state. The precision parameter
+   * of the encoded sketch must not be smaller than the precision parameter of the given sketch. If
+   * the encoded state is invalid, an {@link IllegalArgumentException} is thrown and the given
+   * sketch might have been partially modified.
+   *
+   * @param data the encoded state
+   * @param sketch the sketch to which the encoded sketch is added
+   * @return the given sketch
+   * @throws NullPointerException if one of the arguments is null
+   * @throws IllegalArgumentException if the encoded state is invalid or the encoded sketch has a
+   *     smaller precision
+   */
+  public static UltraLogLog decodeAndAdd(byte[] data, UltraLogLog sketch) {
+    requireNonNull(sketch, "null argument");
+    final int otherP = getP(data, ULTRALOGLOG_TYPE);
+    final int deltaP = checkPrecision(otherP, sketch.getP());
+    final int otherPMinusOne = otherP - 1;
+    final int kMask = (1 << deltaP) - 1;
+    final byte[] state = sketch.getState();
+    decode(
+        data,
+        otherP,
+        MAX_ULTRALOGLOG_REGISTER_VALUE,
+        (j, r) -> {
+          int i = j >>> deltaP;
+          long k = j & kMask;
+          long hashPrefix =
+              (k == 0) ? unpack((byte) r) : 1L << (Long.numberOfLeadingZeros(k) + otherPMinusOne);
+          state[i] = pack(unpack(state[i]) | hashPrefix);
+        });
+    return sketch;
+  }
+
+  /**
+   * Adds a sketch given by its encoded state to the given {@link HyperLogLog} sketch.
+   *
+   * <p>The result is the same as {@code sketch.add(decodeHyperLogLog(data))}, but the decoded
+   * registers are merged directly without materializing the decoded state. The precision parameter
+   * of the encoded sketch must not be smaller than the precision parameter of the given sketch. If
+   * the encoded state is invalid, an {@link IllegalArgumentException} is thrown and the given
+   * sketch might have been partially modified.
+   *
+   * @param data the encoded state
+   * @param sketch the sketch to which the encoded sketch is added
+   * @return the given sketch
+   * @throws NullPointerException if one of the arguments is null
+   * @throws IllegalArgumentException if the encoded state is invalid or the encoded sketch has a
+   *     smaller precision
+   */
+  public static HyperLogLog decodeAndAdd(byte[] data, HyperLogLog sketch) {
+    requireNonNull(sketch, "null argument");
+    final int otherP = getP(data, HYPERLOGLOG_TYPE);
+    final int deltaP = checkPrecision(otherP, sketch.getP());
+    final int kMask = (1 << deltaP) - 1;
+    final byte[] state = sketch.getState();
+    decode(
+        data,
+        otherP,
+        MAX_HYPERLOGLOG_REGISTER_VALUE,
+        (j, r) -> {
+          int i = j >>> deltaP;
+          int k = j & kMask;
+          int newR = (k == 0) ? r + deltaP : Integer.numberOfLeadingZeros(k) - 31 + deltaP;
+          HYPERLOGLOG_ARRAY_HANDLER.update(state, i, newR, Math::max);
+        });
+    return sketch;
+  }
+
+  private static int checkPrecision(int otherP, int p) {
+    if (otherP < p) {
+      throw new IllegalArgumentException("other has smaller precision");
+    }
+    return otherP - p;
+  }
+
+  private static final String INVALID_DATA_EXCEPTION_MESSAGE = "invalid encoded state";
+
+  private static IllegalArgumentException getInvalidDataException() {
+    return new IllegalArgumentException(INVALID_DATA_EXCEPTION_MESSAGE);
+  }
+
+  private static int getP(byte[] data, byte type) {
+    requireNonNull(data, "null argument");
+    if (data.length < HEADER_LENGTH) {
+      throw getInvalidDataException();
+    }
+    if (data[0] != VERSION) {
+      throw new IllegalArgumentException("unsupported version");
+    }
+    if (data[1] != type) {
+      throw new IllegalArgumentException("unexpected sketch type");
+    }
+    int p = data[2];
+    if (type == ULTRALOGLOG_TYPE) {
+      checkPrecisionParameter(p, UltraLogLog.MIN_P, UltraLogLog.MAX_P);
+    } else {
+      checkPrecisionParameter(p, HyperLogLog.MIN_P, HyperLogLog.MAX_P);
+    }
+    return p;
+  }
+
+  private static byte[] encode(byte type, int p, IntUnaryOperator registers) {
+    final int m = 1 << p;
+    int[] frequencies = new int[NUM_SYMBOLS];
+    long sparseSize = HEADER_LENGTH;
+    int previousIdx = -1;
+    for (int idx = 0; idx < m; ++idx) {
+      int r = registers.applyAsInt(idx);
+      frequencies[r] += 1;
+      if (r != 0) {
+        sparseSize += getVarIntLength(idx - previousIdx - 1) + 1;
+        previousIdx = idx;
+      }
+    }
+    int[] codeLengths = computeCodeLengths(frequencies);
+    int numSymbols = 0;
+    long numBits = 0;
+    for (int s = 0; s < NUM_SYMBOLS; ++s) {
+      if (frequencies[s] != 0) {
+        numSymbols += 1;
+        numBits += (long) frequencies[s] * codeLengths[s];
+      }
+    }
+    long huffmanSize = HEADER_LENGTH + 1 + 2L * numSymbols + ((numBits + 7) >>> 3);
+
+    byte[] result;
+    if (sparseSize <= huffmanSize) {
+      result = new byte[(int) sparseSize];
+      result[3] = SPARSE_ENCODING;
+      int off = HEADER_LENGTH;
+      previousIdx = -1;
+      for (int idx = 0; idx < m; ++idx) {
+        int r = registers.applyAsInt(idx);
+        if (r != 0) {
+          off = putVarInt(result, off, idx - previousIdx - 1);
+          result[off++] = (byte) r;
+          previousIdx = idx;
+        }
+      }
+    } else {
+      result = new byte[(int) huffmanSize];
+      result[3] = HUFFMAN_ENCODING;
+      int off = HEADER_LENGTH;
+      result[off++] = (byte) (numSymbols - 1);
+      for (int s = 0; s < NUM_SYMBOLS; ++s) {
+        if (frequencies[s] != 0) {
+          result[off++] = (byte) s;
+          result[off++] = (byte) codeLengths[s];
+        }
+      }
+      int[] reversedCodes = computeReversedCanonicalCodes(codeLengths);
+      long bitBuffer = 0;
+      int numBitsInBuffer = 0;
+      for (int idx = 0; idx < m; ++idx) {
+        int r = registers.applyAsInt(idx);
+        bitBuffer |= ((long) reversedCodes[r]) << numBitsInBuffer;
+        numBitsInBuffer += codeLengths[r];
+        while (numBitsInBuffer >= 8) {
+          result[off++] = (byte) bitBuffer;
+          bitBuffer >>>= 8;
+          numBitsInBuffer -= 8;
+        }
+      }
+      if (numBitsInBuffer > 0) {
+        result[off] = (byte) bitBuffer;
+      }
+    }
+    result[0] = VERSION;
+    result[1] = type;
+    result[2] = (byte) p;
+    return result;
+  }
+
+  private static void decode(
+      byte[] data, int p, int maxRegisterValue, RegisterConsumer registerConsumer) {
+    final int m = 1 << p;
+    final byte encoding = data[3];
+    if (encoding == SPARSE_ENCODING) {
+      VarIntUtil.Reader reader =
+          new VarIntUtil.Reader(data, HEADER_LENGTH, INVALID_DATA_EXCEPTION_MESSAGE);
+      long idx = -1;
+      while (!reader.isAtEnd()) {
+        idx += Integer.toUnsignedLong(reader.next()) + 1;
+        if (idx >= m) {
+          throw getInvalidDataException();
+        }
+        int r = reader.nextUnsignedByte();
+        if (r == 0 || r > maxRegisterValue) {
+          throw getInvalidDataException();
+        }
+        registerConsumer.accept((int) idx, r);
+      }
+    } else if (encoding == HUFFMAN_ENCODING) {
+      decodeHuffman(data, m, maxRegisterValue, registerConsumer);
+    } else {
+      throw getInvalidDataException();
+    }
+  }
+
+  private static void decodeHuffman(
+      byte[] data, int m, int maxRegisterValue, RegisterConsumer registerConsumer) {
+    int off = HEADER_LENGTH;
+    if (off >= data.length) {
+      throw getInvalidDataException();
+    }
+    final int numSymbols = (data[off++] & 0xFF) + 1;
+    if (off + 2 * numSymbols > data.length) {
+      throw getInvalidDataException();
+    }
+    int[] codeLengths = new int[NUM_SYMBOLS];
+    int[] numCodesWithLength = new int[MAX_CODE_LENGTH + 1];
+    int previousSymbol = -1;
+    for (int i = 0; i < numSymbols; ++i) {
+      int symbol = data[off++] & 0xFF;
+      int codeLength = data[off++] & 0xFF;
+      if (symbol <= previousSymbol
+          || symbol > maxRegisterValue
+          || codeLength > MAX_CODE_LENGTH
+          || (codeLength == 0) != (numSymbols == 1)) {
+        throw getInvalidDataException();
+      }
+      codeLengths[symbol] = codeLength;
+      numCodesWithLength[codeLength] += 1;
+      previousSymbol = symbol;
+    }
+    if (numSymbols == 1) {
+      if (off != data.length) {
+        throw getInvalidDataException();
+      }
+      if (previousSymbol != 0) {
+        for (int idx = 0; idx < m; ++idx) {
+          registerConsumer.accept(idx, previousSymbol);
+        }
+      }
+      return;
+    }
+    // check that the code is not over-subscribed
+    long available = 1;
+    for (int len = 1; len <= MAX_CODE_LENGTH; ++len) {
+      available = (available << 1) - numCodesWithLength[len];
+      if (available < 0) {
+        throw getInvalidDataException();
+      }
+    }
+    // symbols sorted by code length and symbol value, which corresponds to canonical code order
+    int[] offsets = new int[MAX_CODE_LENGTH + 1];
+    for (int len = 1; len < MAX_CODE_LENGTH; ++len) {
+      offsets[len + 1] = offsets[len] + numCodesWithLength[len];
+    }
+    int[] sortedSymbols = new int[numSymbols];
+    for (int s = 0; s < NUM_SYMBOLS; ++s) {
+      if (codeLengths[s] != 0) {
+        sortedSymbols[offsets[codeLengths[s]]++] = s;
+      }
+    }
+
+    long bitBuffer = 0;
+    int numBitsInBuffer = 0;
+    for (int idx = 0; idx < m; ++idx) {
+      int code = 0;
+      int first = 0;
+      int index = 0;
+      int len = 1;
+      while (true) {
+        if (numBitsInBuffer == 0) {
+          if (off >= data.length) {
+            throw getInvalidDataException();
+          }
+          bitBuffer = data[off++] & 0xFF;
+          numBitsInBuffer = 8;
+        }
+        code |= (int) bitBuffer & 1;
+        bitBuffer >>>= 1;
+        numBitsInBuffer -= 1;
+        int count = numCodesWithLength[len];
+        if (code - first < count) {
+          int r = sortedSymbols[index + code - first];
+          if (r != 0) {
+            registerConsumer.accept(idx, r);
+          }
+          break;
+        }
+        if (len == MAX_CODE_LENGTH) {
+          throw getInvalidDataException();
+        }
+        index += count;
+        first = (first + count) << 1;
+        code <<= 1;
+        len += 1;
+      }
+    }
+    if (off != data.length) {
+      throw getInvalidDataException();
+    }
+  }
+
+  // computes the code lengths of a Huffman code for the given symbol frequencies, the code lengths
+  // are limited to MAX_CODE_LENGTH by repeatedly halving the frequencies if necessary
+  static int[] computeCodeLengths(int[] frequencies) {
+    long[] weights = new long[NUM_SYMBOLS];
+    for (int s = 0; s < NUM_SYMBOLS; ++s) {
+      weights[s] = frequencies[s];
+    }
+    while (true) {
+      int[] codeLengths = computeHuffmanCodeLengths(weights);
+      int maxCodeLength = 0;
+      for (int codeLength : codeLengths) {
+        maxCodeLength = Math.max(maxCodeLength, codeLength);
+      }
+      if (maxCodeLength <= MAX_CODE_LENGTH) {
+        return codeLengths;
+      }
+      for (int s = 0; s < NUM_SYMBOLS; ++s) {
+        weights[s] = (weights[s] + 1) >>> 1;
+      }
+    }
+  }
+
+  private static int[] computeHuffmanCodeLengths(long[] weights) {
+    int[] parents = new int[2 * NUM_SYMBOLS - 1];
+    // queue elements combine weight and node index, which makes the order deterministic
+    PriorityQueue<Long> queue = new PriorityQueue<>();
+    for (int s = 0; s < NUM_SYMBOLS; ++s) {
+      if (weights[s] != 0) {
+        queue.add((weights[s] << 9) | s);
+      }
+    }
+    int[] codeLengths = new int[NUM_SYMBOLS];
+    if (queue.size() <= 1) {
+      return codeLengths;
+    }
+    int nextNode = NUM_SYMBOLS;
+    while (queue.size() > 1) {
+      long a = queue.poll();
+      long b = queue.poll();
+      parents[(int) (a & 0x1FF)] = nextNode;
+      parents[(int) (b & 0x1FF)] = nextNode;
+      queue.add((((a >>> 9) + (b >>> 9)) << 9) | nextNode);
+      nextNode += 1;
+    }
+    int root = nextNode - 1;
+    for (int s = 0; s < NUM_SYMBOLS; ++s) {
+      if (weights[s] != 0) {
+        int codeLength = 0;
+        for (int node = s; node != root; node = parents[node]) {
+          codeLength += 1;
+        }
+        codeLengths[s] = codeLength;
+      }
+    }
+    return codeLengths;
+  }
+
+  // returns the canonical codes with reversed bit order, such that they can be written starting
+  // with the least significant bit
+  private static int[] computeReversedCanonicalCodes(int[] codeLengths) {
+    int[] numCodesWithLength = new int[MAX_CODE_LENGTH + 1];
+    for (int codeLength : codeLengths) {
+      numCodesWithLength[codeLength] += 1;
+    }
+    numCodesWithLength[0] = 0;
+    int[] nextCode = new int[MAX_CODE_LENGTH + 1];
+    int code = 0;
+    for (int len = 1; len <= MAX_CODE_LENGTH; ++len) {
+      code = (code + numCodesWithLength[len - 1]) << 1;
+      nextCode[len] = code;
+    }
+    int[] reversedCodes = new int[NUM_SYMBOLS];
+    for (int s = 0; s < NUM_SYMBOLS; ++s) {
+      int codeLength = codeLengths[s];
+      if (codeLength != 0) {
+        reversedCodes[s] = Integer.reverse(nextCode[codeLength]++) >>> (32 - codeLength);
+      }
+    }
+    return reversedCodes;
+  }
+}
@@ -24,6 +24,11 @@ public final class DistinctCountUtil {
 
   private DistinctCountUtil() {}
 
+  // number of state bytes that are merged with all sketches before continuing with the next block
+  // when merging many sketches at once, the block of the merged state therefore stays in the cache,
+  // must be a multiple of 6 to cover complete groups of 8 packed 6-bit registers
+  static final int MERGE_ALL_BLOCK_SIZE = 3 << 10;
+
   static IllegalArgumentException getUnexpectedStateLengthException() {
     return new IllegalArgumentException("unexpected state length!");
   }
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+final class DistinctCountVectorUtil {
+
+  private DistinctCountVectorUtil() {}
+
+  static boolean isAvailable() {
+    return false;
+  }
+
+  @SuppressWarnings("DoNotCallSuggester")
+  static int mergeUltraLogLogRegisters(byte[] state, byte[] otherState, int from, int to) {
+    throw new UnsupportedOperationException(
+        "This function must not be called in Java versions smaller than 25.");
+  }
+
+  @SuppressWarnings("DoNotCallSuggester")
+  static int mergeHyperLogLogRegisters(byte[] state, byte[] otherState, int from, int to) {
+    throw new UnsupportedOperationException(
+        "This function must not be called in Java versions smaller than 25.");
+  }
+}
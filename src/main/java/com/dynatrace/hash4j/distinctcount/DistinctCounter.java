@@ -135,6 +135,62 @@ interface DistinctCounter<T extends DistinctCounter<T, R>, R extends DistinctCou
    */
   T addToken(int token, StateChangeObserver stateChangeObserver);
 
+  /**
+   * Adds new elements represented by 64-bit hash values to this sketch.
+   *
+   * <p>Equivalent to {@code for (int i = 0; i < len; ++i) add(hashValues[off + i]);}
+   *
+   * @param hashValues an array of 64-bit hash values
+   * @param off the offset of the first hash value in the array
+   * @param len the number of hash values
+   * @return this sketch
+   */
+  T addAll(long[] hashValues, int off, int len);
+
+  /**
+   * Adds new elements represented by 64-bit hash values to this sketch and passes, if the internal
+   * state has changed, decrements of the state change probability to the given {@link
+   * StateChangeObserver}.
+   *
+   * <p>Equivalent to {@code for (int i = 0; i < len; ++i) add(hashValues[off + i],
+   * stateChangeObserver);}
+   *
+   * @param hashValues an array of 64-bit hash values
+   * @param off the offset of the first hash value in the array
+   * @param len the number of hash values
+   * @param stateChangeObserver a state change observer
+   * @return this sketch
+   */
+  T addAll(long[] hashValues, int off, int len, StateChangeObserver stateChangeObserver);
+
+  /**
+   * Adds new elements represented by 32-bit tokens obtained from {@code computeToken(long)}.
+   *
+   * <p>Equivalent to {@code for (int i = 0; i < len; ++i) addToken(tokens[off + i]);}
+   *
+   * @param tokens an array of 32-bit hash tokens
+   * @param off the offset of the first token in the array
+   * @param len the number of tokens
+   * @return this sketch
+   */
+  T addAllTokens(int[] tokens, int off, int len);
+
+  /**
+   * Adds new elements represented by 32-bit tokens obtained from {@code computeToken(long)} to this
+   * sketch and passes, if the internal state has changed, decrements of the state change
+   * probability to the given {@link StateChangeObserver}.
+   *
+   * <p>Equivalent to {@code for (int i = 0; i < len; ++i) addToken(tokens[off + i],
+   * stateChangeObserver);}
+   *
+   * @param tokens an array of 32-bit hash tokens
+   * @param off the offset of the first token in the array
+   * @param len the number of tokens
+   * @param stateChangeObserver a state change observer
+   * @return this sketch
+   */
+  T addAllTokens(int[] tokens, int off, int len, StateChangeObserver stateChangeObserver);
+
   /**
    * Returns the probability of an internal state change when a new distinct element is added.
    *
@@ -15,17 +15,23 @@
  */
 package com.dynatrace.hash4j.distinctcount;
 
+import static com.dynatrace.hash4j.distinctcount.DistinctCountUtil.MERGE_ALL_BLOCK_SIZE;
 import static com.dynatrace.hash4j.distinctcount.DistinctCountUtil.checkPrecisionParameter;
 import static com.dynatrace.hash4j.distinctcount.DistinctCountUtil.getUnexpectedStateLengthException;
 import static com.dynatrace.hash4j.distinctcount.DistinctCountUtil.isUnsignedPowerOfTwo;
 import static com.dynatrace.hash4j.distinctcount.DistinctCountUtil.unsignedLongToDouble;
 import static com.dynatrace.hash4j.internal.ByteArrayUtil.getInt;
 import static com.dynatrace.hash4j.internal.ByteArrayUtil.setInt;
+import static java.util.Objects.checkFromIndexSize;
 import static java.util.Objects.requireNonNull;
 
 import com.dynatrace.hash4j.util.PackedArray;
 import com.dynatrace.hash4j.util.PackedArray.PackedArrayHandler;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
 
 /**
  * A HyperLogLog implementation for approximate distinct counting.
@@ -227,6 +233,48 @@ public final class HyperLogLog implements DistinctCounter<HyperLogLog, HyperLogL
     }
   }
 
+  /**
+   * Merges a collection of {@link HyperLogLog} sketches into a new sketch.
+   *
+   * <p>The precision of the merged sketch is given by the smallest precision of all sketches. The
+   * result is the same as when adding all sketches one after the other to an empty sketch of that
+   * precision. However, sketches with the smallest precision are merged block-wise, so that each
+   * block of the merged state is updated by all sketches while it is still in the cache.
+   *
+   * @param sketches the sketches
+   * @return the merged sketch
+   * @throws NullPointerException if the collection or one of its elements is null
+   * @throws IllegalArgumentException if the collection is empty
+   */
+  public static HyperLogLog mergeAll(Collection<HyperLogLog> sketches) {
+    requireNonNull(sketches, "null argument");
+    int minP = Integer.MAX_VALUE;
+    for (HyperLogLog sketch : sketches) {
+      requireNonNull(sketch, "sketch was null");
+      minP = Math.min(minP, sketch.p);
+    }
+    if (minP == Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("no sketches given");
+    }
+    HyperLogLog result = new HyperLogLog(minP);
+    List<byte[]> otherStates = new ArrayList<>(sketches.size());
+    for (HyperLogLog sketch : sketches) {
+      if (sketch.p == minP) {
+        otherStates.add(sketch.state);
+      } else {
+        result.add(sketch);
+      }
+    }
+    int stateLength = result.state.length;
+    for (int from = 0; from < stateLength; from += MERGE_ALL_BLOCK_SIZE) {
+      int to = Math.min(from + MERGE_ALL_BLOCK_SIZE, stateLength);
+      for (byte[] otherState : otherStates) {
+        mergeRegisters(result.state, otherState, from, to);
+      }
+    }
+    return result;
+  }
+
   /**
    * Returns a reference to the internal state of this sketch.
    *
@@ -347,6 +395,84 @@ public final class HyperLogLog implements DistinctCounter<HyperLogLog, HyperLogL
     return add(DistinctCountUtil.reconstructHash(token), stateChangeObserver);
   }
 
+  /**
+   * Adds new elements represented by 64-bit hash values to this sketch.
+   *
+   * <p>Equivalent to {@code for (int i = 0; i < len; ++i) add(hashValues[off + i]);}
+   *
+   * @param hashValues an array of 64-bit hash values
+   * @param off the offset of the first hash value in the array
+   * @param len the number of hash values
+   * @return this sketch
+   */
+  @Override
+  public HyperLogLog addAll(long[] hashValues, int off, int len) {
+    return addAll(hashValues, off, len, null);
+  }
+
+  /**
+   * Adds new elements represented by 64-bit hash values to this sketch and passes, if the internal
+   * state has changed, decrements of the state change probability to the given {@link
+   * StateChangeObserver}.
+   *
+   * <p>Equivalent to {@code for (int i = 0; i < len; ++i) add(hashValues[off + i],
+   * stateChangeObserver);}
+   *
+   * @param hashValues an array of 64-bit hash values
+   * @param off the offset of the first hash value in the array
+   * @param len the number of hash values
+   * @param stateChangeObserver a state change observer
+   * @return this sketch
+   */
+  @Override
+  public HyperLogLog addAll(
+      long[] hashValues, int off, int len, StateChangeObserver stateChangeObserver) {
+    checkFromIndexSize(off, len, hashValues.length);
+    for (int i = off; i < off + len; ++i) {
+      add(hashValues[i], stateChangeObserver);
+    }
+    return this;
+  }
+
+  /**
+   * Adds new elements represented by 32-bit tokens obtained from {@link #computeToken(long)}.
+   *
+   * <p>Equivalent to {@code for (int i = 0; i < len; ++i) addToken(tokens[off + i]);}
+   *
+   * @param tokens an array of 32-bit hash tokens
+   * @param off the offset of the first token in the array
+   * @param len the number of tokens
+   * @return this sketch
+   */
+  @Override
+  public HyperLogLog addAllTokens(int[] tokens, int off, int len) {
+    return addAllTokens(tokens, off, len, null);
+  }
+
+  /**
+   * Adds new elements represented by 32-bit tokens obtained from {@link #computeToken(long)} to
+   * this sketch and passes, if the internal state has changed, decrements of the state change
+   * probability to the given {@link StateChangeObserver}.
+   *
+   * <p>Equivalent to {@code for (int i = 0; i < len; ++i) addToken(tokens[off + i],
+   * stateChangeObserver);}
+   *
+   * @param tokens an array of 32-bit hash tokens
+   * @param off the offset of the first token in the array
+   * @param len the number of tokens
+   * @param stateChangeObserver a state change observer
+   * @return this sketch
+   */
+  @Override
+  public HyperLogLog addAllTokens(
+      int[] tokens, int off, int len, StateChangeObserver stateChangeObserver) {
+    checkFromIndexSize(off, len, tokens.length);
+    for (int i = off; i < off + len; ++i) {
+      addToken(tokens[i], stateChangeObserver);
+    }
+    return this;
+  }
+
   // returns register change probability scaled by 2^64
   private long getScaledRegisterChangeProbability(int registerValue) {
     return 0x4000000000000000L >>> (p - 2 + registerValue);
@@ -369,25 +495,7 @@ public final class HyperLogLog implements DistinctCounter<HyperLogLog, HyperLogL
     if (other.p < p) {
       throw new IllegalArgumentException("other has smaller precision");
     } else if (other.p == p) {
-
-      for (int off = 0; off + 6 <= state.length; off += 6) {
-        int s0 = getInt(state, off);
-        int s1 = getInt(state, off + 2);
-        int sOther0 = getInt(other.state, off);
-        int sOther1 = getInt(other.state, off + 2);
-        int r0 = Math.max(s0 & 0x3F, sOther0 & 0x3F);
-        int r1 = Math.max((s0 >>> 6) & 0x3F, (sOther0 >>> 6) & 0x3F);
-        int r2 = Math.max((s0 >>> 12) & 0x3F, (sOther0 >>> 12) & 0x3F);
-        int r3 = Math.max((s0 >>> 18) & 0x3F, (sOther0 >>> 18) & 0x3F);
-        int r4 = Math.max((s1 >>> 8) & 0x3F, (sOther1 >>> 8) & 0x3F);
-        int r5 = Math.max((s1 >>> 14) & 0x3F, (sOther1 >>> 14) & 0x3F);
-        int r6 = Math.max((s1 >>> 20) & 0x3F, (sOther1 >>> 20) & 0x3F);
-        int r7 = Math.max((s1 >>> 26) & 0x3F, (sOther1 >>> 26) & 0x3F);
-
-        setInt(state, off + 2, (r5 << 14) | (r6 << 20) | (r7 << 26));
-        setInt(state, off, r0 | (r1 << 6) | (r2 << 12) | (r3 << 18) | (r4 << 24) | (r5 << 30));
-      }
-
+      mergeRegisters(state, otherData, 0, state.length);
     } else {
       final int deltaP = other.p - p;
       int j = 0;
@@ -417,6 +525,30 @@ public final class HyperLogLog implements DistinctCounter<HyperLogLog, HyperLogL
     return this;
   }
 
+  private static void mergeRegisters(byte[] state, byte[] otherState, int from, int to) {
+    int off = from;
+    if (DistinctCountVectorUtil.isAvailable()) {
+      off = DistinctCountVectorUtil.mergeHyperLogLogRegisters(state, otherState, from, to);
+    }
+    for (; off < to; off += 6) {
+      int s0 = getInt(state, off);
+      int s1 = getInt(state, off + 2);
+      int sOther0 = getInt(otherState, off);
+      int sOther1 = getInt(otherState, off + 2);
+      int r0 = Math.max(s0 & 0x3F, sOther0 & 0x3F);
+      int r1 = Math.max((s0 >>> 6) & 0x3F, (sOther0 >>> 6) & 0x3F);
+      int r2 = Math.max((s0 >>> 12) & 0x3F, (sOther0 >>> 12) & 0x3F);
+      int r3 = Math.max((s0 >>> 18) & 0x3F, (sOther0 >>> 18) & 0x3F);
+      int r4 = Math.max((s1 >>> 8) & 0x3F, (sOther1 >>> 8) & 0x3F);
+      int r5 = Math.max((s1 >>> 14) & 0x3F, (sOther1 >>> 14) & 0x3F);
+      int r6 = Math.max((s1 >>> 20) & 0x3F, (sOther1 >>> 20) & 0x3F);
+      int r7 = Math.max((s1 >>> 26) & 0x3F, (sOther1 >>> 26) & 0x3F);
+
+      setInt(state, off + 2, (r5 << 14) | (r6 << 20) | (r7 << 26));
+      setInt(state, off, r0 | (r1 << 6) | (r2 << 12) | (r3 << 18) | (r4 << 24) | (r5 << 30));
+    }
+  }
+
   /**
    * Returns an estimate of the number of distinct elements added to this sketch.
    *
@@ -495,7 +627,22 @@ public final class HyperLogLog implements DistinctCounter<HyperLogLog, HyperLogL
   /** A distinct count estimator for HyperLogLog. */
   public interface Estimator extends DistinctCounter.Estimator<HyperLogLog> {}
 
-  static final class CorrectedRawEstimator implements Estimator {
+  // an estimator that only needs read access to the state, which allows to apply it to states that
+  // are not stored in a byte array, for example in off-heap memory
+  interface StateEstimator extends Estimator {
+
+    /**
+     * Estimates the distinct count from the given state.
+     *
+     * @param stateInts a function returning the little-endian 32-bit integer starting at the given
+     *     byte offset of the state
+     * @param p the precision parameter
+     * @return estimated number of distinct elements
+     */
+    double estimate(IntUnaryOperator stateInts, int p);
+  }
+
+  static final class CorrectedRawEstimator implements StateEstimator {
 
     private CorrectedRawEstimator() {}
 
@@ -603,6 +750,57 @@ public final class HyperLogLog implements DistinctCounter<HyperLogLog, HyperLogL
         if (r6 == 0) c0 += 1;
         if (r7 == 0) c0 += 1;
       }
+      return calculateEstimate(c0, cMax, agg, p);
+    }
+
+    @Override
+    public double estimate(IntUnaryOperator stateInts, int p) {
+      int stateLength = (6 << p) >>> 3;
+      int c0 = 0;
+      int cMax = 0;
+      long agg = 0;
+      int maxR = 65 - p;
+      long inc = 1L << -p;
+      for (int off = 0; off + 6 <= stateLength; off += 6) {
+        int s0 = stateInts.applyAsInt(off);
+        int s1 = stateInts.applyAsInt(off + 2);
+        int r0 = s0 & 0x3F;
+        int r1 = (s0 >>> 6) & 0x3F;
+        int r2 = (s0 >>> 12) & 0x3F;
+        int r3 = (s0 >>> 18) & 0x3F;
+        int r4 = (s1 >>> 8) & 0x3F;
+        int r5 = (s1 >>> 14) & 0x3F;
+        int r6 = (s1 >>> 20) & 0x3F;
+        int r7 = (s1 >>> 26) & 0x3F;
+        agg += inc >>> r0;
+        agg += inc >>> r1;
+        agg += inc >>> r2;
+        agg += inc >>> r3;
+        agg += inc >>> r4;
+        agg += inc >>> r5;
+        agg += inc >>> r6;
+        agg += inc >>> r7;
+        if (r0 >= maxR) cMax += 1;
+        if (r1 >= maxR) cMax += 1;
+        if (r2 >= maxR) cMax += 1;
+        if (r3 >= maxR) cMax += 1;
+        if (r4 >= maxR) cMax += 1;
+        if (r5 >= maxR) cMax += 1;
+        if (r6 >= maxR) cMax += 1;
+        if (r7 >= maxR) cMax += 1;
+        if (r0 == 0) c0 += 1;
+        if (r1 == 0) c0 += 1;
+        if (r2 == 0) c0 += 1;
+        if (r3 == 0) c0 += 1;
+        if (r4 == 0) c0 += 1;
+        if (r5 == 0) c0 += 1;
+        if (r6 == 0) c0 += 1;
+        if (r7 == 0) c0 += 1;
+      }
+      return calculateEstimate(c0, cMax, agg, p);
+    }
+
+    private static double calculateEstimate(int c0, int cMax, long agg, int p) {
       double sum = 0;
 
       double m = 1 << p;
@@ -622,7 +820,7 @@ public final class HyperLogLog implements DistinctCounter<HyperLogLog, HyperLogL
     }
   }
 
-  private static final class MaximumLikelihoodEstimator implements Estimator {
+  private static final class MaximumLikelihoodEstimator implements StateEstimator {
 
     // = sqrt(ln(2)/zeta(2,2))
     // where zeta is the Hurvitz zeta function,
@@ -679,6 +877,49 @@ public final class HyperLogLog implements DistinctCounter<HyperLogLog, HyperLogL
         c[r6] += 1;
         c[r7] += 1;
       }
+      return calculateEstimate(agg, c, p);
+    }
+
+    @Override
+    public double estimate(IntUnaryOperator stateInts, int p) {
+
+      int stateLength = (6 << p) >>> 3;
+      long agg = 0;
+      int[] c = new int[64];
+      long inc = 1L << -p;
+
+      for (int off = 0; off + 6 <= stateLength; off += 6) {
+        int s0 = stateInts.applyAsInt(off);
+        int s1 = stateInts.applyAsInt(off + 2);
+        int r0 = s0 & 0x3F;
+        int r1 = (s0 >>> 6) & 0x3F;
+        int r2 = (s0 >>> 12) & 0x3F;
+        int r3 = (s0 >>> 18) & 0x3F;
+        int r4 = (s1 >>> 8) & 0x3F;
+        int r5 = (s1 >>> 14) & 0x3F;
+        int r6 = (s1 >>> 20) & 0x3F;
+        int r7 = (s1 >>> 26) & 0x3F;
+        agg += inc >>> r0;
+        agg += inc >>> r1;
+        agg += inc >>> r2;
+        agg += inc >>> r3;
+        agg += inc >>> r4;
+        agg += inc >>> r5;
+        agg += inc >>> r6;
+        agg += inc >>> r7;
+        c[r0] += 1;
+        c[r1] += 1;
+        c[r2] += 1;
+        c[r3] += 1;
+        c[r4] += 1;
+        c[r5] += 1;
+        c[r6] += 1;
+        c[r7] += 1;
+      }
+      return calculateEstimate(agg, c, p);
+    }
+
+    private static double calculateEstimate(long agg, int[] c, int p) {
       int m = 1 << p;
 
       if (c[0] == m) return 0.;
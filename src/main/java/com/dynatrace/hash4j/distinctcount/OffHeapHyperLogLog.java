@@ -0,0 +1,212 @@
+/*
+ * Copyright 2025-2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+/**
+ * A {@link HyperLogLog} sketch whose registers are stored in a caller-supplied {@code
+ * java.lang.foreign.MemorySegment} rather than in a byte array on the Java heap.
+ *
+ * <p>The memory layout of the registers is the same as that of the state returned by {@link
+ * HyperLogLog#getState()}. Therefore, a sketch can be moved between on-heap and off-heap
+ * representations by simply copying the bytes. Many sketches can share a single large segment by
+ * using disjoint slices of it.
+ *
+ * <p>Off-heap sketches are only supported for Java versions 25 and beyond. The memory segment is
+ * passed as {@link Object} to make the interface compatible with older Java versions not supporting
+ * {@code java.lang.foreign.MemorySegment}.
+ *
+ * <p>This class is not thread-safe.
+ */
+public interface OffHeapHyperLogLog {
+
+  /**
+   * Creates an empty {@link OffHeapHyperLogLog} sketch with given precision whose registers are
+   * stored in the given memory segment.
+   *
+   * <p>The precision parameter {@code p} must be in the range {@code {3, 4, 5, ..., 25, 26}}. The
+   * size of the memory segment must be exactly {@code 6 * 2^p / 8} bytes. All bytes of the memory
+   * segment are set to zero.
+   *
+   * @param memorySegment a {@code java.lang.foreign.MemorySegment}
+   * @param p the precision parameter
+   * @return the new sketch
+   * @throws UnsupportedOperationException if this function is called by Java versions smaller than
+   *     25
+   * @throws NullPointerException if the memory segment is null
+   * @throws IllegalArgumentException if the precision parameter is invalid, if the argument is not
+   *     a {@code java.lang.foreign.MemorySegment}, or if the memory segment has an unexpected size
+   */
+  @Generated(reason = "FFMUtil.createOffHeapHyperLogLog might throw exceptions")
+  static OffHeapHyperLogLog create(Object memorySegment, int p) {
+    return FFMUtil.createOffHeapHyperLogLog(memorySegment, p);
+  }
+
+  /**
+   * Returns an {@link OffHeapHyperLogLog} sketch whose registers are kept in the given memory
+   * segment.
+   *
+   * <p>The size of the memory segment must be {@code 6 * 2^p / 8} bytes for some valid precision
+   * parameter {@code p}. If the content of the memory segment is not a valid state (as returned by
+   * {@link HyperLogLog#getState()} or {@link #getState()}) the behavior will be undefined.
+   *
+   * @param memorySegment a {@code java.lang.foreign.MemorySegment}
+   * @return the sketch
+   * @throws UnsupportedOperationException if this function is called by Java versions smaller than
+   *     25
+   * @throws NullPointerException if the memory segment is null
+   * @throws IllegalArgumentException if the argument is not a {@code
+   *     java.lang.foreign.MemorySegment} or if the memory segment has an unexpected size
+   */
+  @Generated(reason = "FFMUtil.wrapOffHeapHyperLogLog might throw exceptions")
+  static OffHeapHyperLogLog wrap(Object memorySegment) {
+    return FFMUtil.wrapOffHeapHyperLogLog(memorySegment);
+  }
+
+  /**
+   * Returns the precision parameter of this sketch.
+   *
+   * @return the precision parameter
+   */
+  int getP();
+
+  /**
+   * Adds a new element represented by a 64-bit hash value to this sketch.
+   *
+   * <p>In order to get good estimates, it is important that the hash value is calculated using a
+   * high-quality hash algorithm.
+   *
+   * @param hashValue a 64-bit hash value
+   * @return this sketch
+   */
+  OffHeapHyperLogLog add(long hashValue);
+
+  /**
+   * Adds a new element represented by a 64-bit hash value to this sketch and passes, if the
+   * internal state has changed, decrements of the state change probability to the given {@link
+   * StateChangeObserver}.
+   *
+   * @param hashValue a 64-bit hash value
+   * @param stateChangeObserver a state change observer
+   * @return this sketch
+   */
+  OffHeapHyperLogLog add(long hashValue, StateChangeObserver stateChangeObserver);
+
+  /**
+   * Adds a new element represented by a 32-bit token obtained from {@link
+   * HyperLogLog#computeToken(long)}.
+   *
+   * @param token a 32-bit hash token
+   * @return this sketch
+   */
+  OffHeapHyperLogLog addToken(int token);
+
+  /**
+   * Adds a new element, represented by a 32-bit token obtained from {@link
+   * HyperLogLog#computeToken(long)}, to this sketch and passes, if the internal state has changed,
+   * decrements of the state change probability to the given {@link StateChangeObserver}.
+   *
+   * @param token a 32-bit hash token
+   * @param stateChangeObserver a state change observer
+   * @return this sketch
+   */
+  OffHeapHyperLogLog addToken(int token, StateChangeObserver stateChangeObserver);
+
+  /**
+   * Adds another off-heap sketch.
+   *
+   * <p>The precision parameter of the added sketch must not be smaller than the precision parameter
+   * of this sketch. Otherwise, an {@link IllegalArgumentException} will be thrown.
+   *
+   * @param other the other sketch
+   * @return this sketch
+   * @throws NullPointerException if the argument is null
+   */
+  OffHeapHyperLogLog add(OffHeapHyperLogLog other);
+
+  /**
+   * Adds another on-heap sketch.
+   *
+   * <p>The precision parameter of the added sketch must not be smaller than the precision parameter
+   * of this sketch. Otherwise, an {@link IllegalArgumentException} will be thrown.
+   *
+   * @param other the other sketch
+   * @return this sketch
+   * @throws NullPointerException if the argument is null
+   */
+  OffHeapHyperLogLog add(HyperLogLog other);
+
+  /**
+   * Writes a downsized copy of this sketch into the given memory segment.
+   *
+   * <p>The precision of the copy is defined by the size of the memory segment, which must be {@code
+   * 6 * 2^p / 8} bytes for some valid precision parameter {@code p} not larger than the precision
+   * parameter of this sketch. The previous content of the memory segment is overwritten.
+   *
+   * @param memorySegment a {@code java.lang.foreign.MemorySegment}
+   * @return the downsized copy
+   * @throws NullPointerException if the memory segment is null
+   * @throws IllegalArgumentException if the argument is not a {@code
+   *     java.lang.foreign.MemorySegment}, if the memory segment has an unexpected size, or if the
+   *     resulting precision would be larger than that of this sketch
+   */
+  OffHeapHyperLogLog downsize(Object memorySegment);
+
+  /**
+   * Returns an estimate of the number of distinct elements added to this sketch.
+   *
+   * @return estimated number of distinct elements
+   */
+  double getDistinctCountEstimate();
+
+  /**
+   * Returns an estimate of the number of distinct elements added to this sketch using the given
+   * estimator.
+   *
+   * @param estimator the estimator
+   * @return estimated number of distinct elements
+   */
+  double getDistinctCountEstimate(HyperLogLog.Estimator estimator);
+
+  /**
+   * Returns the probability of an internal state change when a new distinct element is added.
+   *
+   * @return the state change probability
+   */
+  double getStateChangeProbability();
+
+  /**
+   * Returns {@code true} if the sketch is empty, corresponding to the initial state.
+   *
+   * @return {@code true} if the sketch is empty
+   */
+  boolean isEmpty();
+
+  /**
+   * Resets this sketch to its initial state representing an empty set.
+   *
+   * @return this sketch
+   */
+  OffHeapHyperLogLog reset();
+
+  /**
+   * Returns a copy of the registers of this sketch as byte array.
+   *
+   * <p>The returned array can be passed to {@link HyperLogLog#wrap(byte[])}.
+   *
+   * @return a copy of the state of this sketch
+   */
+  byte[] getState();
+}
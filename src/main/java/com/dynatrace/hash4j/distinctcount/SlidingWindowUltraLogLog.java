@@ -0,0 +1,274 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static com.dynatrace.hash4j.distinctcount.DistinctCountUtil.checkPrecisionParameter;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+/**
+ * A distinct counter for a sliding time window based on {@link UltraLogLog}.
+ *
+ * <p>Time is divided into buckets of fixed duration. The window consists of the bucket containing
+ * the latest seen timestamp and the {@code numBuckets - 1} preceding buckets. Timestamps can be
+ * given in any unit (for example milliseconds), as long as the bucket duration is given in the same
+ * unit. Elements that are added with a timestamp falling into a bucket that has already left the
+ * window are ignored.
+ *
+ * <p>For each bucket a separate {@link UltraLogLog} sketch is kept in a ring buffer. In addition,
+ * aggregated sketches are maintained such that the sketch for the whole window can always be
+ * obtained by merging just two sketches. Hence, a window query takes time proportional to the
+ * number of registers, independent of the number of buckets. The aggregated sketches for the older
+ * part of the window are recomputed only once every {@code numBuckets - 1} buckets, which leads to
+ * amortized constant costs per bucket and register. Adding an element takes constant time, except
+ * for late elements falling into the older part of the window, which require up to {@code
+ * numBuckets} register updates.
+ *
+ * <p>The memory footprint is bounded by {@code (2 * numBuckets + 2) * 2^p} bytes.
+ *
+ * <p>This class is not thread-safe.
+ */
+public final class SlidingWindowUltraLogLog {
+
+  private final long bucketDuration;
+
+  // ring buffer of sketches for the individual buckets
+  private final UltraLogLog[] buckets;
+
+  // the bucket indices of the sketches in the ring buffer
+  private final long[] bucketIndices;
+
+  // suffixes[slot(i)] holds the union of all buckets with indices in the range [i, frontTo]
+  private final UltraLogLog[] suffixes;
+
+  // union of all buckets with indices in the range (frontTo, newestBucket]
+  private final UltraLogLog back;
+
+  // used to avoid allocations when estimating the distinct count
+  private final UltraLogLog scratch;
+
+  private long newestBucket;
+  private long windowStart;
+  private long frontTo;
+
+  private SlidingWindowUltraLogLog(int p, int numBuckets, long bucketDuration) {
+    this.bucketDuration = bucketDuration;
+    this.buckets = new UltraLogLog[numBuckets];
+    this.suffixes = new UltraLogLog[numBuckets];
+    for (int i = 0; i < numBuckets; ++i) {
+      buckets[i] = UltraLogLog.create(p);
+      suffixes[i] = UltraLogLog.create(p);
+    }
+    this.bucketIndices = new long[numBuckets];
+    this.back = UltraLogLog.create(p);
+    this.scratch = UltraLogLog.create(p);
+    reset();
+  }
+
+  /**
+   * Creates an empty {@link SlidingWindowUltraLogLog} with given precision, number of buckets, and
+   * bucket duration.
+   *
+   * <p>The precision parameter {@code p} must be in the range {@code {3, 4, 5, ..., 25, 26}}. The
+   * window length is given by {@code numBuckets * bucketDuration}.
+   *
+   * @param p the precision parameter
+   * @param numBuckets the number of buckets the window consists of
+   * @param bucketDuration the duration of a single bucket
+   * @return the new sliding window distinct counter
+   * @throws IllegalArgumentException if the precision parameter is invalid or if the number of
+   *     buckets or the bucket duration is not positive
+   */
+  public static SlidingWindowUltraLogLog create(int p, int numBuckets, long bucketDuration) {
+    checkPrecisionParameter(p, UltraLogLog.MIN_P, UltraLogLog.MAX_P);
+    if (numBuckets < 1) {
+      throw new IllegalArgumentException("number of buckets must be positive");
+    }
+    if (bucketDuration < 1) {
+      throw new IllegalArgumentException("bucket duration must be positive");
+    }
+    return new SlidingWindowUltraLogLog(p, numBuckets, bucketDuration);
+  }
+
+  /**
+   * Returns the precision parameter of the underlying sketches.
+   *
+   * @return the precision parameter
+   */
+  public int getP() {
+    return back.getP();
+  }
+
+  /**
+   * Returns the number of buckets the window consists of.
+   *
+   * @return the number of buckets
+   */
+  public int getNumBuckets() {
+    return buckets.length;
+  }
+
+  /**
+   * Returns the duration of a single bucket.
+   *
+   * @return the bucket duration
+   */
+  public long getBucketDuration() {
+    return bucketDuration;
+  }
+
+  private int slot(long bucketIndex) {
+    return (int) Math.floorMod(bucketIndex, (long) buckets.length);
+  }
+
+  /**
+   * Adds a new element represented by a 64-bit hash value with given timestamp.
+   *
+   * <p>If the timestamp is newer than all timestamps seen so far, the window is advanced
+   * accordingly. If the timestamp falls into a bucket that is no longer part of the window, the
+   * element is ignored.
+   *
+   * @param hashValue a 64-bit hash value
+   * @param timestamp the timestamp
+   * @return this sliding window distinct counter
+   */
+  public SlidingWindowUltraLogLog add(long hashValue, long timestamp) {
+    long bucketIndex = Math.floorDiv(timestamp, bucketDuration);
+    advanceToBucket(bucketIndex);
+    if (bucketIndex < windowStart) {
+      return this;
+    }
+    int slot = slot(bucketIndex);
+    if (bucketIndices[slot] != bucketIndex) {
+      buckets[slot].reset();
+      bucketIndices[slot] = bucketIndex;
+    }
+    buckets[slot].add(hashValue);
+    if (bucketIndex > frontTo) {
+      back.add(hashValue);
+    } else {
+      // late arrival, all aggregates that include this bucket need to be updated
+      for (long i = windowStart; i <= bucketIndex; ++i) {
+        suffixes[slot(i)].add(hashValue);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Advances the window such that it ends with the bucket containing the given timestamp.
+   *
+   * <p>Has no effect if the timestamp is not newer than the latest timestamp seen so far.
+   *
+   * @param timestamp the timestamp
+   * @return this sliding window distinct counter
+   */
+  public SlidingWindowUltraLogLog advance(long timestamp) {
+    advanceToBucket(Math.floorDiv(timestamp, bucketDuration));
+    return this;
+  }
+
+  private void advanceToBucket(long bucketIndex) {
+    if (bucketIndex <= newestBucket) {
+      return;
+    }
+    newestBucket = bucketIndex;
+    windowStart = bucketIndex - buckets.length + 1;
+    if (windowStart > frontTo) {
+      rebuildFront(bucketIndex - 1);
+    }
+  }
+
+  // recomputes the aggregates for all buckets in the range [windowStart, to], the back aggregate
+  // becomes empty as it covers only buckets newer than to, which have not been filled yet
+  private void rebuildFront(long to) {
+    frontTo = to;
+    UltraLogLog next = null;
+    for (long i = to; i >= windowStart; --i) {
+      int slot = slot(i);
+      UltraLogLog suffix = suffixes[slot].reset();
+      if (bucketIndices[slot] == i) {
+        suffix.add(buckets[slot]);
+      }
+      if (next != null) {
+        suffix.add(next);
+      }
+      next = suffix;
+    }
+    back.reset();
+  }
+
+  /**
+   * Returns a new {@link UltraLogLog} sketch representing all elements within the current window.
+   *
+   * @return a new sketch
+   */
+  public UltraLogLog getWindowSketch() {
+    return mergeWindow(UltraLogLog.create(getP()));
+  }
+
+  private UltraLogLog mergeWindow(UltraLogLog sketch) {
+    sketch.add(back);
+    if (windowStart <= frontTo) {
+      sketch.add(suffixes[slot(windowStart)]);
+    }
+    return sketch;
+  }
+
+  /**
+   * Returns an estimate of the number of distinct elements within the current window.
+   *
+   * @return estimated number of distinct elements
+   */
+  public double getDistinctCountEstimate() {
+    return mergeWindow(scratch.reset()).getDistinctCountEstimate();
+  }
+
+  /**
+   * Returns an estimate of the number of distinct elements within the current window using the
+   * given estimator.
+   *
+   * @param estimator the estimator
+   * @return estimated number of distinct elements
+   * @throws NullPointerException if the argument is null
+   */
+  public double getDistinctCountEstimate(UltraLogLog.Estimator estimator) {
+    requireNonNull(estimator, "null argument");
+    return mergeWindow(scratch.reset()).getDistinctCountEstimate(estimator);
+  }
+
+  /**
+   * Resets this sliding window distinct counter to its initial state, forgetting all elements and
+   * timestamps seen so far.
+   *
+   * @return this sliding window distinct counter
+   */
+  public SlidingWindowUltraLogLog reset() {
+    for (UltraLogLog bucket : buckets) {
+      bucket.reset();
+    }
+    for (UltraLogLog suffix : suffixes) {
+      suffix.reset();
+    }
+    back.reset();
+    Arrays.fill(bucketIndices, Long.MIN_VALUE);
+    newestBucket = Long.MIN_VALUE;
+    windowStart = Long.MIN_VALUE;
+    frontTo = Long.MIN_VALUE;
+    return this;
+  }
+}
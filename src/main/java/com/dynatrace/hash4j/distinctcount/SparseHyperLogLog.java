@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static com.dynatrace.hash4j.distinctcount.DistinctCountUtil.checkPrecisionParameter;
+
+/**
+ * A {@link HyperLogLog} sketch with a sparse representation for small distinct counts.
+ *
+ * <p>Initially, the sketch only stores the 32-bit hash tokens (see {@link
+ * HyperLogLog#computeToken(long)}) of added elements. As soon as the deduplicated tokens would need
+ * more memory than the dense {@link HyperLogLog} representation, which takes {@code 6 * 2^p / 8}
+ * bytes, the sketch is automatically converted into the dense representation. The final state of
+ * the dense representation is exactly the same as if all elements had been added to an {@link
+ * HyperLogLog} sketch directly.
+ *
+ * <p>This is useful when many sketches are needed and most of them only see a small number of
+ * distinct elements.
+ */
+public final class SparseHyperLogLog
+    extends AbstractSparseDistinctCounter<SparseHyperLogLog, HyperLogLog, HyperLogLog.Estimator> {
+
+  private SparseHyperLogLog(int p) {
+    super(p, (6 << p) >>> 3);
+  }
+
+  /**
+   * Creates an empty {@link SparseHyperLogLog} sketch with given precision.
+   *
+   * <p>The precision parameter {@code p} must be in the range {@code {3, 4, 5, ..., 25, 26}}. It
+   * defines the precision of the dense representation.
+   *
+   * @param p the precision parameter
+   * @return the new sketch
+   * @throws IllegalArgumentException if the precision parameter is invalid
+   */
+  public static SparseHyperLogLog create(int p) {
+    checkPrecisionParameter(p, HyperLogLog.MIN_P, HyperLogLog.MAX_P);
+    return new SparseHyperLogLog(p);
+  }
+
+  /**
+   * Deserializes a sketch from a byte array obtained from {@link #toByteArray()}.
+   *
+   * @param data the serialized sketch
+   * @return the deserialized sketch
+   * @throws NullPointerException if the passed array is null
+   * @throws IllegalArgumentException if the passed array is not a valid serialized sketch
+   */
+  public static SparseHyperLogLog fromByteArray(byte[] data) {
+    return fromByteArray(data, SparseHyperLogLog::create, HyperLogLog::wrap);
+  }
+
+  /**
+   * Returns a {@link HyperLogLog} sketch with the same state as the dense representation of this
+   * sketch.
+   *
+   * <p>The returned sketch is independent of this sketch.
+   *
+   * @return a {@link HyperLogLog} sketch
+   */
+  public HyperLogLog toHyperLogLog() {
+    return toDense();
+  }
+
+  @Override
+  SparseHyperLogLog self() {
+    return this;
+  }
+
+  @Override
+  SparseHyperLogLog createSparse(int p) {
+    return new SparseHyperLogLog(p);
+  }
+
+  @Override
+  HyperLogLog createDense(int p) {
+    return HyperLogLog.create(p);
+  }
+}
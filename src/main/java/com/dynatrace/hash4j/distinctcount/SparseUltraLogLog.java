@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static com.dynatrace.hash4j.distinctcount.DistinctCountUtil.checkPrecisionParameter;
+
+/**
+ * An {@link UltraLogLog} sketch with a sparse representation for small distinct counts.
+ *
+ * <p>Initially, the sketch only stores the 32-bit hash tokens (see {@link
+ * UltraLogLog#computeToken(long)}) of added elements. As soon as the deduplicated tokens would need
+ * more memory than the dense {@link UltraLogLog} representation, which takes {@code 2^p} bytes, the
+ * sketch is automatically converted into the dense representation. The final state of the dense
+ * representation is exactly the same as if all elements had been added to an {@link UltraLogLog}
+ * sketch directly.
+ *
+ * <p>This is useful when many sketches are needed and most of them only see a small number of
+ * distinct elements.
+ */
+public final class SparseUltraLogLog
+    extends AbstractSparseDistinctCounter<SparseUltraLogLog, UltraLogLog, UltraLogLog.Estimator> {
+
+  private SparseUltraLogLog(int p) {
+    super(p, 1 << p);
+  }
+
+  /**
+   * Creates an empty {@link SparseUltraLogLog} sketch with given precision.
+   *
+   * <p>The precision parameter {@code p} must be in the range {@code {3, 4, 5, ..., 25, 26}}. It
+   * defines the precision of the dense representation.
+   *
+   * @param p the precision parameter
+   * @return the new sketch
+   * @throws IllegalArgumentException if the precision parameter is invalid
+   */
+  public static SparseUltraLogLog create(int p) {
+    checkPrecisionParameter(p, UltraLogLog.MIN_P, UltraLogLog.MAX_P);
+    return new SparseUltraLogLog(p);
+  }
+
+  /**
+   * Deserializes a sketch from a byte array obtained from {@link #toByteArray()}.
+   *
+   * @param data the serialized sketch
+   * @return the deserialized sketch
+   * @throws NullPointerException if the passed array is null
+   * @throws IllegalArgumentException if the passed array is not a valid serialized sketch
+   */
+  public static SparseUltraLogLog fromByteArray(byte[] data) {
+    return fromByteArray(data, SparseUltraLogLog::create, UltraLogLog::wrap);
+  }
+
+  /**
+   * Returns an {@link UltraLogLog} sketch with the same state as the dense representation of this
+   * sketch.
+   *
+   * <p>The returned sketch is independent of this sketch.
+   *
+   * @return an {@link UltraLogLog} sketch
+   */
+  public UltraLogLog toUltraLogLog() {
+    return toDense();
+  }
+
+  @Override
+  SparseUltraLogLog self() {
+    return this;
+  }
+
+  @Override
+  SparseUltraLogLog createSparse(int p) {
+    return new SparseUltraLogLog(p);
+  }
+
+  @Override
+  UltraLogLog createDense(int p) {
+    return UltraLogLog.create(p);
+  }
+}
@@ -15,15 +15,21 @@
  */
 package com.dynatrace.hash4j.distinctcount;
 
+import static com.dynatrace.hash4j.distinctcount.DistinctCountUtil.MERGE_ALL_BLOCK_SIZE;
 import static com.dynatrace.hash4j.distinctcount.DistinctCountUtil.checkPrecisionParameter;
 import static com.dynatrace.hash4j.distinctcount.DistinctCountUtil.getUnexpectedStateLengthException;
 import static com.dynatrace.hash4j.distinctcount.DistinctCountUtil.isUnsignedPowerOfTwo;
 import static com.dynatrace.hash4j.distinctcount.DistinctCountUtil.unsignedLongToDouble;
 import static java.lang.Math.pow;
 import static java.lang.Math.sqrt;
+import static java.util.Objects.checkFromIndexSize;
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
 
 /**
  * A sketch for approximate distinct counting that is more space efficient than HyperLogLog as
@@ -161,6 +167,47 @@ public final class UltraLogLog implements DistinctCounter<UltraLogLog, UltraLogL
     }
   }
 
+  /**
+   * Merges a collection of {@link UltraLogLog} sketches into a new sketch.
+   *
+   * <p>The precision of the merged sketch is given by the smallest precision of all sketches. The
+   * result is the same as when adding all sketches one after the other to an empty sketch of that
+   * precision. However, sketches with the smallest precision are merged block-wise, so that each
+   * block of the merged state is updated by all sketches while it is still in the cache.
+   *
+   * @param sketches the sketches
+   * @return the merged sketch
+   * @throws NullPointerException if the collection or one of its elements is null
+   * @throws IllegalArgumentException if the collection is empty
+   */
+  public static UltraLogLog mergeAll(Collection<UltraLogLog> sketches) {
+    requireNonNull(sketches, "null argument");
+    int minStateLength = Integer.MAX_VALUE;
+    for (UltraLogLog sketch : sketches) {
+      requireNonNull(sketch, "sketch was null");
+      minStateLength = Math.min(minStateLength, sketch.state.length);
+    }
+    if (minStateLength == Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("no sketches given");
+    }
+    UltraLogLog result = new UltraLogLog(new byte[minStateLength]);
+    List<byte[]> otherStates = new ArrayList<>(sketches.size());
+    for (UltraLogLog sketch : sketches) {
+      if (sketch.state.length == minStateLength) {
+        otherStates.add(sketch.state);
+      } else {
+        result.add(sketch);
+      }
+    }
+    for (int from = 0; from < minStateLength; from += MERGE_ALL_BLOCK_SIZE) {
+      int to = Math.min(from + MERGE_ALL_BLOCK_SIZE, minStateLength);
+      for (byte[] otherState : otherStates) {
+        mergeRegisters(result.state, otherState, from, to);
+      }
+    }
+    return result;
+  }
+
   /**
    * Returns a reference to the internal state of this sketch.
    *
@@ -281,6 +328,84 @@ public final class UltraLogLog implements DistinctCounter<UltraLogLog, UltraLogL
     return add(DistinctCountUtil.reconstructHash(token), stateChangeObserver);
   }
 
+  /**
+   * Adds new elements represented by 64-bit hash values to this sketch.
+   *
+   * <p>Equivalent to {@code for (int i = 0; i < len; ++i) add(hashValues[off + i]);}
+   *
+   * @param hashValues an array of 64-bit hash values
+   * @param off the offset of the first hash value in the array
+   * @param len the number of hash values
+   * @return this sketch
+   */
+  @Override
+  public UltraLogLog addAll(long[] hashValues, int off, int len) {
+    return addAll(hashValues, off, len, null);
+  }
+
+  /**
+   * Adds new elements represented by 64-bit hash values to this sketch and passes, if the internal
+   * state has changed, decrements of the state change probability to the given {@link
+   * StateChangeObserver}.
+   *
+   * <p>Equivalent to {@code for (int i = 0; i < len; ++i) add(hashValues[off + i],
+   * stateChangeObserver);}
+   *
+   * @param hashValues an array of 64-bit hash values
+   * @param off the offset of the first hash value in the array
+   * @param len the number of hash values
+   * @param stateChangeObserver a state change observer
+   * @return this sketch
+   */
+  @Override
+  public UltraLogLog addAll(
+      long[] hashValues, int off, int len, StateChangeObserver stateChangeObserver) {
+    checkFromIndexSize(off, len, hashValues.length);
+    for (int i = off; i < off + len; ++i) {
+      add(hashValues[i], stateChangeObserver);
+    }
+    return this;
+  }
+
+  /**
+   * Adds new elements represented by 32-bit tokens obtained from {@link #computeToken(long)}.
+   *
+   * <p>Equivalent to {@code for (int i = 0; i < len; ++i) addToken(tokens[off + i]);}
+   *
+   * @param tokens an array of 32-bit hash tokens
+   * @param off the offset of the first token in the array
+   * @param len the number of tokens
+   * @return this sketch
+   */
+  @Override
+  public UltraLogLog addAllTokens(int[] tokens, int off, int len) {
+    return addAllTokens(tokens, off, len, null);
+  }
+
+  /**
+   * Adds new elements represented by 32-bit tokens obtained from {@link #computeToken(long)} to
+   * this sketch and passes, if the internal state has changed, decrements of the state change
+   * probability to the given {@link StateChangeObserver}.
+   *
+   * <p>Equivalent to {@code for (int i = 0; i < len; ++i) addToken(tokens[off + i],
+   * stateChangeObserver);}
+   *
+   * @param tokens an array of 32-bit hash tokens
+   * @param off the offset of the first token in the array
+   * @param len the number of tokens
+   * @param stateChangeObserver a state change observer
+   * @return this sketch
+   */
+  @Override
+  public UltraLogLog addAllTokens(
+      int[] tokens, int off, int len, StateChangeObserver stateChangeObserver) {
+    checkFromIndexSize(off, len, tokens.length);
+    for (int i = off; i < off + len; ++i) {
+      addToken(tokens[i], stateChangeObserver);
+    }
+    return this;
+  }
+
   /**
    * Adds another sketch.
    *
@@ -298,12 +423,7 @@ public final class UltraLogLog implements DistinctCounter<UltraLogLog, UltraLogL
     if (otherData.length < state.length) {
       throw new IllegalArgumentException("other has smaller precision");
     } else if (otherData.length == state.length) {
-      for (int i = 0; i < state.length; ++i) {
-        byte otherR = otherData[i];
-        if (otherR != 0) {
-          state[i] = pack(unpack(state[i]) | unpack(otherR));
-        }
-      }
+      mergeRegisters(state, otherData, 0, state.length);
     } else {
       final int p = getP();
       final int otherP = other.getP();
@@ -327,6 +447,19 @@ public final class UltraLogLog implements DistinctCounter<UltraLogLog, UltraLogL
     return this;
   }
 
+  private static void mergeRegisters(byte[] state, byte[] otherState, int from, int to) {
+    int i = from;
+    if (DistinctCountVectorUtil.isAvailable()) {
+      i = DistinctCountVectorUtil.mergeUltraLogLogRegisters(state, otherState, from, to);
+    }
+    for (; i < to; ++i) {
+      byte otherR = otherState[i];
+      if (otherR != 0) {
+        state[i] = pack(unpack(state[i]) | unpack(otherR));
+      }
+    }
+  }
+
   // visible for testing
   static long unpack(byte register) {
     return (4L | (register & 3)) << ((register >>> 2) - 2);
@@ -416,7 +549,21 @@ public final class UltraLogLog implements DistinctCounter<UltraLogLog, UltraLogL
   /** A distinct count estimator for UltraLogLog. */
   public interface Estimator extends DistinctCounter.Estimator<UltraLogLog> {}
 
-  private static final class MaximumLikelihoodEstimator implements Estimator {
+  // an estimator that only needs read access to the registers, which allows to apply it to
+  // registers that are not stored in a byte array, for example in off-heap memory
+  interface RegisterEstimator extends Estimator {
+
+    /**
+     * Estimates the distinct count from the given registers.
+     *
+     * @param registers a function returning the unsigned value of the register with given index
+     * @param p the precision parameter
+     * @return estimated number of distinct elements
+     */
+    double estimate(IntUnaryOperator registers, int p);
+  }
+
+  private static final class MaximumLikelihoodEstimator implements RegisterEstimator {
 
     // = sqrt(ln(2)/zeta(2,5/4))
     // where zeta is the Hurvitz zeta function,
@@ -476,12 +623,28 @@ public final class UltraLogLog implements DistinctCounter<UltraLogLog, UltraLogL
       for (byte r : state) {
         sum += contribute(r & 0xff, b, p);
       }
-      int m = state.length;
+      return calculateEstimate(sum, b, state[0] & 0xff, p);
+    }
+
+    @Override
+    public double estimate(IntUnaryOperator registers, int p) {
+
+      int m = 1 << p;
+      long sum = 0;
+      int[] b = new int[64];
+      for (int idx = 0; idx < m; ++idx) {
+        sum += contribute(registers.applyAsInt(idx), b, p);
+      }
+      return calculateEstimate(sum, b, registers.applyAsInt(0), p);
+    }
+
+    private static double calculateEstimate(long sum, int[] b, int firstRegister, int p) {
+      int m = 1 << p;
       if (sum == 0) {
         // sum can only be zero if either all registers are 0 or all registers are saturated
-        // therefore, it is sufficient to check if the first byte of the state is zero or not to
+        // therefore, it is sufficient to check if the first register is zero or not to
         // distinguish both cases
-        return (state[0] == 0) ? 0 : Double.POSITIVE_INFINITY;
+        return (firstRegister == 0) ? 0 : Double.POSITIVE_INFINITY;
       }
       b[63 - p] += b[64 - p];
       double factor = m << 1;
@@ -494,7 +657,7 @@ public final class UltraLogLog implements DistinctCounter<UltraLogLog, UltraLogL
     }
   }
 
-  static final class OptimalFGRAEstimator implements Estimator {
+  static final class OptimalFGRAEstimator implements RegisterEstimator {
 
     static final double ETA_0 = 4.663135422063788;
     static final double ETA_1 = 2.1378502137958524;
@@ -889,7 +1052,6 @@ public final class UltraLogLog implements DistinctCounter<UltraLogLog, UltraLogL
     @Override
     public double estimate(UltraLogLog ultraLogLog) {
       final byte[] state = ultraLogLog.state;
-      final int m = state.length;
       final int p = ultraLogLog.getP();
 
       int c0 = 0;
@@ -921,6 +1083,57 @@ public final class UltraLogLog implements DistinctCounter<UltraLogLog, UltraLogL
           if (r == 255) c4w3 += 1;
         }
       }
+      return calculateEstimate(c0, c4, c8, c10, c4w0, c4w1, c4w2, c4w3, sum, p);
+    }
+
+    @Override
+    public double estimate(IntUnaryOperator registers, int p) {
+      final int m = 1 << p;
+
+      int c0 = 0;
+      int c4 = 0;
+      int c8 = 0;
+      int c10 = 0;
+
+      int c4w0 = 0;
+      int c4w1 = 0;
+      int c4w2 = 0;
+      int c4w3 = 0;
+
+      double sum = 0;
+      int off = (p << 2) + 4;
+      for (int idx = 0; idx < m; ++idx) {
+        int r = registers.applyAsInt(idx);
+        int r2 = r - off;
+        if (r2 < 0) {
+          if (r2 < -8) c0 += 1;
+          if (r2 == -8) c4 += 1;
+          if (r2 == -4) c8 += 1;
+          if (r2 == -2) c10 += 1;
+        } else if (r < 252) {
+          sum += REGISTER_CONTRIBUTIONS[r2];
+        } else {
+          if (r == 252) c4w0 += 1;
+          if (r == 253) c4w1 += 1;
+          if (r == 254) c4w2 += 1;
+          if (r == 255) c4w3 += 1;
+        }
+      }
+      return calculateEstimate(c0, c4, c8, c10, c4w0, c4w1, c4w2, c4w3, sum, p);
+    }
+
+    private static double calculateEstimate(
+        int c0,
+        int c4,
+        int c8,
+        int c10,
+        int c4w0,
+        int c4w1,
+        int c4w2,
+        int c4w3,
+        double sum,
+        int p) {
+      final int m = 1 << p;
 
       if (c0 > 0 || c4 > 0 || c8 > 0 || c10 > 0) {
         double z = smallRangeEstimate(c0, c4, c8, c10, m);
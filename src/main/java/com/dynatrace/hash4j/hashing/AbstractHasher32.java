@@ -41,4 +41,18 @@ interface AbstractHasher32 extends Hasher32 {
   default HashStream32 hashStreamFromState(byte[] state) {
     return hashStream().setState(state);
   }
+
+  @Override
+  default void hashIntsToInts(int[] input, int inputOff, int[] output, int outputOff, int len) {
+    for (int i = 0; i < len; ++i) {
+      output[outputOff + i] = hashIntToInt(input[inputOff + i]);
+    }
+  }
+
+  @Override
+  default void hashLongsToInts(long[] input, int inputOff, int[] output, int outputOff, int len) {
+    for (int i = 0; i < len; ++i) {
+      output[outputOff + i] = hashLongToInt(input[inputOff + i]);
+    }
+  }
 }
@@ -116,4 +116,18 @@ interface AbstractHasher64 extends AbstractHasher32, Hasher64 {
   default HashStream64 hashStreamFromState(byte[] state) {
     return hashStream().setState(state);
   }
+
+  @Override
+  default void hashIntsToLongs(int[] input, int inputOff, long[] output, int outputOff, int len) {
+    for (int i = 0; i < len; ++i) {
+      output[outputOff + i] = hashIntToLong(input[inputOff + i]);
+    }
+  }
+
+  @Override
+  default void hashLongsToLongs(long[] input, int inputOff, long[] output, int outputOff, int len) {
+    for (int i = 0; i < len; ++i) {
+      output[outputOff + i] = hashLongToLong(input[inputOff + i]);
+    }
+  }
 }
@@ -185,4 +185,32 @@ public interface Hasher32 extends Hasher {
    * @return the hash value
    */
   int hashLongIntToInt(long v1, int v2);
+
+  /**
+   * Hashes each 32-bit {@code int} value of an array range into a 32-bit {@code int} value.
+   *
+   * <p>Equivalent to {@code for (int i = 0; i < len; ++i) output[outputOff + i] =
+   * hashIntToInt(input[inputOff + i]);}
+   *
+   * @param input the input array
+   * @param inputOff the offset of the first value in the input array
+   * @param output the output array
+   * @param outputOff the offset of the first hash value in the output array
+   * @param len the number of values
+   */
+  void hashIntsToInts(int[] input, int inputOff, int[] output, int outputOff, int len);
+
+  /**
+   * Hashes each 64-bit {@code long} value of an array range into a 32-bit {@code int} value.
+   *
+   * <p>Equivalent to {@code for (int i = 0; i < len; ++i) output[outputOff + i] =
+   * hashLongToInt(input[inputOff + i]);}
+   *
+   * @param input the input array
+   * @param inputOff the offset of the first value in the input array
+   * @param output the output array
+   * @param outputOff the offset of the first hash value in the output array
+   * @param len the number of values
+   */
+  void hashLongsToInts(long[] input, int inputOff, int[] output, int outputOff, int len);
 }
@@ -190,4 +190,32 @@ public interface Hasher64 extends Hasher32 {
    * @return the hash value
    */
   long hashLongIntToLong(long v1, int v2);
+
+  /**
+   * Hashes each 32-bit {@code int} value of an array range into a 64-bit {@code long} value.
+   *
+   * <p>Equivalent to {@code for (int i = 0; i < len; ++i) output[outputOff + i] =
+   * hashIntToLong(input[inputOff + i]);}
+   *
+   * @param input the input array
+   * @param inputOff the offset of the first value in the input array
+   * @param output the output array
+   * @param outputOff the offset of the first hash value in the output array
+   * @param len the number of values
+   */
+  void hashIntsToLongs(int[] input, int inputOff, long[] output, int outputOff, int len);
+
+  /**
+   * Hashes each 64-bit {@code long} value of an array range into a 64-bit {@code long} value.
+   *
+   * <p>Equivalent to {@code for (int i = 0; i < len; ++i) output[outputOff + i] =
+   * hashLongToLong(input[inputOff + i]);}
+   *
+   * @param input the input array
+   * @param inputOff the offset of the first value in the input array
+   * @param output the output array
+   * @param outputOff the offset of the first hash value in the output array
+   * @param len the number of values
+   */
+  void hashLongsToLongs(long[] input, int inputOff, long[] output, int outputOff, int len);
 }
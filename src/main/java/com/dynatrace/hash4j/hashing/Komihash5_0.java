@@ -651,6 +651,47 @@ final class Komihash5_0 extends AbstractKomihash {
     return finish(seed1 ^ v, seed5 ^ 1L, seed5);
   }
 
+  @Override
+  public void hashIntsToLongs(int[] input, int inputOff, long[] output, int outputOff, int len) {
+    final long s1 = seed1 ^ (1L << 32);
+    final long s5 = seed5;
+    int i = 0;
+    for (; i <= len - 4; i += 4) {
+      long r0 = s1 ^ (input[inputOff + i] & 0xFFFFFFFFL);
+      long r1 = s1 ^ (input[inputOff + i + 1] & 0xFFFFFFFFL);
+      long r2 = s1 ^ (input[inputOff + i + 2] & 0xFFFFFFFFL);
+      long r3 = s1 ^ (input[inputOff + i + 3] & 0xFFFFFFFFL);
+      output[outputOff + i] = finish(r0, s5, s5);
+      output[outputOff + i + 1] = finish(r1, s5, s5);
+      output[outputOff + i + 2] = finish(r2, s5, s5);
+      output[outputOff + i + 3] = finish(r3, s5, s5);
+    }
+    for (; i < len; ++i) {
+      output[outputOff + i] = finish(s1 ^ (input[inputOff + i] & 0xFFFFFFFFL), s5, s5);
+    }
+  }
+
+  @Override
+  public void hashLongsToLongs(long[] input, int inputOff, long[] output, int outputOff, int len) {
+    final long s1 = seed1;
+    final long s5 = seed5;
+    final long s5x = s5 ^ 1L;
+    int i = 0;
+    for (; i <= len - 4; i += 4) {
+      long r0 = s1 ^ input[inputOff + i];
+      long r1 = s1 ^ input[inputOff + i + 1];
+      long r2 = s1 ^ input[inputOff + i + 2];
+      long r3 = s1 ^ input[inputOff + i + 3];
+      output[outputOff + i] = finish(r0, s5x, s5);
+      output[outputOff + i + 1] = finish(r1, s5x, s5);
+      output[outputOff + i + 2] = finish(r2, s5x, s5);
+      output[outputOff + i + 3] = finish(r3, s5x, s5);
+    }
+    for (; i < len; ++i) {
+      output[outputOff + i] = finish(s1 ^ input[inputOff + i], s5x, s5);
+    }
+  }
+
   @Override
   public long hashLongLongToLong(long v1, long v2) {
     long tmp1 = this.seed1 ^ v1;
@@ -867,6 +867,66 @@ final class RapidhashV3 implements AbstractHasher64 {
     return mix((a * b) ^ SEC7, unsignedMultiplyHigh(a, b) ^ (SEC1 ^ 8));
   }
 
+  @Override
+  public void hashIntsToLongs(int[] input, int inputOff, long[] output, int outputOff, int len) {
+    final long seed4 = seed ^ 4;
+    int i = 0;
+    for (; i <= len - 4; i += 4) {
+      long v0 = input[inputOff + i] & 0xFFFFFFFFL;
+      long v1 = input[inputOff + i + 1] & 0xFFFFFFFFL;
+      long v2 = input[inputOff + i + 2] & 0xFFFFFFFFL;
+      long v3 = input[inputOff + i + 3] & 0xFFFFFFFFL;
+      long a0 = v0 ^ SEC1;
+      long a1 = v1 ^ SEC1;
+      long a2 = v2 ^ SEC1;
+      long a3 = v3 ^ SEC1;
+      long b0 = v0 ^ seed4;
+      long b1 = v1 ^ seed4;
+      long b2 = v2 ^ seed4;
+      long b3 = v3 ^ seed4;
+      output[outputOff + i] = mix((a0 * b0) ^ SEC7, unsignedMultiplyHigh(a0, b0) ^ (SEC1 ^ 4));
+      output[outputOff + i + 1] = mix((a1 * b1) ^ SEC7, unsignedMultiplyHigh(a1, b1) ^ (SEC1 ^ 4));
+      output[outputOff + i + 2] = mix((a2 * b2) ^ SEC7, unsignedMultiplyHigh(a2, b2) ^ (SEC1 ^ 4));
+      output[outputOff + i + 3] = mix((a3 * b3) ^ SEC7, unsignedMultiplyHigh(a3, b3) ^ (SEC1 ^ 4));
+    }
+    for (; i < len; ++i) {
+      long v = input[inputOff + i] & 0xFFFFFFFFL;
+      long a = v ^ SEC1;
+      long b = v ^ seed4;
+      output[outputOff + i] = mix((a * b) ^ SEC7, unsignedMultiplyHigh(a, b) ^ (SEC1 ^ 4));
+    }
+  }
+
+  @Override
+  public void hashLongsToLongs(long[] input, int inputOff, long[] output, int outputOff, int len) {
+    final long seed8 = seed ^ 8;
+    int i = 0;
+    for (; i <= len - 4; i += 4) {
+      long v0 = input[inputOff + i];
+      long v1 = input[inputOff + i + 1];
+      long v2 = input[inputOff + i + 2];
+      long v3 = input[inputOff + i + 3];
+      long a0 = v0 ^ SEC1;
+      long a1 = v1 ^ SEC1;
+      long a2 = v2 ^ SEC1;
+      long a3 = v3 ^ SEC1;
+      long b0 = v0 ^ seed8;
+      long b1 = v1 ^ seed8;
+      long b2 = v2 ^ seed8;
+      long b3 = v3 ^ seed8;
+      output[outputOff + i] = mix((a0 * b0) ^ SEC7, unsignedMultiplyHigh(a0, b0) ^ (SEC1 ^ 8));
+      output[outputOff + i + 1] = mix((a1 * b1) ^ SEC7, unsignedMultiplyHigh(a1, b1) ^ (SEC1 ^ 8));
+      output[outputOff + i + 2] = mix((a2 * b2) ^ SEC7, unsignedMultiplyHigh(a2, b2) ^ (SEC1 ^ 8));
+      output[outputOff + i + 3] = mix((a3 * b3) ^ SEC7, unsignedMultiplyHigh(a3, b3) ^ (SEC1 ^ 8));
+    }
+    for (; i < len; ++i) {
+      long v = input[inputOff + i];
+      long a = v ^ SEC1;
+      long b = v ^ seed8;
+      output[outputOff + i] = mix((a * b) ^ SEC7, unsignedMultiplyHigh(a, b) ^ (SEC1 ^ 8));
+    }
+  }
+
   @Override
   public long hashLongLongToLong(long v1, long v2) {
     return finish(v1 ^ 16, v2, seed ^ 16, 16);
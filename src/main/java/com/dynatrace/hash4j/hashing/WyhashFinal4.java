@@ -51,6 +51,70 @@ final class WyhashFinal4 extends AbstractWyhashFinal {
     return mix((a * b) ^ secret0 ^ len, unsignedMultiplyHigh(a, b) ^ secret1);
   }
 
+  @Override
+  public void hashIntsToLongs(int[] input, int inputOff, long[] output, int outputOff, int len) {
+    final long s0 = secret0 ^ 4;
+    final long s1 = secret1;
+    final long s = seed;
+    int i = 0;
+    for (; i <= len - 4; i += 4) {
+      long v0 = input[inputOff + i] & 0xFFFFFFFFL;
+      long v1 = input[inputOff + i + 1] & 0xFFFFFFFFL;
+      long v2 = input[inputOff + i + 2] & 0xFFFFFFFFL;
+      long v3 = input[inputOff + i + 3] & 0xFFFFFFFFL;
+      long a0 = ((v0 << 32) | v0) ^ s1;
+      long a1 = ((v1 << 32) | v1) ^ s1;
+      long a2 = ((v2 << 32) | v2) ^ s1;
+      long a3 = ((v3 << 32) | v3) ^ s1;
+      long b0 = ((v0 << 32) | v0) ^ s;
+      long b1 = ((v1 << 32) | v1) ^ s;
+      long b2 = ((v2 << 32) | v2) ^ s;
+      long b3 = ((v3 << 32) | v3) ^ s;
+      output[outputOff + i] = mix((a0 * b0) ^ s0, unsignedMultiplyHigh(a0, b0) ^ s1);
+      output[outputOff + i + 1] = mix((a1 * b1) ^ s0, unsignedMultiplyHigh(a1, b1) ^ s1);
+      output[outputOff + i + 2] = mix((a2 * b2) ^ s0, unsignedMultiplyHigh(a2, b2) ^ s1);
+      output[outputOff + i + 3] = mix((a3 * b3) ^ s0, unsignedMultiplyHigh(a3, b3) ^ s1);
+    }
+    for (; i < len; ++i) {
+      long v = input[inputOff + i] & 0xFFFFFFFFL;
+      long a = ((v << 32) | v) ^ s1;
+      long b = ((v << 32) | v) ^ s;
+      output[outputOff + i] = mix((a * b) ^ s0, unsignedMultiplyHigh(a, b) ^ s1);
+    }
+  }
+
+  @Override
+  public void hashLongsToLongs(long[] input, int inputOff, long[] output, int outputOff, int len) {
+    final long s0 = secret0 ^ 8;
+    final long s1 = secret1;
+    final long s = seed;
+    int i = 0;
+    for (; i <= len - 4; i += 4) {
+      long v0 = input[inputOff + i];
+      long v1 = input[inputOff + i + 1];
+      long v2 = input[inputOff + i + 2];
+      long v3 = input[inputOff + i + 3];
+      long a0 = Long.rotateLeft(v0, 32) ^ s1;
+      long a1 = Long.rotateLeft(v1, 32) ^ s1;
+      long a2 = Long.rotateLeft(v2, 32) ^ s1;
+      long a3 = Long.rotateLeft(v3, 32) ^ s1;
+      long b0 = v0 ^ s;
+      long b1 = v1 ^ s;
+      long b2 = v2 ^ s;
+      long b3 = v3 ^ s;
+      output[outputOff + i] = mix((a0 * b0) ^ s0, unsignedMultiplyHigh(a0, b0) ^ s1);
+      output[outputOff + i + 1] = mix((a1 * b1) ^ s0, unsignedMultiplyHigh(a1, b1) ^ s1);
+      output[outputOff + i + 2] = mix((a2 * b2) ^ s0, unsignedMultiplyHigh(a2, b2) ^ s1);
+      output[outputOff + i + 3] = mix((a3 * b3) ^ s0, unsignedMultiplyHigh(a3, b3) ^ s1);
+    }
+    for (; i < len; ++i) {
+      long v = input[inputOff + i];
+      long a = Long.rotateLeft(v, 32) ^ s1;
+      long b = v ^ s;
+      output[outputOff + i] = mix((a * b) ^ s0, unsignedMultiplyHigh(a, b) ^ s1);
+    }
+  }
+
   @Override
   public boolean equals(Object obj) {
     if (this == obj) return true;
@@ -373,7 +373,21 @@ final class XXH3_128 extends XXH3Base implements AbstractHasher128 {
     long acc7 = INIT_ACC_7;
 
     final int nbBlocks = (length - 1) >>> BLOCK_LEN_EXP;
-    for (int n = 0; n < nbBlocks; n++) {
+    int n = 0;
+    if (nbBlocks > 0 && XXH3VectorUtil.isAvailable()) {
+      long[] acc = {acc0, acc1, acc2, acc3, acc4, acc5, acc6, acc7};
+      XXH3VectorUtil.accumulateBlocks(input, off, nbBlocks, secret, acc);
+      acc0 = acc[0];
+      acc1 = acc[1];
+      acc2 = acc[2];
+      acc3 = acc[3];
+      acc4 = acc[4];
+      acc5 = acc[5];
+      acc6 = acc[6];
+      acc7 = acc[7];
+      n = nbBlocks;
+    }
+    for (; n < nbBlocks; n++) {
       final int offBlock = off + (n << BLOCK_LEN_EXP);
       for (int s = 0; s < 16; s += 1) {
         int offStripe = offBlock + (s << 6);
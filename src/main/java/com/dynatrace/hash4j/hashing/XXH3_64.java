@@ -317,7 +317,21 @@ final class XXH3_64 extends XXH3Base {
     long acc7 = INIT_ACC_7;
 
     final int nbBlocks = (length - 1) >>> BLOCK_LEN_EXP;
-    for (int n = 0; n < nbBlocks; n++) {
+    int n = 0;
+    if (nbBlocks > 0 && XXH3VectorUtil.isAvailable()) {
+      long[] acc = {acc0, acc1, acc2, acc3, acc4, acc5, acc6, acc7};
+      XXH3VectorUtil.accumulateBlocks(input, off, nbBlocks, secret, acc);
+      acc0 = acc[0];
+      acc1 = acc[1];
+      acc2 = acc[2];
+      acc3 = acc[3];
+      acc4 = acc[4];
+      acc5 = acc[5];
+      acc6 = acc[6];
+      acc7 = acc[7];
+      n = nbBlocks;
+    }
+    for (; n < nbBlocks; n++) {
       final int offBlock = off + (n << BLOCK_LEN_EXP);
       for (int s = 0; s < 16; s += 1) {
         int offStripe = offBlock + (s << 6);
@@ -745,6 +759,45 @@ final class XXH3_64 extends XXH3Base {
     return rrmxmx((v << 32) ^ (v >>> 32) ^ bitflip12, 8);
   }
 
+  @Override
+  public void hashIntsToLongs(int[] input, int inputOff, long[] output, int outputOff, int len) {
+    final long flip = bitflip12;
+    int i = 0;
+    for (; i <= len - 4; i += 4) {
+      long v0 = input[inputOff + i] & 0xFFFFFFFFL;
+      long v1 = input[inputOff + i + 1] & 0xFFFFFFFFL;
+      long v2 = input[inputOff + i + 2] & 0xFFFFFFFFL;
+      long v3 = input[inputOff + i + 3] & 0xFFFFFFFFL;
+      output[outputOff + i] = rrmxmx(v0 ^ (v0 << 32) ^ flip, 4);
+      output[outputOff + i + 1] = rrmxmx(v1 ^ (v1 << 32) ^ flip, 4);
+      output[outputOff + i + 2] = rrmxmx(v2 ^ (v2 << 32) ^ flip, 4);
+      output[outputOff + i + 3] = rrmxmx(v3 ^ (v3 << 32) ^ flip, 4);
+    }
+    for (; i < len; ++i) {
+      long v = input[inputOff + i] & 0xFFFFFFFFL;
+      output[outputOff + i] = rrmxmx(v ^ (v << 32) ^ flip, 4);
+    }
+  }
+
+  @Override
+  public void hashLongsToLongs(long[] input, int inputOff, long[] output, int outputOff, int len) {
+    final long flip = bitflip12;
+    int i = 0;
+    for (; i <= len - 4; i += 4) {
+      long v0 = input[inputOff + i];
+      long v1 = input[inputOff + i + 1];
+      long v2 = input[inputOff + i + 2];
+      long v3 = input[inputOff + i + 3];
+      output[outputOff + i] = rrmxmx(Long.rotateLeft(v0, 32) ^ flip, 8);
+      output[outputOff + i + 1] = rrmxmx(Long.rotateLeft(v1, 32) ^ flip, 8);
+      output[outputOff + i + 2] = rrmxmx(Long.rotateLeft(v2, 32) ^ flip, 8);
+      output[outputOff + i + 3] = rrmxmx(Long.rotateLeft(v3, 32) ^ flip, 8);
+    }
+    for (; i < len; ++i) {
+      output[outputOff + i] = rrmxmx(Long.rotateLeft(input[inputOff + i], 32) ^ flip, 8);
+    }
+  }
+
   @Override
   public long hashLongLongToLong(long v1, long v2) {
     long lo = v1 ^ bitflip34;
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.internal;
+
+/**
+ * Utility class for the variable-length encoding of 32-bit integers.
+ *
+ * <p>Values are interpreted as unsigned integers and encoded in little-endian groups of 7 bits,
+ * where the most significant bit of each byte indicates that further bytes follow.
+ *
+ * <p>As an internal package it is not intended for general use.
+ */
+public final class VarIntUtil {
+
+  private VarIntUtil() {}
+
+  /**
+   * Returns the number of bytes needed for the variable-length encoding of the given value
+   * interpreted as unsigned integer.
+   *
+   * @param value the value
+   * @return the number of bytes in the range [1, 5]
+   */
+  public static int getVarIntLength(int value) {
+    return (38 - Integer.numberOfLeadingZeros(value | 1)) / 7;
+  }
+
+  /**
+   * Writes the variable-length encoding of the given value interpreted as unsigned integer.
+   *
+   * @param b a byte array
+   * @param off the offset of the first written byte
+   * @param value the value
+   * @return the offset after the written bytes
+   */
+  public static int putVarInt(byte[] b, int off, int value) {
+    while ((value & 0xFFFFFF80) != 0) {
+      b[off++] = (byte) (value | 0x80);
+      value >>>= 7;
+    }
+    b[off++] = (byte) value;
+    return off;
+  }
+
+  /**
+   * A reader of variable-length encoded values that throws an {@link IllegalArgumentException} with
+   * a given message, if the data is invalid.
+   */
+  public static final class Reader {
+    private final byte[] data;
+    private final String exceptionMessage;
+    private int off;
+
+    /**
+     * Constructor.
+     *
+     * @param data a byte array
+     * @param off the offset of the first value
+     * @param exceptionMessage the message of thrown exceptions
+     */
+    public Reader(byte[] data, int off, String exceptionMessage) {
+      this.data = data;
+      this.off = off;
+      this.exceptionMessage = exceptionMessage;
+    }
+
+    /**
+     * Reads the next value interpreted as unsigned integer.
+     *
+     * @return the value
+     * @throws IllegalArgumentException if the data ends prematurely or if the encoded value exceeds
+     *     32 bits
+     */
+    public int next() {
+      int value = 0;
+      int shift = 0;
+      byte b;
+      do {
+        if (off >= data.length || shift > 28) {
+          throw new IllegalArgumentException(exceptionMessage);
+        }
+        b = data[off++];
+        value |= (b & 0x7F) << shift;
+        shift += 7;
+      } while (b < 0);
+      if (shift == 35 && (b & 0x70) != 0) {
+        throw new IllegalArgumentException(exceptionMessage);
+      }
+      return value;
+    }
+
+    /**
+     * Reads the next value, which must be non-negative.
+     *
+     * @return the value
+     * @throws IllegalArgumentException if the data is invalid or the value is negative
+     */
+    public int nextNonNegative() {
+      int value = next();
+      if (value < 0) {
+        throw new IllegalArgumentException(exceptionMessage);
+      }
+      return value;
+    }
+
+    /**
+     * Reads the next value as count of subsequent values, which is bounded by the number of
+     * remaining bytes.
+     *
+     * @return the count
+     * @throws IllegalArgumentException if the data is invalid or the count exceeds the number of
+     *     remaining bytes
+     */
+    public int nextCount() {
+      int count = nextNonNegative();
+      if (count > data.length - off) {
+        throw new IllegalArgumentException(exceptionMessage);
+      }
+      return count;
+    }
+
+    /**
+     * Reads the next byte, which is not variable-length encoded.
+     *
+     * @return the byte interpreted as unsigned value
+     * @throws IllegalArgumentException if the data ends prematurely
+     */
+    public int nextUnsignedByte() {
+      if (off >= data.length) {
+        throw new IllegalArgumentException(exceptionMessage);
+      }
+      return data[off++] & 0xFF;
+    }
+
+    /**
+     * Returns {@code true} if all bytes have been read.
+     *
+     * @return {@code true} if all bytes have been read
+     */
+    public boolean isAtEnd() {
+      return off >= data.length;
+    }
+  }
+}
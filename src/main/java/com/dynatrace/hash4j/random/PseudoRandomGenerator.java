@@ -15,6 +15,8 @@
  */
 package com.dynatrace.hash4j.random;
 
+import static java.util.Objects.checkFromIndexSize;
+
 /** A pseudo-random generator. */
 public interface PseudoRandomGenerator {
 
@@ -75,4 +77,82 @@ public interface PseudoRandomGenerator {
    * @return a random value
    */
   double nextExponential();
+
+  /**
+   * Fills a range of the given array with random uniformly distributed 64-bit {@code long} values.
+   *
+   * <p>Equivalent to {@code for (int i = 0; i < len; ++i) dst[off + i] = nextLong();}, but may be
+   * implemented more efficiently.
+   *
+   * @param dst the destination array
+   * @param off the index of the first value to be written
+   * @param len the number of values to be written
+   * @throws IndexOutOfBoundsException if the range is out of bounds of the array
+   */
+  default void nextLongs(long[] dst, int off, int len) {
+    checkFromIndexSize(off, len, dst.length);
+    for (int i = 0; i < len; ++i) {
+      dst[off + i] = nextLong();
+    }
+  }
+
+  /**
+   * Fills a range of the given array with random uniformly distributed {@code double} values in the
+   * range [0, 1).
+   *
+   * <p>Equivalent to {@code for (int i = 0; i < len; ++i) dst[off + i] = nextDouble();}, but may be
+   * implemented more efficiently.
+   *
+   * @param dst the destination array
+   * @param off the index of the first value to be written
+   * @param len the number of values to be written
+   * @throws IndexOutOfBoundsException if the range is out of bounds of the array
+   */
+  default void nextDoubles(double[] dst, int off, int len) {
+    checkFromIndexSize(off, len, dst.length);
+    for (int i = 0; i < len; ++i) {
+      dst[off + i] = nextDouble();
+    }
+  }
+
+  /**
+   * Fills a range of the given array with exponentially distributed {@code double} values with mean
+   * 1.
+   *
+   * <p>Equivalent to {@code for (int i = 0; i < len; ++i) dst[off + i] = nextExponential();}, but
+   * may be implemented more efficiently.
+   *
+   * @param dst the destination array
+   * @param off the index of the first value to be written
+   * @param len the number of values to be written
+   * @throws IndexOutOfBoundsException if the range is out of bounds of the array
+   */
+  default void nextExponentials(double[] dst, int off, int len) {
+    checkFromIndexSize(off, len, dst.length);
+    for (int i = 0; i < len; ++i) {
+      dst[off + i] = nextExponential();
+    }
+  }
+
+  /**
+   * Fills a range of the given array with random uniformly distributed 32-bit {@code int} values
+   * greater than or equal to 0 and less than the given upper bound.
+   *
+   * <p>Equivalent to {@code for (int i = 0; i < len; ++i) dst[off + i] =
+   * uniformInt(exclusiveBound);}, but may be implemented more efficiently.
+   *
+   * <p>The behavior is undefined, if the given upper bound is non-positive.
+   *
+   * @param exclusiveBound the (exclusive) upper bound (must be positive)
+   * @param dst the destination array
+   * @param off the index of the first value to be written
+   * @param len the number of values to be written
+   * @throws IndexOutOfBoundsException if the range is out of bounds of the array
+   */
+  default void uniformInts(int exclusiveBound, int[] dst, int off, int len) {
+    checkFromIndexSize(off, len, dst.length);
+    for (int i = 0; i < len; ++i) {
+      dst[off + i] = uniformInt(exclusiveBound);
+    }
+  }
 }
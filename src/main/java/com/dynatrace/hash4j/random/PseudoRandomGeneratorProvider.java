@@ -43,4 +43,44 @@ public interface PseudoRandomGeneratorProvider {
   static PseudoRandomGeneratorProvider splitMix64_V1() {
     return SplitMix64V1::new;
   }
+
+  /**
+   * Returns a {@link PseudoRandomGeneratorProvider} based on the wyrand algorithm.
+   *
+   * <p>Like SplitMix64, the state consists of a single 64-bit value that is directly set by the
+   * seed, but the output function is cheaper on platforms with a fast 64x64 to 128-bit
+   * multiplication.
+   *
+   * @return a {@link PseudoRandomGeneratorProvider}
+   */
+  static PseudoRandomGeneratorProvider wyRand_V1() {
+    return WyRandV1::new;
+  }
+
+  /**
+   * Returns a {@link PseudoRandomGeneratorProvider} based on the xoroshiro128++ algorithm.
+   *
+   * <p>The 128-bit state is initialized from the seed using SplitMix64, which makes resetting more
+   * expensive than for the other generators. Therefore, this generator is best suited for long
+   * sequences of values generated from the same seed.
+   *
+   * @return a {@link PseudoRandomGeneratorProvider}
+   */
+  static PseudoRandomGeneratorProvider xoroshiro128PlusPlus_V1() {
+    return Xoroshiro128PlusPlusV1::new;
+  }
+
+  /**
+   * Returns a {@link PseudoRandomGeneratorProvider} based on the counter-based Squares algorithm.
+   *
+   * <p>The seed is used as initial value of a 64-bit counter, and the n-th value is computed from
+   * the counter value {@code seed + n} only. Hence, resetting is trivial and the n-th value after
+   * {@code reset(seed)} equals the first value after {@code reset(seed + n)}, which allows jumping
+   * ahead in constant time.
+   *
+   * @return a {@link PseudoRandomGeneratorProvider}
+   */
+  static PseudoRandomGeneratorProvider squares64_V1() {
+    return Squares64V1::new;
+  }
 }
@@ -586,9 +586,14 @@ final class RandomExponentialUtil {
 
   // use of strictfp to make random values platform-independent
   public static strictfp double exponential(PseudoRandomGenerator prg) {
+    return exponential(prg, prg.nextLong());
+  }
+
+  // continues the generation of an exponentially distributed value, for which the given random
+  // value was already drawn as first random value
+  static strictfp double exponential(PseudoRandomGenerator prg, long randomLong) {
     double shift = 0;
-    for (; ; ) {
-      long randomLong = prg.nextLong();
+    for (; ; randomLong = prg.nextLong()) {
       int i = (int) randomLong & 0xFF;
       double x = (randomLong >>> 11) * 0x1.0p-53 * X[i];
       if (x < X[i + 1]) {
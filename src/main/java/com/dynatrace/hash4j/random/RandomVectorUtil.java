@@ -0,0 +1,31 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.random;
+
+final class RandomVectorUtil {
+
+  private RandomVectorUtil() {}
+
+  static boolean isAvailable() {
+    return false;
+  }
+
+  @SuppressWarnings("DoNotCallSuggester")
+  static int splitMix64(long state, long[] dst, int off, int len) {
+    throw new UnsupportedOperationException(
+        "This function must not be called in Java versions smaller than 25.");
+  }
+}
@@ -28,21 +28,104 @@
  */
 package com.dynatrace.hash4j.random;
 
+import static java.util.Objects.checkFromIndexSize;
+
 final class SplitMix64V1 extends AbstractPseudoRandomGenerator {
 
+  static final long GAMMA = 0x9e3779b97f4a7c15L;
+
+  // the minimum number of values for which the vectorized implementation is used
+  private static final int MIN_VECTORIZED_LENGTH = 16;
+
   private long state;
 
   SplitMix64V1() {}
 
-  @Override
-  public long nextLong() {
-    state += 0x9e3779b97f4a7c15L;
-    long z = state;
+  static long mix(long z) {
     z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
     z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
     return z ^ (z >>> 31);
   }
 
+  @Override
+  public long nextLong() {
+    state += GAMMA;
+    return mix(state);
+  }
+
+  // the i-th value only depends on state + (i + 1) * GAMMA, hence all values can be computed
+  // independently of each other
+  @Override
+  public void nextLongs(long[] dst, int off, int len) {
+    checkFromIndexSize(off, len, dst.length);
+    int i = 0;
+    if (len >= MIN_VECTORIZED_LENGTH && RandomVectorUtil.isAvailable()) {
+      i = RandomVectorUtil.splitMix64(state, dst, off, len);
+    }
+    long s = state + i * GAMMA;
+    for (; i < len; ++i) {
+      s += GAMMA;
+      dst[off + i] = mix(s);
+    }
+    state = s;
+  }
+
+  @Override
+  public void nextDoubles(double[] dst, int off, int len) {
+    checkFromIndexSize(off, len, dst.length);
+    long s = state;
+    for (int i = 0; i < len; ++i) {
+      s += GAMMA;
+      dst[off + i] = (mix(s) >>> 11) * 0x1.0p-53;
+    }
+    state = s;
+  }
+
+  // the fast path of RandomExponentialUtil.exponential, which accepts the first random value in
+  // most cases, is evaluated inline, rejections are delegated to the scalar implementation
+  @Override
+  public strictfp void nextExponentials(double[] dst, int off, int len) {
+    checkFromIndexSize(off, len, dst.length);
+    long s = state;
+    for (int k = 0; k < len; ++k) {
+      s += GAMMA;
+      long randomLong = mix(s);
+      int i = (int) randomLong & 0xFF;
+      double x = (randomLong >>> 11) * 0x1.0p-53 * RandomExponentialUtil.X[i];
+      if (x < RandomExponentialUtil.X[i + 1]) {
+        dst[off + k] = x;
+      } else {
+        state = s;
+        dst[off + k] = RandomExponentialUtil.exponential(this, randomLong);
+        s = state;
+      }
+    }
+    state = s;
+  }
+
+  // see AbstractPseudoRandomGenerator.uniformInt
+  @Override
+  public void uniformInts(int exclusiveBound, int[] dst, int off, int len) {
+    checkFromIndexSize(off, len, dst.length);
+    long bound = exclusiveBound;
+    long s = state;
+    for (int k = 0; k < len; ++k) {
+      s += GAMMA;
+      long m = (mix(s) & 0xFFFFFFFFL) * bound;
+      long l = m & 0xFFFFFFFFL;
+      if (l < bound) {
+        long t = 0x100000000L % bound;
+        while (l < t) {
+          s += GAMMA;
+          m = (mix(s) & 0xFFFFFFFFL) * bound;
+          l = m & 0xFFFFFFFFL;
+        }
+      }
+      dst[off + k] = (int) (m >>> 32);
+    }
+    state = s;
+  }
+
   @Override
   public SplitMix64V1 reset(long seed) {
     this.state = seed;
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.random;
+
+import static java.util.Objects.checkFromIndexSize;
+
+// see squares64 in Widynski, Bernard. "Squares: A Fast Counter-Based RNG." arXiv preprint
+// arXiv:2004.06278 (2020).
+final class Squares64V1 extends AbstractPseudoRandomGenerator {
+
+  // a key satisfying the criteria given in the paper: all hex digits are nonzero, the digits of
+  // the upper and the lower 32 bits are pairwise distinct, respectively, and the key is odd
+  private static final long KEY = 0x86a5e2b43fe1a72bL;
+
+  private long counter;
+
+  Squares64V1() {}
+
+  static long squares64(long counter) {
+    long y = counter * KEY;
+    long z = y + KEY;
+    long x = y;
+    x = Long.rotateLeft(x * x + y, 32);
+    x = Long.rotateLeft(x * x + z, 32);
+    x = Long.rotateLeft(x * x + y, 32);
+    long t = x * x + z;
+    x = Long.rotateLeft(t, 32);
+    return t ^ ((x * x + y) >>> 32);
+  }
+
+  @Override
+  public long nextLong() {
+    return squares64(counter++);
+  }
+
+  @Override
+  public void nextLongs(long[] dst, int off, int len) {
+    checkFromIndexSize(off, len, dst.length);
+    long c = counter;
+    for (int i = 0; i < len; ++i) {
+      dst[off + i] = squares64(c + i);
+    }
+    counter = c + len;
+  }
+
+  // the seed is used as the initial counter, the n-th value after reset(seed) is therefore equal
+  // to the first value after reset(seed + n)
+  @Override
+  public Squares64V1 reset(long seed) {
+    this.counter = seed;
+    return this;
+  }
+}
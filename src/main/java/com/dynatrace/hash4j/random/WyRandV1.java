@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ * The implementation in this file is based on the implementation of wyrand published
+ * at https://github.com/wangyi-fudan/wyhash under the following license:
+ *
+ * This is free and unencumbered software released into the public domain under The Unlicense
+ * (http://unlicense.org/)
+ */
+package com.dynatrace.hash4j.random;
+
+import static com.dynatrace.hash4j.internal.UnsignedMultiplyUtil.unsignedMultiplyHigh;
+import static java.util.Objects.checkFromIndexSize;
+
+final class WyRandV1 extends AbstractPseudoRandomGenerator {
+
+  private static final long INCREMENT = 0xa0761d6478bd642fL;
+  private static final long XOR = 0xe7037ed1a0b428dbL;
+
+  private long state;
+
+  WyRandV1() {}
+
+  private static long mix(long s) {
+    long t = s ^ XOR;
+    return (s * t) ^ unsignedMultiplyHigh(s, t);
+  }
+
+  @Override
+  public long nextLong() {
+    state += INCREMENT;
+    return mix(state);
+  }
+
+  @Override
+  public void nextLongs(long[] dst, int off, int len) {
+    checkFromIndexSize(off, len, dst.length);
+    long s = state;
+    for (int i = 0; i < len; ++i) {
+      s += INCREMENT;
+      dst[off + i] = mix(s);
+    }
+    state = s;
+  }
+
+  @Override
+  public WyRandV1 reset(long seed) {
+    this.state = seed;
+    return this;
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ * The implementation in this file is based on the implementation published
+ * at https://prng.di.unimi.it/xoroshiro128plusplus.c under the following license:
+ *
+ * Written in 2019 by David Blackman and Sebastiano Vigna (vigna@acm.org)
+ *
+ * To the extent possible under law, the author has dedicated all copyright
+ * and related and neighboring rights to this software to the public domain
+ * worldwide. This software is distributed without any warranty.
+ *
+ * See <http://creativecommons.org/publicdomain/zero/1.0/>.
+ */
+package com.dynatrace.hash4j.random;
+
+final class Xoroshiro128PlusPlusV1 extends AbstractPseudoRandomGenerator {
+
+  private long s0;
+  private long s1;
+
+  Xoroshiro128PlusPlusV1() {}
+
+  @Override
+  public long nextLong() {
+    long x0 = s0;
+    long x1 = s1;
+    long result = Long.rotateLeft(x0 + x1, 17) + x0;
+    x1 ^= x0;
+    s0 = Long.rotateLeft(x0, 49) ^ x1 ^ (x1 << 21);
+    s1 = Long.rotateLeft(x1, 28);
+    return result;
+  }
+
+  // the state is initialized with the first two outputs of SplitMix64 as recommended by the
+  // authors, which guarantees that the state is never all zero
+  @Override
+  public Xoroshiro128PlusPlusV1 reset(long seed) {
+    s0 = SplitMix64V1.mix(seed + SplitMix64V1.GAMMA);
+    s1 = SplitMix64V1.mix(seed + 2 * SplitMix64V1.GAMMA);
+    return this;
+  }
+}
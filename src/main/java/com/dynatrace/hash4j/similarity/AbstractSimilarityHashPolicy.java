@@ -77,4 +77,17 @@ abstract class AbstractSimilarityHashPolicy implements SimilarityHashPolicy {
   public double getFractionOfEqualComponents(byte[] signature1, byte[] signature2) {
     return getNumberOfEqualComponents(signature1, signature2) / (double) numberOfComponents;
   }
+
+  // Returns true if both policies compute the same signatures. Pseudo-random generator providers
+  // are usually method references like SplitMix64V1::new, which are considered equivalent if they
+  // are of the same class, as new instances may be returned for each call.
+  boolean isEquivalent(AbstractSimilarityHashPolicy other) {
+    return this == other
+        || (getClass() == other.getClass()
+            && numberOfComponents == other.numberOfComponents
+            && getComponentSizeInBits() == other.getComponentSizeInBits()
+            && (pseudoRandomGeneratorProvider.equals(other.pseudoRandomGeneratorProvider)
+                || pseudoRandomGeneratorProvider.getClass()
+                    == other.pseudoRandomGeneratorProvider.getClass()));
+  }
 }
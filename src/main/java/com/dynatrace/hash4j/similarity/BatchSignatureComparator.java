@@ -0,0 +1,455 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import static com.dynatrace.hash4j.internal.ByteArrayUtil.getLong;
+import static com.dynatrace.hash4j.internal.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+/**
+ * Compares hash signatures in batches.
+ *
+ * <p>Signature blocks are contiguous sequences of hash signatures of the same policy, each of size
+ * {@link SimilarityHashPolicy#getSignatureSizeInBytes()}. Blocks can be given as {@code byte}
+ * arrays on the Java heap or, for Java 25 and later, as {@code java.lang.foreign.MemorySegment}.
+ *
+ * <p>If the component size is a power of two, all components within 8 bytes are compared at once by
+ * folding the bits of each component of the XOR of both signatures into its lowest bit and counting
+ * the set bits. If the Vector API is available (see {@code jdk.incubator.vector}), multiple such
+ * words are processed in parallel. Other component sizes fall back to {@link
+ * SimilarityHashPolicy#getNumberOfEqualComponents(byte[], byte[])}.
+ *
+ * <p>This class is thread-safe.
+ */
+public final class BatchSignatureComparator {
+
+  // number of signatures compared at once when searching for the most similar signatures
+  private static final int CHUNK_SIZE = 1024;
+
+  // signatures of a block of the second argument that are compared against all signatures of the
+  // first argument before moving on, keeps them in the cache
+  private static final int TILE_SIZE = 256;
+
+  private final SimilarityHashPolicy policy;
+  private final int numberOfComponents;
+  private final int signatureSizeInBytes;
+  private final int bitSize;
+
+  // true, if components do not cross the boundaries of 64-bit words
+  private final boolean isFoldable;
+
+  // the lowest bit of each component within a 64-bit word
+  private final long lowBits;
+
+  // number of bytes of full 64-bit words, and the mask of the valid bits of the remaining bytes
+  private final int numFullWordBytes;
+  private final long tailMask;
+
+  private BatchSignatureComparator(SimilarityHashPolicy policy) {
+    this.policy = policy;
+    this.numberOfComponents = policy.getNumberOfComponents();
+    this.signatureSizeInBytes = policy.getSignatureSizeInBytes();
+    this.bitSize = policy.getComponentSizeInBits();
+    this.isFoldable = Integer.bitCount(bitSize) == 1;
+    this.lowBits = isFoldable ? getLowBits(bitSize) : 0;
+    long numBits = (long) numberOfComponents * bitSize;
+    this.numFullWordBytes = (int) ((numBits >>> 6) << 3);
+    this.tailMask = (1L << (numBits & 0x3F)) - 1;
+  }
+
+  /**
+   * Creates a comparator for hash signatures of the given policy.
+   *
+   * @param policy the similarity hash policy that was used to compute the signatures
+   * @return a new comparator
+   */
+  public static BatchSignatureComparator create(SimilarityHashPolicy policy) {
+    requireNonNull(policy);
+    return new BatchSignatureComparator(policy);
+  }
+
+  static long getLowBits(int bitSize) {
+    long lowBits = 1;
+    for (int shift = bitSize; shift < 64; shift <<= 1) {
+      lowBits |= lowBits << shift;
+    }
+    return lowBits;
+  }
+
+  /**
+   * Returns the size of a signature in bytes.
+   *
+   * @return the signature size
+   */
+  public int getSignatureSizeInBytes() {
+    return signatureSizeInBytes;
+  }
+
+  /**
+   * Returns the number of signatures contained in the given signature block.
+   *
+   * @param signatures the signature block
+   * @return the number of signatures
+   * @throws IllegalArgumentException if the length of the block is not a multiple of the signature
+   *     size
+   */
+  public int getNumberOfSignatures(byte[] signatures) {
+    requireNonNull(signatures);
+    checkArgument(
+        signatures.length % signatureSizeInBytes == 0, "Signature block has unexpected size!");
+    return signatures.length / signatureSizeInBytes;
+  }
+
+  /**
+   * Returns the number of signatures contained in the given signature block.
+   *
+   * @param signatures the signature block given as {@code java.lang.foreign.MemorySegment}
+   * @return the number of signatures
+   * @throws UnsupportedOperationException if this function is called by Java versions smaller than
+   *     25
+   * @throws IllegalArgumentException if the argument is not a {@code
+   *     java.lang.foreign.MemorySegment}, if the size of the block is not a multiple of the
+   *     signature size, or if the block contains more than {@link Integer#MAX_VALUE} signatures
+   */
+  @Generated(reason = "FFMUtil might throw exceptions")
+  public int getNumberOfSignatures(Object signatures) {
+    return FFMUtil.getNumberOfSignatures(signatures, signatureSizeInBytes);
+  }
+
+  private void checkQuery(byte[] query) {
+    requireNonNull(query);
+    checkArgument(query.length == signatureSizeInBytes, "Signature has unexpected size!");
+  }
+
+  private static void checkResult(int[] result, long minLength) {
+    requireNonNull(result);
+    checkArgument(result.length >= minLength, "Result array is too small!");
+  }
+
+  /**
+   * Computes the number of equal components of the query signature and each signature of the given
+   * block.
+   *
+   * <p>The number of equal components with the {@code i}-th signature of the block is written to
+   * {@code result[i]}.
+   *
+   * @param query the query signature
+   * @param signatures the signature block
+   * @param result the array receiving the number of equal components
+   * @throws IllegalArgumentException if the query signature or the signature block have an
+   *     unexpected size, or if the result array is too small
+   */
+  public void compareOneToMany(byte[] query, byte[] signatures, int[] result) {
+    checkQuery(query);
+    int numSignatures = getNumberOfSignatures(signatures);
+    checkResult(result, numSignatures);
+    compare(query, 0, signatures, 0, numSignatures, result, 0);
+  }
+
+  /**
+   * Computes the number of equal components of the query signature and each signature of the given
+   * block.
+   *
+   * <p>The number of equal components with the {@code i}-th signature of the block is written to
+   * {@code result[i]}.
+   *
+   * @param query the query signature
+   * @param signatures the signature block given as {@code java.lang.foreign.MemorySegment}
+   * @param result the array receiving the number of equal components
+   * @throws UnsupportedOperationException if this function is called by Java versions smaller than
+   *     25
+   * @throws IllegalArgumentException if the query signature or the signature block have an
+   *     unexpected size, if the result array is too small, or if the argument is not a {@code
+   *     java.lang.foreign.MemorySegment}
+   */
+  @Generated(reason = "FFMUtil might throw exceptions")
+  public void compareOneToMany(byte[] query, Object signatures, int[] result) {
+    checkQuery(query);
+    int numSignatures = getNumberOfSignatures(signatures);
+    checkResult(result, numSignatures);
+    FFMUtil.compare(this, query, 0, signatures, 0, numSignatures, result, 0);
+  }
+
+  /**
+   * Computes the number of equal components of all pairs of signatures of both given blocks.
+   *
+   * <p>The number of equal components of the {@code i}-th signature of the first block and the
+   * {@code j}-th signature of the second block is written to {@code result[i * n + j]}, where
+   * {@code n} denotes the number of signatures of the second block.
+   *
+   * @param signatures1 the first signature block
+   * @param signatures2 the second signature block
+   * @param result the array receiving the number of equal components
+   * @throws IllegalArgumentException if a signature block has an unexpected size, or if the result
+   *     array is too small
+   */
+  public void compareManyToMany(byte[] signatures1, byte[] signatures2, int[] result) {
+    int numSignatures1 = getNumberOfSignatures(signatures1);
+    int numSignatures2 = getNumberOfSignatures(signatures2);
+    checkResult(result, (long) numSignatures1 * numSignatures2);
+    for (int from = 0; from < numSignatures2; from += TILE_SIZE) {
+      int to = Math.min(from + TILE_SIZE, numSignatures2);
+      for (int i = 0; i < numSignatures1; ++i) {
+        compare(
+            signatures1,
+            i * signatureSizeInBytes,
+            signatures2,
+            from,
+            to,
+            result,
+            i * numSignatures2 + from);
+      }
+    }
+  }
+
+  /**
+   * Computes the number of equal components of all pairs of signatures of both given blocks.
+   *
+   * <p>The number of equal components of the {@code i}-th signature of the first block and the
+   * {@code j}-th signature of the second block is written to {@code result[i * n + j]}, where
+   * {@code n} denotes the number of signatures of the second block.
+   *
+   * @param signatures1 the first signature block given as {@code java.lang.foreign.MemorySegment}
+   * @param signatures2 the second signature block given as {@code java.lang.foreign.MemorySegment}
+   * @param result the array receiving the number of equal components
+   * @throws UnsupportedOperationException if this function is called by Java versions smaller than
+   *     25
+   * @throws IllegalArgumentException if a signature block has an unexpected size, if the result
+   *     array is too small, or if an argument is not a {@code java.lang.foreign.MemorySegment}
+   */
+  @Generated(reason = "FFMUtil might throw exceptions")
+  public void compareManyToMany(Object signatures1, Object signatures2, int[] result) {
+    int numSignatures1 = getNumberOfSignatures(signatures1);
+    int numSignatures2 = getNumberOfSignatures(signatures2);
+    checkResult(result, (long) numSignatures1 * numSignatures2);
+    byte[] query = new byte[signatureSizeInBytes];
+    for (int from = 0; from < numSignatures2; from += TILE_SIZE) {
+      int to = Math.min(from + TILE_SIZE, numSignatures2);
+      for (int i = 0; i < numSignatures1; ++i) {
+        FFMUtil.copySignature(signatures1, i, query);
+        FFMUtil.compare(this, query, 0, signatures2, from, to, result, i * numSignatures2 + from);
+      }
+    }
+  }
+
+  /**
+   * Returns the indices of the {@code k} signatures of the given block that have the most
+   * components in common with the query signature.
+   *
+   * <p>The indices are ordered by decreasing number of equal components. Ties are resolved in favor
+   * of smaller indices. If the block contains less than {@code k} signatures, the indices of all
+   * signatures are returned.
+   *
+   * @param query the query signature
+   * @param signatures the signature block
+   * @param k the maximum number of returned indices
+   * @return the indices of the most similar signatures
+   * @throws IllegalArgumentException if the query signature or the signature block have an
+   *     unexpected size, or if {@code k} is negative
+   */
+  public int[] findMostSimilar(byte[] query, byte[] signatures, int k) {
+    checkQuery(query);
+    int numSignatures = getNumberOfSignatures(signatures);
+    checkArgument(k >= 0, "k must be non-negative!");
+    return findMostSimilar(
+        numSignatures,
+        k,
+        (from, to, result) -> compare(query, 0, signatures, from, to, result, 0));
+  }
+
+  /**
+   * Returns the indices of the {@code k} signatures of the given block that have the most
+   * components in common with the query signature.
+   *
+   * <p>The indices are ordered by decreasing number of equal components. Ties are resolved in favor
+   * of smaller indices. If the block contains less than {@code k} signatures, the indices of all
+   * signatures are returned.
+   *
+   * @param query the query signature
+   * @param signatures the signature block given as {@code java.lang.foreign.MemorySegment}
+   * @param k the maximum number of returned indices
+   * @return the indices of the most similar signatures
+   * @throws UnsupportedOperationException if this function is called by Java versions smaller than
+   *     25
+   * @throws IllegalArgumentException if the query signature or the signature block have an
+   *     unexpected size, if {@code k} is negative, or if the argument is not a {@code
+   *     java.lang.foreign.MemorySegment}
+   */
+  @Generated(reason = "FFMUtil might throw exceptions")
+  public int[] findMostSimilar(byte[] query, Object signatures, int k) {
+    checkQuery(query);
+    int numSignatures = getNumberOfSignatures(signatures);
+    checkArgument(k >= 0, "k must be non-negative!");
+    return findMostSimilar(
+        numSignatures,
+        k,
+        (from, to, result) -> FFMUtil.compare(this, query, 0, signatures, from, to, result, 0));
+  }
+
+  @FunctionalInterface
+  private interface ChunkComparator {
+    void compare(int from, int to, int[] result);
+  }
+
+  private static int[] findMostSimilar(int numSignatures, int k, ChunkComparator comparator) {
+    k = Math.min(k, numSignatures);
+    if (k == 0) return new int[0];
+    // min-heap of the k best candidates, the number of equal components is stored in the upper 32
+    // bits, the complement of the index in the lower 32 bits, so that smaller indices win ties
+    long[] heap = new long[k];
+    int heapSize = 0;
+    int[] counts = new int[Math.min(CHUNK_SIZE, numSignatures)];
+    for (int from = 0; from < numSignatures; from += CHUNK_SIZE) {
+      int to = Math.min(from + CHUNK_SIZE, numSignatures);
+      comparator.compare(from, to, counts);
+      for (int i = from; i < to; ++i) {
+        long key = ((long) counts[i - from] << 32) | (~i & 0xFFFFFFFFL);
+        if (heapSize < k) {
+          heap[heapSize] = key;
+          siftUp(heap, heapSize);
+          heapSize += 1;
+        } else if (key > heap[0]) {
+          heap[0] = key;
+          siftDown(heap, k);
+        }
+      }
+    }
+    Arrays.sort(heap);
+    int[] indices = new int[k];
+    for (int i = 0; i < k; ++i) {
+      indices[i] = ~(int) heap[k - 1 - i];
+    }
+    return indices;
+  }
+
+  private static void siftUp(long[] heap, int idx) {
+    long key = heap[idx];
+    while (idx > 0) {
+      int parentIdx = (idx - 1) >>> 1;
+      if (heap[parentIdx] <= key) break;
+      heap[idx] = heap[parentIdx];
+      idx = parentIdx;
+    }
+    heap[idx] = key;
+  }
+
+  private static void siftDown(long[] heap, int size) {
+    long key = heap[0];
+    int idx = 0;
+    while (true) {
+      int childIdx = 2 * idx + 1;
+      if (childIdx >= size) break;
+      if (childIdx + 1 < size && heap[childIdx + 1] < heap[childIdx]) childIdx += 1;
+      if (key <= heap[childIdx]) break;
+      heap[idx] = heap[childIdx];
+      idx = childIdx;
+    }
+    heap[idx] = key;
+  }
+
+  int getNumberOfComponents() {
+    return numberOfComponents;
+  }
+
+  int getBitSize() {
+    return bitSize;
+  }
+
+  boolean isFoldable() {
+    return isFoldable;
+  }
+
+  long getLowBits() {
+    return lowBits;
+  }
+
+  int getNumFullWordBytes() {
+    return numFullWordBytes;
+  }
+
+  long getTailMask() {
+    return tailMask;
+  }
+
+  SimilarityHashPolicy getPolicy() {
+    return policy;
+  }
+
+  // returns the number of components of the given word that are not zero
+  static int countNonZeroComponents(long x, int bitSize, long lowBits) {
+    for (int shift = 1; shift < bitSize; shift <<= 1) {
+      x |= x >>> shift;
+    }
+    return Long.bitCount(x & lowBits);
+  }
+
+  // compares the query signature at the given offset with the signatures [from, to) of the block
+  // and writes the number of equal components to result starting at resultOff
+  private void compare(
+      byte[] query,
+      int queryOff,
+      byte[] signatures,
+      int from,
+      int to,
+      int[] result,
+      int resultOff) {
+    if (!isFoldable) {
+      byte[] querySignature = Arrays.copyOfRange(query, queryOff, queryOff + signatureSizeInBytes);
+      byte[] signature = new byte[signatureSizeInBytes];
+      for (int i = from; i < to; ++i) {
+        System.arraycopy(signatures, i * signatureSizeInBytes, signature, 0, signatureSizeInBytes);
+        result[resultOff + i - from] = policy.getNumberOfEqualComponents(querySignature, signature);
+      }
+      return;
+    }
+    int processedBytes = 0;
+    if (SimilarityVectorUtil.isAvailable()) {
+      processedBytes =
+          SimilarityVectorUtil.countNonZeroComponents(
+              query,
+              queryOff,
+              signatures,
+              from * signatureSizeInBytes,
+              to - from,
+              signatureSizeInBytes,
+              numFullWordBytes,
+              bitSize,
+              lowBits,
+              result,
+              resultOff);
+    }
+    for (int i = from; i < to; ++i) {
+      int off = i * signatureSizeInBytes;
+      int numNonZeroComponents = (processedBytes > 0) ? result[resultOff + i - from] : 0;
+      for (int p = processedBytes; p < numFullWordBytes; p += 8) {
+        numNonZeroComponents +=
+            countNonZeroComponents(
+                getLong(query, queryOff + p) ^ getLong(signatures, off + p), bitSize, lowBits);
+      }
+      if (numFullWordBytes < signatureSizeInBytes) {
+        long x = 0;
+        for (int p = numFullWordBytes; p < signatureSizeInBytes; ++p) {
+          long b = (query[queryOff + p] ^ signatures[off + p]) & 0xFFL;
+          x |= b << ((p - numFullWordBytes) << 3);
+        }
+        numNonZeroComponents += countNonZeroComponents(x & tailMask, bitSize, lowBits);
+      }
+      result[resultOff + i - from] = numberOfComponents - numNonZeroComponents;
+    }
+  }
+}
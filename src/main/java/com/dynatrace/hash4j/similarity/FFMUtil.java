@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+final class FFMUtil {
+
+  private FFMUtil() {}
+
+  @SuppressWarnings("DoNotCallSuggester")
+  static int getNumberOfSignatures(Object memorySegment, int signatureSize) {
+    throw new UnsupportedOperationException(
+        "This function must not be called in Java versions smaller than 25.");
+  }
+
+  @SuppressWarnings("DoNotCallSuggester")
+  static void compare(
+      BatchSignatureComparator comparator,
+      byte[] query,
+      int queryOff,
+      Object signatures,
+      int from,
+      int to,
+      int[] result,
+      int resultOff) {
+    throw new UnsupportedOperationException(
+        "This function must not be called in Java versions smaller than 25.");
+  }
+
+  @SuppressWarnings("DoNotCallSuggester")
+  static void copySignature(Object signatures, int idx, byte[] signature) {
+    throw new UnsupportedOperationException(
+        "This function must not be called in Java versions smaller than 25.");
+  }
+}
@@ -16,11 +16,13 @@
 package com.dynatrace.hash4j.similarity;
 
 import static com.dynatrace.hash4j.internal.Preconditions.checkArgument;
+import static com.dynatrace.hash4j.internal.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
 import com.dynatrace.hash4j.random.PseudoRandomGenerator;
 import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 
 final class FastSimHashPolicy_v1 extends AbstractSimilarityHashPolicy {
 
@@ -34,6 +36,16 @@ final class FastSimHashPolicy_v1 extends AbstractSimilarityHashPolicy {
     return new Hasher();
   }
 
+  @Override
+  public IncrementalSimilarityHasher createIncrementalHasher() {
+    return new IncrementalHasher();
+  }
+
+  @Override
+  public SimilarityHasher createParallelHasher(ForkJoinPool forkJoinPool) {
+    return ParallelSimilarityHasher.ofIncrementalHashers(this, forkJoinPool);
+  }
+
   // visible for testing
   static long calculateBulkMask(int bulkConstant) {
     long mask = 1;
@@ -55,21 +67,52 @@ final class FastSimHashPolicy_v1 extends AbstractSimilarityHashPolicy {
 
   private class Hasher implements SimilarityHasher {
 
+    private final IncrementalHasher incrementalHasher = new IncrementalHasher();
+
+    @Override
+    public byte[] compute(ElementHashProvider elementHashProvider) {
+
+      requireNonNull(elementHashProvider);
+      int numberOfElements = elementHashProvider.getNumberOfElements();
+      checkArgument(numberOfElements > 0, "Number of elements must be positive!");
+
+      return incrementalHasher.reset().addAll(elementHashProvider).getSignature();
+    }
+  }
+
+  private class IncrementalHasher implements IncrementalSimilarityHasher {
+
     private final int[] counts = new int[numberOfComponents];
     private final long[] tmpCounts =
         new long[(numberOfComponents + (63 >>> (6 - BULK_CONSTANT))) >>> BULK_CONSTANT];
+    private final long[] randomValues =
+        new long[(tmpCounts.length + (0x3f >>> BULK_CONSTANT)) >>> (6 - BULK_CONSTANT)];
+
+    private int numberOfAddedElements;
 
     private final PseudoRandomGenerator pseudoRandomGenerator =
         pseudoRandomGeneratorProvider.create();
 
     @Override
-    public byte[] compute(ElementHashProvider elementHashProvider) {
+    public IncrementalSimilarityHasher add(long elementHash) {
+      pseudoRandomGenerator.reset(elementHash).nextLongs(randomValues, 0, randomValues.length);
+      // component i corresponds to the same bit as the temporary counter used by addAll
+      for (int i = 0; i < numberOfComponents; ++i) {
+        int tmpCountIdx = i >>> BULK_CONSTANT;
+        int bitIdx =
+            (tmpCountIdx & (0x3f >>> BULK_CONSTANT))
+                + ((i & ((1 << BULK_CONSTANT) - 1)) << (6 - BULK_CONSTANT));
+        counts[i] += (int) (randomValues[tmpCountIdx >>> (6 - BULK_CONSTANT)] >>> bitIdx) & 1;
+      }
+      numberOfAddedElements += 1;
+      return this;
+    }
 
+    @Override
+    public IncrementalSimilarityHasher addAll(ElementHashProvider elementHashProvider) {
       requireNonNull(elementHashProvider);
       int numberOfElements = elementHashProvider.getNumberOfElements();
-      checkArgument(numberOfElements > 0, "Number of elements must be positive!");
 
-      Arrays.fill(counts, 0);
       Arrays.fill(tmpCounts, 0);
       int numTmpCountChunks = tmpCounts.length >>> (6 - BULK_CONSTANT);
       int numTmpCountRemaining = tmpCounts.length & (0x3f >>> BULK_CONSTANT);
@@ -78,17 +121,17 @@ final class FastSimHashPolicy_v1 extends AbstractSimilarityHashPolicy {
       for (int k = 0; k < numberOfElements; ++k) {
         long elementHash = elementHashProvider.getElementHash(k);
 
-        pseudoRandomGenerator.reset(elementHash);
+        pseudoRandomGenerator.reset(elementHash).nextLongs(randomValues, 0, randomValues.length);
 
         for (int h = 0; h < numTmpCountChunks; ++h) {
-          long randomValue = pseudoRandomGenerator.nextLong();
+          long randomValue = randomValues[h];
           int off = h << (6 - BULK_CONSTANT);
           for (int j = 0; j < (1 << (6 - BULK_CONSTANT)); ++j) {
             tmpCounts[off + j] += (randomValue >>> j) & BULK_MASK;
           }
         }
         if (numTmpCountRemaining > 0) {
-          long randomValue = pseudoRandomGenerator.nextLong();
+          long randomValue = randomValues[numTmpCountChunks];
           int off = numTmpCountChunks << (6 - BULK_CONSTANT);
           for (int j = 0; j < numTmpCountRemaining; ++j) {
             tmpCounts[off + j] += (randomValue >>> j) & BULK_MASK;
@@ -119,6 +162,45 @@ final class FastSimHashPolicy_v1 extends AbstractSimilarityHashPolicy {
         }
       }
 
+      numberOfAddedElements += numberOfElements;
+      return this;
+    }
+
+    private FastSimHashPolicy_v1 getPolicy() {
+      return FastSimHashPolicy_v1.this;
+    }
+
+    @Override
+    public IncrementalSimilarityHasher merge(IncrementalSimilarityHasher other) {
+      requireNonNull(other);
+      checkArgument(
+          other instanceof IncrementalHasher
+              && isEquivalent(((IncrementalHasher) other).getPolicy()),
+          "Incompatible incremental hasher!");
+      IncrementalHasher otherHasher = (IncrementalHasher) other;
+      for (int i = 0; i < numberOfComponents; ++i) {
+        counts[i] += otherHasher.counts[i];
+      }
+      numberOfAddedElements += otherHasher.numberOfAddedElements;
+      return this;
+    }
+
+    @Override
+    public IncrementalSimilarityHasher reset() {
+      Arrays.fill(counts, 0);
+      numberOfAddedElements = 0;
+      return this;
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return numberOfAddedElements == 0;
+    }
+
+    @Override
+    public byte[] getSignature() {
+      checkState(!isEmpty());
+      final int numberOfElements = numberOfAddedElements;
       final long limit = (long) (numberOfElements >>> 1);
       return packedArrayHandler.create(
           i -> (counts[i] + (i & (~numberOfElements & 1)) > limit) ? 1L : 0L, numberOfComponents);
@@ -0,0 +1,296 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import static com.dynatrace.hash4j.internal.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.dynatrace.hash4j.random.PseudoRandomGenerator;
+import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
+import java.util.Arrays;
+
+// Every element defines a Poisson process of points with unit intensity over the two-dimensional
+// domain [0, infinity) x [0, infinity) of weights and times, where each point is assigned to a
+// uniformly chosen component and a random 64-bit value. An element with weight w contributes all
+// its points with weight coordinate less than w. Every component takes the value of the point
+// with the smallest time among all contributed points assigned to it. Two weighted sets share this
+// point with a probability equal to their weighted Jaccard similarity.
+//
+// To generate the points consistently for all weights, the weight domain is partitioned into
+// cells. Cell 0 covers [0, 2^-126) and cell c > 0 covers [2^(c-127), 2^(c-126)). The cells are the
+// leaves of a complete binary tree, and the time of the first point of every node, which is the
+// minimum of the first times of its children, is generated top-down. The first time of the root is
+// drawn from a pseudo-random generator seeded with the element hash. When a node is expanded, a
+// pseudo-random generator seeded with the element hash and a node-specific seed decides which child
+// inherits the first time with a probability proportional to its rate, and draws the first time of
+// the other child as the first time of the node plus an exponentially distributed increment. The
+// remaining points of a cell are generated in ascending time order using a pseudo-random generator
+// seeded with the element hash and the cell-specific seed. An element with weight w fully
+// contributes all cells below the cell containing w, and the points of the latter cell only if
+// their weight coordinate is less than w.
+//
+// Like for ProbMinHash or BagMinHash, the generation of points can be stopped as soon as their
+// times exceed the maximum time of all components, which makes the costs per element independent
+// of the number of components. Moreover, nodes are only expanded if their first time is below this
+// bound. As the rates of the cells decrease exponentially towards lower weights, the expected
+// number of expanded nodes per element is bounded by the depth of the tree, independent of the
+// weight. Furthermore, similar to the cycle limits of SuperMinHash, points are only generated up to
+// a time limit that is chosen based on the total weight, such that all components are initialized
+// after the first pass over all elements with high probability. Otherwise, the limit is doubled
+// and the elements are processed again. This avoids generating many points for the first elements,
+// for which the maximum time of all components is still large.
+final class FastWeightedMinHashPolicy_v1 extends AbstractSimilarityHashPolicy
+    implements WeightedSimilarityHashPolicy {
+
+  private static final int MIN_EXPONENT = Float.MIN_EXPONENT;
+  private static final int MAX_EXPONENT = Float.MAX_EXPONENT;
+  private static final int NUMBER_OF_CELLS = MAX_EXPONENT - MIN_EXPONENT + 2;
+
+  // node n > 0 of the tree has the children 2 * n and 2 * n + 1, the root is node 1, and cell c
+  // corresponds to leaf NUMBER_OF_LEAVES + c
+  private static final int NUMBER_OF_LEAVES = Integer.highestOneBit(NUMBER_OF_CELLS - 1) << 1;
+  private static final int NUMBER_OF_NODES = 2 * NUMBER_OF_LEAVES;
+  private static final int TREE_DEPTH = Integer.numberOfTrailingZeros(NUMBER_OF_LEAVES);
+
+  private static final long[] NODE_SEEDS = createNodeSeeds();
+
+  // the probability that the first point of a node belongs to its left child
+  private static final double[] LEFT_CHILD_PROBABILITIES = createLeftChildProbabilities();
+
+  private static final double FIRST_ATTEMPT_SUCCESS_PROBABILITY = 0.99;
+
+  // the time limit multiplied by the total weight
+  private final double normalizedTimeLimit;
+
+  // the reciprocal of the total rate m * s of points of a node covering a weight range of size s
+  private final double[] inverseNodeRates = new double[NUMBER_OF_NODES];
+
+  public FastWeightedMinHashPolicy_v1(
+      int numberOfComponents,
+      int bitsPerComponent,
+      PseudoRandomGeneratorProvider pseudoRandomGeneratorProvider) {
+    super(numberOfComponents, bitsPerComponent, pseudoRandomGeneratorProvider);
+    this.normalizedTimeLimit =
+        getNormalizedTimeLimit(numberOfComponents, FIRST_ATTEMPT_SUCCESS_PROBABILITY);
+    double[] nodeSizes = getNodeSizes();
+    for (int node = 1; node < NUMBER_OF_NODES; ++node) {
+      inverseNodeRates[node] = 1. / (numberOfComponents * nodeSizes[node]);
+    }
+  }
+
+  private static long[] createNodeSeeds() {
+    PseudoRandomGenerator pseudoRandomGenerator =
+        PseudoRandomGeneratorProvider.splitMix64_V1().create(0x2e9c4b7a15f3d068L);
+    long[] seeds = new long[NUMBER_OF_NODES];
+    for (int node = 1; node < NUMBER_OF_NODES; ++node) {
+      seeds[node] = pseudoRandomGenerator.nextLong();
+    }
+    return seeds;
+  }
+
+  // returns the sizes of the weight ranges covered by the nodes, which are all exact
+  private static double[] getNodeSizes() {
+    double[] sizes = new double[NUMBER_OF_NODES];
+    for (int cellIdx = 0; cellIdx < NUMBER_OF_CELLS; ++cellIdx) {
+      sizes[NUMBER_OF_LEAVES + cellIdx] = Math.scalb(1., getCellExponent(cellIdx));
+    }
+    for (int node = NUMBER_OF_LEAVES - 1; node > 0; --node) {
+      sizes[node] = sizes[2 * node] + sizes[2 * node + 1];
+    }
+    return sizes;
+  }
+
+  private static double[] createLeftChildProbabilities() {
+    double[] nodeSizes = getNodeSizes();
+    double[] probabilities = new double[NUMBER_OF_LEAVES];
+    for (int node = 1; node < NUMBER_OF_LEAVES; ++node) {
+      probabilities[node] = nodeSizes[2 * node] / nodeSizes[node];
+    }
+    return probabilities;
+  }
+
+  // returns the index of the first cell covered by the given node
+  // visible for testing
+  static int getFirstCellIndex(int node) {
+    return (node << (TREE_DEPTH + Integer.numberOfLeadingZeros(node) - 31)) - NUMBER_OF_LEAVES;
+  }
+
+  // The first point of each component is exponentially distributed with a rate equal to the total
+  // weight W. The probability that all components are initialized before time t is therefore
+  // (1 - exp(-W * t))^m. Requiring this probability to be at least p gives
+  // W * t >= -log(-expm1(log(p) / m)).
+  // visible for testing
+  static double getNormalizedTimeLimit(
+      int numberOfComponents, double firstAttemptSuccessProbability) {
+    return -Math.log(-Math.expm1(Math.log(firstAttemptSuccessProbability) / numberOfComponents));
+  }
+
+  // returns j, such that 2^j is the size of the cell with given index
+  private static int getCellExponent(int cellIdx) {
+    return Math.max(cellIdx - 1, 0) + MIN_EXPONENT;
+  }
+
+  // visible for testing
+  static int getCellIndex(double weight) {
+    return Math.getExponent(weight) - MIN_EXPONENT + 1;
+  }
+
+  @Override
+  public WeightedSimilarityHasher createHasher() {
+    return new Hasher();
+  }
+
+  private class Hasher implements WeightedSimilarityHasher {
+
+    private final PseudoRandomGenerator elementPseudoRandomGenerator =
+        pseudoRandomGeneratorProvider.create();
+    private final PseudoRandomGenerator nodePseudoRandomGenerator =
+        pseudoRandomGeneratorProvider.create();
+    // an expanded node is replaced by at most two children, of which the last is expanded next
+    private final int[] nodeStack = new int[TREE_DEPTH + 1];
+    private final double[] timeStack = new double[TREE_DEPTH + 1];
+    private final double[] times = new double[numberOfComponents];
+    private final long[] values = new long[numberOfComponents];
+    private int numberOfEmptyComponents;
+    private double maxTime;
+    // the minimum of the maximum time and the time limit of the current pass
+    private double timeBound;
+
+    @Override
+    public byte[] compute(WeightedElementHashProvider weightedElementHashProvider) {
+
+      requireNonNull(weightedElementHashProvider);
+      int numberOfElements = weightedElementHashProvider.getNumberOfElements();
+      checkArgument(numberOfElements > 0, "Number of elements must be positive!");
+
+      double totalWeight = 0;
+      for (int elementIdx = 0; elementIdx < numberOfElements; ++elementIdx) {
+        double weight = weightedElementHashProvider.getElementWeight(elementIdx);
+        checkArgument(
+            weight == 0 || (weight >= Float.MIN_NORMAL && weight <= Float.MAX_VALUE),
+            "Element weights must be zero or in the range [Float.MIN_NORMAL, Float.MAX_VALUE]!");
+        totalWeight += weight;
+      }
+      checkArgument(totalWeight > 0, "At least one element weight must be positive!");
+
+      Arrays.fill(times, Double.POSITIVE_INFINITY);
+      numberOfEmptyComponents = numberOfComponents;
+      maxTime = Double.POSITIVE_INFINITY;
+      double timeLimit = normalizedTimeLimit / totalWeight;
+      while (true) {
+        // points that were already processed in a previous pass are processed again, which does
+        // not change the result as only points with strictly smaller times replace components
+        timeBound = timeLimit;
+        for (int elementIdx = 0; elementIdx < numberOfElements; ++elementIdx) {
+          double weight = weightedElementHashProvider.getElementWeight(elementIdx);
+          if (weight > 0) {
+            add(weightedElementHashProvider.getElementHash(elementIdx), weight);
+          }
+        }
+        if (numberOfEmptyComponents == 0) break;
+        timeLimit *= 2;
+      }
+
+      return packedArrayHandler.create(i -> values[i], numberOfComponents);
+    }
+
+    private void add(long elementHash, double weight) {
+      int cellIdx = getCellIndex(weight);
+      double fraction = Math.scalb(weight, -getCellExponent(cellIdx)) - 1.;
+      int lastCellIdx = (fraction > 0) ? cellIdx : cellIdx - 1;
+      double rootTime =
+          elementPseudoRandomGenerator.reset(elementHash).nextExponential() * inverseNodeRates[1];
+      if (rootTime >= timeBound) return;
+      int stackSize = 0;
+      nodeStack[stackSize] = 1;
+      timeStack[stackSize] = rootTime;
+      stackSize += 1;
+      while (stackSize > 0) {
+        stackSize -= 1;
+        int node = nodeStack[stackSize];
+        double time = timeStack[stackSize];
+        if (time >= timeBound) continue; // the time bound might have decreased in the meantime
+        if (node >= NUMBER_OF_LEAVES) {
+          int idx = node - NUMBER_OF_LEAVES;
+          processCell(elementHash, idx, time, (idx < cellIdx) ? 1. : fraction);
+          continue;
+        }
+        PseudoRandomGenerator prg =
+            nodePseudoRandomGenerator.reset(elementHash ^ NODE_SEEDS[node]);
+        int leftChild = 2 * node;
+        int firstChild =
+            (prg.nextDouble() < LEFT_CHILD_PROBABILITIES[node]) ? leftChild : leftChild + 1;
+        int otherChild = firstChild ^ 1;
+        if (getFirstCellIndex(otherChild) <= lastCellIdx) {
+          double otherTime = time + prg.nextExponential() * inverseNodeRates[otherChild];
+          if (otherTime < timeBound) {
+            nodeStack[stackSize] = otherChild;
+            timeStack[stackSize] = otherTime;
+            stackSize += 1;
+          }
+        }
+        if (getFirstCellIndex(firstChild) <= lastCellIdx) {
+          nodeStack[stackSize] = firstChild;
+          timeStack[stackSize] = time;
+          stackSize += 1;
+        }
+      }
+    }
+
+    // processes all points of the cell with a time smaller than the current time bound, whose
+    // relative weight coordinate within the cell is smaller than the given fraction, given the time
+    // of its first point
+    private void processCell(long elementHash, int cellIdx, double firstTime, double fraction) {
+      int node = NUMBER_OF_LEAVES + cellIdx;
+      PseudoRandomGenerator prg = nodePseudoRandomGenerator.reset(elementHash ^ NODE_SEEDS[node]);
+      double inverseCellRate = inverseNodeRates[node];
+      double time = firstTime;
+      while (time < timeBound) {
+        int idx = prg.uniformInt(numberOfComponents);
+        double relativeWeight = prg.nextDouble();
+        long value = prg.nextLong();
+        if (relativeWeight < fraction && time < times[idx]) {
+          update(idx, time, value);
+        }
+        time += prg.nextExponential() * inverseCellRate;
+      }
+    }
+
+    private void update(int idx, double time, long value) {
+      double oldTime = times[idx];
+      times[idx] = time;
+      values[idx] = value;
+      if (oldTime == Double.POSITIVE_INFINITY) {
+        numberOfEmptyComponents -= 1;
+        if (numberOfEmptyComponents == 0) {
+          maxTime = getMaxTime();
+          timeBound = Math.min(timeBound, maxTime);
+        }
+      } else if (oldTime == maxTime) {
+        maxTime = getMaxTime();
+        timeBound = Math.min(timeBound, maxTime);
+      }
+    }
+
+    private double getMaxTime() {
+      double max = times[0];
+      for (int i = 1; i < numberOfComponents; ++i) {
+        max = Math.max(max, times[i]);
+      }
+      return max;
+    }
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+/**
+ * A hasher that computes hash signatures incrementally from element hash values that are added one
+ * at a time or in batches.
+ *
+ * <p>The signature returned by {@link #getSignature()} is always equal to the signature that {@link
+ * SimilarityHasher#compute(ElementHashProvider)} of the same policy would return for all element
+ * hash values added so far. The working state is kept between calls, so that signatures of growing
+ * sets can be updated without recomputation.
+ *
+ * <p>Implementations are not thread-safe.
+ */
+public interface IncrementalSimilarityHasher {
+
+  /**
+   * Adds a single element hash value.
+   *
+   * @param elementHash the 64-bit element hash value
+   * @return a reference to this
+   */
+  IncrementalSimilarityHasher add(long elementHash);
+
+  /**
+   * Adds all element hash values provided by the given element hash provider.
+   *
+   * @param elementHashProvider the element hash provider
+   * @return a reference to this
+   */
+  IncrementalSimilarityHasher addAll(ElementHashProvider elementHashProvider);
+
+  /**
+   * Merges the state of another incremental hasher into this one.
+   *
+   * <p>Afterwards, this hasher is in the same state as if all element hash values added to the
+   * other hasher had also been added to this hasher. The other hasher is not modified.
+   *
+   * @param other the other incremental hasher
+   * @return a reference to this
+   * @throws IllegalArgumentException if the other hasher was not created by an equivalent policy
+   */
+  IncrementalSimilarityHasher merge(IncrementalSimilarityHasher other);
+
+  /**
+   * Resets this hasher to the initial state without any element hash values.
+   *
+   * @return a reference to this
+   */
+  IncrementalSimilarityHasher reset();
+
+  /**
+   * Returns {@code true} if no element hash value has been added since creation or the last reset.
+   *
+   * @return {@code true} if this hasher is empty
+   */
+  boolean isEmpty();
+
+  /**
+   * Returns the hash signature of all element hash values added so far.
+   *
+   * @return the hash signature
+   * @throws IllegalStateException if this hasher is empty
+   */
+  byte[] getSignature();
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import static com.dynatrace.hash4j.internal.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+/**
+ * An index for finding candidates of similar hash signatures using locality-sensitive hashing (LSH)
+ * with banding.
+ *
+ * <p>The first {@code b * r} components of a hash signature are divided into {@code b} bands of
+ * {@code r} components (rows) each. Two signatures are considered as candidates, if all components
+ * of at least one band are equal. If each component is equal with probability {@code s}, which
+ * corresponds to the Jaccard similarity in case of MinHash or SuperMinHash, this happens with
+ * probability {@code 1 - (1 - s^r)^b} (see {@link #getCandidateProbability(double)}). This S-shaped
+ * function has its steepest increase near the threshold {@code (1/b)^(1/r)}. Increasing the number
+ * of bands increases the recall, increasing the number of rows per band increases the precision.
+ *
+ * <p>Signatures are identified by consecutive integer IDs starting at 0, which are assigned in the
+ * order the signatures are added. The signatures themselves are not stored. Therefore, the returned
+ * candidates should be verified, for example, using {@link
+ * SimilarityHashPolicy#getFractionOfEqualComponents(byte[], byte[])}, if the signatures are
+ * available elsewhere.
+ *
+ * <p>Each band is realized as an open-addressing hash table, which maps a 64-bit hash of the band
+ * to the most recently added signature with that band. Older signatures with the same band are
+ * chained using a single {@code int} array. Hence, the memory footprint is 4 bytes per signature
+ * and band, plus up to 32 bytes per distinct band value.
+ *
+ * <p>This class is not thread-safe. Concurrent queries are not allowed either.
+ */
+public final class LshIndex {
+
+  private static final int MIN_TABLE_SIZE_BITS = 4;
+  private static final int MAX_TABLE_SIZE_BITS = 30;
+
+  private final SimilarityHashPolicy policy;
+  private final int numberOfBands;
+  private final int rowsPerBand;
+
+  // band keys of the signature that is currently added or queried
+  private final long[] bandKeys;
+
+  // open-addressing hash table per band, tableHeads contains the ID + 1 of the most recently
+  // added signature with the corresponding band key, 0 marks an empty slot
+  private final long[][] tableKeys;
+  private final int[][] tableHeads;
+  private final int[] tableSizes;
+  private final int[] tableSizeBits;
+
+  // next[id * numberOfBands + band] is the ID + 1 of the next older signature with the same band
+  // key, or 0 if there is none
+  private int[] next;
+
+  // used to deduplicate candidates, visited[id] == queryStamp if the signature has already been
+  // reported during the current query
+  private int[] visited;
+  private int queryStamp = 0;
+  private int[] candidates = new int[16];
+
+  private int size = 0;
+
+  private LshIndex(SimilarityHashPolicy policy, int numberOfBands, int rowsPerBand) {
+    this.policy = policy;
+    this.numberOfBands = numberOfBands;
+    this.rowsPerBand = rowsPerBand;
+    this.bandKeys = new long[numberOfBands];
+    this.tableKeys = new long[numberOfBands][1 << MIN_TABLE_SIZE_BITS];
+    this.tableHeads = new int[numberOfBands][1 << MIN_TABLE_SIZE_BITS];
+    this.tableSizes = new int[numberOfBands];
+    this.tableSizeBits = new int[numberOfBands];
+    Arrays.fill(tableSizeBits, MIN_TABLE_SIZE_BITS);
+    this.next = new int[16 * numberOfBands];
+    this.visited = new int[16];
+  }
+
+  /**
+   * Creates a new empty index.
+   *
+   * @param policy the similarity hash policy that was used to compute the signatures
+   * @param numberOfBands the number of bands
+   * @param rowsPerBand the number of components per band
+   * @return a new index
+   * @throws IllegalArgumentException if the number of bands or the number of rows per band is not
+   *     positive, or if their product exceeds the number of components of the policy
+   */
+  public static LshIndex create(SimilarityHashPolicy policy, int numberOfBands, int rowsPerBand) {
+    requireNonNull(policy);
+    checkArgument(numberOfBands > 0, "Number of bands must be positive!");
+    checkArgument(rowsPerBand > 0, "Number of rows per band must be positive!");
+    checkArgument(
+        (long) numberOfBands * rowsPerBand <= policy.getNumberOfComponents(),
+        "Number of bands times rows per band must not exceed the number of components!");
+    return new LshIndex(policy, numberOfBands, rowsPerBand);
+  }
+
+  /**
+   * Returns the number of bands.
+   *
+   * @return the number of bands
+   */
+  public int getNumberOfBands() {
+    return numberOfBands;
+  }
+
+  /**
+   * Returns the number of components per band.
+   *
+   * @return the number of rows per band
+   */
+  public int getRowsPerBand() {
+    return rowsPerBand;
+  }
+
+  /**
+   * Returns the number of signatures added to this index.
+   *
+   * @return the number of signatures
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the probability that a signature is reported as candidate for a query, if its
+   * components are equal to those of the query signature with the given probability.
+   *
+   * @param componentMatchProbability the probability that corresponding components are equal
+   * @return the probability of being reported as candidate
+   * @throws IllegalArgumentException if the given probability is not in the range [0, 1]
+   */
+  public double getCandidateProbability(double componentMatchProbability) {
+    checkArgument(
+        componentMatchProbability >= 0. && componentMatchProbability <= 1.,
+        "Probability must be in the range [0, 1]!");
+    return -Math.expm1(
+        numberOfBands * Math.log1p(-Math.pow(componentMatchProbability, rowsPerBand)));
+  }
+
+  /**
+   * Adds a signature to this index.
+   *
+   * @param signature the signature
+   * @return the ID assigned to the signature
+   * @throws IllegalArgumentException if the signature does not have the expected size
+   * @throws IllegalStateException if the maximum number of signatures has been reached
+   */
+  public int add(byte[] signature) {
+    computeBandKeys(signature);
+    if (size >= Integer.MAX_VALUE / numberOfBands) {
+      throw new IllegalStateException("Maximum number of signatures reached!");
+    }
+    int id = size;
+    ensureCapacity(id + 1);
+    // tables are grown before any modification, so that a failure leaves the index unchanged
+    for (int band = 0; band < numberOfBands; ++band) {
+      if (tableSizes[band] >= (3 << tableSizeBits[band]) >>> 2) {
+        growTable(band);
+      }
+    }
+    for (int band = 0; band < numberOfBands; ++band) {
+      long key = bandKeys[band];
+      long[] keys = tableKeys[band];
+      int[] heads = tableHeads[band];
+      int mask = (1 << tableSizeBits[band]) - 1;
+      int slot = getSlot(key, tableSizeBits[band]);
+      while (heads[slot] != 0 && keys[slot] != key) {
+        slot = (slot + 1) & mask;
+      }
+      if (heads[slot] == 0) {
+        keys[slot] = key;
+        tableSizes[band] += 1;
+      }
+      next[id * numberOfBands + band] = heads[slot];
+      heads[slot] = id + 1;
+    }
+    size = id + 1;
+    return id;
+  }
+
+  /**
+   * Returns the IDs of all signatures that share at least one band with the given signature.
+   *
+   * <p>Every ID is reported at most once. The IDs of signatures sharing the first band are reported
+   * first, each band in descending order of the IDs.
+   *
+   * @param signature the query signature
+   * @return the IDs of the candidates
+   * @throws IllegalArgumentException if the signature does not have the expected size
+   */
+  public int[] getCandidates(byte[] signature) {
+    computeBandKeys(signature);
+    queryStamp += 1;
+    if (queryStamp == 0) {
+      Arrays.fill(visited, 0);
+      queryStamp = 1;
+    }
+    int numCandidates = 0;
+    for (int band = 0; band < numberOfBands; ++band) {
+      long key = bandKeys[band];
+      long[] keys = tableKeys[band];
+      int[] heads = tableHeads[band];
+      int mask = (1 << tableSizeBits[band]) - 1;
+      int slot = getSlot(key, tableSizeBits[band]);
+      while (heads[slot] != 0 && keys[slot] != key) {
+        slot = (slot + 1) & mask;
+      }
+      int idPlusOne = heads[slot];
+      while (idPlusOne != 0) {
+        int id = idPlusOne - 1;
+        if (visited[id] != queryStamp) {
+          visited[id] = queryStamp;
+          if (numCandidates == candidates.length) {
+            candidates = Arrays.copyOf(candidates, 2 * numCandidates);
+          }
+          candidates[numCandidates++] = id;
+        }
+        idPlusOne = next[id * numberOfBands + band];
+      }
+    }
+    return Arrays.copyOf(candidates, numCandidates);
+  }
+
+  private static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+
+  private void computeBandKeys(byte[] signature) {
+    requireNonNull(signature);
+    checkArgument(
+        signature.length == policy.getSignatureSizeInBytes(), "Signature has unexpected size!");
+    int idx = 0;
+    for (int band = 0; band < numberOfBands; ++band) {
+      long key = band * 0x9e3779b97f4a7c15L;
+      for (int row = 0; row < rowsPerBand; ++row) {
+        key = mix(key + policy.getComponent(signature, idx++));
+      }
+      bandKeys[band] = key;
+    }
+  }
+
+  // the most significant bits are used, as they are well mixed
+  private static int getSlot(long key, int tableSizeBits) {
+    return (int) (key >>> -tableSizeBits);
+  }
+
+  private void ensureCapacity(int minCapacity) {
+    if (minCapacity <= visited.length) return;
+    long newCapacity = Math.max(2L * visited.length, minCapacity);
+    newCapacity = Math.min(newCapacity, Integer.MAX_VALUE / numberOfBands);
+    next = Arrays.copyOf(next, (int) newCapacity * numberOfBands);
+    visited = Arrays.copyOf(visited, (int) newCapacity);
+  }
+
+  private void growTable(int band) {
+    int oldSizeBits = tableSizeBits[band];
+    if (oldSizeBits >= MAX_TABLE_SIZE_BITS) {
+      throw new IllegalStateException("Maximum number of distinct band values reached!");
+    }
+    int newSizeBits = oldSizeBits + 1;
+    long[] oldKeys = tableKeys[band];
+    int[] oldHeads = tableHeads[band];
+    long[] newKeys = new long[1 << newSizeBits];
+    int[] newHeads = new int[1 << newSizeBits];
+    int mask = (1 << newSizeBits) - 1;
+    for (int i = 0; i < oldHeads.length; ++i) {
+      if (oldHeads[i] != 0) {
+        int slot = getSlot(oldKeys[i], newSizeBits);
+        while (newHeads[slot] != 0) {
+          slot = (slot + 1) & mask;
+        }
+        newKeys[slot] = oldKeys[i];
+        newHeads[slot] = oldHeads[i];
+      }
+    }
+    tableKeys[band] = newKeys;
+    tableHeads[band] = newHeads;
+    tableSizeBits[band] = newSizeBits;
+  }
+}
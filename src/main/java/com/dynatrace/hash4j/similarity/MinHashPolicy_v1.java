@@ -16,11 +16,13 @@
 package com.dynatrace.hash4j.similarity;
 
 import static com.dynatrace.hash4j.internal.Preconditions.checkArgument;
+import static com.dynatrace.hash4j.internal.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
 import com.dynatrace.hash4j.random.PseudoRandomGenerator;
 import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 
 final class MinHashPolicy_v1 extends AbstractSimilarityHashPolicy {
 
@@ -65,4 +67,87 @@ final class MinHashPolicy_v1 extends AbstractSimilarityHashPolicy {
       return packedArrayHandler.create(i -> work[i], numberOfComponents);
     }
   }
+
+  @Override
+  public IncrementalSimilarityHasher createIncrementalHasher() {
+    return new IncrementalHasher();
+  }
+
+  @Override
+  public SimilarityHasher createParallelHasher(ForkJoinPool forkJoinPool) {
+    return ParallelSimilarityHasher.ofIncrementalHashers(this, forkJoinPool);
+  }
+
+  private class IncrementalHasher implements IncrementalSimilarityHasher {
+
+    private final long[] work = new long[getNumberOfComponents()];
+    private final PseudoRandomGenerator pseudoRandomGenerator =
+        pseudoRandomGeneratorProvider.create();
+    private boolean isEmpty = true;
+
+    private IncrementalHasher() {
+      Arrays.fill(work, Long.MAX_VALUE);
+    }
+
+    @Override
+    public IncrementalSimilarityHasher add(long elementHash) {
+      pseudoRandomGenerator.reset(elementHash);
+      for (int i = 0; i < work.length; ++i) {
+        long hash = pseudoRandomGenerator.nextLong();
+        if (hash < work[i]) {
+          work[i] = hash;
+        }
+      }
+      isEmpty = false;
+      return this;
+    }
+
+    @Override
+    public IncrementalSimilarityHasher addAll(ElementHashProvider elementHashProvider) {
+      requireNonNull(elementHashProvider);
+      int numberOfElements = elementHashProvider.getNumberOfElements();
+      for (int k = 0; k < numberOfElements; ++k) {
+        add(elementHashProvider.getElementHash(k));
+      }
+      return this;
+    }
+
+    private MinHashPolicy_v1 getPolicy() {
+      return MinHashPolicy_v1.this;
+    }
+
+    @Override
+    public IncrementalSimilarityHasher merge(IncrementalSimilarityHasher other) {
+      requireNonNull(other);
+      checkArgument(
+          other instanceof IncrementalHasher
+              && isEquivalent(((IncrementalHasher) other).getPolicy()),
+          "Incompatible incremental hasher!");
+      IncrementalHasher otherHasher = (IncrementalHasher) other;
+      if (otherHasher.isEmpty) return this;
+      for (int i = 0; i < work.length; ++i) {
+        work[i] = Math.min(work[i], otherHasher.work[i]);
+      }
+      isEmpty = false;
+      return this;
+    }
+
+    @Override
+    public IncrementalSimilarityHasher reset() {
+      Arrays.fill(work, Long.MAX_VALUE);
+      isEmpty = true;
+      return this;
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return isEmpty;
+    }
+
+    @Override
+    public byte[] getSignature() {
+      checkState(!isEmpty);
+      return packedArrayHandler.create(i -> work[i], work.length);
+    }
+  }
 }
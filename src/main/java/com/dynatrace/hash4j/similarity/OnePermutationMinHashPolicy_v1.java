@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import static com.dynatrace.hash4j.internal.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.dynatrace.hash4j.random.PseudoRandomGenerator;
+import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
+import java.util.Arrays;
+
+// One permutation hashing with densification as described in Søren Dahlgaard, Mathias Bæk Tejs
+// Knudsen, and Mikkel Thorup, Fast Similarity Sketching, 2017. Every element generates a sequence
+// of points using a pseudo-random generator seeded with its element hash. The point of round r is
+// assigned to a uniformly chosen component and has the value (r, random 64-bit value). Every
+// component takes the smallest value in lexicographical order among all points assigned to it.
+// Hence, the first round corresponds to one permutation hashing, and further rounds are only
+// needed to fill components that remained empty. As the minimum is always taken over all elements,
+// the probability that a component is equal for two sets is equal to their Jaccard similarity.
+//
+// To avoid densification costs that grow quadratically with the number of components for small
+// sets, all elements are processed up to a round limit that is chosen such that all components
+// are filled after the first pass with high probability. Otherwise, the limit is doubled and the
+// elements are processed again. Furthermore, the generation of points of an element stops as soon
+// as the round exceeds the maximum round of all components. This gives O(n + m log m) costs for n
+// elements and m components, and O(n) costs if n is sufficiently large compared to m log m.
+final class OnePermutationMinHashPolicy_v1 extends AbstractSimilarityHashPolicy {
+
+  private static final double FIRST_ATTEMPT_SUCCESS_PROBABILITY = 0.99;
+
+  private static final int EMPTY = Integer.MAX_VALUE;
+
+  // the round limit multiplied by the number of elements
+  private final double normalizedRoundLimit;
+
+  public OnePermutationMinHashPolicy_v1(
+      int numberOfComponents,
+      int bitsPerComponent,
+      PseudoRandomGeneratorProvider pseudoRandomGeneratorProvider) {
+    super(numberOfComponents, bitsPerComponent, pseudoRandomGeneratorProvider);
+    this.normalizedRoundLimit =
+        getNormalizedRoundLimit(numberOfComponents, FIRST_ATTEMPT_SUCCESS_PROBABILITY);
+  }
+
+  // The probability that a component is still empty after L rounds of n elements is
+  // (1 - 1/m)^(n * L) <= exp(-n * L / m). Requiring the probability that all m components are
+  // filled to be at least p gives n * L >= -m * log(-expm1(log(p) / m)).
+  // visible for testing
+  static double getNormalizedRoundLimit(
+      int numberOfComponents, double firstAttemptSuccessProbability) {
+    return -numberOfComponents
+        * Math.log(-Math.expm1(Math.log(firstAttemptSuccessProbability) / numberOfComponents));
+  }
+
+  // visible for testing
+  static int getInitialRoundLimit(double normalizedRoundLimit, int numberOfElements) {
+    return (int) Math.min(Math.max(Math.ceil(normalizedRoundLimit / numberOfElements), 1), 1 << 30);
+  }
+
+  @Override
+  public SimilarityHasher createHasher() {
+    return new Hasher();
+  }
+
+  private class Hasher implements SimilarityHasher {
+
+    private final PseudoRandomGenerator pseudoRandomGenerator =
+        pseudoRandomGeneratorProvider.create();
+    private final int[] rounds = new int[numberOfComponents];
+    private final long[] values = new long[numberOfComponents];
+    // number of filled components for each round
+    private int[] roundCounts = new int[1];
+    private int numberOfEmptyComponents;
+    private int maxRound;
+    // the minimum of the maximum round plus 1 and the round limit of the current pass
+    private int roundBound;
+
+    @Override
+    public byte[] compute(ElementHashProvider elementHashProvider) {
+
+      requireNonNull(elementHashProvider);
+      int numberOfElements = elementHashProvider.getNumberOfElements();
+      checkArgument(numberOfElements > 0, "Number of elements must be positive!");
+
+      Arrays.fill(rounds, EMPTY);
+      numberOfEmptyComponents = numberOfComponents;
+      maxRound = EMPTY;
+      int roundLimit = getInitialRoundLimit(normalizedRoundLimit, numberOfElements);
+      if (roundCounts.length < roundLimit) {
+        roundCounts = new int[roundLimit];
+      } else {
+        Arrays.fill(roundCounts, 0, roundLimit, 0);
+      }
+      while (true) {
+        // points that were already processed in a previous pass are processed again, which does
+        // not change the result as only points with strictly smaller values replace components
+        roundBound = roundLimit;
+        for (int elementIdx = 0; elementIdx < numberOfElements; ++elementIdx) {
+          add(elementHashProvider.getElementHash(elementIdx));
+        }
+        if (numberOfEmptyComponents == 0) break;
+        roundLimit *= 2;
+        if (roundCounts.length < roundLimit) {
+          roundCounts = Arrays.copyOf(roundCounts, roundLimit);
+        } else {
+          Arrays.fill(roundCounts, roundLimit / 2, roundLimit, 0);
+        }
+      }
+
+      return packedArrayHandler.create(i -> values[i], numberOfComponents);
+    }
+
+    private void add(long elementHash) {
+      PseudoRandomGenerator prg = pseudoRandomGenerator.reset(elementHash);
+      for (int round = 0; round < roundBound; ++round) {
+        int idx = prg.uniformInt(numberOfComponents);
+        long value = prg.nextLong();
+        if (round < rounds[idx] || (round == rounds[idx] && value < values[idx])) {
+          update(idx, round, value);
+        }
+      }
+    }
+
+    private void update(int idx, int round, long value) {
+      int oldRound = rounds[idx];
+      rounds[idx] = round;
+      values[idx] = value;
+      if (oldRound == round) return;
+      roundCounts[round] += 1;
+      if (oldRound == EMPTY) {
+        numberOfEmptyComponents -= 1;
+        if (numberOfEmptyComponents == 0) {
+          maxRound = roundBound - 1;
+          updateMaxRound();
+        }
+      } else {
+        roundCounts[oldRound] -= 1;
+        if (oldRound == maxRound) {
+          updateMaxRound();
+        }
+      }
+    }
+
+    private void updateMaxRound() {
+      while (roundCounts[maxRound] == 0) {
+        maxRound -= 1;
+      }
+      roundBound = Math.min(roundBound, maxRound + 1);
+    }
+  }
+}
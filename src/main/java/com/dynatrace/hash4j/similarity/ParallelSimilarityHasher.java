@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import static com.dynatrace.hash4j.internal.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Splits the index range of the element hash provider recursively, processes the resulting chunks
+// using independent incremental hashers, and merges them afterwards. As the incremental hashers of
+// all supported policies are merged exactly, the signature does not depend on how the index range
+// is split and is identical to the signature computed sequentially.
+final class ParallelSimilarityHasher implements SimilarityHasher {
+
+  // number of chunks per worker thread to balance the load
+  private static final int CHUNKS_PER_WORKER = 4;
+
+  // chunks should be large enough to amortize the creation and merging of incremental hashers
+  private static final int MIN_CHUNK_SIZE = 1 << 12;
+
+  private final SimilarityHashPolicy policy;
+  private final ForkJoinPool forkJoinPool;
+
+  private ParallelSimilarityHasher(SimilarityHashPolicy policy, ForkJoinPool forkJoinPool) {
+    this.policy = requireNonNull(policy);
+    this.forkJoinPool = requireNonNull(forkJoinPool);
+  }
+
+  static ParallelSimilarityHasher ofIncrementalHashers(
+      SimilarityHashPolicy policy, ForkJoinPool forkJoinPool) {
+    return new ParallelSimilarityHasher(policy, forkJoinPool);
+  }
+
+  @Override
+  public byte[] compute(ElementHashProvider elementHashProvider) {
+    requireNonNull(elementHashProvider);
+    int numberOfElements = elementHashProvider.getNumberOfElements();
+    checkArgument(numberOfElements > 0, "Number of elements must be positive!");
+    int chunkSize =
+        Math.max(
+            MIN_CHUNK_SIZE,
+            numberOfElements / (forkJoinPool.getParallelism() * CHUNKS_PER_WORKER));
+    return forkJoinPool
+        .invoke(new Task(elementHashProvider, 0, numberOfElements, chunkSize))
+        .getSignature();
+  }
+
+  private final class Task extends RecursiveTask<IncrementalSimilarityHasher> {
+
+    private static final long serialVersionUID = 0L;
+
+    private final transient ElementHashProvider elementHashProvider;
+    private final int fromIndex;
+    private final int toIndex;
+    private final int chunkSize;
+
+    private Task(
+        ElementHashProvider elementHashProvider, int fromIndex, int toIndex, int chunkSize) {
+      this.elementHashProvider = elementHashProvider;
+      this.fromIndex = fromIndex;
+      this.toIndex = toIndex;
+      this.chunkSize = chunkSize;
+    }
+
+    @Override
+    protected IncrementalSimilarityHasher compute() {
+      if (toIndex - fromIndex <= chunkSize) {
+        return policy
+            .createIncrementalHasher()
+            .addAll(
+                ElementHashProvider.ofFunction(
+                    i -> elementHashProvider.getElementHash(fromIndex + i), toIndex - fromIndex));
+      }
+      int midIndex = (fromIndex + toIndex) >>> 1;
+      Task lowerTask = new Task(elementHashProvider, fromIndex, midIndex, chunkSize);
+      lowerTask.fork();
+      IncrementalSimilarityHasher upperHasher =
+          new Task(elementHashProvider, midIndex, toIndex, chunkSize).compute();
+      return lowerTask.join().merge(upperHasher);
+    }
+  }
+}
@@ -16,11 +16,13 @@
 package com.dynatrace.hash4j.similarity;
 
 import static com.dynatrace.hash4j.internal.Preconditions.checkArgument;
+import static com.dynatrace.hash4j.internal.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
 import com.dynatrace.hash4j.random.PseudoRandomGenerator;
 import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 
 final class SimHashPolicy_v1 extends AbstractSimilarityHashPolicy {
 
@@ -34,12 +36,19 @@ final class SimHashPolicy_v1 extends AbstractSimilarityHashPolicy {
     return new Hasher();
   }
 
-  private class Hasher implements SimilarityHasher {
+  @Override
+  public IncrementalSimilarityHasher createIncrementalHasher() {
+    return new IncrementalHasher();
+  }
 
-    private final int[] counts = new int[numberOfComponents];
+  @Override
+  public SimilarityHasher createParallelHasher(ForkJoinPool forkJoinPool) {
+    return ParallelSimilarityHasher.ofIncrementalHashers(this, forkJoinPool);
+  }
 
-    private final PseudoRandomGenerator pseudoRandomGenerator =
-        pseudoRandomGeneratorProvider.create();
+  private class Hasher implements SimilarityHasher {
+
+    private final IncrementalHasher incrementalHasher = new IncrementalHasher();
 
     @Override
     public byte[] compute(ElementHashProvider elementHashProvider) {
@@ -48,33 +57,91 @@ final class SimHashPolicy_v1 extends AbstractSimilarityHashPolicy {
       int numberOfElements = elementHashProvider.getNumberOfElements();
       checkArgument(numberOfElements > 0, "Number of elements must be positive!");
 
-      Arrays.fill(counts, 0);
+      return incrementalHasher.reset().addAll(elementHashProvider).getSignature();
+    }
+  }
+
+  private class IncrementalHasher implements IncrementalSimilarityHasher {
+
+    private final int[] counts = new int[numberOfComponents];
+    private final long[] randomValues = new long[(numberOfComponents + 0x3F) >>> 6];
+    private int numberOfAddedElements;
+
+    private final PseudoRandomGenerator pseudoRandomGenerator =
+        pseudoRandomGeneratorProvider.create();
+
+    @Override
+    public IncrementalSimilarityHasher add(long elementHash) {
 
       int numChunks = numberOfComponents >>> 6;
       int numRemaining = numberOfComponents & 0x3F;
 
-      for (int k = 0; k < numberOfElements; ++k) {
-
-        long elementHash = elementHashProvider.getElementHash(k);
-        pseudoRandomGenerator.reset(elementHash);
+      pseudoRandomGenerator.reset(elementHash).nextLongs(randomValues, 0, randomValues.length);
 
-        for (int j = 0; j < numChunks; j++) {
-          long randomValue = pseudoRandomGenerator.nextLong();
-          int off = j << 6;
-          for (int h = 0; h < 64; ++h) {
-            counts[off + h] += (((int) (randomValue >>> h)) & 1);
-          }
+      for (int j = 0; j < numChunks; j++) {
+        long randomValue = randomValues[j];
+        int off = j << 6;
+        for (int h = 0; h < 64; ++h) {
+          counts[off + h] += (((int) (randomValue >>> h)) & 1);
         }
+      }
 
-        if (numRemaining > 0) {
-          long randomValue = pseudoRandomGenerator.nextLong();
-          int off = numChunks << 6;
-          for (int h = 0; h < numRemaining; ++h) {
-            counts[off + h] += (((int) (randomValue >>> h)) & 1);
-          }
+      if (numRemaining > 0) {
+        long randomValue = randomValues[numChunks];
+        int off = numChunks << 6;
+        for (int h = 0; h < numRemaining; ++h) {
+          counts[off + h] += (((int) (randomValue >>> h)) & 1);
         }
       }
+      numberOfAddedElements += 1;
+      return this;
+    }
+
+    @Override
+    public IncrementalSimilarityHasher addAll(ElementHashProvider elementHashProvider) {
+      requireNonNull(elementHashProvider);
+      int numberOfElements = elementHashProvider.getNumberOfElements();
+      for (int k = 0; k < numberOfElements; ++k) {
+        add(elementHashProvider.getElementHash(k));
+      }
+      return this;
+    }
 
+    private SimHashPolicy_v1 getPolicy() {
+      return SimHashPolicy_v1.this;
+    }
+
+    @Override
+    public IncrementalSimilarityHasher merge(IncrementalSimilarityHasher other) {
+      requireNonNull(other);
+      checkArgument(
+          other instanceof IncrementalHasher
+              && isEquivalent(((IncrementalHasher) other).getPolicy()),
+          "Incompatible incremental hasher!");
+      IncrementalHasher otherHasher = (IncrementalHasher) other;
+      for (int i = 0; i < numberOfComponents; ++i) {
+        counts[i] += otherHasher.counts[i];
+      }
+      numberOfAddedElements += otherHasher.numberOfAddedElements;
+      return this;
+    }
+
+    @Override
+    public IncrementalSimilarityHasher reset() {
+      Arrays.fill(counts, 0);
+      numberOfAddedElements = 0;
+      return this;
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return numberOfAddedElements == 0;
+    }
+
+    @Override
+    public byte[] getSignature() {
+      checkState(!isEmpty());
+      final int numberOfElements = numberOfAddedElements;
       final long limit = (long) (numberOfElements >>> 1);
       return packedArrayHandler.create(
           i -> (counts[i] + (i & (~numberOfElements & 1)) > limit) ? 1L : 0L, numberOfComponents);
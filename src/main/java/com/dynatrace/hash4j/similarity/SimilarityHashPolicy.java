@@ -15,6 +15,8 @@
  */
 package com.dynatrace.hash4j.similarity;
 
+import java.util.concurrent.ForkJoinPool;
+
 /** A policy for similarity hashing. */
 public interface SimilarityHashPolicy {
 
@@ -25,6 +27,37 @@ public interface SimilarityHashPolicy {
    */
   SimilarityHasher createHasher();
 
+  /**
+   * Creates a new {@link IncrementalSimilarityHasher} instance.
+   *
+   * @return a new incremental hasher instance
+   * @throws UnsupportedOperationException if this policy does not support incremental hashing
+   */
+  default IncrementalSimilarityHasher createIncrementalHasher() {
+    throw new UnsupportedOperationException("Incremental hashing is not supported!");
+  }
+
+  /**
+   * Creates a new {@link SimilarityHasher} instance that computes signatures in parallel using the
+   * given {@link ForkJoinPool}.
+   *
+   * <p>The index range of the {@link ElementHashProvider} is split into chunks, which are processed
+   * by different workers using incremental hashers as created by {@link
+   * #createIncrementalHasher()}. The incremental hashers are merged afterwards. The computed
+   * signatures are identical to those computed by {@link #createHasher()}. As the element hash
+   * provider is accessed concurrently, it must be thread-safe. The returned hasher is thread-safe.
+   *
+   * <p>Parallelization is only worthwhile for large numbers of elements. Small element hash
+   * providers are processed in a single chunk.
+   *
+   * @param forkJoinPool the fork/join pool, for example {@link ForkJoinPool#commonPool()}
+   * @return a new parallel hasher instance
+   * @throws UnsupportedOperationException if this policy does not support parallel hashing
+   */
+  default SimilarityHasher createParallelHasher(ForkJoinPool forkJoinPool) {
+    throw new UnsupportedOperationException("Parallel hashing is not supported!");
+  }
+
   /**
    * Returns the number of hash signature components.
    *
@@ -82,6 +82,48 @@ public interface SimilarityHashing {
     return superMinHashVersion.create(numberOfComponents, bitsPerComponent);
   }
 
+  /**
+   * Returns a {@link SimilarityHashPolicy} for one permutation minwise hashing with densification
+   * as described in <a href="https://arxiv.org/abs/1704.04370">Søren Dahlgaard, Mathias Bæk Tejs
+   * Knudsen, and Mikkel Thorup, Fast Similarity Sketching, 2017.</a>.
+   *
+   * <p>Unlike {@link #minHash(int, int)}, whose costs are proportional to the number of elements
+   * times the number of components, every element is typically assigned to a single component only.
+   * Components that remain empty are filled by further rounds. The overall costs grow like the
+   * number of elements plus the number of components times its logarithm, which makes this
+   * algorithm particularly suitable for signatures with many components.
+   *
+   * @param numberOfComponents the number of components of the signature
+   * @param bitsPerComponent the number of bits per component in the range [1, 64]
+   * @return a policy
+   */
+  static SimilarityHashPolicy onePermutationMinHash(int numberOfComponents, int bitsPerComponent) {
+    return onePermutationMinHash(
+        numberOfComponents, bitsPerComponent, OnePermutationMinHashVersion.DEFAULT);
+  }
+
+  /**
+   * Returns a {@link SimilarityHashPolicy} for one permutation minwise hashing with densification
+   * as described in <a href="https://arxiv.org/abs/1704.04370">Søren Dahlgaard, Mathias Bæk Tejs
+   * Knudsen, and Mikkel Thorup, Fast Similarity Sketching, 2017.</a>.
+   *
+   * <p>Specifying the version of the implementation ensures compatibility with later hash4j
+   * versions that may change the default implementation. This is especially important if the
+   * signatures are persisted.
+   *
+   * @param numberOfComponents the number of components of the signature
+   * @param bitsPerComponent the number of bits per component in the range [1, 64]
+   * @param onePermutationMinHashVersion the version of the implementation
+   * @return a policy
+   * @see #onePermutationMinHash(int, int)
+   */
+  static SimilarityHashPolicy onePermutationMinHash(
+      int numberOfComponents,
+      int bitsPerComponent,
+      OnePermutationMinHashVersion onePermutationMinHashVersion) {
+    return onePermutationMinHashVersion.create(numberOfComponents, bitsPerComponent);
+  }
+
   /**
    * Returns a {@link SimilarityHashPolicy} for FastSimHash, which is a fast implementation of the
    * SimHash algorithm as introduced in <a
@@ -160,4 +202,85 @@ public interface SimilarityHashing {
   static SimilarityHashPolicy simHash(int numberOfComponents, SimHashVersion simHashVersion) {
     return simHashVersion.create(numberOfComponents);
   }
+
+  /**
+   * Returns a {@link WeightedSimilarityHashPolicy} for weighted minwise hashing based on improved
+   * consistent weighted sampling (ICWS) as described in <a
+   * href="https://doi.org/10.1109/ICDM.2010.80">Sergey Ioffe, Improved Consistent Sampling,
+   * Weighted Minhash and L1 Sketching, 2010.</a>.
+   *
+   * <p>The computation time is proportional to the product of the number of elements and the number
+   * of components. Prefer using {@link #fastWeightedMinHash(int, int)} instead, if the element
+   * weights are within its supported range.
+   *
+   * @param numberOfComponents the number of components of the signature
+   * @param bitsPerComponent the number of bits per component in the range [1, 64]
+   * @return a policy
+   */
+  static WeightedSimilarityHashPolicy weightedMinHash(
+      int numberOfComponents, int bitsPerComponent) {
+    return weightedMinHash(numberOfComponents, bitsPerComponent, WeightedMinHashVersion.DEFAULT);
+  }
+
+  /**
+   * Returns a {@link WeightedSimilarityHashPolicy} for weighted minwise hashing based on improved
+   * consistent weighted sampling (ICWS) as described in <a
+   * href="https://doi.org/10.1109/ICDM.2010.80">Sergey Ioffe, Improved Consistent Sampling,
+   * Weighted Minhash and L1 Sketching, 2010.</a>.
+   *
+   * <p>Specifying the version of the implementation ensures compatibility with later hash4j
+   * versions that may change the default implementation. This is especially important if the
+   * signatures are persisted.
+   *
+   * @param numberOfComponents the number of components of the signature
+   * @param bitsPerComponent the number of bits per component in the range [1, 64]
+   * @param weightedMinHashVersion the version of the implementation
+   * @return a policy
+   */
+  static WeightedSimilarityHashPolicy weightedMinHash(
+      int numberOfComponents, int bitsPerComponent, WeightedMinHashVersion weightedMinHashVersion) {
+    return weightedMinHashVersion.create(numberOfComponents, bitsPerComponent);
+  }
+
+  /**
+   * Returns a {@link WeightedSimilarityHashPolicy} for fast weighted minwise hashing.
+   *
+   * <p>Similar to BagMinHash, every element contributes the points of a consistently generated
+   * Poisson process over the range of weights up to its weight, and the generation of points stops
+   * as soon as they cannot change the signature anymore. Therefore, the expected computation time
+   * per element is independent of the number of components and of the weight, while the overall
+   * computation time grows like the number of components times its logarithm.
+   *
+   * <p>The element weights must be either zero or in the range of normal float values [{@link
+   * Float#MIN_NORMAL}, {@link Float#MAX_VALUE}].
+   *
+   * @param numberOfComponents the number of components of the signature
+   * @param bitsPerComponent the number of bits per component in the range [1, 64]
+   * @return a policy
+   */
+  static WeightedSimilarityHashPolicy fastWeightedMinHash(
+      int numberOfComponents, int bitsPerComponent) {
+    return fastWeightedMinHash(
+        numberOfComponents, bitsPerComponent, FastWeightedMinHashVersion.DEFAULT);
+  }
+
+  /**
+   * Returns a {@link WeightedSimilarityHashPolicy} for fast weighted minwise hashing.
+   *
+   * <p>Specifying the version of the implementation ensures compatibility with later hash4j
+   * versions that may change the default implementation. This is especially important if the
+   * signatures are persisted.
+   *
+   * @param numberOfComponents the number of components of the signature
+   * @param bitsPerComponent the number of bits per component in the range [1, 64]
+   * @param fastWeightedMinHashVersion the version of the implementation
+   * @return a policy
+   * @see #fastWeightedMinHash(int, int)
+   */
+  static WeightedSimilarityHashPolicy fastWeightedMinHash(
+      int numberOfComponents,
+      int bitsPerComponent,
+      FastWeightedMinHashVersion fastWeightedMinHashVersion) {
+    return fastWeightedMinHashVersion.create(numberOfComponents, bitsPerComponent);
+  }
 }
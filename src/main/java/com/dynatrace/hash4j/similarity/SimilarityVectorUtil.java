@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+final class SimilarityVectorUtil {
+
+  private SimilarityVectorUtil() {}
+
+  static boolean isAvailable() {
+    return false;
+  }
+
+  @SuppressWarnings("DoNotCallSuggester")
+  static int countNonZeroComponents(
+      byte[] query,
+      int queryOff,
+      byte[] signatures,
+      int off,
+      int numSignatures,
+      int signatureSize,
+      int len,
+      int bitSize,
+      long lowBits,
+      int[] result,
+      int resultOff) {
+    throw new UnsupportedOperationException(
+        "This function must not be called in Java versions smaller than 25.");
+  }
+}
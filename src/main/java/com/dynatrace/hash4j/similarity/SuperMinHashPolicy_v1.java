@@ -16,12 +16,14 @@
 package com.dynatrace.hash4j.similarity;
 
 import static com.dynatrace.hash4j.internal.Preconditions.checkArgument;
+import static com.dynatrace.hash4j.internal.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
 import com.dynatrace.hash4j.random.PermutationGenerator;
 import com.dynatrace.hash4j.random.PseudoRandomGenerator;
 import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 
 final class SuperMinHashPolicy_v1 extends AbstractSimilarityHashPolicy {
 
@@ -157,4 +159,150 @@ final class SuperMinHashPolicy_v1 extends AbstractSimilarityHashPolicy {
   public SimilarityHasher createHasher() {
     return new SuperMinHashPolicy_v1.Hasher();
   }
+
+  // Processes each element individually as the original SuperMinHash algorithm. The permutation of
+  // an element only needs to be generated up to the maximum integral part of all components, which
+  // is tracked using a histogram. Both variants yield the same signature, because a component is
+  // always the lexicographic minimum of all integral and fractional parts assigned to it.
+  private class IncrementalHasher implements IncrementalSimilarityHasher {
+    private final PseudoRandomGenerator pseudoRandomGenerator =
+        pseudoRandomGeneratorProvider.create();
+
+    private final PermutationGenerator permutationGenerator =
+        new PermutationGenerator(numberOfComponents);
+
+    private final long[] hashValuesFractionalPart = new long[numberOfComponents];
+    private final int[] hashValuesIntegralPart = new int[numberOfComponents];
+
+    // histogram[j] is the number of components with integral part j, only valid if not empty
+    private final int[] histogram = new int[numberOfComponents];
+    private int maxHashValuesIntegralPart;
+    private boolean isEmpty = true;
+
+    @Override
+    public IncrementalSimilarityHasher add(long elementHash) {
+      pseudoRandomGenerator.reset(elementHash);
+      permutationGenerator.reset();
+
+      if (isEmpty) {
+        for (int hashValueIntegralPart = 0;
+            hashValueIntegralPart < numberOfComponents;
+            ++hashValueIntegralPart) {
+          long hashValueFractionalPart = pseudoRandomGenerator.nextLong();
+          int idx = permutationGenerator.next(pseudoRandomGenerator);
+          hashValuesFractionalPart[idx] = hashValueFractionalPart;
+          hashValuesIntegralPart[idx] = hashValueIntegralPart;
+        }
+        maxHashValuesIntegralPart = numberOfComponents - 1;
+        Arrays.fill(histogram, 1);
+        isEmpty = false;
+        return this;
+      }
+
+      for (int hashValueIntegralPart = 0;
+          hashValueIntegralPart <= maxHashValuesIntegralPart;
+          ++hashValueIntegralPart) {
+        long hashValueFractionalPart = pseudoRandomGenerator.nextLong();
+        int idx = permutationGenerator.next(pseudoRandomGenerator);
+
+        int currentHashValuesIntegralPart = hashValuesIntegralPart[idx];
+        if (currentHashValuesIntegralPart > hashValueIntegralPart) {
+          hashValuesFractionalPart[idx] = hashValueFractionalPart;
+          hashValuesIntegralPart[idx] = hashValueIntegralPart;
+          histogram[hashValueIntegralPart] += 1;
+          histogram[currentHashValuesIntegralPart] -= 1;
+          while (histogram[maxHashValuesIntegralPart] == 0) {
+            maxHashValuesIntegralPart -= 1;
+          }
+        } else if (currentHashValuesIntegralPart == hashValueIntegralPart
+            && hashValueFractionalPart < hashValuesFractionalPart[idx]) {
+          hashValuesFractionalPart[idx] = hashValueFractionalPart;
+        }
+      }
+      return this;
+    }
+
+    @Override
+    public IncrementalSimilarityHasher addAll(ElementHashProvider elementHashProvider) {
+      requireNonNull(elementHashProvider);
+      int numberOfElements = elementHashProvider.getNumberOfElements();
+      for (int elementIdx = 0; elementIdx < numberOfElements; ++elementIdx) {
+        add(elementHashProvider.getElementHash(elementIdx));
+      }
+      return this;
+    }
+
+    private SuperMinHashPolicy_v1 getPolicy() {
+      return SuperMinHashPolicy_v1.this;
+    }
+
+    @Override
+    public IncrementalSimilarityHasher merge(IncrementalSimilarityHasher other) {
+      requireNonNull(other);
+      checkArgument(
+          other instanceof IncrementalHasher
+              && isEquivalent(((IncrementalHasher) other).getPolicy()),
+          "Incompatible incremental hasher!");
+      IncrementalHasher otherHasher = (IncrementalHasher) other;
+      if (otherHasher.isEmpty) return this;
+      if (isEmpty) {
+        System.arraycopy(
+            otherHasher.hashValuesFractionalPart,
+            0,
+            hashValuesFractionalPart,
+            0,
+            numberOfComponents);
+        System.arraycopy(
+            otherHasher.hashValuesIntegralPart, 0, hashValuesIntegralPart, 0, numberOfComponents);
+        System.arraycopy(otherHasher.histogram, 0, histogram, 0, numberOfComponents);
+        maxHashValuesIntegralPart = otherHasher.maxHashValuesIntegralPart;
+        isEmpty = false;
+        return this;
+      }
+      Arrays.fill(histogram, 0);
+      for (int idx = 0; idx < numberOfComponents; ++idx) {
+        int otherHashValueIntegralPart = otherHasher.hashValuesIntegralPart[idx];
+        long otherHashValueFractionalPart = otherHasher.hashValuesFractionalPart[idx];
+        if (otherHashValueIntegralPart < hashValuesIntegralPart[idx]
+            || (otherHashValueIntegralPart == hashValuesIntegralPart[idx]
+                && otherHashValueFractionalPart < hashValuesFractionalPart[idx])) {
+          hashValuesIntegralPart[idx] = otherHashValueIntegralPart;
+          hashValuesFractionalPart[idx] = otherHashValueFractionalPart;
+        }
+        histogram[hashValuesIntegralPart[idx]] += 1;
+      }
+      maxHashValuesIntegralPart = numberOfComponents - 1;
+      while (histogram[maxHashValuesIntegralPart] == 0) {
+        maxHashValuesIntegralPart -= 1;
+      }
+      return this;
+    }
+
+    @Override
+    public IncrementalSimilarityHasher reset() {
+      isEmpty = true;
+      return this;
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return isEmpty;
+    }
+
+    @Override
+    public byte[] getSignature() {
+      checkState(!isEmpty);
+      return packedArrayHandler.create(i -> hashValuesFractionalPart[i], numberOfComponents);
+    }
+  }
+
+  @Override
+  public IncrementalSimilarityHasher createIncrementalHasher() {
+    return new IncrementalHasher();
+  }
+
+  @Override
+  public SimilarityHasher createParallelHasher(ForkJoinPool forkJoinPool) {
+    return ParallelSimilarityHasher.ofIncrementalHashers(this, forkJoinPool);
+  }
 }
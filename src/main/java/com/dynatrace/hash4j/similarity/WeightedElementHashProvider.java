@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import static com.dynatrace.hash4j.internal.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/** An element hash provider for weighted elements. */
+public interface WeightedElementHashProvider {
+
+  /**
+   * Returns a 64-bit hash value of the element with given index.
+   *
+   * <p>The same requirements as for {@link ElementHashProvider#getElementHash(int)} apply.
+   *
+   * @param elementIndex the element index
+   * @return the hash value
+   */
+  long getElementHash(int elementIndex);
+
+  /**
+   * Returns the weight of the element with given index.
+   *
+   * <p>The weight must be nonnegative and finite. Elements with zero weight are ignored. If the
+   * same element hash value occurs multiple times, the maximum weight is effective.
+   *
+   * @param elementIndex the element index
+   * @return the weight
+   */
+  double getElementWeight(int elementIndex);
+
+  /**
+   * Returns the number of elements.
+   *
+   * <p>The number of elements must be positive.
+   *
+   * @return the number of elements
+   */
+  int getNumberOfElements();
+
+  /**
+   * Creates a {@link WeightedElementHashProvider} given non-empty arrays of element hashes and
+   * corresponding weights.
+   *
+   * @param elementHashes array of element hashes
+   * @param elementWeights array of element weights
+   * @return a weighted element hash provider
+   * @throws IllegalArgumentException if the arrays are empty or have different lengths
+   */
+  static WeightedElementHashProvider ofValues(long[] elementHashes, double[] elementWeights) {
+    requireNonNull(elementHashes);
+    requireNonNull(elementWeights);
+    checkArgument(elementHashes.length > 0, "Number of elements must be positive.");
+    checkArgument(
+        elementHashes.length == elementWeights.length,
+        "Number of element hashes and weights must be equal.");
+    return new WeightedElementHashProvider() {
+      @Override
+      public long getElementHash(int elementIndex) {
+        return elementHashes[elementIndex];
+      }
+
+      @Override
+      public double getElementWeight(int elementIndex) {
+        return elementWeights[elementIndex];
+      }
+
+      @Override
+      public int getNumberOfElements() {
+        return elementHashes.length;
+      }
+    };
+  }
+
+  /**
+   * Creates a {@link WeightedElementHashProvider} given functions that map an element index to its
+   * corresponding hash value and weight, respectively, for a given number of elements.
+   *
+   * <p>The functions must always return the same values for the same element index and must be
+   * defined for all nonnegative indices smaller than the given number of elements.
+   *
+   * @param elementIndexToHash function that maps an element index to its corresponding hash value
+   * @param elementIndexToWeight function that maps an element index to its corresponding weight
+   * @param numberOfElements the number of elements
+   * @return a weighted element hash provider
+   * @throws IllegalArgumentException if the number of elements is not positive
+   */
+  static WeightedElementHashProvider ofFunctions(
+      IntToLongFunction elementIndexToHash,
+      IntToDoubleFunction elementIndexToWeight,
+      int numberOfElements) {
+    requireNonNull(elementIndexToHash);
+    requireNonNull(elementIndexToWeight);
+    checkArgument(numberOfElements > 0, "Number of elements must be positive.");
+    return new WeightedElementHashProvider() {
+      @Override
+      public long getElementHash(int elementIndex) {
+        return elementIndexToHash.applyAsLong(elementIndex);
+      }
+
+      @Override
+      public double getElementWeight(int elementIndex) {
+        return elementIndexToWeight.applyAsDouble(elementIndex);
+      }
+
+      @Override
+      public int getNumberOfElements() {
+        return numberOfElements;
+      }
+    };
+  }
+
+  /**
+   * Creates a {@link WeightedElementHashProvider} given a collection of elements and functions that
+   * map an element to a 64-bit hash value and to its weight, respectively.
+   *
+   * @param <T> the element type
+   * @param collection a collection of elements
+   * @param elementHashFunction a function that maps an element to a 64-bit hash value
+   * @param elementWeightFunction a function that maps an element to its weight
+   * @return a weighted element hash provider
+   * @throws IllegalArgumentException if the collection is empty
+   */
+  static <T> WeightedElementHashProvider ofCollection(
+      Collection<T> collection,
+      ToLongFunction<? super T> elementHashFunction,
+      ToDoubleFunction<? super T> elementWeightFunction) {
+    requireNonNull(collection);
+    requireNonNull(elementHashFunction);
+    requireNonNull(elementWeightFunction);
+    return ofValues(
+        collection.stream().mapToLong(elementHashFunction).toArray(),
+        collection.stream().mapToDouble(elementWeightFunction).toArray());
+  }
+
+  /**
+   * Creates a {@link WeightedElementHashProvider} that assigns a weight of 1 to all elements of the
+   * given {@link ElementHashProvider}.
+   *
+   * @param elementHashProvider the element hash provider
+   * @return a weighted element hash provider
+   */
+  static WeightedElementHashProvider ofUnitWeights(ElementHashProvider elementHashProvider) {
+    requireNonNull(elementHashProvider);
+    return new WeightedElementHashProvider() {
+      @Override
+      public long getElementHash(int elementIndex) {
+        return elementHashProvider.getElementHash(elementIndex);
+      }
+
+      @Override
+      public double getElementWeight(int elementIndex) {
+        return 1.;
+      }
+
+      @Override
+      public int getNumberOfElements() {
+        return elementHashProvider.getNumberOfElements();
+      }
+    };
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import static com.dynatrace.hash4j.internal.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.dynatrace.hash4j.hashing.Hasher64;
+import com.dynatrace.hash4j.hashing.Hashing;
+import com.dynatrace.hash4j.random.PseudoRandomGenerator;
+import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
+import java.util.Arrays;
+
+// Improved consistent weighted sampling (ICWS) as described in Sergey Ioffe, Improved Consistent
+// Sampling, Weighted Minhash and L1 Sketching, 2010. For each component, every element draws the
+// random values r ~ Gamma(2,1), c ~ Gamma(2,1), and beta ~ Uniform(0,1) from a pseudo-random
+// generator seeded with its element hash. The component is given by the pair (element, t) that
+// minimizes a = c / (y * exp(r)) with t = floor(log(weight) / r + beta) and
+// y = exp(r * (t - beta)). Gamma(2,1) distributed values are obtained as sum of two exponentially
+// distributed values. The pair (element, t) is finally hashed together with the component index to
+// obtain the component value, which makes the values of different components independent, even if
+// they were sampled from the same element.
+//
+// To guarantee platform-independence, the logarithms are those of StrictMath. The more costly
+// StrictMath.log(c) is only evaluated if the bracket obtained from Math.log(c), which differs by at
+// most 1ulp, does not rule out that the component is updated (compare
+// ImprovedConsistentWeightedSampling.getBucket).
+final class WeightedMinHashPolicy_v1 extends AbstractSimilarityHashPolicy
+    implements WeightedSimilarityHashPolicy {
+
+  private static final Hasher64 COMPONENT_HASHER = Hashing.komihash5_0();
+
+  public WeightedMinHashPolicy_v1(
+      int numberOfComponents,
+      int bitsPerComponent,
+      PseudoRandomGeneratorProvider pseudoRandomGeneratorProvider) {
+    super(numberOfComponents, bitsPerComponent, pseudoRandomGeneratorProvider);
+  }
+
+  @Override
+  public WeightedSimilarityHasher createHasher() {
+    return new Hasher();
+  }
+
+  private class Hasher implements WeightedSimilarityHasher {
+
+    private final PseudoRandomGenerator pseudoRandomGenerator =
+        pseudoRandomGeneratorProvider.create();
+    private final double[] minLogA = new double[numberOfComponents];
+    private final long[] elementHashes = new long[numberOfComponents];
+    private final long[] ts = new long[numberOfComponents];
+
+    @Override
+    public strictfp byte[] compute(WeightedElementHashProvider weightedElementHashProvider) {
+
+      requireNonNull(weightedElementHashProvider);
+      int numberOfElements = weightedElementHashProvider.getNumberOfElements();
+      checkArgument(numberOfElements > 0, "Number of elements must be positive!");
+
+      Arrays.fill(minLogA, Double.POSITIVE_INFINITY);
+
+      boolean hasPositiveWeight = false;
+      for (int elementIdx = 0; elementIdx < numberOfElements; ++elementIdx) {
+        double weight = weightedElementHashProvider.getElementWeight(elementIdx);
+        checkArgument(
+            weight >= 0 && weight < Double.POSITIVE_INFINITY,
+            "Element weights must be nonnegative and finite!");
+        if (weight == 0) continue;
+        hasPositiveWeight = true;
+        double logWeight = StrictMath.log(weight);
+        long elementHash = weightedElementHashProvider.getElementHash(elementIdx);
+        pseudoRandomGenerator.reset(elementHash);
+        for (int i = 0; i < numberOfComponents; ++i) {
+          double r =
+              pseudoRandomGenerator.nextExponential() + pseudoRandomGenerator.nextExponential();
+          double c =
+              pseudoRandomGenerator.nextExponential() + pseudoRandomGenerator.nextExponential();
+          double beta = pseudoRandomGenerator.nextDouble();
+          double t = Math.floor(logWeight / r + beta);
+          // log(a) = log(c) - log(y) - r = log(c) - r * (t - beta + 1)
+          double rtb = r * (t - beta + 1.);
+          // Math.nextDown(Math.log(c)) <= StrictMath.log(c), try first without StrictMath
+          if (Math.nextDown(Math.log(c)) - rtb < minLogA[i]) {
+            double logA = StrictMath.log(c) - rtb;
+            if (logA < minLogA[i]) {
+              minLogA[i] = logA;
+              elementHashes[i] = elementHash;
+              ts[i] = (long) t;
+            }
+          }
+        }
+      }
+      checkArgument(hasPositiveWeight, "At least one element weight must be positive!");
+
+      return packedArrayHandler.create(
+          i -> COMPONENT_HASHER.hashLongLongLongToLong(elementHashes[i], ts[i], i),
+          numberOfComponents);
+    }
+  }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+/**
+ * A policy for similarity hashing of weighted sets.
+ *
+ * <p>The fraction of equal components of two signatures can be used to estimate the weighted
+ * Jaccard similarity {@code sum_i min(u_i, v_i) / sum_i max(u_i, v_i)} of the corresponding weight
+ * vectors {@code u} and {@code v}. For unit weights, this is the ordinary Jaccard similarity.
+ */
+public interface WeightedSimilarityHashPolicy extends SimilarityHashPolicy {
+
+  /**
+   * Creates a new {@link WeightedSimilarityHasher} instance.
+   *
+   * @return a new hasher instance
+   */
+  @Override
+  WeightedSimilarityHasher createHasher();
+}
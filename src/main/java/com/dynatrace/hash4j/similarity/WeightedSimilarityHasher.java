@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+/**
+ * A hasher that is able to compute hash signatures of weighted sets which can be used for weighted
+ * similarity estimations.
+ */
+public interface WeightedSimilarityHasher extends SimilarityHasher {
+
+  /**
+   * Computes a hash signature for a given collection of weighted elements provided by the given
+   * weighted element hash provider.
+   *
+   * @param weightedElementHashProvider the weighted element hash provider
+   * @return the hash signature
+   * @throws IllegalArgumentException if some weight is negative or not finite, or if all weights
+   *     are zero
+   */
+  byte[] compute(WeightedElementHashProvider weightedElementHashProvider);
+
+  /**
+   * Computes a hash signature for a given collection of 64-bit element hash values provided by the
+   * given element hash provider, assuming a weight of 1 for all elements.
+   *
+   * @param elementHashProvider the element hash provider
+   * @return the hash signature
+   */
+  @Override
+  default byte[] compute(ElementHashProvider elementHashProvider) {
+    return compute(WeightedElementHashProvider.ofUnitWeights(elementHashProvider));
+  }
+}
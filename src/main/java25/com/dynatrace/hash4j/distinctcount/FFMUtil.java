@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025-2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static com.dynatrace.hash4j.distinctcount.DistinctCountUtil.checkPrecisionParameter;
+import static com.dynatrace.hash4j.distinctcount.DistinctCountUtil.getUnexpectedStateLengthException;
+import static com.dynatrace.hash4j.distinctcount.DistinctCountUtil.isUnsignedPowerOfTwo;
+import static java.util.Objects.requireNonNull;
+
+import java.lang.foreign.MemorySegment;
+
+final class FFMUtil {
+
+  private FFMUtil() {}
+
+  static OffHeapUltraLogLog createOffHeapUltraLogLog(Object memorySegment, int p) {
+    checkPrecisionParameter(p, UltraLogLog.MIN_P, UltraLogLog.MAX_P);
+    MemorySegment segment = asMemorySegment(memorySegment);
+    if (segment.byteSize() != MemorySegmentUltraLogLog.getStateLength(p)) {
+      throw getUnexpectedStateLengthException();
+    }
+    return new MemorySegmentUltraLogLog(segment.fill((byte) 0), p);
+  }
+
+  static OffHeapUltraLogLog wrapOffHeapUltraLogLog(Object memorySegment) {
+    MemorySegment segment = asMemorySegment(memorySegment);
+    long stateLength = segment.byteSize();
+    if (stateLength > MemorySegmentUltraLogLog.getStateLength(UltraLogLog.MAX_P)
+        || stateLength < MemorySegmentUltraLogLog.getStateLength(UltraLogLog.MIN_P)
+        || !isUnsignedPowerOfTwo((int) stateLength)) {
+      throw getUnexpectedStateLengthException();
+    }
+    return new MemorySegmentUltraLogLog(segment, 63 - Long.numberOfLeadingZeros(stateLength));
+  }
+
+  static OffHeapHyperLogLog createOffHeapHyperLogLog(Object memorySegment, int p) {
+    checkPrecisionParameter(p, HyperLogLog.MIN_P, HyperLogLog.MAX_P);
+    MemorySegment segment = asMemorySegment(memorySegment);
+    if (segment.byteSize() != MemorySegmentHyperLogLog.getStateLength(p)) {
+      throw getUnexpectedStateLengthException();
+    }
+    return new MemorySegmentHyperLogLog(segment.fill((byte) 0), p);
+  }
+
+  static OffHeapHyperLogLog wrapOffHeapHyperLogLog(Object memorySegment) {
+    MemorySegment segment = asMemorySegment(memorySegment);
+    long stateLength = segment.byteSize();
+    if (stateLength > MemorySegmentHyperLogLog.getStateLength(HyperLogLog.MAX_P)
+        || stateLength < MemorySegmentHyperLogLog.getStateLength(HyperLogLog.MIN_P)) {
+      throw getUnexpectedStateLengthException();
+    }
+    int p = HyperLogLog.calculateP((int) stateLength);
+    if (stateLength != MemorySegmentHyperLogLog.getStateLength(p)) {
+      throw getUnexpectedStateLengthException();
+    }
+    return new MemorySegmentHyperLogLog(segment, p);
+  }
+
+  static MemorySegment asMemorySegment(Object memorySegment) {
+    requireNonNull(memorySegment, "null argument");
+    if (!(memorySegment instanceof MemorySegment segment)) {
+      throw new IllegalArgumentException("The argument must be a java.lang.foreign.MemorySegment!");
+    }
+    return segment;
+  }
+}
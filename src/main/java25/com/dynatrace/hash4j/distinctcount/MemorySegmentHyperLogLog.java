@@ -0,0 +1,249 @@
+/*
+ * Copyright 2025-2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static java.lang.foreign.ValueLayout.JAVA_BYTE;
+import static java.lang.foreign.ValueLayout.JAVA_INT_UNALIGNED;
+import static java.lang.foreign.ValueLayout.JAVA_SHORT_UNALIGNED;
+import static java.util.Objects.requireNonNull;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+
+final class MemorySegmentHyperLogLog implements OffHeapHyperLogLog {
+
+  private static final ValueLayout.OfShort SHORT_LE =
+      JAVA_SHORT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+  private static final ValueLayout.OfInt INT_LE =
+      JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+  private final MemorySegment segment;
+  private final int p;
+
+  MemorySegmentHyperLogLog(MemorySegment segment, int p) {
+    this.segment = segment;
+    this.p = p;
+  }
+
+  static long getStateLength(int p) {
+    return (6L << p) >>> 3;
+  }
+
+  // registers are packed with 6 bits each in little-endian order as done by PackedArray, the
+  // register either fits into a single byte (shift = 0 or 2) or spans two bytes (shift = 4 or 6)
+  private static int getRegister(MemorySegment segment, long idx) {
+    long bitOffset = 6 * idx;
+    long off = bitOffset >>> 3;
+    int shift = (int) bitOffset & 7;
+    if (shift <= 2) {
+      return (segment.get(JAVA_BYTE, off) >>> shift) & 0x3F;
+    } else {
+      return (segment.get(SHORT_LE, off) >>> shift) & 0x3F;
+    }
+  }
+
+  private static void setRegister(MemorySegment segment, long idx, int value) {
+    long bitOffset = 6 * idx;
+    long off = bitOffset >>> 3;
+    int shift = (int) bitOffset & 7;
+    int mask = ~(0x3F << shift);
+    if (shift <= 2) {
+      segment.set(JAVA_BYTE, off, (byte) ((segment.get(JAVA_BYTE, off) & mask) | (value << shift)));
+    } else {
+      segment.set(SHORT_LE, off, (short) ((segment.get(SHORT_LE, off) & mask) | (value << shift)));
+    }
+  }
+
+  @Override
+  public int getP() {
+    return p;
+  }
+
+  @Override
+  public OffHeapHyperLogLog add(long hashValue) {
+    return add(hashValue, null);
+  }
+
+  @Override
+  public OffHeapHyperLogLog add(long hashValue, StateChangeObserver stateChangeObserver) {
+    long idx = hashValue >>> -p;
+    int newValue = Long.numberOfLeadingZeros(~(~hashValue << p)) + 1;
+    int oldValue = getRegister(segment, idx);
+    if (newValue > oldValue) {
+      setRegister(segment, idx, newValue);
+      if (stateChangeObserver != null) {
+        double stateChangeProbabilityDecrement =
+            (getScaledRegisterChangeProbability(oldValue)
+                    - getScaledRegisterChangeProbability(newValue))
+                * 0x1p-64;
+        stateChangeObserver.stateChanged(stateChangeProbabilityDecrement);
+      }
+    }
+    return this;
+  }
+
+  @Override
+  public OffHeapHyperLogLog addToken(int token) {
+    return add(DistinctCountUtil.reconstructHash(token));
+  }
+
+  @Override
+  public OffHeapHyperLogLog addToken(int token, StateChangeObserver stateChangeObserver) {
+    return add(DistinctCountUtil.reconstructHash(token), stateChangeObserver);
+  }
+
+  // returns register change probability scaled by 2^64
+  private long getScaledRegisterChangeProbability(int registerValue) {
+    return 0x4000000000000000L >>> (p - 2 + registerValue);
+  }
+
+  @Override
+  public OffHeapHyperLogLog add(OffHeapHyperLogLog other) {
+    requireNonNull(other, "null argument");
+    if (other instanceof MemorySegmentHyperLogLog o) {
+      return add(o.segment, o.p);
+    } else {
+      return add(MemorySegment.ofArray(other.getState()), other.getP());
+    }
+  }
+
+  @Override
+  public OffHeapHyperLogLog add(HyperLogLog other) {
+    requireNonNull(other, "null argument");
+    return add(MemorySegment.ofArray(other.getState()), other.getP());
+  }
+
+  private OffHeapHyperLogLog add(MemorySegment otherSegment, int otherP) {
+    if (otherP < p) {
+      throw new IllegalArgumentException("other has smaller precision");
+    } else if (otherP == p) {
+      final long stateLength = getStateLength(p);
+      for (long off = 0; off + 6 <= stateLength; off += 6) {
+        int s0 = segment.get(INT_LE, off);
+        int s1 = segment.get(INT_LE, off + 2);
+        int sOther0 = otherSegment.get(INT_LE, off);
+        int sOther1 = otherSegment.get(INT_LE, off + 2);
+        int r0 = Math.max(s0 & 0x3F, sOther0 & 0x3F);
+        int r1 = Math.max((s0 >>> 6) & 0x3F, (sOther0 >>> 6) & 0x3F);
+        int r2 = Math.max((s0 >>> 12) & 0x3F, (sOther0 >>> 12) & 0x3F);
+        int r3 = Math.max((s0 >>> 18) & 0x3F, (sOther0 >>> 18) & 0x3F);
+        int r4 = Math.max((s1 >>> 8) & 0x3F, (sOther1 >>> 8) & 0x3F);
+        int r5 = Math.max((s1 >>> 14) & 0x3F, (sOther1 >>> 14) & 0x3F);
+        int r6 = Math.max((s1 >>> 20) & 0x3F, (sOther1 >>> 20) & 0x3F);
+        int r7 = Math.max((s1 >>> 26) & 0x3F, (sOther1 >>> 26) & 0x3F);
+
+        segment.set(INT_LE, off + 2, (r5 << 14) | (r6 << 20) | (r7 << 26));
+        segment.set(
+            INT_LE, off, r0 | (r1 << 6) | (r2 << 12) | (r3 << 18) | (r4 << 24) | (r5 << 30));
+      }
+    } else {
+      final int deltaP = otherP - p;
+      long j = 0;
+      for (long i = 0; i < 1L << p; ++i) {
+        int oldR = getRegister(segment, i);
+        int r = oldR;
+        int otherR = getRegister(otherSegment, j);
+        if (otherR != 0) {
+          otherR += deltaP;
+          if (otherR > r) {
+            r = otherR;
+          }
+        }
+        j += 1;
+        for (long k = 1; k < 1L << deltaP; ++k) {
+          int nlz = Long.numberOfLeadingZeros(k) - 64 + deltaP;
+          if (nlz >= r && getRegister(otherSegment, j) != 0) {
+            r = nlz + 1;
+          }
+          j += 1;
+        }
+        if (oldR < r) {
+          setRegister(segment, i, r);
+        }
+      }
+    }
+    return this;
+  }
+
+  @Override
+  public OffHeapHyperLogLog downsize(Object memorySegment) {
+    MemorySegmentHyperLogLog target =
+        (MemorySegmentHyperLogLog) FFMUtil.wrapOffHeapHyperLogLog(memorySegment);
+    if (target.p > p) {
+      throw new IllegalArgumentException("memory segment too large for downsizing");
+    }
+    return target.reset().add(this);
+  }
+
+  @Override
+  public double getDistinctCountEstimate() {
+    return getDistinctCountEstimate(HyperLogLog.DEFAULT_ESTIMATOR);
+  }
+
+  @Override
+  public double getDistinctCountEstimate(HyperLogLog.Estimator estimator) {
+    if (estimator instanceof HyperLogLog.StateEstimator stateEstimator) {
+      return stateEstimator.estimate(off -> segment.get(INT_LE, off), p);
+    }
+    return estimator.estimate(HyperLogLog.wrap(getState()));
+  }
+
+  @Override
+  public double getStateChangeProbability() {
+    final long stateLength = getStateLength(p);
+    long sum = 0;
+    for (long off = 0; off + 6 <= stateLength; off += 6) {
+      int s0 = segment.get(INT_LE, off);
+      int s1 = segment.get(INT_LE, off + 2);
+      sum += getScaledRegisterChangeProbability(s0);
+      sum += getScaledRegisterChangeProbability(s0 >>> 6);
+      sum += getScaledRegisterChangeProbability(s0 >>> 12);
+      sum += getScaledRegisterChangeProbability(s0 >>> 18);
+      sum += getScaledRegisterChangeProbability(s1 >>> 8);
+      sum += getScaledRegisterChangeProbability(s1 >>> 14);
+      sum += getScaledRegisterChangeProbability(s1 >>> 20);
+      sum += getScaledRegisterChangeProbability(s1 >>> 26);
+    }
+    if (sum == 0 && segment.get(JAVA_BYTE, 0) == 0) {
+      // sum can only be zero if either all registers are 0 or all registers are saturated
+      // therefore, it is sufficient to check if the first byte of the state is zero or not to
+      // distinguish both cases
+      return 1.;
+    }
+    return DistinctCountUtil.unsignedLongToDouble(sum) * 0x1p-64;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    final long stateLength = getStateLength(p);
+    for (long off = 0; off < stateLength; off += 6) {
+      if (segment.get(INT_LE, off) != 0 || segment.get(SHORT_LE, off + 4) != 0) return false;
+    }
+    return true;
+  }
+
+  @Override
+  public OffHeapHyperLogLog reset() {
+    segment.fill((byte) 0);
+    return this;
+  }
+
+  @Override
+  public byte[] getState() {
+    return segment.toArray(JAVA_BYTE);
+  }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2025-2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static com.dynatrace.hash4j.distinctcount.UltraLogLog.getScaledRegisterChangeProbability;
+import static com.dynatrace.hash4j.distinctcount.UltraLogLog.pack;
+import static com.dynatrace.hash4j.distinctcount.UltraLogLog.unpack;
+import static java.lang.foreign.ValueLayout.JAVA_BYTE;
+import static java.lang.foreign.ValueLayout.JAVA_LONG_UNALIGNED;
+import static java.util.Objects.requireNonNull;
+
+import java.lang.foreign.MemorySegment;
+
+final class MemorySegmentUltraLogLog implements OffHeapUltraLogLog {
+
+  private final MemorySegment segment;
+  private final int p;
+
+  MemorySegmentUltraLogLog(MemorySegment segment, int p) {
+    this.segment = segment;
+    this.p = p;
+  }
+
+  static long getStateLength(int p) {
+    return 1L << p;
+  }
+
+  @Override
+  public int getP() {
+    return p;
+  }
+
+  @Override
+  public OffHeapUltraLogLog add(long hashValue) {
+    return add(hashValue, null);
+  }
+
+  @Override
+  public OffHeapUltraLogLog add(long hashValue, StateChangeObserver stateChangeObserver) {
+    int q = 64 - p;
+    long idx = hashValue >>> q;
+    int nlz = Long.numberOfLeadingZeros(~(~hashValue << -q)); // nlz in {0, 1, ..., 64-p}
+    byte oldState = segment.get(JAVA_BYTE, idx);
+    long hashPrefix = unpack(oldState);
+    hashPrefix |= 1L << (nlz + ~q); // (nlz + (~q)) = (nlz + p - 1) in {p-1, ... 63}
+    byte newState = pack(hashPrefix);
+    segment.set(JAVA_BYTE, idx, newState);
+    if (stateChangeObserver != null && newState != oldState) {
+      stateChangeObserver.stateChanged(
+          (getScaledRegisterChangeProbability(oldState, p)
+                  - getScaledRegisterChangeProbability(newState, p))
+              * 0x1p-64);
+    }
+    return this;
+  }
+
+  @Override
+  public OffHeapUltraLogLog addToken(int token) {
+    return add(DistinctCountUtil.reconstructHash(token));
+  }
+
+  @Override
+  public OffHeapUltraLogLog addToken(int token, StateChangeObserver stateChangeObserver) {
+    return add(DistinctCountUtil.reconstructHash(token), stateChangeObserver);
+  }
+
+  @Override
+  public OffHeapUltraLogLog add(OffHeapUltraLogLog other) {
+    requireNonNull(other, "null argument");
+    if (other instanceof MemorySegmentUltraLogLog o) {
+      return add(o.segment, o.p);
+    } else {
+      return add(MemorySegment.ofArray(other.getState()), other.getP());
+    }
+  }
+
+  @Override
+  public OffHeapUltraLogLog add(UltraLogLog other) {
+    requireNonNull(other, "null argument");
+    return add(MemorySegment.ofArray(other.getState()), other.getP());
+  }
+
+  private OffHeapUltraLogLog add(MemorySegment otherSegment, int otherP) {
+    if (otherP < p) {
+      throw new IllegalArgumentException("other has smaller precision");
+    }
+    final long m = getStateLength(p);
+    if (otherP == p) {
+      for (long i = 0; i < m; ++i) {
+        byte otherR = otherSegment.get(JAVA_BYTE, i);
+        if (otherR != 0) {
+          segment.set(JAVA_BYTE, i, pack(unpack(segment.get(JAVA_BYTE, i)) | unpack(otherR)));
+        }
+      }
+    } else {
+      final int otherPMinusOne = otherP - 1;
+      final long kUpperBound = 1L << (otherP - p);
+      long j = 0;
+      for (long i = 0; i < m; ++i) {
+        long hashPrefix =
+            unpack(segment.get(JAVA_BYTE, i)) | unpack(otherSegment.get(JAVA_BYTE, j));
+        j += 1;
+        for (long k = 1; k < kUpperBound; ++k) {
+          if (otherSegment.get(JAVA_BYTE, j) != 0) {
+            hashPrefix |= 1L << (Long.numberOfLeadingZeros(k) + otherPMinusOne);
+          }
+          j += 1;
+        }
+        if (hashPrefix != 0) {
+          segment.set(JAVA_BYTE, i, pack(hashPrefix));
+        }
+      }
+    }
+    return this;
+  }
+
+  @Override
+  public OffHeapUltraLogLog downsize(Object memorySegment) {
+    MemorySegmentUltraLogLog target =
+        (MemorySegmentUltraLogLog) FFMUtil.wrapOffHeapUltraLogLog(memorySegment);
+    if (target.p > p) {
+      throw new IllegalArgumentException("memory segment too large for downsizing");
+    }
+    return target.reset().add(this);
+  }
+
+  @Override
+  public double getDistinctCountEstimate() {
+    return getDistinctCountEstimate(UltraLogLog.DEFAULT_ESTIMATOR);
+  }
+
+  @Override
+  public double getDistinctCountEstimate(UltraLogLog.Estimator estimator) {
+    if (estimator instanceof UltraLogLog.RegisterEstimator registerEstimator) {
+      return registerEstimator.estimate(idx -> segment.get(JAVA_BYTE, idx) & 0xFF, p);
+    }
+    return estimator.estimate(UltraLogLog.wrap(getState()));
+  }
+
+  @Override
+  public double getStateChangeProbability() {
+    final long m = getStateLength(p);
+    long sum = 0;
+    for (long i = 0; i < m; ++i) {
+      sum += getScaledRegisterChangeProbability(segment.get(JAVA_BYTE, i), p);
+    }
+    if (sum == 0 && segment.get(JAVA_BYTE, 0) == 0) {
+      // sum can only be zero if either all registers are 0 or all registers are saturated
+      // therefore, it is sufficient to check if the first byte of the state is zero or not to
+      // distinguish both cases
+      return 1.;
+    }
+    return DistinctCountUtil.unsignedLongToDouble(sum) * 0x1p-64;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    final long m = getStateLength(p);
+    for (long off = 0; off < m; off += 8) {
+      if (segment.get(JAVA_LONG_UNALIGNED, off) != 0) return false;
+    }
+    return true;
+  }
+
+  @Override
+  public OffHeapUltraLogLog reset() {
+    segment.fill((byte) 0);
+    return this;
+  }
+
+  @Override
+  public byte[] getState() {
+    return segment.toArray(JAVA_BYTE);
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import static com.dynatrace.hash4j.internal.Preconditions.checkArgument;
+import static java.lang.foreign.ValueLayout.JAVA_BYTE;
+import static java.lang.foreign.ValueLayout.JAVA_LONG_UNALIGNED;
+import static java.util.Objects.requireNonNull;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+final class FFMUtil {
+
+  private FFMUtil() {}
+
+  private static final ValueLayout.OfLong LONG_LE =
+      JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+  static int getNumberOfSignatures(Object memorySegment, int signatureSize) {
+    long byteSize = asMemorySegment(memorySegment).byteSize();
+    checkArgument(byteSize % signatureSize == 0, "Signature block has unexpected size!");
+    checkArgument(byteSize / signatureSize <= Integer.MAX_VALUE, "Too many signatures!");
+    return (int) (byteSize / signatureSize);
+  }
+
+  // equivalent of BatchSignatureComparator.compare for signatures stored in a memory segment
+  static void compare(
+      BatchSignatureComparator comparator,
+      byte[] query,
+      int queryOff,
+      Object signatures,
+      int from,
+      int to,
+      int[] result,
+      int resultOff) {
+    MemorySegment segment = asMemorySegment(signatures);
+    int signatureSize = comparator.getSignatureSizeInBytes();
+    if (!comparator.isFoldable()) {
+      SimilarityHashPolicy policy = comparator.getPolicy();
+      byte[] querySignature = Arrays.copyOfRange(query, queryOff, queryOff + signatureSize);
+      byte[] signature = new byte[signatureSize];
+      for (int i = from; i < to; ++i) {
+        MemorySegment.copy(
+            segment, JAVA_BYTE, (long) i * signatureSize, signature, 0, signatureSize);
+        result[resultOff + i - from] = policy.getNumberOfEqualComponents(querySignature, signature);
+      }
+      return;
+    }
+    int numberOfComponents = comparator.getNumberOfComponents();
+    int bitSize = comparator.getBitSize();
+    long lowBits = comparator.getLowBits();
+    int numFullWordBytes = comparator.getNumFullWordBytes();
+    long tailMask = comparator.getTailMask();
+    MemorySegment querySegment = MemorySegment.ofArray(query);
+    int processedBytes = 0;
+    if (SimilarityVectorUtil.isAvailable()) {
+      processedBytes =
+          SimilarityVectorUtil.countNonZeroComponents(
+              querySegment,
+              queryOff,
+              segment,
+              (long) from * signatureSize,
+              to - from,
+              signatureSize,
+              numFullWordBytes,
+              bitSize,
+              lowBits,
+              result,
+              resultOff);
+    }
+    for (int i = from; i < to; ++i) {
+      long off = (long) i * signatureSize;
+      int numNonZeroComponents = (processedBytes > 0) ? result[resultOff + i - from] : 0;
+      for (int p = processedBytes; p < numFullWordBytes; p += 8) {
+        long x = querySegment.get(LONG_LE, queryOff + p) ^ segment.get(LONG_LE, off + p);
+        numNonZeroComponents +=
+            BatchSignatureComparator.countNonZeroComponents(x, bitSize, lowBits);
+      }
+      if (numFullWordBytes < signatureSize) {
+        long x = 0;
+        for (int p = numFullWordBytes; p < signatureSize; ++p) {
+          long b = (query[queryOff + p] ^ segment.get(JAVA_BYTE, off + p)) & 0xFFL;
+          x |= b << ((p - numFullWordBytes) << 3);
+        }
+        numNonZeroComponents +=
+            BatchSignatureComparator.countNonZeroComponents(x & tailMask, bitSize, lowBits);
+      }
+      result[resultOff + i - from] = numberOfComponents - numNonZeroComponents;
+    }
+  }
+
+  static void copySignature(Object signatures, int idx, byte[] signature) {
+    MemorySegment.copy(
+        asMemorySegment(signatures),
+        JAVA_BYTE,
+        (long) idx * signature.length,
+        signature,
+        0,
+        signature.length);
+  }
+
+  static MemorySegment asMemorySegment(Object memorySegment) {
+    requireNonNull(memorySegment, "null argument");
+    if (!(memorySegment instanceof MemorySegment segment)) {
+      throw new IllegalArgumentException("The argument must be a java.lang.foreign.MemorySegment!");
+    }
+    return segment;
+  }
+}
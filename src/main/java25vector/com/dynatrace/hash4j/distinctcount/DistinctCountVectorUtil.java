@@ -0,0 +1,233 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import com.dynatrace.hash4j.internal.VectorApiUtil;
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Merging of {@link UltraLogLog} and {@link HyperLogLog} registers using the Vector API.
+ *
+ * <p>If the Vector API is not available (see {@link VectorApiUtil}), or if the hardware does not
+ * support vectors of at least 256 bits, {@link #isAvailable()} returns {@code false} and the scalar
+ * implementation is used instead.
+ */
+final class DistinctCountVectorUtil {
+
+  private DistinctCountVectorUtil() {}
+
+  interface RegisterMerger {
+    int merge(byte[] state, byte[] otherState, int from, int to);
+  }
+
+  private static final RegisterMerger ULTRA_LOG_LOG_REGISTER_MERGER =
+      getUltraLogLogRegisterMerger(VectorApiUtil.getPreferredVectorBitSize());
+
+  private static final RegisterMerger HYPER_LOG_LOG_REGISTER_MERGER =
+      getHyperLogLogRegisterMerger(VectorApiUtil.getPreferredVectorBitSize());
+
+  // visible for testing
+  static RegisterMerger getUltraLogLogRegisterMerger(int preferredVectorBitSize) {
+    if (preferredVectorBitSize >= 512) return Kernels::mergeUltraLogLogRegisters512;
+    if (preferredVectorBitSize >= 256) return Kernels::mergeUltraLogLogRegisters256;
+    return null;
+  }
+
+  // visible for testing
+  static RegisterMerger getHyperLogLogRegisterMerger(int preferredVectorBitSize) {
+    if (preferredVectorBitSize >= 512) return Kernels::mergeHyperLogLogRegisters512;
+    if (preferredVectorBitSize >= 256) return Kernels::mergeHyperLogLogRegisters256;
+    return null;
+  }
+
+  static boolean isAvailable() {
+    return ULTRA_LOG_LOG_REGISTER_MERGER != null;
+  }
+
+  /**
+   * Merges the {@link UltraLogLog} registers of the other state into the given state, starting at
+   * index {@code from}.
+   *
+   * <p>Only a prefix of the range {@code [from, to)} might be processed. The remaining registers
+   * must be merged by the caller.
+   *
+   * <p>Must only be called if {@link #isAvailable()} returns {@code true}.
+   *
+   * @param state the state which is updated in place
+   * @param otherState the other state of same length
+   * @param from the index of the first register
+   * @param to the end index (exclusive)
+   * @return the index of the first register that was not merged
+   */
+  static int mergeUltraLogLogRegisters(byte[] state, byte[] otherState, int from, int to) {
+    return ULTRA_LOG_LOG_REGISTER_MERGER.merge(state, otherState, from, to);
+  }
+
+  /**
+   * Merges the packed 6-bit {@link HyperLogLog} registers of the other state into the given state,
+   * starting at byte offset {@code from}.
+   *
+   * <p>Both {@code from} and {@code to} must be multiples of 6, which corresponds to groups of 8
+   * registers. Only a prefix of the range {@code [from, to)} might be processed. The remaining
+   * bytes must be merged by the caller.
+   *
+   * <p>Must only be called if {@link #isAvailable()} returns {@code true}.
+   *
+   * @param state the state which is updated in place
+   * @param otherState the other state of same length
+   * @param from the byte offset of the first group of registers
+   * @param to the end byte offset (exclusive)
+   * @return the byte offset of the first group of registers that was not merged, a multiple of 6
+   */
+  static int mergeHyperLogLogRegisters(byte[] state, byte[] otherState, int from, int to) {
+    return HYPER_LOG_LOG_REGISTER_MERGER.merge(state, otherState, from, to);
+  }
+
+  static final class Kernels {
+
+    private Kernels() {}
+
+    private static final VectorSpecies<Byte> SPECIES_256 = ByteVector.SPECIES_256;
+    private static final VectorSpecies<Byte> SPECIES_512 = ByteVector.SPECIES_512;
+
+    // maps groups of 6 bytes, each holding 8 packed 6-bit registers, to the lower 6 bytes of 64-bit
+    // lanes
+    private static final VectorShuffle<Byte> SPREAD_256 = createSpreadShuffle(SPECIES_256);
+    private static final VectorShuffle<Byte> SPREAD_512 = createSpreadShuffle(SPECIES_512);
+
+    // inverse of the spread shuffle for the first 6/8 of all lanes
+    private static final VectorShuffle<Byte> GATHER_256 = createGatherShuffle(SPECIES_256);
+    private static final VectorShuffle<Byte> GATHER_512 = createGatherShuffle(SPECIES_512);
+
+    private static final VectorMask<Byte> GATHERED_256 =
+        SPECIES_256.indexInRange(0, getHyperLogLogBytesPerIteration(SPECIES_256));
+    private static final VectorMask<Byte> GATHERED_512 =
+        SPECIES_512.indexInRange(0, getHyperLogLogBytesPerIteration(SPECIES_512));
+
+    private static final long LOWER_48_BITS = 0xFFFFFFFFFFFFL;
+
+    // the most significant bit of each of the 8 6-bit registers within the lower 48 bits
+    private static final long HIGH_BITS = 0x820820820820L;
+
+    private static int getHyperLogLogBytesPerIteration(VectorSpecies<Byte> species) {
+      return species.length() - (species.length() >>> 2);
+    }
+
+    private static VectorShuffle<Byte> createSpreadShuffle(VectorSpecies<Byte> species) {
+      int[] indices = new int[species.length()];
+      for (int i = 0; i < indices.length; ++i) {
+        indices[i] = 6 * (i >>> 3) + Math.min(i & 7, 5);
+      }
+      return VectorShuffle.fromArray(species, indices, 0);
+    }
+
+    private static VectorShuffle<Byte> createGatherShuffle(VectorSpecies<Byte> species) {
+      int[] indices = new int[species.length()];
+      int bytesPerIteration = getHyperLogLogBytesPerIteration(species);
+      for (int i = 0; i < indices.length; ++i) {
+        indices[i] = (i < bytesPerIteration) ? 8 * (i / 6) + (i % 6) : i;
+      }
+      return VectorShuffle.fromArray(species, indices, 0);
+    }
+
+    static int mergeUltraLogLogRegisters256(byte[] state, byte[] otherState, int from, int to) {
+      return mergeUltraLogLogRegisters(SPECIES_256, state, otherState, from, to);
+    }
+
+    static int mergeUltraLogLogRegisters512(byte[] state, byte[] otherState, int from, int to) {
+      return mergeUltraLogLogRegisters(SPECIES_512, state, otherState, from, to);
+    }
+
+    static int mergeHyperLogLogRegisters256(byte[] state, byte[] otherState, int from, int to) {
+      return mergeHyperLogLogRegisters(
+          SPECIES_256, SPREAD_256, GATHER_256, GATHERED_256, state, otherState, from, to);
+    }
+
+    static int mergeHyperLogLogRegisters512(byte[] state, byte[] otherState, int from, int to) {
+      return mergeHyperLogLogRegisters(
+          SPECIES_512, SPREAD_512, GATHER_512, GATHERED_512, state, otherState, from, to);
+    }
+
+    // vectorized equivalent of state[i] = pack(unpack(state[i]) | unpack(otherState[i]))
+    private static int mergeUltraLogLogRegisters(
+        VectorSpecies<Byte> species, byte[] state, byte[] otherState, int from, int to) {
+      int i = from;
+      for (; i <= to - species.length(); i += species.length()) {
+        ByteVector a = ByteVector.fromArray(species, state, i);
+        ByteVector b = ByteVector.fromArray(species, otherState, i);
+        ByteVector x = a.lanewise(VectorOperators.UMAX, b);
+        ByteVector y = a.lanewise(VectorOperators.UMIN, b);
+        // the 2 bits following the most significant bit of the larger register are given by its own
+        // 2 bits ORed with the bits of the smaller register shifted by the difference of both
+        // maximum update values
+        ByteVector shift =
+            x.lanewise(VectorOperators.LSHR, 2)
+                .sub(y.lanewise(VectorOperators.LSHR, 2))
+                .lanewise(VectorOperators.MIN, 3);
+        ByteVector bits =
+            y.and((byte) 3)
+                .or((byte) 4)
+                .lanewise(VectorOperators.LSHR, shift)
+                .and((byte) 3)
+                .blend(0, y.eq((byte) 0));
+        x.or(bits).intoArray(state, i);
+      }
+      return i;
+    }
+
+    // vectorized equivalent of the register-wise maximum of the packed 6-bit registers
+    private static int mergeHyperLogLogRegisters(
+        VectorSpecies<Byte> species,
+        VectorShuffle<Byte> spread,
+        VectorShuffle<Byte> gather,
+        VectorMask<Byte> gathered,
+        byte[] state,
+        byte[] otherState,
+        int from,
+        int to) {
+      int bytesPerIteration = getHyperLogLogBytesPerIteration(species);
+      int i = from;
+      for (; i <= to - species.length(); i += bytesPerIteration) {
+        ByteVector a = ByteVector.fromArray(species, state, i);
+        ByteVector b = ByteVector.fromArray(species, otherState, i);
+        LongVector x = a.rearrange(spread).reinterpretAsLongs().and(LOWER_48_BITS);
+        LongVector y = b.rearrange(spread).reinterpretAsLongs().and(LOWER_48_BITS);
+        LongVector max = maxOf6BitRegisters(x, y);
+        a.blend(max.reinterpretAsBytes().rearrange(gather), gathered).intoArray(state, i);
+      }
+      return i;
+    }
+
+    // SWAR maximum of the 8 6-bit registers within the lower 48 bits of each lane
+    private static LongVector maxOf6BitRegisters(LongVector x, LongVector y) {
+      LongVector diff = x.or(HIGH_BITS).sub(y.and(~HIGH_BITS));
+      LongVector xGreaterOrEqual =
+          x.and(y.not())
+              .or(x.lanewise(VectorOperators.XOR, y).not().and(diff))
+              .and(HIGH_BITS);
+      LongVector mask =
+          xGreaterOrEqual
+              .lanewise(VectorOperators.LSHL, 1)
+              .sub(xGreaterOrEqual.lanewise(VectorOperators.LSHR, 5));
+      return x.and(mask).or(y.and(mask.not()));
+    }
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2025-2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.hashing;
+
+import static com.dynatrace.hash4j.hashing.XXH3Base.BLOCK_LEN_EXP;
+import static com.dynatrace.hash4j.hashing.XXH3Base.INIT_ACC_7;
+
+import com.dynatrace.hash4j.internal.VectorApiUtil;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteOrder;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Accumulation of complete XXH3 blocks using the Vector API.
+ *
+ * <p>If the Vector API is not available (see {@link VectorApiUtil}), or if the hardware does not
+ * support vectors of at least 256 bits, {@link #isAvailable()} returns {@code false} and the scalar
+ * implementation is used instead.
+ */
+final class XXH3VectorUtil {
+
+  private XXH3VectorUtil() {}
+
+  interface BlockAccumulator {
+    void accumulateBlocks(byte[] input, int off, int nbBlocks, long[] secret, long[] acc);
+  }
+
+  private static final BlockAccumulator BLOCK_ACCUMULATOR =
+      getBlockAccumulator(VectorApiUtil.getPreferredVectorBitSize());
+
+  // visible for testing
+  static BlockAccumulator getBlockAccumulator(int preferredVectorBitSize) {
+    if (preferredVectorBitSize >= 512) return Kernels::accumulateBlocks512;
+    if (preferredVectorBitSize >= 256) return Kernels::accumulateBlocks256;
+    return null;
+  }
+
+  static boolean isAvailable() {
+    return BLOCK_ACCUMULATOR != null;
+  }
+
+  /**
+   * Processes the given number of complete blocks (each consisting of 16 stripes of 64 bytes
+   * followed by the scrambling of the accumulators) starting at the given offset.
+   *
+   * <p>Must only be called if {@link #isAvailable()} returns {@code true}.
+   *
+   * @param input the input
+   * @param off the offset of the first block
+   * @param nbBlocks the number of blocks
+   * @param secret the secret
+   * @param acc the 8 accumulators which are updated in place
+   */
+  static void accumulateBlocks(byte[] input, int off, int nbBlocks, long[] secret, long[] acc) {
+    BLOCK_ACCUMULATOR.accumulateBlocks(input, off, nbBlocks, secret, acc);
+  }
+
+  static final class Kernels {
+
+    private Kernels() {}
+
+    private static final VectorSpecies<Long> SPECIES_256 = LongVector.SPECIES_256;
+    private static final VectorSpecies<Long> SPECIES_512 = LongVector.SPECIES_512;
+
+    private static final VectorShuffle<Long> SWAP_256 =
+        VectorShuffle.fromValues(SPECIES_256, 1, 0, 3, 2);
+    private static final VectorShuffle<Long> SWAP_512 =
+        VectorShuffle.fromValues(SPECIES_512, 1, 0, 3, 2, 5, 4, 7, 6);
+
+    static void accumulateBlocks256(
+        byte[] input, int off, int nbBlocks, long[] secret, long[] acc) {
+      MemorySegment segment = MemorySegment.ofArray(input);
+      LongVector accLo = LongVector.fromArray(SPECIES_256, acc, 0);
+      LongVector accHi = LongVector.fromArray(SPECIES_256, acc, 4);
+      LongVector secScrambleLo = LongVector.fromArray(SPECIES_256, secret, 16);
+      LongVector secScrambleHi = LongVector.fromArray(SPECIES_256, secret, 20);
+      for (int n = 0; n < nbBlocks; n++) {
+        final int offBlock = off + (n << BLOCK_LEN_EXP);
+        for (int s = 0; s < 16; s += 1) {
+          int offStripe = offBlock + (s << 6);
+          LongVector bLo =
+              LongVector.fromMemorySegment(
+                  SPECIES_256, segment, offStripe, ByteOrder.LITTLE_ENDIAN);
+          LongVector bHi =
+              LongVector.fromMemorySegment(
+                  SPECIES_256, segment, offStripe + 32, ByteOrder.LITTLE_ENDIAN);
+          accLo = accumulate(accLo, bLo, LongVector.fromArray(SPECIES_256, secret, s), SWAP_256);
+          accHi =
+              accumulate(accHi, bHi, LongVector.fromArray(SPECIES_256, secret, s + 4), SWAP_256);
+        }
+        accLo = scramble(accLo, secScrambleLo);
+        accHi = scramble(accHi, secScrambleHi);
+      }
+      accLo.intoArray(acc, 0);
+      accHi.intoArray(acc, 4);
+    }
+
+    static void accumulateBlocks512(
+        byte[] input, int off, int nbBlocks, long[] secret, long[] acc) {
+      MemorySegment segment = MemorySegment.ofArray(input);
+      LongVector accVec = LongVector.fromArray(SPECIES_512, acc, 0);
+      LongVector secScramble = LongVector.fromArray(SPECIES_512, secret, 16);
+      for (int n = 0; n < nbBlocks; n++) {
+        final int offBlock = off + (n << BLOCK_LEN_EXP);
+        for (int s = 0; s < 16; s += 1) {
+          int offStripe = offBlock + (s << 6);
+          LongVector b =
+              LongVector.fromMemorySegment(
+                  SPECIES_512, segment, offStripe, ByteOrder.LITTLE_ENDIAN);
+          accVec = accumulate(accVec, b, LongVector.fromArray(SPECIES_512, secret, s), SWAP_512);
+        }
+        accVec = scramble(accVec, secScramble);
+      }
+      accVec.intoArray(acc, 0);
+    }
+
+    // vectorized equivalent of acc[i] += b[i ^ 1] + contrib(b[i], sec[i])
+    private static LongVector accumulate(
+        LongVector acc, LongVector b, LongVector sec, VectorShuffle<Long> swap) {
+      LongVector k = b.lanewise(VectorOperators.XOR, sec);
+      LongVector contrib = k.and(0xFFFFFFFFL).mul(k.lanewise(VectorOperators.LSHR, 32));
+      return acc.add(b.rearrange(swap)).add(contrib);
+    }
+
+    // vectorized equivalent of acc[i] = mixAcc(acc[i], sec[i])
+    private static LongVector scramble(LongVector acc, LongVector sec) {
+      return acc.lanewise(VectorOperators.XOR, acc.lanewise(VectorOperators.LSHR, 47))
+          .lanewise(VectorOperators.XOR, sec)
+          .mul(INIT_ACC_7);
+    }
+  }
+}
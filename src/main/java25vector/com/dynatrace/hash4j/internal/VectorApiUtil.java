@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.internal;
+
+import java.util.Optional;
+import jdk.incubator.vector.VectorShape;
+
+/**
+ * Utility class for the detection of the Vector API.
+ *
+ * <p>The Vector API is provided by the incubator module {@code jdk.incubator.vector}, which must be
+ * explicitly added to the module graph, for example using {@code --add-modules
+ * jdk.incubator.vector}. If the module is not present, {@link #getPreferredVectorBitSize()} returns
+ * 0. Classes using the Vector API must only be loaded if the returned size is supported by their
+ * kernels, which is why the kernels are usually kept in a separate nested class.
+ *
+ * <p>As an internal package it is not intended for general use.
+ */
+public final class VectorApiUtil {
+
+  private VectorApiUtil() {}
+
+  /** The name of the incubator module providing the Vector API. */
+  public static final String VECTOR_MODULE_NAME = "jdk.incubator.vector";
+
+  private static final int PREFERRED_VECTOR_BIT_SIZE =
+      getPreferredVectorBitSize(ModuleLayer.boot().findModule(VECTOR_MODULE_NAME));
+
+  /**
+   * Returns the preferred vector size of the platform in bits.
+   *
+   * @param vectorModule the module providing the Vector API, if present
+   * @return the preferred vector size in bits, or 0 if the module is not present
+   */
+  // visible for testing
+  public static int getPreferredVectorBitSize(Optional<Module> vectorModule) {
+    if (vectorModule.isEmpty()) return 0;
+    VectorApiUtil.class.getModule().addReads(vectorModule.get());
+    return Shapes.getPreferredVectorBitSize();
+  }
+
+  /**
+   * Returns the preferred vector size of the platform in bits.
+   *
+   * @return the preferred vector size in bits, or 0 if the Vector API is not available
+   */
+  public static int getPreferredVectorBitSize() {
+    return PREFERRED_VECTOR_BIT_SIZE;
+  }
+
+  private static final class Shapes {
+
+    private Shapes() {}
+
+    static int getPreferredVectorBitSize() {
+      return VectorShape.preferredShape().vectorBitSize();
+    }
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.random;
+
+import static com.dynatrace.hash4j.random.SplitMix64V1.GAMMA;
+
+import com.dynatrace.hash4j.internal.VectorApiUtil;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Bulk generation of pseudo-random values using the Vector API.
+ *
+ * <p>If the Vector API is not available (see {@link VectorApiUtil}), or if the hardware does not
+ * support vectors of at least 256 bits, {@link #isAvailable()} returns {@code false} and the scalar
+ * implementation is used instead.
+ */
+final class RandomVectorUtil {
+
+  private RandomVectorUtil() {}
+
+  interface SplitMix64Kernel {
+    int splitMix64(long state, long[] dst, int off, int len);
+  }
+
+  private static final SplitMix64Kernel SPLIT_MIX_64_KERNEL =
+      getSplitMix64Kernel(VectorApiUtil.getPreferredVectorBitSize());
+
+  // visible for testing
+  static SplitMix64Kernel getSplitMix64Kernel(int preferredVectorBitSize) {
+    if (preferredVectorBitSize >= 512) return Kernels::splitMix64x512;
+    if (preferredVectorBitSize >= 256) return Kernels::splitMix64x256;
+    return null;
+  }
+
+  static boolean isAvailable() {
+    return SPLIT_MIX_64_KERNEL != null;
+  }
+
+  /**
+   * Writes the SplitMix64 outputs {@code mix(state + (i + 1) * GAMMA)} for {@code i = 0, 1, ...} to
+   * {@code dst[off + i]}, as long as complete vectors fit into the given range.
+   *
+   * <p>Must only be called if {@link #isAvailable()} returns {@code true}.
+   *
+   * @param state the SplitMix64 state before the first value
+   * @param dst the destination array
+   * @param off the index of the first value
+   * @param len the length of the range
+   * @return the number of values written, which is a multiple of the vector length not greater than
+   *     {@code len}
+   */
+  static int splitMix64(long state, long[] dst, int off, int len) {
+    return SPLIT_MIX_64_KERNEL.splitMix64(state, dst, off, len);
+  }
+
+  static final class Kernels {
+
+    private Kernels() {}
+
+    private static final VectorSpecies<Long> SPECIES_256 = LongVector.SPECIES_256;
+    private static final VectorSpecies<Long> SPECIES_512 = LongVector.SPECIES_512;
+
+    // LANE_OFFSETS[j] = (j + 1) * GAMMA
+    private static final long[] LANE_OFFSETS = createLaneOffsets(SPECIES_512.length());
+
+    private static long[] createLaneOffsets(int numLanes) {
+      long[] laneOffsets = new long[numLanes];
+      for (int j = 0; j < numLanes; ++j) {
+        laneOffsets[j] = (j + 1) * GAMMA;
+      }
+      return laneOffsets;
+    }
+
+    static int splitMix64x256(long state, long[] dst, int off, int len) {
+      return splitMix64(SPECIES_256, state, dst, off, len);
+    }
+
+    static int splitMix64x512(long state, long[] dst, int off, int len) {
+      return splitMix64(SPECIES_512, state, dst, off, len);
+    }
+
+    private static int splitMix64(
+        VectorSpecies<Long> species, long state, long[] dst, int off, int len) {
+      int numLanes = species.length();
+      int n = species.loopBound(len);
+      // lane j holds the state after j + 1 steps, all lanes advance by numLanes steps
+      LongVector s = LongVector.fromArray(species, LANE_OFFSETS, 0).add(state);
+      LongVector stride = LongVector.broadcast(species, numLanes * GAMMA);
+      for (int i = 0; i < n; i += numLanes) {
+        mix(s).intoArray(dst, off + i);
+        s = s.add(stride);
+      }
+      return n;
+    }
+
+    // vectorized equivalent of SplitMix64V1.mix(z)
+    private static LongVector mix(LongVector z) {
+      z =
+          z.lanewise(VectorOperators.XOR, z.lanewise(VectorOperators.LSHR, 30))
+              .mul(0xbf58476d1ce4e5b9L);
+      z =
+          z.lanewise(VectorOperators.XOR, z.lanewise(VectorOperators.LSHR, 27))
+              .mul(0x94d049bb133111ebL);
+      return z.lanewise(VectorOperators.XOR, z.lanewise(VectorOperators.LSHR, 31));
+    }
+  }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+import com.dynatrace.hash4j.internal.VectorApiUtil;
+import java.lang.foreign.MemorySegment;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Comparison of hash signatures using the Vector API.
+ *
+ * <p>If the Vector API is not available (see {@link VectorApiUtil}), or if the hardware does not
+ * support vectors of at least 256 bits, {@link #isAvailable()} returns {@code false} and the scalar
+ * implementation is used instead.
+ */
+final class SimilarityVectorUtil {
+
+  private SimilarityVectorUtil() {}
+
+  interface NonZeroComponentCounter {
+    int countNonZeroComponents(
+        MemorySegment query,
+        long queryOff,
+        MemorySegment signatures,
+        long off,
+        int numSignatures,
+        int signatureSize,
+        int len,
+        int bitSize,
+        long lowBits,
+        int[] result,
+        int resultOff);
+  }
+
+  private static final NonZeroComponentCounter NON_ZERO_COMPONENT_COUNTER =
+      getNonZeroComponentCounter(VectorApiUtil.getPreferredVectorBitSize());
+
+  // visible for testing
+  static NonZeroComponentCounter getNonZeroComponentCounter(int preferredVectorBitSize) {
+    if (preferredVectorBitSize >= 512) return Kernels::countNonZeroComponents512;
+    if (preferredVectorBitSize >= 256) return Kernels::countNonZeroComponents256;
+    return null;
+  }
+
+  static boolean isAvailable() {
+    return NON_ZERO_COMPONENT_COUNTER != null;
+  }
+
+  static int countNonZeroComponents(
+      byte[] query,
+      int queryOff,
+      byte[] signatures,
+      int off,
+      int numSignatures,
+      int signatureSize,
+      int len,
+      int bitSize,
+      long lowBits,
+      int[] result,
+      int resultOff) {
+    return countNonZeroComponents(
+        MemorySegment.ofArray(query),
+        queryOff,
+        MemorySegment.ofArray(signatures),
+        off,
+        numSignatures,
+        signatureSize,
+        len,
+        bitSize,
+        lowBits,
+        result,
+        resultOff);
+  }
+
+  /**
+   * Counts the components of the XOR of the query signature and each of the given signatures that
+   * are not zero, considering only the first bytes of the signatures for which complete vectors fit
+   * into the given length.
+   *
+   * <p>The component size must be a power of two. The count for the {@code i}-th signature is
+   * written to {@code result[resultOff + i]}, if the returned number of processed bytes is
+   * positive.
+   *
+   * <p>Must only be called if {@link #isAvailable()} returns {@code true}.
+   *
+   * @param query the segment containing the query signature
+   * @param queryOff the byte offset of the query signature
+   * @param signatures the segment containing the signatures
+   * @param off the byte offset of the first signature
+   * @param numSignatures the number of signatures
+   * @param signatureSize the size of a signature in bytes
+   * @param len the number of bytes to consider, a multiple of 8
+   * @param bitSize the component size in bits
+   * @param lowBits a mask with the lowest bit of all components within 64 bits set
+   * @param result the array receiving the counts
+   * @param resultOff the index of the count for the first signature
+   * @return the number of processed bytes per signature, which is a multiple of the vector size not
+   *     greater than {@code len}
+   */
+  static int countNonZeroComponents(
+      MemorySegment query,
+      long queryOff,
+      MemorySegment signatures,
+      long off,
+      int numSignatures,
+      int signatureSize,
+      int len,
+      int bitSize,
+      long lowBits,
+      int[] result,
+      int resultOff) {
+    return NON_ZERO_COMPONENT_COUNTER.countNonZeroComponents(
+        query,
+        queryOff,
+        signatures,
+        off,
+        numSignatures,
+        signatureSize,
+        len,
+        bitSize,
+        lowBits,
+        result,
+        resultOff);
+  }
+
+  static final class Kernels {
+
+    private Kernels() {}
+
+    private static final VectorSpecies<Long> SPECIES_256 = LongVector.SPECIES_256;
+    private static final VectorSpecies<Long> SPECIES_512 = LongVector.SPECIES_512;
+
+    static int countNonZeroComponents256(
+        MemorySegment query,
+        long queryOff,
+        MemorySegment signatures,
+        long off,
+        int numSignatures,
+        int signatureSize,
+        int len,
+        int bitSize,
+        long lowBits,
+        int[] result,
+        int resultOff) {
+      return countNonZeroComponents(
+          SPECIES_256,
+          query,
+          queryOff,
+          signatures,
+          off,
+          numSignatures,
+          signatureSize,
+          len,
+          bitSize,
+          lowBits,
+          result,
+          resultOff);
+    }
+
+    static int countNonZeroComponents512(
+        MemorySegment query,
+        long queryOff,
+        MemorySegment signatures,
+        long off,
+        int numSignatures,
+        int signatureSize,
+        int len,
+        int bitSize,
+        long lowBits,
+        int[] result,
+        int resultOff) {
+      return countNonZeroComponents(
+          SPECIES_512,
+          query,
+          queryOff,
+          signatures,
+          off,
+          numSignatures,
+          signatureSize,
+          len,
+          bitSize,
+          lowBits,
+          result,
+          resultOff);
+    }
+
+    // vectorized equivalent of BatchSignatureComparator.countNonZeroComponents applied to each
+    // 64-bit word
+    private static int countNonZeroComponents(
+        VectorSpecies<Long> species,
+        MemorySegment query,
+        long queryOff,
+        MemorySegment signatures,
+        long off,
+        int numSignatures,
+        int signatureSize,
+        int len,
+        int bitSize,
+        long lowBits,
+        int[] result,
+        int resultOff) {
+      int vectorByteSize = species.vectorByteSize();
+      int n = len - len % vectorByteSize;
+      if (n == 0) return 0;
+      for (int i = 0; i < numSignatures; ++i) {
+        long signatureOff = off + (long) i * signatureSize;
+        LongVector acc = LongVector.zero(species);
+        for (int p = 0; p < n; p += vectorByteSize) {
+          LongVector q = LongVector.fromMemorySegment(species, query, queryOff + p, LITTLE_ENDIAN);
+          LongVector s =
+              LongVector.fromMemorySegment(species, signatures, signatureOff + p, LITTLE_ENDIAN);
+          LongVector x = q.lanewise(VectorOperators.XOR, s);
+          for (int shift = 1; shift < bitSize; shift <<= 1) {
+            x = x.or(x.lanewise(VectorOperators.LSHR, shift));
+          }
+          acc = acc.add(x.and(lowBits).lanewise(VectorOperators.BIT_COUNT));
+        }
+        result[resultOff + i] = (int) acc.reduceLanes(VectorOperators.ADD);
+      }
+      return n;
+    }
+  }
+}
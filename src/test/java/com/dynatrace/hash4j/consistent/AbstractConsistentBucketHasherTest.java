@@ -45,6 +45,115 @@ abstract class AbstractConsistentBucketHasherTest {
     assertThatIllegalArgumentException().isThrownBy(() -> consistentBucketHasher.getBucket(0L, -1));
   }
 
+  @Test
+  void testGetBuckets() {
+    ConsistentBucketHasher consistentBucketHasher = getConsistentBucketHasher();
+    SplittableRandom random = new SplittableRandom(0x5c3e1b9a07f4d826L);
+    IntStream numBucketsValues =
+        IntStream.concat(
+            IntStream.of(1, 2, 3, 100, 0x40000000, Integer.MAX_VALUE),
+            random.ints(20, 1, 1000));
+    numBucketsValues.forEach(
+        numBuckets -> {
+          long[] hashes = random.longs(random.nextInt(1000)).toArray();
+          int[] buckets = new int[hashes.length + 1];
+          buckets[hashes.length] = -1;
+          consistentBucketHasher.getBuckets(hashes, numBuckets, buckets);
+          for (int i = 0; i < hashes.length; ++i) {
+            assertThat(buckets[i])
+                .isEqualTo(consistentBucketHasher.getBucket(hashes[i], numBuckets));
+          }
+          assertThat(buckets[hashes.length]).isEqualTo(-1);
+        });
+  }
+
+  @Test
+  void testGetBucketsIllegalNumBuckets() {
+    ConsistentBucketHasher consistentBucketHasher = getConsistentBucketHasher();
+    long[] hashes = {1L, 2L};
+    int[] buckets = new int[2];
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> consistentBucketHasher.getBuckets(hashes, 0, buckets));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> consistentBucketHasher.getBuckets(hashes, -1, buckets));
+  }
+
+  @Test
+  void testGetReplicaBuckets() {
+    ConsistentBucketHasher consistentBucketHasher = getConsistentBucketHasher();
+    SplittableRandom random = new SplittableRandom(0x3f7a9c1e5b2d8064L);
+    for (int numBuckets : new int[] {1, 2, 3, 5, 10, 100, 1000}) {
+      for (int replicas : new int[] {0, 1, 2, 3, 5, numBuckets}) {
+        if (replicas > numBuckets) continue;
+        for (int k = 0; k < 100; ++k) {
+          long hash = random.nextLong();
+          int[] buckets = new int[replicas + 1];
+          buckets[replicas] = -1;
+          consistentBucketHasher.getBuckets(hash, numBuckets, replicas, buckets);
+          assertThat(buckets[replicas]).isEqualTo(-1);
+          int[] replicaBuckets = Arrays.copyOf(buckets, replicas);
+          assertThat(replicaBuckets).doesNotHaveDuplicates();
+          for (int bucket : replicaBuckets) {
+            assertThat(bucket).isBetween(0, numBuckets - 1);
+          }
+          if (replicas > 0) {
+            assertThat(buckets[0]).isEqualTo(consistentBucketHasher.getBucket(hash, numBuckets));
+          }
+          int[] bucketsAgain = new int[replicas];
+          consistentBucketHasher.getBuckets(hash, numBuckets, replicas, bucketsAgain);
+          assertThat(bucketsAgain).isEqualTo(replicaBuckets);
+        }
+      }
+    }
+  }
+
+  @Test
+  void testReplicaBucketsConsistency() {
+    ConsistentBucketHasher consistentBucketHasher = getConsistentBucketHasher();
+    SplittableRandom random = new SplittableRandom(0x81d4b6f20c9e3a57L);
+    int numKeys = 10000;
+    int replicas = 3;
+    for (int numBuckets : new int[] {5, 10, 100}) {
+      int numReplicasMovedToNewBucket = 0;
+      int numReplicasMovedToOtherBuckets = 0;
+      for (int k = 0; k < numKeys; ++k) {
+        long hash = random.nextLong();
+        int[] bucketsBefore = new int[replicas];
+        int[] bucketsAfter = new int[replicas];
+        consistentBucketHasher.getBuckets(hash, numBuckets, replicas, bucketsBefore);
+        consistentBucketHasher.getBuckets(hash, numBuckets + 1, replicas, bucketsAfter);
+        for (int bucket : bucketsAfter) {
+          if (Arrays.stream(bucketsBefore).noneMatch(b -> b == bucket)) {
+            if (bucket == numBuckets) {
+              numReplicasMovedToNewBucket += 1;
+            } else {
+              numReplicasMovedToOtherBuckets += 1;
+            }
+          }
+        }
+      }
+      // each replica is expected to move to the new bucket with probability 1 / (numBuckets + 1),
+      // moves to other buckets only happen if the new bucket replaces multiple lookups of the key
+      double expected = numKeys * replicas / (double) (numBuckets + 1);
+      assertThat((double) numReplicasMovedToNewBucket)
+          .isBetween(expected - 5. * Math.sqrt(expected), expected + 5. * Math.sqrt(expected));
+      assertThat(numReplicasMovedToOtherBuckets)
+          .isLessThanOrEqualTo(numKeys * replicas * replicas / (numBuckets * numBuckets));
+    }
+  }
+
+  @Test
+  void testGetReplicaBucketsIllegalArguments() {
+    ConsistentBucketHasher consistentBucketHasher = getConsistentBucketHasher();
+    int[] buckets = new int[3];
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> consistentBucketHasher.getBuckets(0L, 0, 0, buckets));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> consistentBucketHasher.getBuckets(0L, 2, 3, buckets));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> consistentBucketHasher.getBuckets(0L, 2, -1, buckets));
+  }
+
   @Test
   void testNullPseudoRandomNumberGenerator() {
     assertThatNullPointerException().isThrownBy(() -> ConsistentHashing.jumpHash(null));
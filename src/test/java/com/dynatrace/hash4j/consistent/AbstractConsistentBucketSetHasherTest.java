@@ -17,6 +17,7 @@ package com.dynatrace.hash4j.consistent;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.dynatrace.hash4j.hashing.HashStream64;
@@ -27,6 +28,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.SplittableRandom;
@@ -229,6 +231,295 @@ public abstract class AbstractConsistentBucketSetHasherTest {
     assertThat(hasher.getNumBuckets()).isZero();
   }
 
+  private static int[] getReplicaBuckets(
+      ConsistentBucketSetHasher hasher, long hash, int replicas) {
+    int[] buckets = new int[replicas];
+    hasher.getBuckets(hash, replicas, buckets);
+    return buckets;
+  }
+
+  @Test
+  void testGetReplicaBuckets() {
+    ConsistentBucketSetHasher hasher = create();
+    SplittableRandom random = new SplittableRandom(0x2e9b5d70c13f8a46L);
+    for (int i = 0; i < 20; ++i) {
+      hasher.addBucket();
+    }
+    hasher.removeBucket(3);
+    hasher.removeBucket(11);
+    Set<Integer> bucketIds = new HashSet<>();
+    Arrays.stream(hasher.getBuckets()).forEach(bucketIds::add);
+    for (int replicas : new int[] {0, 1, 2, 3, 5, hasher.getNumBuckets()}) {
+      for (int k = 0; k < 100; ++k) {
+        long hash = random.nextLong();
+        int[] buckets = getReplicaBuckets(hasher, hash, replicas);
+        assertThat(buckets).doesNotHaveDuplicates();
+        for (int bucket : buckets) {
+          assertThat(bucketIds).contains(bucket);
+        }
+        if (replicas > 0) {
+          assertThat(buckets[0]).isEqualTo(hasher.getBucket(hash));
+        }
+        assertThat(getReplicaBuckets(hasher, hash, replicas)).isEqualTo(buckets);
+      }
+    }
+  }
+
+  @Test
+  void testReplicaBucketsConsistency() {
+    ConsistentBucketSetHasher hasher = create();
+    SplittableRandom random = new SplittableRandom(0x64c0a8e2f1b7d359L);
+    int numKeys = 10000;
+    int replicas = 3;
+    for (int i = 0; i < 20; ++i) {
+      hasher.addBucket();
+    }
+    long[] hashes = random.longs(numKeys).toArray();
+    int[][] bucketsBefore = new int[numKeys][];
+    for (int k = 0; k < numKeys; ++k) {
+      bucketsBefore[k] = getReplicaBuckets(hasher, hashes[k], replicas);
+    }
+
+    // removing a bucket only changes the result if this bucket was returned
+    int removedBucket = 7;
+    hasher.removeBucket(removedBucket);
+    int[][] bucketsAfterRemoval = new int[numKeys][];
+    int numAffectedKeys = 0;
+    int numAdditionallyReplacedBuckets = 0;
+    for (int k = 0; k < numKeys; ++k) {
+      bucketsAfterRemoval[k] = getReplicaBuckets(hasher, hashes[k], replicas);
+      Set<Integer> before = new HashSet<>();
+      Arrays.stream(bucketsBefore[k]).forEach(before::add);
+      Set<Integer> after = new HashSet<>();
+      Arrays.stream(bucketsAfterRemoval[k]).forEach(after::add);
+      if (before.contains(removedBucket)) {
+        numAffectedKeys += 1;
+        assertThat(after.contains(removedBucket)).isFalse();
+        before.removeAll(after);
+        numAdditionallyReplacedBuckets += before.size() - 1;
+      } else {
+        assertThat(after).isEqualTo(before);
+      }
+    }
+    double expectedNumAffectedKeys = numKeys * replicas / 20.;
+    assertThat((double) numAffectedKeys)
+        .isBetween(
+            expectedNumAffectedKeys - 5. * Math.sqrt(expectedNumAffectedKeys),
+            expectedNumAffectedKeys + 5. * Math.sqrt(expectedNumAffectedKeys));
+    assertThat(numAdditionallyReplacedBuckets).isLessThanOrEqualTo(numAffectedKeys / 10);
+
+    // adding a bucket moves replicas to the new bucket proportionally to its share
+    int addedBucket = hasher.addBucket();
+    int numReplicasOnAddedBucket = 0;
+    for (int k = 0; k < numKeys; ++k) {
+      for (int bucket : getReplicaBuckets(hasher, hashes[k], replicas)) {
+        if (bucket == addedBucket) numReplicasOnAddedBucket += 1;
+      }
+    }
+    double expected = numKeys * replicas / (double) hasher.getNumBuckets();
+    assertThat((double) numReplicasOnAddedBucket)
+        .isBetween(expected - 5. * Math.sqrt(expected), expected + 5. * Math.sqrt(expected));
+  }
+
+  @Test
+  void testGetReplicaBucketsIllegalArguments() {
+    ConsistentBucketSetHasher hasher = create();
+    int[] buckets = new int[3];
+    hasher.addBucket();
+    hasher.addBucket();
+    assertThatIllegalArgumentException().isThrownBy(() -> hasher.getBuckets(0L, 3, buckets));
+    assertThatIllegalArgumentException().isThrownBy(() -> hasher.getBuckets(0L, -1, buckets));
+  }
+
+  @Test
+  void testStateDelta() {
+    SplittableRandom random = new SplittableRandom(0x7b2f4e9a0c6d8135L);
+    ConsistentBucketSetHasher hasher = create();
+    byte[] emptyState = hasher.getState();
+    List<byte[]> states = new ArrayList<>();
+    states.add(emptyState);
+    for (int i = 0; i < 200; ++i) {
+      if (hasher.getNumBuckets() == 0 || random.nextInt(3) != 0) {
+        hasher.addBucket();
+      } else {
+        int[] buckets = hasher.getBuckets();
+        hasher.removeBucket(buckets[random.nextInt(buckets.length)]);
+      }
+      states.add(hasher.getState());
+    }
+    byte[] currentState = hasher.getState();
+    for (int i = 0; i < 50; ++i) {
+      byte[] baseState = states.get(random.nextInt(states.size()));
+      byte[] stateDelta = hasher.getStateDelta(baseState);
+      ConsistentBucketSetHasher other = create().setState(baseState);
+      assertThat(other.applyStateDelta(stateDelta)).isSameAs(other);
+      assertThat(other.getState()).isEqualTo(currentState);
+      assertFuzzyEquals(hasher, other);
+      // the delta between equal states does not change anything
+      other.applyStateDelta(other.getStateDelta(currentState));
+      assertThat(other.getState()).isEqualTo(currentState);
+      // the reverse delta restores the base state
+      other.applyStateDelta(create().setState(baseState).getStateDelta(currentState));
+      assertThat(other.getState()).isEqualTo(baseState);
+    }
+  }
+
+  @Test
+  void testStateDeltaForSmallChanges() {
+    ConsistentBucketSetHasher hasher = create();
+    for (int i = 0; i < 10000; ++i) {
+      hasher.addBucket();
+    }
+    for (int i = 0; i < 1000; ++i) {
+      hasher.removeBucket(i * 7);
+    }
+    byte[] baseState = hasher.getState();
+    hasher.removeBucket(5);
+    hasher.removeBucket(9999);
+    byte[] stateDelta = hasher.getStateDelta(baseState);
+    assertThat(stateDelta.length).isLessThanOrEqualTo(16);
+    ConsistentBucketSetHasher other = create().setState(baseState).applyStateDelta(stateDelta);
+    assertThat(other.getState()).isEqualTo(hasher.getState());
+    assertFuzzyEquals(hasher, other);
+  }
+
+  @Test
+  void testCompactState() {
+    ConsistentBucketSetHasher hasher = create();
+    for (int i = 0; i < 1000; ++i) {
+      hasher.addBucket();
+    }
+    for (int i = 0; i < 100; ++i) {
+      hasher.removeBucket(i * 3);
+    }
+    byte[] compactState = hasher.getStateDelta(create().getState());
+    assertThat(compactState.length).isLessThan(hasher.getState().length);
+    ConsistentBucketSetHasher other = create().applyStateDelta(compactState);
+    assertThat(other.getState()).isEqualTo(hasher.getState());
+    assertFuzzyEquals(hasher, other);
+  }
+
+  // delegates all abstract methods and therefore uses the default implementations of the state
+  // delta methods
+  private static ConsistentBucketSetHasher withDefaultStateDelta(ConsistentBucketSetHasher hasher) {
+    return new ConsistentBucketSetHasher() {
+      @Override
+      public int addBucket() {
+        return hasher.addBucket();
+      }
+
+      @Override
+      public boolean removeBucket(int bucketId) {
+        return hasher.removeBucket(bucketId);
+      }
+
+      @Override
+      public int getBucket(long hash) {
+        return hasher.getBucket(hash);
+      }
+
+      @Override
+      public int[] getBuckets() {
+        return hasher.getBuckets();
+      }
+
+      @Override
+      public int getNumBuckets() {
+        return hasher.getNumBuckets();
+      }
+
+      @Override
+      public byte[] getState() {
+        return hasher.getState();
+      }
+
+      @Override
+      public ConsistentBucketSetHasher setState(byte[] state) {
+        hasher.setState(state);
+        return this;
+      }
+    };
+  }
+
+  @Test
+  void testDefaultStateDelta() {
+    ConsistentBucketSetHasher hasher = withDefaultStateDelta(create());
+    for (int i = 0; i < 100; ++i) {
+      hasher.addBucket();
+    }
+    byte[] baseState = hasher.getState();
+    hasher.removeBucket(17);
+    hasher.removeBucket(42);
+    byte[] stateDelta = hasher.getStateDelta(baseState);
+    assertThat(stateDelta).isEqualTo(hasher.getState());
+    ConsistentBucketSetHasher other = withDefaultStateDelta(create().setState(baseState));
+    assertThat(other.applyStateDelta(stateDelta)).isSameAs(other);
+    assertThat(other.getState()).isEqualTo(hasher.getState());
+    assertFuzzyEquals(hasher, other);
+    assertThatExceptionOfType(NullPointerException.class)
+        .isThrownBy(() -> hasher.getStateDelta(null));
+  }
+
+  @Test
+  void testInvalidStateDelta() {
+    ConsistentBucketSetHasher hasher = create();
+    for (int i = 0; i < 10; ++i) {
+      hasher.addBucket();
+    }
+    hasher.removeBucket(3);
+    byte[] baseState = hasher.getState();
+    hasher.removeBucket(4);
+    byte[] stateDelta = hasher.getStateDelta(baseState);
+
+    // the delta cannot be applied to states other than its base state
+    ConsistentBucketSetHasher other = create().setState(baseState);
+    other.removeBucket(5);
+    byte[] otherState = other.getState();
+    assertThatIllegalArgumentException().isThrownBy(() -> other.applyStateDelta(stateDelta));
+    assertThat(other.getState()).isEqualTo(otherState);
+
+    ConsistentBucketSetHasher target = create().setState(baseState);
+    for (int len = 0; len < stateDelta.length; ++len) {
+      byte[] truncatedStateDelta = Arrays.copyOf(stateDelta, len);
+      assertThatIllegalArgumentException()
+          .isThrownBy(() -> target.applyStateDelta(truncatedStateDelta));
+    }
+    byte[] extendedStateDelta = Arrays.copyOf(stateDelta, stateDelta.length + 1);
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> target.applyStateDelta(extendedStateDelta));
+    byte[] wrongVersionStateDelta = stateDelta.clone();
+    wrongVersionStateDelta[0] += 1;
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> target.applyStateDelta(wrongVersionStateDelta));
+    // remove bucket 3 a second time
+    byte[] duplicateRemovalStateDelta = stateDelta.clone();
+    duplicateRemovalStateDelta[duplicateRemovalStateDelta.length - 1] = 3;
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> target.applyStateDelta(duplicateRemovalStateDelta));
+    // remove bucket 4 twice
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> target.applyStateDelta(new byte[] {1, 10, 1, 10, 0, 2, 4, 4}));
+    assertThat(target.getState()).isEqualTo(baseState);
+
+    ConsistentBucketSetHasher largeTarget = create();
+    for (int i = 0; i < 10000; ++i) {
+      largeTarget.addBucket();
+    }
+    byte[] largeTargetState = largeTarget.getState();
+    // remove bucket 4 twice
+    assertThatIllegalArgumentException()
+        .isThrownBy(
+            () ->
+                largeTarget.applyStateDelta(
+                    new byte[] {1, (byte) 0x90, 0x4E, 0, (byte) 0x90, 0x4E, 0, 2, 4, 4}));
+    assertThat(largeTarget.getState()).isEqualTo(largeTargetState);
+    largeTarget.applyStateDelta(
+        new byte[] {1, (byte) 0x90, 0x4E, 0, (byte) 0x90, 0x4E, 0, 2, 4, 5});
+    assertThat(largeTarget.getNumBuckets()).isEqualTo(9998);
+
+    assertThatIllegalArgumentException().isThrownBy(() -> hasher.getStateDelta(new byte[3]));
+  }
+
   protected static final void assertFuzzyEquals(
       ConsistentBucketSetHasher h1, ConsistentBucketSetHasher h2) {
     SplittableRandom random = new SplittableRandom(0xf3ca9719c7ce17d2L);
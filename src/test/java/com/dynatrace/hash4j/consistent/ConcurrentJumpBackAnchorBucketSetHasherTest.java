@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.consistent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentJumpBackAnchorBucketSetHasherTest extends AbstractConsistentBucketSetHasherTest {
+
+  @Override
+  protected ConsistentBucketSetHasher create() {
+    return ConsistentHashing.concurrentJumpBackAnchorHash(
+        PseudoRandomGeneratorProvider.splitMix64_V1());
+  }
+
+  @Override
+  protected long getCheckSum() {
+    // same as for ConsistentJumpBackAnchorBucketSetHasher
+    return 0xeb47923b33bd1aceL;
+  }
+
+  @Test
+  void testEquivalenceToJumpBackAnchorHash() {
+    SplittableRandom random = new SplittableRandom(0x4c1f9e0b7a2d6385L);
+    ConsistentBucketSetHasher expected =
+        ConsistentHashing.jumpBackAnchorHash(PseudoRandomGeneratorProvider.splitMix64_V1());
+    ConsistentBucketSetHasher actual = create();
+    for (int i = 0; i < 1000; ++i) {
+      if (random.nextInt(3) != 0 || expected.getNumBuckets() == 0) {
+        assertThat(actual.addBucket()).isEqualTo(expected.addBucket());
+      } else {
+        int bucketId = random.nextInt(expected.getNumBuckets() + 1);
+        assertThat(actual.removeBucket(bucketId)).isEqualTo(expected.removeBucket(bucketId));
+      }
+      assertThat(actual.getNumBuckets()).isEqualTo(expected.getNumBuckets());
+      assertThat(actual.getBuckets()).isEqualTo(expected.getBuckets());
+      assertThat(actual.getState()).isEqualTo(expected.getState());
+      if (i % 10 == 0) assertFuzzyEquals(actual, expected);
+    }
+  }
+
+  @Test
+  void testInvalidStateDoesNotModifyHasher() {
+    ConsistentBucketSetHasher hasher = create();
+    for (int i = 0; i < 10; ++i) hasher.addBucket();
+    hasher.removeBucket(3);
+    byte[] state = hasher.getState();
+    assertThatIllegalArgumentException().isThrownBy(() -> hasher.setState(new byte[] {0, 0, 0}));
+    assertThat(hasher.getState()).isEqualTo(state);
+  }
+
+  @Test
+  void testConcurrentLookupsAndModifications() throws Exception {
+    int numReaderThreads = 4;
+    int numModifications = 2000;
+    int minNumBuckets = 10;
+    ConsistentBucketSetHasher hasher = create();
+    for (int i = 0; i < minNumBuckets; ++i) hasher.addBucket();
+
+    AtomicBoolean done = new AtomicBoolean(false);
+    ExecutorService executorService = Executors.newFixedThreadPool(numReaderThreads);
+    try {
+      List<Future<Long>> futures = new ArrayList<>();
+      for (int t = 0; t < numReaderThreads; ++t) {
+        long seed = 0x6b0e2f4d8a1c3957L + t;
+        futures.add(
+            executorService.submit(
+                () -> {
+                  SplittableRandom random = new SplittableRandom(seed);
+                  long numLookups = 0;
+                  do {
+                    int bucket = hasher.getBucket(random.nextLong());
+                    assertThat(bucket).isBetween(0, minNumBuckets + numModifications);
+                    numLookups += 1;
+                  } while (!done.get());
+                  return numLookups;
+                }));
+      }
+
+      // the bucket with ID 0 is never removed, hence there is always at least one bucket
+      ConsistentBucketSetHasher expected =
+          ConsistentHashing.jumpBackAnchorHash(PseudoRandomGeneratorProvider.splitMix64_V1());
+      expected.setState(hasher.getState());
+      SplittableRandom random = new SplittableRandom(0x2d9a4f7e1b6c0385L);
+      for (int i = 0; i < numModifications; ++i) {
+        if (random.nextBoolean() || hasher.getNumBuckets() <= minNumBuckets) {
+          assertThat(hasher.addBucket()).isEqualTo(expected.addBucket());
+        } else {
+          int[] buckets = hasher.getBuckets();
+          int bucketId = buckets[1 + random.nextInt(buckets.length - 1)];
+          assertThat(hasher.removeBucket(bucketId)).isTrue();
+          assertThat(expected.removeBucket(bucketId)).isTrue();
+        }
+      }
+      done.set(true);
+      for (Future<Long> future : futures) {
+        assertThat(future.get()).isPositive();
+      }
+      assertFuzzyEquals(hasher, expected);
+    } finally {
+      executorService.shutdown();
+    }
+  }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.consistent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class ConsistentBoundedLoadBucketHasherTest {
+
+  private static ConsistentBucketHasher createConsistentBucketHasher() {
+    return ConsistentHashing.jumpBackHash(PseudoRandomGeneratorProvider.splitMix64_V1());
+  }
+
+  private static ConsistentBoundedLoadBucketHasher create(double capacityFactor) {
+    return ConsistentHashing.boundedLoad(
+        createConsistentBucketHasher(),
+        PseudoRandomGeneratorProvider.splitMix64_V1(),
+        capacityFactor);
+  }
+
+  // assigns the keys one after the other and verifies that the capacity is never exceeded
+  private static int[] assign(ConsistentBoundedLoadBucketHasher hasher, long[] keys, int n) {
+    int[] loads = new int[n];
+    int[] assignments = new int[keys.length];
+    for (int i = 0; i < keys.length; ++i) {
+      long capacity = hasher.getCapacity(i, n);
+      int bucket = hasher.getBucket(keys[i], loads, i);
+      assertThat(loads[bucket]).isLessThan(capacity);
+      loads[bucket] += 1;
+      assignments[i] = bucket;
+    }
+    return assignments;
+  }
+
+  private static double getFractionOfDifferentAssignments(int[] assignments1, int[] assignments2) {
+    int count = 0;
+    for (int i = 0; i < assignments1.length; ++i) {
+      if (assignments1[i] != assignments2[i]) count += 1;
+    }
+    return count / (double) assignments1.length;
+  }
+
+  private static double getFractionOfMovedKeysWithoutBoundedLoad(long[] keys, int n1, int n2) {
+    ConsistentBucketHasher hasher = createConsistentBucketHasher();
+    int count = 0;
+    for (long key : keys) {
+      if (hasher.getBucket(key, n1) != hasher.getBucket(key, n2)) count += 1;
+    }
+    return count / (double) keys.length;
+  }
+
+  private static void testDisruption(
+      double capacityFactor,
+      int numBuckets,
+      double maxFractionOfNonPrimaryAssignments,
+      double maxRelativeNumberOfMovedKeys) {
+    ConsistentBoundedLoadBucketHasher hasher = create(capacityFactor);
+    ConsistentBucketHasher consistentBucketHasher = createConsistentBucketHasher();
+    long[] keys = new SplittableRandom(0x3d8e1c5a7f2b9046L).longs(20L * numBuckets).toArray();
+
+    int[] assignments = assign(hasher, keys, numBuckets);
+    int[] primaryAssignments = new int[keys.length];
+    for (int i = 0; i < keys.length; ++i) {
+      primaryAssignments[i] = consistentBucketHasher.getBucket(keys[i], numBuckets);
+    }
+    assertThat(getFractionOfDifferentAssignments(assignments, primaryAssignments))
+        .isLessThan(maxFractionOfNonPrimaryAssignments);
+
+    // adding or removing a bucket moves only a few more keys than without load bounds
+    for (int otherNumBuckets : new int[] {numBuckets - 1, numBuckets + 1}) {
+      double fractionOfMovedKeys =
+          getFractionOfDifferentAssignments(assignments, assign(hasher, keys, otherNumBuckets));
+      double fractionOfMovedKeysWithoutBoundedLoad =
+          getFractionOfMovedKeysWithoutBoundedLoad(keys, numBuckets, otherNumBuckets);
+      assertThat(fractionOfMovedKeys)
+          .isLessThan(maxRelativeNumberOfMovedKeys * fractionOfMovedKeysWithoutBoundedLoad);
+    }
+  }
+
+  @Test
+  void testDisruptionTightCapacity() {
+    testDisruption(1.25, 100, 0.15, 8);
+  }
+
+  @Test
+  void testDisruptionModerateCapacity() {
+    testDisruption(1.5, 1000, 0.06, 3);
+  }
+
+  @Test
+  void testDisruptionLooseCapacity() {
+    testDisruption(2, 1000, 0.02, 1.5);
+  }
+
+  @Test
+  void testSameAsConsistentBucketHasherIfNotOverloaded() {
+    ConsistentBoundedLoadBucketHasher hasher = create(1e6);
+    ConsistentBucketHasher consistentBucketHasher = createConsistentBucketHasher();
+    SplittableRandom random = new SplittableRandom(0x81f2c4a6e0d3b597L);
+    for (int numBuckets = 1; numBuckets <= 100; ++numBuckets) {
+      int[] loads = new int[numBuckets];
+      for (int i = 0; i < 100; ++i) {
+        long hash = random.nextLong();
+        int bucket = hasher.getBucket(hash, loads);
+        assertThat(bucket).isEqualTo(consistentBucketHasher.getBucket(hash, numBuckets));
+        loads[bucket] += 1;
+      }
+    }
+  }
+
+  @Test
+  void testHotBucketIsAvoided() {
+    int numBuckets = 10;
+    ConsistentBoundedLoadBucketHasher hasher = create(1.5);
+    int[] loads = new int[numBuckets];
+    Arrays.fill(loads, 100);
+    loads[3] = 1000;
+    long totalLoad = 1900;
+    assertThat(hasher.getCapacity(totalLoad, numBuckets)).isEqualTo(286);
+    SplittableRandom random = new SplittableRandom(0x5a0b7e3c9d1f2468L);
+    for (int i = 0; i < 1000; ++i) {
+      assertThat(hasher.getBucket(random.nextLong(), loads, totalLoad)).isNotEqualTo(3);
+    }
+  }
+
+  @Test
+  void testSingleNonOverloadedBucket() {
+    int numBuckets = 1000;
+    ConsistentBoundedLoadBucketHasher hasher = create(1);
+    int[] loads = new int[numBuckets];
+    Arrays.fill(loads, 5);
+    loads[123] = 4;
+    long totalLoad = 5L * numBuckets - 1;
+    SplittableRandom random = new SplittableRandom(0x0c7d2e9f4a6b1853L);
+    for (int i = 0; i < 100; ++i) {
+      assertThat(hasher.getBucket(random.nextLong(), loads, totalLoad)).isEqualTo(123);
+    }
+  }
+
+  @Test
+  void testGetCapacity() {
+    assertThat(create(1).getCapacity(0, 1)).isEqualTo(1);
+    assertThat(create(1).getCapacity(9, 10)).isEqualTo(1);
+    assertThat(create(1).getCapacity(10, 10)).isEqualTo(2);
+    assertThat(create(1.25).getCapacity(99, 10)).isEqualTo(13);
+    assertThat(create(1.25).getCapacityFactor()).isEqualTo(1.25);
+  }
+
+  @Test
+  void testInvalidArguments() {
+    ConsistentBucketHasher consistentBucketHasher = createConsistentBucketHasher();
+    PseudoRandomGeneratorProvider pseudoRandomGeneratorProvider =
+        PseudoRandomGeneratorProvider.splitMix64_V1();
+    assertThatIllegalArgumentException()
+        .isThrownBy(
+            () ->
+                ConsistentHashing.boundedLoad(
+                    consistentBucketHasher, pseudoRandomGeneratorProvider, 0.99));
+    assertThatIllegalArgumentException()
+        .isThrownBy(
+            () ->
+                ConsistentHashing.boundedLoad(
+                    consistentBucketHasher, pseudoRandomGeneratorProvider, Double.NaN));
+    assertThatIllegalArgumentException()
+        .isThrownBy(
+            () ->
+                ConsistentHashing.boundedLoad(
+                    consistentBucketHasher,
+                    pseudoRandomGeneratorProvider,
+                    Double.POSITIVE_INFINITY));
+    assertThatNullPointerException()
+        .isThrownBy(() -> ConsistentHashing.boundedLoad(null, pseudoRandomGeneratorProvider, 2));
+    assertThatNullPointerException()
+        .isThrownBy(() -> ConsistentHashing.boundedLoad(consistentBucketHasher, null, 2));
+
+    ConsistentBoundedLoadBucketHasher hasher = create(2);
+    assertThatIllegalArgumentException().isThrownBy(() -> hasher.getBucket(0, new int[0]));
+    assertThatIllegalArgumentException().isThrownBy(() -> hasher.getCapacity(0, 0));
+    // the total load is inconsistent with the loads, all buckets are overloaded
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> hasher.getBucket(0, new int[] {10, 10, 10}, 0));
+  }
+}
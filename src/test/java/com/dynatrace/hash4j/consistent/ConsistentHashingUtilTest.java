@@ -16,6 +16,9 @@
 package com.dynatrace.hash4j.consistent;
 
 import static com.dynatrace.hash4j.consistent.ConsistentHashingUtil.checkNumberOfBuckets;
+import static com.dynatrace.hash4j.consistent.ConsistentHashingUtil.checkNumberOfReplicas;
+import static com.dynatrace.hash4j.consistent.ConsistentHashingUtil.getReplicaHash;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 
@@ -32,4 +35,23 @@ class ConsistentHashingUtilTest {
     assertThatNoException().isThrownBy(() -> checkNumberOfBuckets(2));
     assertThatNoException().isThrownBy(() -> checkNumberOfBuckets(Integer.MAX_VALUE));
   }
+
+  @Test
+  void testCheckNumberOfReplicas() {
+    assertThatIllegalArgumentException().isThrownBy(() -> checkNumberOfReplicas(-1, 5));
+    assertThatIllegalArgumentException().isThrownBy(() -> checkNumberOfReplicas(6, 5));
+    assertThatIllegalArgumentException().isThrownBy(() -> checkNumberOfReplicas(1, 0));
+    assertThatNoException().isThrownBy(() -> checkNumberOfReplicas(0, 0));
+    assertThatNoException().isThrownBy(() -> checkNumberOfReplicas(0, 5));
+    assertThatNoException().isThrownBy(() -> checkNumberOfReplicas(5, 5));
+  }
+
+  @Test
+  void testGetReplicaHash() {
+    long hash = 0x4d2c7b9e1f3a8065L;
+    assertThat(getReplicaHash(hash, 0)).isEqualTo(hash);
+    assertThat(getReplicaHash(hash, 1)).isNotEqualTo(hash);
+    assertThat(getReplicaHash(hash, 1)).isNotEqualTo(getReplicaHash(hash, 2));
+    assertThat(getReplicaHash(hash, 1)).isEqualTo(getReplicaHash(hash, 1));
+  }
 }
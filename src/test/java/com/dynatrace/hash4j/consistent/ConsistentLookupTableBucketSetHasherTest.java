@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.consistent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class ConsistentLookupTableBucketSetHasherTest {
+
+  private static final int TABLE_SIZE_BITS = 12;
+
+  private static ConsistentLookupTableBucketSetHasher create() {
+    return new ConsistentLookupTableBucketSetHasher(
+        PseudoRandomGeneratorProvider.splitMix64_V1(), TABLE_SIZE_BITS);
+  }
+
+  private static ConsistentBucketSetHasher createDirect() {
+    return ConsistentHashing.jumpBackAnchorHash(PseudoRandomGeneratorProvider.splitMix64_V1());
+  }
+
+  private static int[] getSlotBuckets(ConsistentBucketSetHasher hasher) {
+    int[] buckets = new int[1 << TABLE_SIZE_BITS];
+    for (int slot = 0; slot < buckets.length; ++slot) {
+      buckets[slot] = hasher.getBucket((long) slot << (64 - TABLE_SIZE_BITS));
+    }
+    return buckets;
+  }
+
+  private static void assertEquivalentToDirect(
+      ConsistentLookupTableBucketSetHasher hasher,
+      ConsistentBucketSetHasher direct,
+      SplittableRandom random) {
+    assertThat(hasher.getNumBuckets()).isEqualTo(direct.getNumBuckets());
+    assertThat(hasher.getBuckets()).isEqualTo(direct.getBuckets());
+    assertThat(hasher.getState()).isEqualTo(direct.getState());
+    for (int i = 0; i < 100; ++i) {
+      long hash = random.nextLong();
+      int slot = hasher.getSlot(hash);
+      assertThat(hasher.getBucket(hash))
+          .isEqualTo(direct.getBucket(ConsistentLookupTableBucketSetHasher.getSlotHash(slot)));
+    }
+  }
+
+  @Test
+  void testEquivalenceWithDirectAlgorithm() {
+    SplittableRandom random = new SplittableRandom(0x5d1e8b3f7a2c9046L);
+    ConsistentLookupTableBucketSetHasher hasher = create();
+    ConsistentBucketSetHasher direct = createDirect();
+    for (int i = 0; i < 300; ++i) {
+      if (direct.getNumBuckets() == 0 || random.nextInt(3) != 0) {
+        assertThat(hasher.addBucket()).isEqualTo(direct.addBucket());
+      } else {
+        int bucketId = random.nextInt(direct.getNumBuckets() + 5);
+        assertThat(hasher.removeBucket(bucketId)).isEqualTo(direct.removeBucket(bucketId));
+      }
+      if (direct.getNumBuckets() > 0) {
+        assertEquivalentToDirect(hasher, direct, random);
+      }
+    }
+  }
+
+  @Test
+  void testSetState() {
+    SplittableRandom random = new SplittableRandom(0x0c7e2a9f4b6d1358L);
+    ConsistentBucketSetHasher direct = createDirect();
+    for (int i = 0; i < 50; ++i) {
+      direct.addBucket();
+    }
+    for (int i = 0; i < 20; ++i) {
+      direct.removeBucket(random.nextInt(50));
+    }
+    ConsistentLookupTableBucketSetHasher hasher = create();
+    hasher.setState(direct.getState());
+    assertEquivalentToDirect(hasher, direct, random);
+  }
+
+  @Test
+  void testApplyStateDelta() {
+    SplittableRandom random = new SplittableRandom(0x3e9c5a7b1d0f2864L);
+    ConsistentBucketSetHasher direct = createDirect();
+    for (int i = 0; i < 30; ++i) {
+      direct.addBucket();
+    }
+    ConsistentLookupTableBucketSetHasher hasher = create();
+    hasher.setState(direct.getState());
+    for (int k = 0; k < 50; ++k) {
+      byte[] baseState = direct.getState();
+      if (direct.getNumBuckets() <= 1 || random.nextBoolean()) {
+        direct.addBucket();
+      } else {
+        int[] buckets = direct.getBuckets();
+        direct.removeBucket(buckets[random.nextInt(buckets.length)]);
+      }
+      hasher.applyStateDelta(direct.getStateDelta(baseState));
+      assertEquivalentToDirect(hasher, direct, random);
+      assertThat(getSlotBuckets(hasher))
+          .isEqualTo(getSlotBuckets(create().setState(direct.getState())));
+    }
+  }
+
+  @Test
+  void testSetInvalidState() {
+    ConsistentLookupTableBucketSetHasher hasher = create();
+    hasher.addBucket();
+    hasher.addBucket();
+    int[] slotBuckets = getSlotBuckets(hasher);
+    assertThatIllegalArgumentException().isThrownBy(() -> hasher.setState(new byte[3]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> hasher.setState(new byte[] {1, 0, 0, 0, 5, 0, 0, 0}));
+    assertThat(hasher.getNumBuckets()).isEqualTo(2);
+    assertThat(getSlotBuckets(hasher)).isEqualTo(slotBuckets);
+  }
+
+  @Test
+  void testRemovalOnlyRemapsKeysOfRemovedBucket() {
+    ConsistentLookupTableBucketSetHasher hasher = create();
+    for (int i = 0; i < 20; ++i) {
+      hasher.addBucket();
+    }
+    for (int removedBucket : new int[] {7, 0, 19, 3}) {
+      int[] slotBucketsBefore = getSlotBuckets(hasher);
+      hasher.removeBucket(removedBucket);
+      int[] slotBucketsAfter = getSlotBuckets(hasher);
+      for (int slot = 0; slot < slotBucketsBefore.length; ++slot) {
+        if (slotBucketsBefore[slot] == removedBucket) {
+          assertThat(slotBucketsAfter[slot]).isNotEqualTo(removedBucket);
+        } else {
+          assertThat(slotBucketsAfter[slot]).isEqualTo(slotBucketsBefore[slot]);
+        }
+      }
+    }
+  }
+
+  @Test
+  void testAdditionOnlyRemapsKeysToNewBucket() {
+    ConsistentLookupTableBucketSetHasher hasher = create();
+    for (int i = 0; i < 20; ++i) {
+      hasher.addBucket();
+    }
+    hasher.removeBucket(5);
+    hasher.removeBucket(12);
+    for (int k = 0; k < 3; ++k) {
+      int[] slotBucketsBefore = getSlotBuckets(hasher);
+      int addedBucket = hasher.addBucket();
+      int[] slotBucketsAfter = getSlotBuckets(hasher);
+      int numMovedSlots = 0;
+      for (int slot = 0; slot < slotBucketsBefore.length; ++slot) {
+        if (slotBucketsAfter[slot] != slotBucketsBefore[slot]) {
+          assertThat(slotBucketsAfter[slot]).isEqualTo(addedBucket);
+          numMovedSlots += 1;
+        }
+      }
+      double expected = slotBucketsBefore.length / (double) hasher.getNumBuckets();
+      assertThat((double) numMovedSlots)
+          .isBetween(expected - 5. * Math.sqrt(expected), expected + 5. * Math.sqrt(expected));
+    }
+  }
+
+  @Test
+  void testBalance() {
+    ConsistentLookupTableBucketSetHasher hasher = create();
+    int numBuckets = 16;
+    for (int i = 0; i < numBuckets; ++i) {
+      hasher.addBucket();
+    }
+    int[] counts = new int[numBuckets];
+    for (int bucket : getSlotBuckets(hasher)) {
+      counts[bucket] += 1;
+    }
+    double expected = (1 << TABLE_SIZE_BITS) / (double) numBuckets;
+    for (int count : counts) {
+      assertThat((double) count)
+          .isBetween(expected - 5. * Math.sqrt(expected), expected + 5. * Math.sqrt(expected));
+    }
+  }
+
+  @Test
+  void testNoBucketsAvailable() {
+    ConsistentLookupTableBucketSetHasher hasher = create();
+    assertThatIllegalStateException().isThrownBy(() -> hasher.getBucket(0x1f6f71e90adb7168L));
+    int bucketId = hasher.addBucket();
+    assertThat(hasher.getBucket(0x1f6f71e90adb7168L)).isEqualTo(bucketId);
+    assertThat(hasher.removeBucket(bucketId)).isTrue();
+    assertThatIllegalStateException().isThrownBy(() -> hasher.getBucket(0x1f6f71e90adb7168L));
+    assertThat(hasher.removeBucket(bucketId)).isFalse();
+  }
+
+  @Test
+  void testGetReplicaBuckets() {
+    ConsistentLookupTableBucketSetHasher hasher = create();
+    for (int i = 0; i < 10; ++i) {
+      hasher.addBucket();
+    }
+    int[] buckets = new int[3];
+    hasher.getBuckets(0x4b8d2e6f1a3c5079L, 3, buckets);
+    assertThat(buckets).doesNotHaveDuplicates();
+    assertThat(buckets[0]).isEqualTo(hasher.getBucket(0x4b8d2e6f1a3c5079L));
+  }
+
+  @Test
+  void testInvalidArguments() {
+    PseudoRandomGeneratorProvider provider = PseudoRandomGeneratorProvider.splitMix64_V1();
+    assertThatNullPointerException()
+        .isThrownBy(() -> ConsistentHashing.jumpBackAnchorHashWithLookupTable(null, 10));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> ConsistentHashing.jumpBackAnchorHashWithLookupTable(provider, 0));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> ConsistentHashing.jumpBackAnchorHashWithLookupTable(provider, 31));
+    assertThat(ConsistentHashing.jumpBackAnchorHashWithLookupTable(provider, 1).getNumBuckets())
+        .isZero();
+  }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.consistent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class ConsistentWeightedBucketHasherTest {
+
+  private static final int NUM_KEYS = 200_000;
+
+  private static ConsistentWeightedBucketHasher create() {
+    return ConsistentHashing.weightedJumpBackHash(PseudoRandomGeneratorProvider.splitMix64_V1());
+  }
+
+  private static long[] createKeys(long seed) {
+    return new SplittableRandom(seed).longs(NUM_KEYS).toArray();
+  }
+
+  private static int[] getBuckets(ConsistentWeightedBucketHasher hasher, long[] keys) {
+    int[] buckets = new int[keys.length];
+    for (int i = 0; i < keys.length; ++i) {
+      buckets[i] = hasher.getBucket(keys[i]);
+    }
+    return buckets;
+  }
+
+  private static void testBalance(double[] weights, long seed) {
+    ConsistentWeightedBucketHasher hasher = create().setWeights(weights);
+    long[] keys = createKeys(seed);
+    int[] counts = new int[weights.length];
+    for (int bucket : getBuckets(hasher, keys)) {
+      counts[bucket] += 1;
+    }
+    double totalWeight = 0;
+    for (double weight : weights) {
+      totalWeight += weight;
+    }
+    for (int i = 0; i < weights.length; ++i) {
+      double expected = keys.length * weights[i] / totalWeight;
+      // allow deviations of 5 standard deviations
+      double tolerance = 5. * Math.sqrt(expected) + 1e-9;
+      assertThat((double) counts[i]).isBetween(expected - tolerance, expected + tolerance);
+    }
+  }
+
+  @Test
+  void testBalanceEqualWeights() {
+    testBalance(new double[] {1, 1, 1, 1, 1, 1, 1, 1, 1, 1}, 0x6b3e9f1c2a7d8045L);
+  }
+
+  @Test
+  void testBalanceHeterogeneousWeights() {
+    testBalance(new double[] {1, 2, 3.5, 0, 10, 0.5, 7, 1e-3, 64, 65}, 0x2f8a1d6c4e9b3057L);
+  }
+
+  @Test
+  void testBalanceSmallWeights() {
+    testBalance(new double[] {0.01, 0.02, 0.03, 0.04}, 0x9c0e4b7a3d1f2658L);
+  }
+
+  @Test
+  void testBalanceTinyWeights() {
+    testBalance(new double[] {1e-9, 2e-9, 3e-9, 4e-9}, 0x35e9a7c1d8f2b460L);
+  }
+
+  @Test
+  void testBalanceLargeWeights() {
+    testBalance(new double[] {1e30, 3e30, 2e30, 0}, 0x47d2c8e1b5a90f36L);
+  }
+
+  @Test
+  void testBalanceManyBuckets() {
+    double[] weights = new SplittableRandom(0x13f5b7d9e2c4a608L).doubles(100, 1, 20).toArray();
+    testBalance(weights, 0x7e1a3c5b9d2f4068L);
+  }
+
+  private static void testWeightChange(double[] weights, int bucketIdx, double newWeight) {
+    ConsistentWeightedBucketHasher hasher = create().setWeights(weights);
+    long[] keys = createKeys(0x58c1e7a9b3d20f46L);
+    int[] bucketsBefore = getBuckets(hasher, keys);
+    double oldWeight = hasher.getWeight(bucketIdx);
+    hasher.setWeight(bucketIdx, newWeight);
+    assertThat(hasher.getWeight(bucketIdx)).isEqualTo(newWeight);
+    int[] bucketsAfter = getBuckets(hasher, keys);
+
+    double totalWeightBefore = 0;
+    for (double weight : weights) {
+      totalWeightBefore += weight;
+    }
+    double totalWeightAfter = totalWeightBefore - oldWeight + newWeight;
+
+    int numMoved = 0;
+    for (int i = 0; i < keys.length; ++i) {
+      if (bucketsBefore[i] != bucketsAfter[i]) {
+        numMoved += 1;
+        // keys are only moved to the bucket if its weight increases, and only moved away from the
+        // bucket if its weight decreases
+        if (newWeight > oldWeight) {
+          assertThat(bucketsAfter[i]).isEqualTo(bucketIdx);
+        } else {
+          assertThat(bucketsBefore[i]).isEqualTo(bucketIdx);
+        }
+      }
+    }
+    double expected =
+        keys.length * Math.abs(newWeight / totalWeightAfter - oldWeight / totalWeightBefore);
+    double tolerance = 5. * Math.sqrt(expected) + 1e-9;
+    assertThat((double) numMoved).isBetween(expected - tolerance, expected + tolerance);
+  }
+
+  @Test
+  void testWeightIncrease() {
+    testWeightChange(new double[] {1, 2, 3, 4, 5}, 1, 2.5);
+  }
+
+  @Test
+  void testWeightDecrease() {
+    testWeightChange(new double[] {1, 2, 3, 4, 5}, 3, 1.5);
+  }
+
+  @Test
+  void testWeightIncreaseOfMaximum() {
+    testWeightChange(new double[] {1, 2, 3, 4, 5}, 4, 40);
+  }
+
+  @Test
+  void testWeightDecreaseOfMaximum() {
+    testWeightChange(new double[] {1, 2, 3, 4, 50}, 4, 3);
+  }
+
+  @Test
+  void testWeightSetToZero() {
+    testWeightChange(new double[] {1, 2, 3, 4, 5}, 2, 0);
+  }
+
+  @Test
+  void testWeightSetFromZero() {
+    testWeightChange(new double[] {1, 2, 0, 4, 5}, 2, 0.7);
+  }
+
+  @Test
+  void testTinyWeightIncreaseOfMaximum() {
+    testWeightChange(new double[] {1e-9, 2e-9, 3e-9, 4e-9}, 2, 5e-9);
+  }
+
+  @Test
+  void testTinyWeightSetFromZero() {
+    testWeightChange(new double[] {1e-9, 2e-9, 0, 4e-9}, 2, 3e-10);
+  }
+
+  @Test
+  void testAddingBucket() {
+    long[] keys = createKeys(0x0a4c6e8f1b3d5792L);
+    double[] weights = {3, 1, 4, 1, 5, 9, 2, 6};
+    int[] bucketsBefore = getBuckets(create().setWeights(weights), keys);
+    double[] newWeights = {3, 1, 4, 1, 5, 9, 2, 6, 5};
+    int[] bucketsAfter = getBuckets(create().setWeights(newWeights), keys);
+    int numMoved = 0;
+    for (int i = 0; i < keys.length; ++i) {
+      if (bucketsBefore[i] != bucketsAfter[i]) numMoved += 1;
+    }
+    // optimal would be 5/36 of all keys, allow a few additional remappings
+    assertThat(numMoved).isBetween(NUM_KEYS * 5 / 36, NUM_KEYS * 5 / 36 + NUM_KEYS / 10);
+  }
+
+  @Test
+  void testIncrementalUpdatesEqualSetWeights() {
+    SplittableRandom random = new SplittableRandom(0x3b5d7f9a1c2e4068L);
+    ConsistentWeightedBucketHasher hasher = create().setWeights(new double[20]);
+    double[] weights = new double[20];
+    long[] keys = random.longs(1000).toArray();
+    for (int k = 0; k < 200; ++k) {
+      int bucketIdx = random.nextInt(weights.length);
+      double weight = (random.nextInt(4) == 0) ? 0 : random.nextDouble(0, 100);
+      weights[bucketIdx] = weight;
+      hasher.setWeight(bucketIdx, weight);
+      boolean hasPositiveWeight = false;
+      for (double w : weights) {
+        hasPositiveWeight |= w > 0;
+      }
+      if (hasPositiveWeight) {
+        assertThat(getBuckets(hasher, keys))
+            .isEqualTo(getBuckets(create().setWeights(weights), keys));
+      }
+    }
+  }
+
+  @Test
+  void testGetTopLayer() {
+    assertThat(ConsistentWeightedJumpBackBucketHasher.getTopLayer(0.)).isEqualTo(-1);
+    assertThat(ConsistentWeightedJumpBackBucketHasher.getTopLayer(Double.MIN_VALUE)).isEqualTo(0);
+    assertThat(ConsistentWeightedJumpBackBucketHasher.getTopLayer(Double.MIN_NORMAL)).isEqualTo(0);
+    assertThat(ConsistentWeightedJumpBackBucketHasher.getTopLayer(Math.nextUp(Double.MIN_NORMAL)))
+        .isEqualTo(1);
+    assertThat(ConsistentWeightedJumpBackBucketHasher.getTopLayer(0.5)).isEqualTo(1021);
+    assertThat(ConsistentWeightedJumpBackBucketHasher.getTopLayer(1.)).isEqualTo(1022);
+    assertThat(ConsistentWeightedJumpBackBucketHasher.getTopLayer(Math.nextUp(1.)))
+        .isEqualTo(1023);
+    assertThat(ConsistentWeightedJumpBackBucketHasher.getTopLayer(2.)).isEqualTo(1023);
+    assertThat(ConsistentWeightedJumpBackBucketHasher.getTopLayer(3.)).isEqualTo(1024);
+    assertThat(ConsistentWeightedJumpBackBucketHasher.getTopLayer(4.)).isEqualTo(1024);
+    assertThat(ConsistentWeightedJumpBackBucketHasher.getTopLayer(Double.MAX_VALUE))
+        .isEqualTo(2046);
+  }
+
+  @Test
+  void testNoBucketsAvailable() {
+    ConsistentWeightedBucketHasher hasher = create();
+    assertThat(hasher.getNumBuckets()).isZero();
+    assertThatIllegalStateException().isThrownBy(() -> hasher.getBucket(0x1f6f71e90adb7168L));
+    hasher.setWeights(0, 0);
+    assertThat(hasher.getNumBuckets()).isEqualTo(2);
+    assertThatIllegalStateException().isThrownBy(() -> hasher.getBucket(0x1f6f71e90adb7168L));
+    hasher.setWeight(1, 1);
+    assertThat(hasher.getBucket(0x1f6f71e90adb7168L)).isEqualTo(1);
+  }
+
+  @Test
+  void testInvalidArguments() {
+    ConsistentWeightedBucketHasher hasher = create().setWeights(1, 2, 3);
+    assertThatNullPointerException().isThrownBy(() -> hasher.setWeights((double[]) null));
+    assertThatIllegalArgumentException().isThrownBy(() -> hasher.setWeights(1, -1));
+    assertThatIllegalArgumentException().isThrownBy(() -> hasher.setWeights(1, Double.NaN));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> hasher.setWeights(1, Double.POSITIVE_INFINITY));
+    assertThatIllegalArgumentException().isThrownBy(() -> hasher.setWeight(3, 1));
+    assertThatIllegalArgumentException().isThrownBy(() -> hasher.setWeight(-1, 1));
+    assertThatIllegalArgumentException().isThrownBy(() -> hasher.setWeight(0, -1));
+    assertThatIllegalArgumentException().isThrownBy(() -> hasher.getWeight(3));
+    assertThatNullPointerException()
+        .isThrownBy(() -> ConsistentHashing.weightedJumpBackHash(null));
+    // failed updates do not modify the state
+    assertThat(hasher.getNumBuckets()).isEqualTo(3);
+    assertThat(hasher.getWeight(0)).isEqualTo(1.);
+    assertThat(hasher.getWeight(1)).isEqualTo(2.);
+    assertThat(hasher.getWeight(2)).isEqualTo(3.);
+  }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+abstract class AbstractSparseDistinctCounterTest<
+    S extends AbstractSparseDistinctCounter<S, T, R>,
+    T extends DistinctCounter<T, R>,
+    R extends DistinctCounter.Estimator<T>> {
+
+  protected abstract S create(int p);
+
+  protected abstract S fromByteArray(byte[] data);
+
+  protected abstract T createDense(int p);
+
+  protected abstract T toDense(S sketch);
+
+  protected abstract R getNonDefaultEstimator();
+
+  protected abstract int getMinP();
+
+  protected abstract int getMaxP();
+
+  private void assertConsistent(S sketch, T dense) {
+    assertThat(sketch.getP()).isEqualTo(dense.getP());
+    assertThat(toDense(sketch).getState()).isEqualTo(dense.getState());
+    assertThat(sketch.isEmpty()).isEqualTo(dense.isEmpty());
+    assertThat(sketch.getDistinctCountEstimate(getNonDefaultEstimator()))
+        .isEqualTo(dense.getDistinctCountEstimate(getNonDefaultEstimator()));
+    if (!sketch.isSparse()) {
+      assertThat(sketch.getDistinctCountEstimate()).isEqualTo(dense.getDistinctCountEstimate());
+    }
+    S deserialized = fromByteArray(sketch.toByteArray());
+    assertThat(deserialized.isSparse()).isEqualTo(sketch.isSparse());
+    assertThat(toDense(deserialized).getState()).isEqualTo(dense.getState());
+    assertThat(deserialized.getDistinctCountEstimate())
+        .isEqualTo(sketch.getDistinctCountEstimate());
+  }
+
+  @Test
+  void testAdd() {
+    SplittableRandom random = new SplittableRandom(0x6f0a3e2d9c1b8475L);
+    for (int p = getMinP(); p <= 12; ++p) {
+      S sketch = create(p);
+      T dense = createDense(p);
+      assertThat(sketch.isSparse()).isTrue();
+      assertConsistent(sketch, dense);
+      long maxNumElements = 2L << p;
+      for (long n = 1; n <= maxNumElements; ++n) {
+        long hash = random.nextLong();
+        if (n % 2 == 0) {
+          assertThat(sketch.add(hash)).isSameAs(sketch);
+          dense.add(hash);
+        } else {
+          int token = UltraLogLog.computeToken(hash);
+          assertThat(sketch.addToken(token)).isSameAs(sketch);
+          dense.addToken(token);
+        }
+        if (n < 16 || Long.bitCount(n) == 1) {
+          assertConsistent(sketch, dense);
+          if (sketch.isSparse()) {
+            assertThat(sketch.getDistinctCountEstimate()).isCloseTo(n, withinPercentage(1));
+          }
+        }
+      }
+      assertThat(sketch.isSparse()).isFalse();
+      assertConsistent(sketch, dense);
+      assertThat(sketch.reset()).isSameAs(sketch);
+      assertThat(sketch.isSparse()).isTrue();
+      assertConsistent(sketch, createDense(p));
+    }
+  }
+
+  @Test
+  void testAddDuplicates() {
+    int p = 10;
+    S sketch = create(p);
+    T dense = createDense(p);
+    SplittableRandom random = new SplittableRandom(0x2e5c7a9b1d3f4068L);
+    long[] hashes = random.longs(10).toArray();
+    for (int i = 0; i < 100000; ++i) {
+      long hash = hashes[i % hashes.length];
+      sketch.add(hash);
+      dense.add(hash);
+    }
+    assertThat(sketch.isSparse()).isTrue();
+    assertThat(sketch.getDistinctCountEstimate()).isCloseTo(10., withinPercentage(1));
+    assertConsistent(sketch, dense);
+  }
+
+  private S createSketch(int p, int numElements, SplittableRandom random) {
+    S sketch = create(p);
+    random.longs(numElements).forEach(sketch::add);
+    return sketch;
+  }
+
+  @Test
+  void testMerge() {
+    SplittableRandom random = new SplittableRandom(0x0b1c2d3e4f5a6978L);
+    int[] numElements = {0, 1, 10, 100, 1000, 10000};
+    for (int p1 = getMinP(); p1 <= 12; p1 += 3) {
+      for (int p2 = p1; p2 <= 12; p2 += 3) {
+        for (int n1 : numElements) {
+          for (int n2 : numElements) {
+            S sketch1 = createSketch(p1, n1, random);
+            S sketch2 = createSketch(p2, n2, random);
+            T expected = toDense(sketch1).add(toDense(sketch2));
+            assertConsistent(sketch1.copy().add(sketch2), expected);
+            assertConsistent(sketch1.copy().add(toDense(sketch2)), expected);
+            if (p1 < p2) {
+              assertThatIllegalArgumentException().isThrownBy(() -> sketch2.add(sketch1));
+              assertThatIllegalArgumentException().isThrownBy(() -> sketch2.add(toDense(sketch1)));
+            }
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  void testMergeWithItself() {
+    SplittableRandom random = new SplittableRandom(0x7d6e5f4a3b2c1d0eL);
+    for (int n : new int[] {0, 10, 100000}) {
+      S sketch = createSketch(10, n, random);
+      T expected = toDense(sketch);
+      assertConsistent(sketch.add(sketch), expected);
+    }
+  }
+
+  @Test
+  void testCopy() {
+    SplittableRandom random = new SplittableRandom(0x3c4d5e6f7a8b9c0dL);
+    for (int n : new int[] {0, 10, 100000}) {
+      S sketch = createSketch(10, n, random);
+      T expected = toDense(sketch);
+      S copy = sketch.copy();
+      assertThat(copy.isSparse()).isEqualTo(sketch.isSparse());
+      random.longs(100000).forEach(sketch::add);
+      assertConsistent(copy, expected);
+    }
+  }
+
+  @Test
+  void testSerialization() {
+    SplittableRandom random = new SplittableRandom(0x1a2b3c4d5e6f7081L);
+    int p = 12;
+    S sketch = create(p);
+    assertThat(sketch.toByteArray())
+        .isEqualTo(new byte[] {AbstractSparseDistinctCounter.SPARSE_FORMAT, (byte) p});
+    random.longs(100).forEach(sketch::add);
+    byte[] sparseData = sketch.toByteArray();
+    assertThat(sparseData[0]).isEqualTo(AbstractSparseDistinctCounter.SPARSE_FORMAT);
+    assertThat(sparseData.length).isLessThan(2 + 4 * 100);
+    random.longs(100000).forEach(sketch::add);
+    byte[] denseData = sketch.toByteArray();
+    assertThat(denseData[0]).isEqualTo(AbstractSparseDistinctCounter.DENSE_FORMAT);
+    assertThat(Arrays.copyOfRange(denseData, 2, denseData.length))
+        .isEqualTo(toDense(sketch).getState());
+  }
+
+  @Test
+  void testSerializationOfExtremeTokens() {
+    S sketch = create(getMaxP());
+    int[] tokens = {
+      0x00000000, 0x00000001, 0x7FFFFFC0, 0x7FFFFFE6, 0x80000000, 0x80000026, 0xFFFFFFC0, 0xFFFFFFE6
+    };
+    T dense = createDense(getMaxP());
+    for (int token : tokens) {
+      sketch.addToken(token);
+      dense.addToken(token);
+    }
+    assertThat(sketch.isSparse()).isTrue();
+    assertConsistent(sketch, dense);
+  }
+
+  @Test
+  void testInvalidSerializedData() {
+    assertThatNullPointerException().isThrownBy(() -> fromByteArray(null));
+    assertThatIllegalArgumentException().isThrownBy(() -> fromByteArray(new byte[] {}));
+    assertThatIllegalArgumentException().isThrownBy(() -> fromByteArray(new byte[] {0}));
+    assertThatIllegalArgumentException().isThrownBy(() -> fromByteArray(new byte[] {2, 10}));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> fromByteArray(new byte[] {0, (byte) (getMinP() - 1)}));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> fromByteArray(new byte[] {0, (byte) (getMaxP() + 1)}));
+    assertThatIllegalArgumentException().isThrownBy(() -> fromByteArray(new byte[] {0, 10, -1}));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> fromByteArray(new byte[] {0, 10, -1, -1, -1, -1, -1, 0}));
+    assertThatIllegalArgumentException().isThrownBy(() -> fromByteArray(new byte[] {1, 10}));
+    byte[] denseData = createSketch(10, 100000, new SplittableRandom(0)).toByteArray();
+    denseData[1] = 11;
+    assertThatIllegalArgumentException().isThrownBy(() -> fromByteArray(denseData));
+  }
+
+  @Test
+  void testNullArguments() {
+    S sketch = create(10);
+    assertThatNullPointerException().isThrownBy(() -> sketch.add((S) null));
+    assertThatNullPointerException().isThrownBy(() -> sketch.add((T) null));
+    assertThatNullPointerException().isThrownBy(() -> sketch.getDistinctCountEstimate(null));
+  }
+}
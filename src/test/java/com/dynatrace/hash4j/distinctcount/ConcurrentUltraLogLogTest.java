@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentUltraLogLogTest {
+
+  private static void assertSameState(ConcurrentUltraLogLog concurrentSketch, UltraLogLog sketch) {
+    assertThat(concurrentSketch.getP()).isEqualTo(sketch.getP());
+    assertThat(concurrentSketch.getState()).isEqualTo(sketch.getState());
+    assertThat(concurrentSketch.toUltraLogLog().getState()).isEqualTo(sketch.getState());
+    assertThat(concurrentSketch.isEmpty()).isEqualTo(sketch.isEmpty());
+    assertThat(concurrentSketch.getStateChangeProbability())
+        .isEqualTo(sketch.getStateChangeProbability());
+    assertThat(concurrentSketch.getDistinctCountEstimate())
+        .isEqualTo(sketch.getDistinctCountEstimate());
+    assertThat(concurrentSketch.getDistinctCountEstimate(UltraLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR))
+        .isEqualTo(sketch.getDistinctCountEstimate(UltraLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR));
+  }
+
+  @Test
+  void testAdd() {
+    SplittableRandom random = new SplittableRandom(0x3a2f1c9d8e7b6054L);
+    for (int p = UltraLogLog.MIN_P; p <= 16; ++p) {
+      ConcurrentUltraLogLog concurrentSketch = ConcurrentUltraLogLog.create(p);
+      UltraLogLog sketch = UltraLogLog.create(p);
+      assertSameState(concurrentSketch, sketch);
+      for (int i = 0; i < 1000; ++i) {
+        long hash = random.nextLong();
+        if (i % 2 == 0) {
+          assertThat(concurrentSketch.add(hash)).isSameAs(concurrentSketch);
+          sketch.add(hash);
+        } else {
+          int token = UltraLogLog.computeToken(hash);
+          assertThat(concurrentSketch.addToken(token)).isSameAs(concurrentSketch);
+          sketch.addToken(token);
+        }
+      }
+      assertSameState(concurrentSketch, sketch);
+      assertSameState(ConcurrentUltraLogLog.create(sketch.getState()), sketch);
+      assertThat(concurrentSketch.reset()).isSameAs(concurrentSketch);
+      assertSameState(concurrentSketch, UltraLogLog.create(p));
+    }
+  }
+
+  @Test
+  void testAddWithStateChangeObserver() {
+    SplittableRandom random = new SplittableRandom(0x7c4b2e1f0a9d8365L);
+    int p = 8;
+    ConcurrentUltraLogLog concurrentSketch = ConcurrentUltraLogLog.create(p);
+    UltraLogLog sketch = UltraLogLog.create(p);
+    for (int i = 0; i < 10000; ++i) {
+      long hash = random.nextLong();
+      double[] expected = {0.};
+      double[] actual = {0.};
+      if (i % 2 == 0) {
+        sketch.add(hash, d -> expected[0] += d);
+        concurrentSketch.add(hash, d -> actual[0] += d);
+      } else {
+        int token = UltraLogLog.computeToken(hash);
+        sketch.addToken(token, d -> expected[0] += d);
+        concurrentSketch.addToken(token, d -> actual[0] += d);
+      }
+      assertThat(actual[0]).isEqualTo(expected[0]);
+    }
+    assertSameState(concurrentSketch, sketch);
+  }
+
+  @Test
+  void testMerge() {
+    SplittableRandom random = new SplittableRandom(0x51e8d07c2b3a4f69L);
+    for (int p1 = UltraLogLog.MIN_P; p1 <= 12; ++p1) {
+      for (int p2 = p1; p2 <= 12; ++p2) {
+        UltraLogLog sketch1 = UltraLogLog.create(p1);
+        UltraLogLog sketch2 = UltraLogLog.create(p2);
+        for (int i = 0; i < 3000; ++i) {
+          sketch1.add(random.nextLong());
+          sketch2.add(random.nextLong());
+        }
+        UltraLogLog expected = sketch1.copy().add(sketch2);
+        ConcurrentUltraLogLog concurrentSketch1 = ConcurrentUltraLogLog.create(sketch1.getState());
+        ConcurrentUltraLogLog concurrentSketch2 = ConcurrentUltraLogLog.create(sketch2.getState());
+        assertSameState(ConcurrentUltraLogLog.create(sketch1.getState()).add(sketch2), expected);
+        assertSameState(concurrentSketch1.add(concurrentSketch2), expected);
+        if (p1 < p2) {
+          assertThatIllegalArgumentException().isThrownBy(() -> concurrentSketch2.add(sketch1));
+          assertThatIllegalArgumentException()
+              .isThrownBy(() -> concurrentSketch2.add(concurrentSketch1));
+        }
+      }
+    }
+  }
+
+  @Test
+  void testConcurrentAdd() throws Exception {
+    int p = 10;
+    int numThreads = 8;
+    int numElementsPerThread = 100000;
+    long[][] hashes = new long[numThreads][];
+    SplittableRandom random = new SplittableRandom(0x0f9e8d7c6b5a4932L);
+    UltraLogLog expected = UltraLogLog.create(p);
+    for (int t = 0; t < numThreads; ++t) {
+      hashes[t] = random.longs(numElementsPerThread).toArray();
+      for (long hash : hashes[t]) {
+        expected.add(hash);
+      }
+    }
+    ConcurrentUltraLogLog concurrentSketch = ConcurrentUltraLogLog.create(p);
+    DoubleAdder stateChangeProbabilityDecrements = new DoubleAdder();
+    ExecutorService executorService = Executors.newFixedThreadPool(numThreads);
+    try {
+      for (Future<?> future :
+          IntStream.range(0, numThreads)
+              .mapToObj(
+                  t ->
+                      executorService.submit(
+                          () -> {
+                            for (long hash : hashes[t]) {
+                              concurrentSketch.add(hash, stateChangeProbabilityDecrements::add);
+                            }
+                          }))
+              .collect(Collectors.toList())) {
+        future.get();
+      }
+    } finally {
+      executorService.shutdown();
+    }
+    assertSameState(concurrentSketch, expected);
+    assertThat(1. - stateChangeProbabilityDecrements.sum())
+        .isCloseTo(expected.getStateChangeProbability(), offset(1e-9));
+  }
+
+  @Test
+  void testInvalidArguments() {
+    assertThatIllegalArgumentException().isThrownBy(() -> ConcurrentUltraLogLog.create(2));
+    assertThatIllegalArgumentException().isThrownBy(() -> ConcurrentUltraLogLog.create(27));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> ConcurrentUltraLogLog.create(new byte[7]));
+    assertThatNullPointerException().isThrownBy(() -> ConcurrentUltraLogLog.create(null));
+    ConcurrentUltraLogLog sketch = ConcurrentUltraLogLog.create(4);
+    assertThatNullPointerException().isThrownBy(() -> sketch.add((UltraLogLog) null));
+    assertThatNullPointerException().isThrownBy(() -> sketch.add((ConcurrentUltraLogLog) null));
+  }
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static com.dynatrace.hash4j.distinctcount.DistinctCountCodec.HUFFMAN_ENCODING;
+import static com.dynatrace.hash4j.distinctcount.DistinctCountCodec.HYPERLOGLOG_TYPE;
+import static com.dynatrace.hash4j.distinctcount.DistinctCountCodec.MAX_CODE_LENGTH;
+import static com.dynatrace.hash4j.distinctcount.DistinctCountCodec.SPARSE_ENCODING;
+import static com.dynatrace.hash4j.distinctcount.DistinctCountCodec.ULTRALOGLOG_TYPE;
+import static com.dynatrace.hash4j.distinctcount.DistinctCountCodec.VERSION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class DistinctCountCodecTest {
+
+  private static final long[] NUM_ELEMENTS = {0, 1, 10, 100, 1000, 10000, 100000, 1000000};
+
+  private static UltraLogLog createUltraLogLog(int p, long n, SplittableRandom random) {
+    UltraLogLog sketch = UltraLogLog.create(p);
+    for (long i = 0; i < n; ++i) {
+      sketch.add(random.nextLong());
+    }
+    return sketch;
+  }
+
+  private static HyperLogLog createHyperLogLog(int p, long n, SplittableRandom random) {
+    HyperLogLog sketch = HyperLogLog.create(p);
+    for (long i = 0; i < n; ++i) {
+      sketch.add(random.nextLong());
+    }
+    return sketch;
+  }
+
+  private static UltraLogLog createSaturatedUltraLogLog(int p) {
+    UltraLogLog sketch = UltraLogLog.create(p);
+    for (int nlz = 0; nlz <= 64 - p; ++nlz) {
+      for (long idx = 0; idx < 1 << p; ++idx) {
+        sketch.add((idx << -p) | ((0xFFFFFFFFFFFFFFFFL >>> p) >>> nlz));
+      }
+    }
+    return sketch;
+  }
+
+  @Test
+  void testUltraLogLogRoundTrip() {
+    SplittableRandom random = new SplittableRandom(0x5d1e7f3a9b2c4680L);
+    for (int p = UltraLogLog.MIN_P; p <= 16; ++p) {
+      for (long n : NUM_ELEMENTS) {
+        UltraLogLog sketch = createUltraLogLog(p, n, random);
+        byte[] data = DistinctCountCodec.encode(sketch);
+        assertThat(Arrays.copyOf(data, 3))
+            .isEqualTo(new byte[] {VERSION, ULTRALOGLOG_TYPE, (byte) p});
+        assertThat(DistinctCountCodec.decodeUltraLogLog(data).getState())
+            .isEqualTo(sketch.getState());
+      }
+    }
+  }
+
+  @Test
+  void testHyperLogLogRoundTrip() {
+    SplittableRandom random = new SplittableRandom(0x2c9a4e6b8d0f1735L);
+    for (int p = HyperLogLog.MIN_P; p <= 16; ++p) {
+      for (long n : NUM_ELEMENTS) {
+        HyperLogLog sketch = createHyperLogLog(p, n, random);
+        byte[] data = DistinctCountCodec.encode(sketch);
+        assertThat(Arrays.copyOf(data, 3))
+            .isEqualTo(new byte[] {VERSION, HYPERLOGLOG_TYPE, (byte) p});
+        assertThat(DistinctCountCodec.decodeHyperLogLog(data).getState())
+            .isEqualTo(sketch.getState());
+      }
+    }
+  }
+
+  @Test
+  void testEncodings() {
+    SplittableRandom random = new SplittableRandom(0x71f3b5d7092a4c6eL);
+    int p = 12;
+    assertThat(DistinctCountCodec.encode(UltraLogLog.create(p)))
+        .isEqualTo(new byte[] {VERSION, ULTRALOGLOG_TYPE, (byte) p, SPARSE_ENCODING});
+    assertThat(DistinctCountCodec.encode(createUltraLogLog(p, 10, random))[3])
+        .isEqualTo(SPARSE_ENCODING);
+    assertThat(DistinctCountCodec.encode(createUltraLogLog(p, 100000, random))[3])
+        .isEqualTo(HUFFMAN_ENCODING);
+
+    // all registers have the same nonzero value, no bits are needed for the registers
+    UltraLogLog saturatedSketch = createSaturatedUltraLogLog(p);
+    byte[] data = DistinctCountCodec.encode(saturatedSketch);
+    assertThat(data)
+        .isEqualTo(
+            new byte[] {VERSION, ULTRALOGLOG_TYPE, (byte) p, HUFFMAN_ENCODING, 0, (byte) 255, 0});
+    assertThat(DistinctCountCodec.decodeUltraLogLog(data).getState())
+        .isEqualTo(saturatedSketch.getState());
+  }
+
+  @Test
+  void testCompressionRatio() {
+    SplittableRandom random = new SplittableRandom(0x0e2d4c6b8a917f35L);
+    for (int p = 12; p <= 16; p += 2) {
+      UltraLogLog ultraLogLog = createUltraLogLog(p, 1000000, random);
+      HyperLogLog hyperLogLog = createHyperLogLog(p, 1000000, random);
+      // the entropy of a register is approximately 4 bits for UltraLogLog and 3 bits for
+      // HyperLogLog, which is about half of the uncompressed register size in both cases
+      assertThat(DistinctCountCodec.encode(ultraLogLog).length)
+          .isLessThan((int) (ultraLogLog.getState().length * 0.55));
+      assertThat(DistinctCountCodec.encode(hyperLogLog).length)
+          .isLessThan((int) (hyperLogLog.getState().length * 0.55));
+    }
+  }
+
+  @Test
+  void testDecodeAndAdd() {
+    SplittableRandom random = new SplittableRandom(0x4a6c8e0f2b3d5e71L);
+    long[] numElements = {0, 10, 1000, 100000};
+    for (int p1 = 3; p1 <= 12; p1 += 3) {
+      for (int p2 = p1; p2 <= 12; p2 += 3) {
+        for (long n1 : numElements) {
+          for (long n2 : numElements) {
+            UltraLogLog ull1 = createUltraLogLog(p1, n1, random);
+            UltraLogLog ull2 = createUltraLogLog(p2, n2, random);
+            byte[] ullData2 = DistinctCountCodec.encode(ull2);
+            UltraLogLog ullExpected = ull1.copy().add(ull2);
+            assertThat(DistinctCountCodec.decodeAndAdd(ullData2, ull1).getState())
+                .isEqualTo(ullExpected.getState());
+
+            HyperLogLog hll1 = createHyperLogLog(p1, n1, random);
+            HyperLogLog hll2 = createHyperLogLog(p2, n2, random);
+            byte[] hllData2 = DistinctCountCodec.encode(hll2);
+            HyperLogLog hllExpected = hll1.copy().add(hll2);
+            assertThat(DistinctCountCodec.decodeAndAdd(hllData2, hll1).getState())
+                .isEqualTo(hllExpected.getState());
+
+            if (p1 < p2) {
+              byte[] ullData1 = DistinctCountCodec.encode(ull1);
+              byte[] hllData1 = DistinctCountCodec.encode(hll1);
+              assertThatIllegalArgumentException()
+                  .isThrownBy(() -> DistinctCountCodec.decodeAndAdd(ullData1, ull2));
+              assertThatIllegalArgumentException()
+                  .isThrownBy(() -> DistinctCountCodec.decodeAndAdd(hllData1, hll2));
+            }
+          }
+        }
+      }
+    }
+    UltraLogLog saturatedSketch = createSaturatedUltraLogLog(8);
+    assertThat(
+            DistinctCountCodec.decodeAndAdd(
+                    DistinctCountCodec.encode(saturatedSketch), UltraLogLog.create(6))
+                .getState())
+        .isEqualTo(UltraLogLog.create(6).add(saturatedSketch).getState());
+  }
+
+  @Test
+  void testComputeCodeLengths() {
+    // Fibonacci frequencies result in a maximally unbalanced Huffman tree
+    int[] frequencies = new int[256];
+    int a = 1;
+    int b = 1;
+    for (int s = 0; s < 40; ++s) {
+      frequencies[s] = a;
+      int c = a + b;
+      a = b;
+      b = c;
+    }
+    int[] codeLengths = DistinctCountCodec.computeCodeLengths(frequencies);
+    assertThat(Arrays.stream(codeLengths).max().getAsInt()).isLessThanOrEqualTo(MAX_CODE_LENGTH);
+    double kraftSum = 0;
+    for (int s = 0; s < 256; ++s) {
+      assertThat(codeLengths[s] == 0).isEqualTo(frequencies[s] == 0);
+      if (codeLengths[s] > 0) {
+        kraftSum += Math.pow(0.5, codeLengths[s]);
+      }
+    }
+    assertThat(kraftSum).isEqualTo(1.);
+  }
+
+  private static byte[] header(byte type, int p, byte encoding, int... payload) {
+    byte[] data = new byte[4 + payload.length];
+    data[0] = VERSION;
+    data[1] = type;
+    data[2] = (byte) p;
+    data[3] = encoding;
+    for (int i = 0; i < payload.length; ++i) {
+      data[4 + i] = (byte) payload[i];
+    }
+    return data;
+  }
+
+  @Test
+  void testNonCanonicalEncodedStates() {
+    // the encoder always uses the sparse encoding for empty sketches, but the decoder also
+    // accepts a Huffman code with zero as the only symbol
+    assertThat(
+            DistinctCountCodec.decodeUltraLogLog(
+                    header(ULTRALOGLOG_TYPE, 4, HUFFMAN_ENCODING, 0, 0, 0))
+                .isEmpty())
+        .isTrue();
+  }
+
+  @Test
+  void testInvalidEncodedStates() {
+    assertThatNullPointerException().isThrownBy(() -> DistinctCountCodec.decodeUltraLogLog(null));
+    assertThatNullPointerException().isThrownBy(() -> DistinctCountCodec.decodeHyperLogLog(null));
+    assertThatNullPointerException()
+        .isThrownBy(() -> DistinctCountCodec.decodeAndAdd(null, UltraLogLog.create(4)));
+    assertThatNullPointerException()
+        .isThrownBy(() -> DistinctCountCodec.decodeAndAdd(null, HyperLogLog.create(4)));
+    assertThatNullPointerException()
+        .isThrownBy(
+            () ->
+                DistinctCountCodec.decodeAndAdd(
+                    header(ULTRALOGLOG_TYPE, 4, SPARSE_ENCODING), (UltraLogLog) null));
+    assertThatNullPointerException()
+        .isThrownBy(
+            () ->
+                DistinctCountCodec.decodeAndAdd(
+                    header(HYPERLOGLOG_TYPE, 4, SPARSE_ENCODING), (HyperLogLog) null));
+    assertThatNullPointerException()
+        .isThrownBy(() -> DistinctCountCodec.encode((UltraLogLog) null));
+    assertThatNullPointerException()
+        .isThrownBy(() -> DistinctCountCodec.encode((HyperLogLog) null));
+
+    byte u = ULTRALOGLOG_TYPE;
+    byte h = HYPERLOGLOG_TYPE;
+    byte s = SPARSE_ENCODING;
+    byte f = HUFFMAN_ENCODING;
+    byte[][] invalidUltraLogLogData = {
+      {},
+      {VERSION, u, 4},
+      {2, u, 4, s},
+      {VERSION, h, 4, s},
+      {VERSION, u, 2, s},
+      {VERSION, u, 27, s},
+      {VERSION, u, 4, 2},
+      // sparse encoding
+      header(u, 4, s, 0x80),
+      header(u, 4, s, 0x80, 0x80, 0x80, 0x80, 0x80, 0x01, 1),
+      header(u, 4, s, 0),
+      header(u, 4, s, 0, 0),
+      header(u, 4, s, 16, 1),
+      header(u, 4, s, 15, 1, 0, 1),
+      // Huffman encoding
+      header(u, 4, f),
+      header(u, 4, f, 1, 0, 1),
+      header(u, 4, f, 1, 1, 1, 0, 1, 0),
+      header(u, 4, f, 1, 0, 25, 1, 1, 0),
+      header(u, 4, f, 1, 0, 0, 1, 1, 0),
+      header(u, 4, f, 1, 0, 1, 1, 0, 0),
+      header(u, 4, f, 0, 0, 1),
+      header(u, 4, f, 0, 5, 0, 0),
+      header(u, 4, f, 2, 0, 1, 1, 1, 2, 1, 0, 0),
+      header(u, 4, f, 1, 0, 1, 1, 1, 0),
+      header(u, 4, f, 1, 0, 1, 1, 1, 0, 0, 0),
+      header(u, 4, f, 1, 0, 1, 1, 2, 0xFF, 0xFF, 0xFF, 0xFF),
+    };
+    for (byte[] data : invalidUltraLogLogData) {
+      assertThatIllegalArgumentException()
+          .as(Arrays.toString(data))
+          .isThrownBy(() -> DistinctCountCodec.decodeUltraLogLog(data));
+    }
+    byte[][] invalidHyperLogLogData = {
+      {VERSION, u, 4, s},
+      {VERSION, h, 27, s},
+      header(h, 4, s, 0, 64),
+      header(h, 4, f, 1, 0, 1, 64, 1),
+    };
+    for (byte[] data : invalidHyperLogLogData) {
+      assertThatIllegalArgumentException()
+          .as(Arrays.toString(data))
+          .isThrownBy(() -> DistinctCountCodec.decodeHyperLogLog(data));
+    }
+  }
+}
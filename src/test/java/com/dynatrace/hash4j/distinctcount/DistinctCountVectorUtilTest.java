@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+// the Java 25 implementation is tested by DistinctCountVectorUtilJava25Test
+@DisabledForJreRange(min = JRE.JAVA_25)
+class DistinctCountVectorUtilTest {
+
+  @Test
+  void testNotAvailable() {
+    assertThat(DistinctCountVectorUtil.isAvailable()).isFalse();
+    assertThatExceptionOfType(UnsupportedOperationException.class)
+        .isThrownBy(
+            () ->
+                DistinctCountVectorUtil.mergeUltraLogLogRegisters(
+                    new byte[64], new byte[64], 0, 64));
+    assertThatExceptionOfType(UnsupportedOperationException.class)
+        .isThrownBy(
+            () ->
+                DistinctCountVectorUtil.mergeHyperLogLogRegisters(
+                    new byte[48], new byte[48], 0, 48));
+  }
+}
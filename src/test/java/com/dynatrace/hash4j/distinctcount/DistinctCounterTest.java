@@ -18,6 +18,7 @@ package com.dynatrace.hash4j.distinctcount;
 import static java.lang.Math.pow;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIndexOutOfBoundsException;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import static org.assertj.core.api.Assertions.within;
@@ -32,7 +33,9 @@ import com.dynatrace.hash4j.util.PackedArray.PackedArrayHandler;
 import com.google.common.collect.Sets;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -57,6 +60,8 @@ abstract class DistinctCounterTest<
 
   protected abstract T merge(T sketch1, T sketch2);
 
+  protected abstract T mergeAll(Collection<T> sketches);
+
   protected abstract double calculateTheoreticalRelativeStandardErrorML(int p);
 
   protected abstract double calculateTheoreticalRelativeStandardErrorMartingale(int p);
@@ -1106,4 +1111,100 @@ abstract class DistinctCounterTest<
       }
     }
   }
+
+  @Test
+  void testAddAll() {
+    SplittableRandom random = new SplittableRandom(0x3f0b7a5d2e9c8146L);
+    int[] lengths = {0, 1, 63, 64, 65, 1000, 10000};
+    for (int p = getMinP(); p <= Math.min(getMaxP(), 12); ++p) {
+      for (int len : lengths) {
+        int off = random.nextInt(8);
+        long[] hashValues = new long[off + len + random.nextInt(8)];
+        int[] tokens = new int[hashValues.length];
+        for (int i = 0; i < hashValues.length; ++i) {
+          hashValues[i] = random.nextLong();
+          tokens[i] = computeToken(hashValues[i]);
+        }
+
+        T expectedSketch = create(p);
+        MartingaleEstimator expectedMartingaleEstimator = new MartingaleEstimator();
+        for (int i = off; i < off + len; ++i) {
+          expectedSketch.add(hashValues[i], expectedMartingaleEstimator);
+        }
+
+        T sketch = create(p);
+        T sketchToken = create(p);
+        T sketchMartingale = create(p);
+        T sketchTokenMartingale = create(p);
+        MartingaleEstimator martingaleEstimator = new MartingaleEstimator();
+        MartingaleEstimator tokenMartingaleEstimator = new MartingaleEstimator();
+        assertThat(sketch.addAll(hashValues, off, len)).isSameAs(sketch);
+        assertThat(sketchToken.addAllTokens(tokens, off, len)).isSameAs(sketchToken);
+        assertThat(sketchMartingale.addAll(hashValues, off, len, martingaleEstimator))
+            .isSameAs(sketchMartingale);
+        assertThat(sketchTokenMartingale.addAllTokens(tokens, off, len, tokenMartingaleEstimator))
+            .isSameAs(sketchTokenMartingale);
+
+        assertThat(sketch.getState())
+            .isEqualTo(expectedSketch.getState())
+            .isEqualTo(sketchToken.getState())
+            .isEqualTo(sketchMartingale.getState())
+            .isEqualTo(sketchTokenMartingale.getState());
+        assertThat(martingaleEstimator.getDistinctCountEstimate())
+            .isEqualTo(expectedMartingaleEstimator.getDistinctCountEstimate())
+            .isEqualTo(tokenMartingaleEstimator.getDistinctCountEstimate());
+        assertThat(martingaleEstimator.getStateChangeProbability())
+            .isEqualTo(expectedMartingaleEstimator.getStateChangeProbability())
+            .isEqualTo(tokenMartingaleEstimator.getStateChangeProbability());
+      }
+    }
+  }
+
+  @Test
+  void testAddAllInvalidRange() {
+    long[] hashValues = new long[10];
+    int[] tokens = new int[10];
+    Arrays.fill(hashValues, 0xFFFFFFFFFFFFFFFFL);
+    Arrays.fill(tokens, computeToken(0xFFFFFFFFFFFFFFFFL));
+    T sketch = create(getMinP());
+    assertThatIndexOutOfBoundsException().isThrownBy(() -> sketch.addAll(hashValues, -1, 5));
+    assertThatIndexOutOfBoundsException().isThrownBy(() -> sketch.addAll(hashValues, 6, 5));
+    assertThatIndexOutOfBoundsException().isThrownBy(() -> sketch.addAll(hashValues, 0, -1));
+    assertThatIndexOutOfBoundsException().isThrownBy(() -> sketch.addAllTokens(tokens, -1, 5));
+    assertThatIndexOutOfBoundsException().isThrownBy(() -> sketch.addAllTokens(tokens, 6, 5));
+    assertThatIndexOutOfBoundsException().isThrownBy(() -> sketch.addAllTokens(tokens, 0, -1));
+    assertThat(sketch.isEmpty()).isTrue();
+  }
+
+  @Test
+  void testMergeAll() {
+    SplittableRandom random = new SplittableRandom(0x6a1f0c3d95e2b874L);
+    for (int minP = getMinP(); minP <= Math.min(getMaxP(), 14); ++minP) {
+      for (int numSketches : new int[] {1, 2, 5, 20}) {
+        List<T> sketches = new ArrayList<>();
+        T expected = create(minP);
+        for (int i = 0; i < numSketches; ++i) {
+          int p = (i == 0) ? minP : minP + random.nextInt(Math.min(3, getMaxP() - minP + 1));
+          T sketch = create(p);
+          long n = random.nextLong(4L << p);
+          for (long j = 0; j < n; ++j) {
+            sketch.add(random.nextLong());
+          }
+          sketches.add(sketch);
+          expected.add(sketch);
+        }
+        T merged = mergeAll(sketches);
+        assertThat(merged.getP()).isEqualTo(minP);
+        assertThat(merged.getState()).isEqualTo(expected.getState());
+        assertThat(merged).isNotSameAs(sketches.get(0));
+      }
+    }
+  }
+
+  @Test
+  void testMergeAllInvalidArguments() {
+    assertThatNullPointerException().isThrownBy(() -> mergeAll(null));
+    assertThatNullPointerException().isThrownBy(() -> mergeAll(Arrays.asList(create(4), null)));
+    assertThatIllegalArgumentException().isThrownBy(() -> mergeAll(new ArrayList<>()));
+  }
 }
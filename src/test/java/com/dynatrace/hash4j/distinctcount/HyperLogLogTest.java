@@ -30,6 +30,7 @@ import com.dynatrace.hash4j.distinctcount.TestUtils.HashGenerator;
 import com.dynatrace.hash4j.random.PseudoRandomGenerator;
 import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.SplittableRandom;
 import java.util.stream.IntStream;
@@ -100,6 +101,11 @@ class HyperLogLogTest extends DistinctCounterTest<HyperLogLog, HyperLogLog.Estim
     return HyperLogLog.merge(sketch1, sketch2);
   }
 
+  @Override
+  protected HyperLogLog mergeAll(Collection<HyperLogLog> sketches) {
+    return HyperLogLog.mergeAll(sketches);
+  }
+
   /**
    * Visible for testing.
    *
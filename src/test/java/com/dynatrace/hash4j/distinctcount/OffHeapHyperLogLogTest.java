@@ -0,0 +1,35 @@
+/*
+ * Copyright 2025-2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.junit.jupiter.api.Test;
+
+class OffHeapHyperLogLogTest {
+
+  @Test
+  void testFactoryMethodsForMemorySegment() {
+    assertThatExceptionOfType(UnsupportedOperationException.class)
+        .isThrownBy(() -> OffHeapHyperLogLog.create(null, 10));
+    assertThatExceptionOfType(UnsupportedOperationException.class)
+        .isThrownBy(() -> OffHeapHyperLogLog.create(new byte[1 << 10], 10));
+    assertThatExceptionOfType(UnsupportedOperationException.class)
+        .isThrownBy(() -> OffHeapHyperLogLog.wrap(null));
+    assertThatExceptionOfType(UnsupportedOperationException.class)
+        .isThrownBy(() -> OffHeapHyperLogLog.wrap(new byte[1 << 10]));
+  }
+}
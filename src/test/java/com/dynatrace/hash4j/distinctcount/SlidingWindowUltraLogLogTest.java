@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class SlidingWindowUltraLogLogTest {
+
+  private static final class Element {
+    private final long hashValue;
+    private final long timestamp;
+
+    private Element(long hashValue, long timestamp) {
+      this.hashValue = hashValue;
+      this.timestamp = timestamp;
+    }
+  }
+
+  private static UltraLogLog computeExpectedWindowSketch(
+      List<Element> elements, int p, int numBuckets, long bucketDuration, long newestTimestamp) {
+    long newestBucket = Math.floorDiv(newestTimestamp, bucketDuration);
+    UltraLogLog sketch = UltraLogLog.create(p);
+    for (Element element : elements) {
+      if (Math.floorDiv(element.timestamp, bucketDuration) > newestBucket - numBuckets) {
+        sketch.add(element.hashValue);
+      }
+    }
+    return sketch;
+  }
+
+  private static void assertWindow(
+      SlidingWindowUltraLogLog slidingWindowSketch, UltraLogLog expectedSketch) {
+    assertThat(slidingWindowSketch.getWindowSketch().getState())
+        .isEqualTo(expectedSketch.getState());
+    assertThat(slidingWindowSketch.getDistinctCountEstimate())
+        .isEqualTo(expectedSketch.getDistinctCountEstimate());
+    assertThat(
+            slidingWindowSketch.getDistinctCountEstimate(UltraLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR))
+        .isEqualTo(
+            expectedSketch.getDistinctCountEstimate(UltraLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR));
+  }
+
+  private static void testWindow(int p, int numBuckets, long bucketDuration, long seed) {
+    SplittableRandom random = new SplittableRandom(seed);
+    SlidingWindowUltraLogLog slidingWindowSketch =
+        SlidingWindowUltraLogLog.create(p, numBuckets, bucketDuration);
+    assertThat(slidingWindowSketch.getP()).isEqualTo(p);
+    assertThat(slidingWindowSketch.getNumBuckets()).isEqualTo(numBuckets);
+    assertThat(slidingWindowSketch.getBucketDuration()).isEqualTo(bucketDuration);
+    assertWindow(slidingWindowSketch, UltraLogLog.create(p));
+
+    List<Element> elements = new ArrayList<>();
+    long newestTimestamp = random.nextLong(-1000, 1000);
+    for (int i = 0; i < 3000; ++i) {
+      // mostly increasing timestamps with occasional jumps and late arrivals
+      int mode = random.nextInt(100);
+      long timestamp;
+      if (mode < 5) {
+        timestamp = newestTimestamp + random.nextLong(numBuckets * bucketDuration * 3);
+      } else if (mode < 25) {
+        timestamp = newestTimestamp - random.nextLong(numBuckets * bucketDuration * 2);
+      } else {
+        timestamp = newestTimestamp + random.nextLong(bucketDuration);
+      }
+      newestTimestamp = Math.max(newestTimestamp, timestamp);
+      Element element = new Element(random.nextLong(), timestamp);
+      elements.add(element);
+      assertThat(slidingWindowSketch.add(element.hashValue, element.timestamp))
+          .isSameAs(slidingWindowSketch);
+      if (i % 97 == 0) {
+        assertWindow(
+            slidingWindowSketch,
+            computeExpectedWindowSketch(elements, p, numBuckets, bucketDuration, newestTimestamp));
+      }
+    }
+    assertWindow(
+        slidingWindowSketch,
+        computeExpectedWindowSketch(elements, p, numBuckets, bucketDuration, newestTimestamp));
+
+    // advancing without adding elements lets all elements expire eventually
+    for (int i = 0; i < numBuckets; ++i) {
+      newestTimestamp += bucketDuration;
+      assertThat(slidingWindowSketch.advance(newestTimestamp)).isSameAs(slidingWindowSketch);
+      assertWindow(
+          slidingWindowSketch,
+          computeExpectedWindowSketch(elements, p, numBuckets, bucketDuration, newestTimestamp));
+    }
+    assertWindow(slidingWindowSketch, UltraLogLog.create(p));
+
+    assertThat(slidingWindowSketch.reset()).isSameAs(slidingWindowSketch);
+    assertWindow(slidingWindowSketch, UltraLogLog.create(p));
+  }
+
+  @Test
+  void testSingleBucket() {
+    testWindow(8, 1, 10, 0x5f3e8a1c2b9d4076L);
+  }
+
+  @Test
+  void testTwoBuckets() {
+    testWindow(6, 2, 1, 0x1d7c9b3a5e2f8046L);
+  }
+
+  @Test
+  void testManyBuckets() {
+    testWindow(10, 60, 1000, 0x84a2c6e0f1b3d597L);
+  }
+
+  @Test
+  void testOddNumberOfBuckets() {
+    testWindow(4, 7, 3, 0x2e6a0c4b8d1f3975L);
+  }
+
+  @Test
+  void testOldElementsAreIgnored() {
+    SlidingWindowUltraLogLog slidingWindowSketch = SlidingWindowUltraLogLog.create(8, 4, 10);
+    slidingWindowSketch.add(0x1234567890abcdefL, 1000);
+    slidingWindowSketch.add(0xfedcba0987654321L, 969);
+    assertWindow(slidingWindowSketch, UltraLogLog.create(8).add(0x1234567890abcdefL));
+    slidingWindowSketch.add(0xfedcba0987654321L, 970);
+    assertWindow(
+        slidingWindowSketch,
+        UltraLogLog.create(8).add(0x1234567890abcdefL).add(0xfedcba0987654321L));
+    slidingWindowSketch.advance(1039);
+    assertWindow(slidingWindowSketch, UltraLogLog.create(8).add(0x1234567890abcdefL));
+    slidingWindowSketch.advance(1000);
+    assertWindow(slidingWindowSketch, UltraLogLog.create(8).add(0x1234567890abcdefL));
+    slidingWindowSketch.advance(1040);
+    assertWindow(slidingWindowSketch, UltraLogLog.create(8));
+  }
+
+  @Test
+  void testInvalidArguments() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> SlidingWindowUltraLogLog.create(UltraLogLog.MIN_P - 1, 10, 10));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> SlidingWindowUltraLogLog.create(UltraLogLog.MAX_P + 1, 10, 10));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> SlidingWindowUltraLogLog.create(10, 0, 10));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> SlidingWindowUltraLogLog.create(10, 10, 0));
+    SlidingWindowUltraLogLog slidingWindowSketch = SlidingWindowUltraLogLog.create(10, 10, 10);
+    assertThatNullPointerException()
+        .isThrownBy(() -> slidingWindowSketch.getDistinctCountEstimate(null));
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+class SparseHyperLogLogTest
+    extends AbstractSparseDistinctCounterTest<
+        SparseHyperLogLog, HyperLogLog, HyperLogLog.Estimator> {
+
+  @Override
+  protected SparseHyperLogLog create(int p) {
+    return SparseHyperLogLog.create(p);
+  }
+
+  @Override
+  protected SparseHyperLogLog fromByteArray(byte[] data) {
+    return SparseHyperLogLog.fromByteArray(data);
+  }
+
+  @Override
+  protected HyperLogLog createDense(int p) {
+    return HyperLogLog.create(p);
+  }
+
+  @Override
+  protected HyperLogLog toDense(SparseHyperLogLog sketch) {
+    return sketch.toHyperLogLog();
+  }
+
+  @Override
+  protected HyperLogLog.Estimator getNonDefaultEstimator() {
+    return HyperLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR;
+  }
+
+  @Override
+  protected int getMinP() {
+    return HyperLogLog.MIN_P;
+  }
+
+  @Override
+  protected int getMaxP() {
+    return HyperLogLog.MAX_P;
+  }
+}
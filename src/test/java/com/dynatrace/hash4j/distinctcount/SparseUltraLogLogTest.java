@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+class SparseUltraLogLogTest
+    extends AbstractSparseDistinctCounterTest<
+        SparseUltraLogLog, UltraLogLog, UltraLogLog.Estimator> {
+
+  @Override
+  protected SparseUltraLogLog create(int p) {
+    return SparseUltraLogLog.create(p);
+  }
+
+  @Override
+  protected SparseUltraLogLog fromByteArray(byte[] data) {
+    return SparseUltraLogLog.fromByteArray(data);
+  }
+
+  @Override
+  protected UltraLogLog createDense(int p) {
+    return UltraLogLog.create(p);
+  }
+
+  @Override
+  protected UltraLogLog toDense(SparseUltraLogLog sketch) {
+    return sketch.toUltraLogLog();
+  }
+
+  @Override
+  protected UltraLogLog.Estimator getNonDefaultEstimator() {
+    return UltraLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR;
+  }
+
+  @Override
+  protected int getMinP() {
+    return UltraLogLog.MIN_P;
+  }
+
+  @Override
+  protected int getMaxP() {
+    return UltraLogLog.MAX_P;
+  }
+}
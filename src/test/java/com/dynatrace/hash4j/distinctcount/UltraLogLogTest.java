@@ -33,6 +33,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.dynatrace.hash4j.distinctcount.TestUtils.HashGenerator;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.SplittableRandom;
 import java.util.stream.IntStream;
@@ -199,6 +200,11 @@ class UltraLogLogTest extends DistinctCounterTest<UltraLogLog, UltraLogLog.Estim
     return UltraLogLog.merge(sketch1, sketch2);
   }
 
+  @Override
+  protected UltraLogLog mergeAll(Collection<UltraLogLog> sketches) {
+    return UltraLogLog.mergeAll(sketches);
+  }
+
   /**
    * Returns the theoretical asymptotic (for large p and as the distinct count goes to infinity)
    * relative standard error of the distinct count estimate for a given precision parameter.
@@ -1357,6 +1357,106 @@ abstract class AbstractHasherTest {
     }
   }
 
+  @ParameterizedTest
+  @MethodSource("getHashers")
+  void testHashIntsToInts(Hasher hasher) {
+    if (!(hasher instanceof Hasher32)) return;
+    final Hasher32 hasher32 = (Hasher32) hasher;
+    final Hasher32 hasherUsingDefaultImplementation =
+        createHasher32UsingDefaultImplementations(hasher32);
+    SplittableRandom random = new SplittableRandom(0x1f6c2f0b4b2d9a3eL);
+    for (int len = 0; len < 20; ++len) {
+      int inputOff = random.nextInt(3);
+      int outputOff = random.nextInt(3);
+      int[] input = random.ints(inputOff + len + random.nextInt(3)).toArray();
+      int[] output = new int[outputOff + len];
+      int[] outputUsingDefaultImplementation = new int[outputOff + len];
+      int[] expected = new int[outputOff + len];
+      for (int i = 0; i < len; ++i) {
+        expected[outputOff + i] = hasher32.hashIntToInt(input[inputOff + i]);
+      }
+      hasher32.hashIntsToInts(input, inputOff, output, outputOff, len);
+      hasherUsingDefaultImplementation.hashIntsToInts(
+          input, inputOff, outputUsingDefaultImplementation, outputOff, len);
+      assertThat(output).isEqualTo(expected).isEqualTo(outputUsingDefaultImplementation);
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("getHashers")
+  void testHashLongsToInts(Hasher hasher) {
+    if (!(hasher instanceof Hasher32)) return;
+    final Hasher32 hasher32 = (Hasher32) hasher;
+    final Hasher32 hasherUsingDefaultImplementation =
+        createHasher32UsingDefaultImplementations(hasher32);
+    SplittableRandom random = new SplittableRandom(0x6a0d3a7c24e51b90L);
+    for (int len = 0; len < 20; ++len) {
+      int inputOff = random.nextInt(3);
+      int outputOff = random.nextInt(3);
+      long[] input = random.longs(inputOff + len + random.nextInt(3)).toArray();
+      int[] output = new int[outputOff + len];
+      int[] outputUsingDefaultImplementation = new int[outputOff + len];
+      int[] expected = new int[outputOff + len];
+      for (int i = 0; i < len; ++i) {
+        expected[outputOff + i] = hasher32.hashLongToInt(input[inputOff + i]);
+      }
+      hasher32.hashLongsToInts(input, inputOff, output, outputOff, len);
+      hasherUsingDefaultImplementation.hashLongsToInts(
+          input, inputOff, outputUsingDefaultImplementation, outputOff, len);
+      assertThat(output).isEqualTo(expected).isEqualTo(outputUsingDefaultImplementation);
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("getHashers")
+  void testHashIntsToLongs(Hasher hasher) {
+    if (!(hasher instanceof Hasher64)) return;
+    final Hasher64 hasher64 = (Hasher64) hasher;
+    final Hasher64 hasherUsingDefaultImplementation =
+        createHasher64UsingDefaultImplementations(hasher64);
+    SplittableRandom random = new SplittableRandom(0x3c5f8e1d07ab6e42L);
+    for (int len = 0; len < 20; ++len) {
+      int inputOff = random.nextInt(3);
+      int outputOff = random.nextInt(3);
+      int[] input = random.ints(inputOff + len + random.nextInt(3)).toArray();
+      long[] output = new long[outputOff + len];
+      long[] outputUsingDefaultImplementation = new long[outputOff + len];
+      long[] expected = new long[outputOff + len];
+      for (int i = 0; i < len; ++i) {
+        expected[outputOff + i] = hasher64.hashIntToLong(input[inputOff + i]);
+      }
+      hasher64.hashIntsToLongs(input, inputOff, output, outputOff, len);
+      hasherUsingDefaultImplementation.hashIntsToLongs(
+          input, inputOff, outputUsingDefaultImplementation, outputOff, len);
+      assertThat(output).isEqualTo(expected).isEqualTo(outputUsingDefaultImplementation);
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("getHashers")
+  void testHashLongsToLongs(Hasher hasher) {
+    if (!(hasher instanceof Hasher64)) return;
+    final Hasher64 hasher64 = (Hasher64) hasher;
+    final Hasher64 hasherUsingDefaultImplementation =
+        createHasher64UsingDefaultImplementations(hasher64);
+    SplittableRandom random = new SplittableRandom(0xe2b7c40a9d1f5836L);
+    for (int len = 0; len < 20; ++len) {
+      int inputOff = random.nextInt(3);
+      int outputOff = random.nextInt(3);
+      long[] input = random.longs(inputOff + len + random.nextInt(3)).toArray();
+      long[] output = new long[outputOff + len];
+      long[] outputUsingDefaultImplementation = new long[outputOff + len];
+      long[] expected = new long[outputOff + len];
+      for (int i = 0; i < len; ++i) {
+        expected[outputOff + i] = hasher64.hashLongToLong(input[inputOff + i]);
+      }
+      hasher64.hashLongsToLongs(input, inputOff, output, outputOff, len);
+      hasherUsingDefaultImplementation.hashLongsToLongs(
+          input, inputOff, outputUsingDefaultImplementation, outputOff, len);
+      assertThat(output).isEqualTo(expected).isEqualTo(outputUsingDefaultImplementation);
+    }
+  }
+
   @ParameterizedTest
   @MethodSource("getHashers")
   void testCopy(Hasher hasher) {
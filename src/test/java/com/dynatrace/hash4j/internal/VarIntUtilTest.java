@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.internal;
+
+import static com.dynatrace.hash4j.internal.VarIntUtil.getVarIntLength;
+import static com.dynatrace.hash4j.internal.VarIntUtil.putVarInt;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class VarIntUtilTest {
+
+  @Test
+  void testGetVarIntLength() {
+    assertThat(getVarIntLength(0)).isEqualTo(1);
+    assertThat(getVarIntLength(0x7F)).isEqualTo(1);
+    assertThat(getVarIntLength(0x80)).isEqualTo(2);
+    assertThat(getVarIntLength(0x3FFF)).isEqualTo(2);
+    assertThat(getVarIntLength(0x4000)).isEqualTo(3);
+    assertThat(getVarIntLength(0x1FFFFF)).isEqualTo(3);
+    assertThat(getVarIntLength(0x200000)).isEqualTo(4);
+    assertThat(getVarIntLength(0xFFFFFFF)).isEqualTo(4);
+    assertThat(getVarIntLength(0x10000000)).isEqualTo(5);
+    assertThat(getVarIntLength(Integer.MAX_VALUE)).isEqualTo(5);
+    assertThat(getVarIntLength(-1)).isEqualTo(5);
+  }
+
+  @Test
+  void testRoundTrip() {
+    SplittableRandom random = new SplittableRandom(0x6c2e9a4f1b7d3058L);
+    int[] values = new int[1000];
+    for (int i = 0; i < values.length; ++i) {
+      values[i] = random.nextInt() >>> random.nextInt(32);
+    }
+    values[0] = 0;
+    values[1] = -1;
+    values[2] = Integer.MIN_VALUE;
+    int size = 0;
+    for (int value : values) {
+      size += getVarIntLength(value);
+    }
+    byte[] data = new byte[size];
+    int off = 0;
+    for (int value : values) {
+      int newOff = putVarInt(data, off, value);
+      assertThat(newOff - off).isEqualTo(getVarIntLength(value));
+      off = newOff;
+    }
+    assertThat(off).isEqualTo(size);
+    VarIntUtil.Reader reader = new VarIntUtil.Reader(data, 0, "invalid");
+    for (int value : values) {
+      assertThat(reader.isAtEnd()).isFalse();
+      assertThat(reader.next()).isEqualTo(value);
+    }
+    assertThat(reader.isAtEnd()).isTrue();
+  }
+
+  @Test
+  void testReaderValidation() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> new VarIntUtil.Reader(new byte[0], 0, "invalid").next())
+        .withMessage("invalid");
+    // truncated
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> new VarIntUtil.Reader(new byte[] {(byte) 0x80}, 0, "invalid").next());
+    // more than 5 bytes
+    assertThatIllegalArgumentException()
+        .isThrownBy(
+            () ->
+                new VarIntUtil.Reader(
+                        new byte[] {(byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x10},
+                        0,
+                        "invalid")
+                    .next());
+    assertThat(
+            new VarIntUtil.Reader(
+                    new byte[] {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F},
+                    0,
+                    "invalid")
+                .next())
+        .isEqualTo(-1);
+    assertThatIllegalArgumentException()
+        .isThrownBy(
+            () ->
+                new VarIntUtil.Reader(
+                        new byte[] {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x08},
+                        0,
+                        "invalid")
+                    .nextNonNegative());
+    // the count exceeds the number of remaining bytes
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> new VarIntUtil.Reader(new byte[] {2, 0}, 0, "invalid").nextCount());
+    assertThat(new VarIntUtil.Reader(new byte[] {1, 0}, 0, "invalid").nextCount()).isEqualTo(1);
+    VarIntUtil.Reader reader = new VarIntUtil.Reader(new byte[] {(byte) 0xFE}, 0, "invalid");
+    assertThat(reader.nextUnsignedByte()).isEqualTo(0xFE);
+    assertThatIllegalArgumentException().isThrownBy(reader::nextUnsignedByte);
+  }
+}
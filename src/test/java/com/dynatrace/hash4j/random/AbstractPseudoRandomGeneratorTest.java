@@ -17,11 +17,13 @@ package com.dynatrace.hash4j.random;
 
 import static java.lang.Math.toIntExact;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIndexOutOfBoundsException;
 
 import com.dynatrace.hash4j.hashing.HashStream64;
 import com.dynatrace.hash4j.hashing.Hashing;
 import java.math.BigInteger;
 import java.util.Arrays;
+import java.util.SplittableRandom;
 import java.util.function.ToLongFunction;
 import java.util.stream.DoubleStream;
 import java.util.stream.LongStream;
@@ -222,7 +224,7 @@ abstract class AbstractPseudoRandomGeneratorTest {
     for (int i = 0; i < numIterations; ++i) {
       hashStream.putDouble(prg.nextExponential());
     }
-    assertThat(hashStream.getAsLong()).isEqualTo(0x6e6ef62c10ced900L);
+    assertThat(hashStream.getAsLong()).isEqualTo(getExpectedNextExponentialCheckSum());
   }
 
   @Test
@@ -234,8 +236,117 @@ abstract class AbstractPseudoRandomGeneratorTest {
     for (int i = 0; i < numIterations; ++i) {
       hashStream.putDouble(prg.nextDouble());
     }
-    assertThat(hashStream.getAsLong()).isEqualTo(0x9d4e4697cc4853f1L);
+    assertThat(hashStream.getAsLong()).isEqualTo(getExpectedNextDoubleCheckSum());
+  }
+
+  @Test
+  void testNextLongs() {
+    SplittableRandom random = new SplittableRandom(0x5c8e1f7a3b2d9046L);
+    PseudoRandomGenerator prg1 = createPseudoRandomGenerator();
+    PseudoRandomGenerator prg2 = createPseudoRandomGenerator();
+    for (int i = 0; i < 1000; ++i) {
+      long seed = random.nextLong();
+      int off = random.nextInt(10);
+      int len = random.nextInt(100);
+      long[] expected = random.longs(off + len + random.nextInt(10)).toArray();
+      long[] actual = expected.clone();
+      prg1.reset(seed);
+      prg2.reset(seed);
+      for (int j = 0; j < len; ++j) {
+        expected[off + j] = prg1.nextLong();
+      }
+      prg2.nextLongs(actual, off, len);
+      assertThat(actual).isEqualTo(expected);
+      // the state after the bulk operation must be the same
+      assertThat(prg2.nextLong()).isEqualTo(prg1.nextLong());
+    }
+  }
+
+  @Test
+  void testNextDoubles() {
+    SplittableRandom random = new SplittableRandom(0x0b7d3e9f6a4c1825L);
+    PseudoRandomGenerator prg1 = createPseudoRandomGenerator();
+    PseudoRandomGenerator prg2 = createPseudoRandomGenerator();
+    for (int i = 0; i < 1000; ++i) {
+      long seed = random.nextLong();
+      int off = random.nextInt(10);
+      int len = random.nextInt(100);
+      double[] expected = random.doubles(off + len + random.nextInt(10)).toArray();
+      double[] actual = expected.clone();
+      prg1.reset(seed);
+      prg2.reset(seed);
+      for (int j = 0; j < len; ++j) {
+        expected[off + j] = prg1.nextDouble();
+      }
+      prg2.nextDoubles(actual, off, len);
+      assertThat(actual).isEqualTo(expected);
+      assertThat(prg2.nextLong()).isEqualTo(prg1.nextLong());
+    }
+  }
+
+  @Test
+  void testNextExponentials() {
+    SplittableRandom random = new SplittableRandom(0x93a6f2c8e1d57b04L);
+    PseudoRandomGenerator prg1 = createPseudoRandomGenerator();
+    PseudoRandomGenerator prg2 = createPseudoRandomGenerator();
+    for (int i = 0; i < 1000; ++i) {
+      long seed = random.nextLong();
+      int off = random.nextInt(10);
+      int len = random.nextInt(300);
+      double[] expected = random.doubles(off + len + random.nextInt(10)).toArray();
+      double[] actual = expected.clone();
+      prg1.reset(seed);
+      prg2.reset(seed);
+      for (int j = 0; j < len; ++j) {
+        expected[off + j] = prg1.nextExponential();
+      }
+      prg2.nextExponentials(actual, off, len);
+      assertThat(actual).isEqualTo(expected);
+      assertThat(prg2.nextLong()).isEqualTo(prg1.nextLong());
+    }
+  }
+
+  @Test
+  void testUniformInts() {
+    SplittableRandom random = new SplittableRandom(0x7a1e5c3f9b0d2486L);
+    PseudoRandomGenerator prg1 = createPseudoRandomGenerator();
+    PseudoRandomGenerator prg2 = createPseudoRandomGenerator();
+    // the last bound leads to a rejection probability of 25%
+    int[] bounds = {1, 2, 3, 7, 1000, 1 << 30, Integer.MAX_VALUE, 3 << 29};
+    for (int i = 0; i < 1000; ++i) {
+      long seed = random.nextLong();
+      int bound = bounds[random.nextInt(bounds.length)];
+      int off = random.nextInt(10);
+      int len = random.nextInt(300);
+      int[] expected = random.ints(off + len + random.nextInt(10)).toArray();
+      int[] actual = expected.clone();
+      prg1.reset(seed);
+      prg2.reset(seed);
+      for (int j = 0; j < len; ++j) {
+        expected[off + j] = prg1.uniformInt(bound);
+      }
+      prg2.uniformInts(bound, actual, off, len);
+      assertThat(actual).isEqualTo(expected);
+      assertThat(prg2.nextLong()).isEqualTo(prg1.nextLong());
+    }
+  }
+
+  @Test
+  void testBulkMethodsOutOfBounds() {
+    PseudoRandomGenerator prg = createPseudoRandomGenerator();
+    long[] longs = new long[10];
+    double[] doubles = new double[10];
+    assertThatIndexOutOfBoundsException().isThrownBy(() -> prg.nextLongs(longs, -1, 5));
+    assertThatIndexOutOfBoundsException().isThrownBy(() -> prg.nextLongs(longs, 6, 5));
+    assertThatIndexOutOfBoundsException().isThrownBy(() -> prg.nextLongs(longs, 0, -1));
+    assertThatIndexOutOfBoundsException().isThrownBy(() -> prg.nextDoubles(doubles, 6, 5));
+    assertThatIndexOutOfBoundsException().isThrownBy(() -> prg.nextExponentials(doubles, 6, 5));
+    assertThatIndexOutOfBoundsException().isThrownBy(() -> prg.uniformInts(3, new int[10], 6, 5));
   }
 
   protected abstract long getExpectedStabilityCheckSum();
+
+  protected abstract long getExpectedNextExponentialCheckSum();
+
+  protected abstract long getExpectedNextDoubleCheckSum();
 }
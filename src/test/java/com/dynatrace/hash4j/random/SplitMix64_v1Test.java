@@ -56,4 +56,14 @@ class SplitMix64_v1Test extends AbstractPseudoRandomGeneratorTest {
   protected long getExpectedStabilityCheckSum() {
     return 0xca493b7be7aad8a8L;
   }
+
+  @Override
+  protected long getExpectedNextExponentialCheckSum() {
+    return 0x6e6ef62c10ced900L;
+  }
+
+  @Override
+  protected long getExpectedNextDoubleCheckSum() {
+    return 0x9d4e4697cc4853f1L;
+  }
 }
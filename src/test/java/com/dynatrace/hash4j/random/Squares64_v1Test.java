@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class Squares64_v1Test extends AbstractPseudoRandomGeneratorTest {
+
+  // reference values computed with the C implementation of squares64
+  @Test
+  void testReferenceValues() {
+    PseudoRandomGenerator prg = createPseudoRandomGenerator().reset(5);
+    assertThat(prg.nextLong()).isEqualTo(0xcce4705ab02aed43L);
+    assertThat(prg.nextLong()).isEqualTo(0x2901601f17df28a7L);
+    assertThat(prg.nextLong()).isEqualTo(0xcb29bc03513636e0L);
+  }
+
+  @Test
+  void testJumpAhead() {
+    PseudoRandomGenerator prg = createPseudoRandomGenerator().reset(0x3c9e1f5a7b2d4086L);
+    for (int n = 0; n < 100; ++n) {
+      long expected = createPseudoRandomGenerator().reset(0x3c9e1f5a7b2d4086L + n).nextLong();
+      assertThat(prg.nextLong()).isEqualTo(expected);
+    }
+  }
+
+  @Override
+  protected PseudoRandomGenerator createPseudoRandomGenerator() {
+    return new Squares64V1();
+  }
+
+  @Override
+  protected long getExpectedStabilityCheckSum() {
+    return 0x452e37dc59583607L;
+  }
+
+  @Override
+  protected long getExpectedNextExponentialCheckSum() {
+    return 0x551d999e2d5d5876L;
+  }
+
+  @Override
+  protected long getExpectedNextDoubleCheckSum() {
+    return 0x66d3de8e656ff2c2L;
+  }
+}
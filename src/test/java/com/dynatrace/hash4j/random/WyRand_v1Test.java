@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class WyRand_v1Test extends AbstractPseudoRandomGeneratorTest {
+
+  // reference values computed with the C implementation of wyrand
+  @Test
+  void testReferenceValues() {
+    PseudoRandomGenerator prg = createPseudoRandomGenerator().reset(0x0123456789abcdefL);
+    assertThat(prg.nextLong()).isEqualTo(0x58b962217aafc627L);
+    assertThat(prg.nextLong()).isEqualTo(0xd7488e0f880dbd37L);
+    assertThat(prg.nextLong()).isEqualTo(0xa175b746466eac63L);
+  }
+
+  @Override
+  protected PseudoRandomGenerator createPseudoRandomGenerator() {
+    return new WyRandV1();
+  }
+
+  @Override
+  protected long getExpectedStabilityCheckSum() {
+    return 0x381aaa4f8c24f061L;
+  }
+
+  @Override
+  protected long getExpectedNextExponentialCheckSum() {
+    return 0xdc370ef4c25a01deL;
+  }
+
+  @Override
+  protected long getExpectedNextDoubleCheckSum() {
+    return 0xa90beead9b79d19aL;
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class Xoroshiro128PlusPlus_v1Test extends AbstractPseudoRandomGeneratorTest {
+
+  // compares with a straightforward implementation of xoroshiro128++ using the first two outputs
+  // of SplitMix64 as initial state
+  @Test
+  void testReferenceValues() {
+    long seed = 0x0123456789abcdefL;
+    PseudoRandomGenerator splitMix64 = new SplitMix64V1().reset(seed);
+    long s0 = splitMix64.nextLong();
+    long s1 = splitMix64.nextLong();
+    PseudoRandomGenerator prg = createPseudoRandomGenerator().reset(seed);
+    for (int i = 0; i < 100; ++i) {
+      long expected = Long.rotateLeft(s0 + s1, 17) + s0;
+      s1 ^= s0;
+      s0 = Long.rotateLeft(s0, 49) ^ s1 ^ (s1 << 21);
+      s1 = Long.rotateLeft(s1, 28);
+      assertThat(prg.nextLong()).isEqualTo(expected);
+    }
+  }
+
+  @Override
+  protected PseudoRandomGenerator createPseudoRandomGenerator() {
+    return new Xoroshiro128PlusPlusV1();
+  }
+
+  @Override
+  protected long getExpectedStabilityCheckSum() {
+    return 0x1ff67aaf78dc8c85L;
+  }
+
+  @Override
+  protected long getExpectedNextExponentialCheckSum() {
+    return 0xf016bacb741734deL;
+  }
+
+  @Override
+  protected long getExpectedNextDoubleCheckSum() {
+    return 0xabf11a5e36a80428L;
+  }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import com.dynatrace.hash4j.hashing.HashStream64;
+import com.dynatrace.hash4j.hashing.Hashing;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.hipparchus.stat.inference.AlternativeHypothesis;
+import org.hipparchus.stat.inference.BinomialTest;
+import org.junit.jupiter.api.Test;
+
+abstract class AbstractWeightedMinHashPolicyTest extends AbstractMinHashPolicyTest {
+
+  @Override
+  protected abstract WeightedSimilarityHashPolicy getSimilarityHashPolicy(
+      int numberOfComponents, int bitsPerComponent);
+
+  protected abstract long getWeightedCheckSum();
+
+  private static double calculateWeightedJaccardSimilarity(double[] weights1, double[] weights2) {
+    double sumMin = 0;
+    double sumMax = 0;
+    for (int i = 0; i < weights1.length; ++i) {
+      sumMin += Math.min(weights1[i], weights2[i]);
+      sumMax += Math.max(weights1[i], weights2[i]);
+    }
+    return sumMin / sumMax;
+  }
+
+  private void testWeightedCase(double[] weights1, double[] weights2, long[] elementHashes) {
+    int numberOfComponents = 3000;
+    WeightedSimilarityHashPolicy policy = getSimilarityHashPolicy(numberOfComponents, 64);
+    WeightedSimilarityHasher hasher = policy.createHasher();
+
+    byte[] signature1 =
+        hasher.compute(WeightedElementHashProvider.ofValues(elementHashes, weights1));
+    byte[] signature2 =
+        hasher.compute(WeightedElementHashProvider.ofValues(elementHashes, weights2));
+
+    int numEqualComponents = policy.getNumberOfEqualComponents(signature1, signature2);
+    assertThat(
+            new BinomialTest()
+                .binomialTest(
+                    numberOfComponents,
+                    numEqualComponents,
+                    calculateWeightedJaccardSimilarity(weights1, weights2),
+                    AlternativeHypothesis.TWO_SIDED))
+        .isGreaterThan(0.01);
+  }
+
+  @Test
+  void testWeightedSimilarity() {
+    SplittableRandom random = new SplittableRandom(0x3a8f1c6e2b9d7054L);
+    testWeightedCase(new double[] {1., 2.}, new double[] {2., 1.}, random.longs(2).toArray());
+    testWeightedCase(
+        new double[] {1., 0., 3.}, new double[] {0.5, 4., 3.}, random.longs(3).toArray());
+    testWeightedCase(
+        new double[] {1e-20, 5e-21, 0.},
+        new double[] {3e-20, 5e-21, 1e-20},
+        random.longs(3).toArray());
+    testWeightedCase(
+        new double[] {1e20, 5e20, 0.}, new double[] {3e20, 5e20, 1e20}, random.longs(3).toArray());
+    for (int numberOfElements : new int[] {10, 1000}) {
+      testWeightedCase(
+          random.doubles(numberOfElements).toArray(),
+          random.doubles(numberOfElements).toArray(),
+          random.longs(numberOfElements).toArray());
+      testWeightedCase(
+          random.doubles(numberOfElements).map(x -> Math.pow(1e5, x)).toArray(),
+          random.doubles(numberOfElements).map(x -> Math.pow(1e5, x)).toArray(),
+          random.longs(numberOfElements).toArray());
+    }
+  }
+
+  @Test
+  void testUnitWeights() {
+    SplittableRandom random = new SplittableRandom(0x7e4b2d9a1f3c8065L);
+    for (int numberOfComponents : new int[] {1, 10, 100}) {
+      WeightedSimilarityHasher hasher =
+          getSimilarityHashPolicy(numberOfComponents, 64).createHasher();
+      for (int numberOfElements : new int[] {1, 10, 100}) {
+        long[] elementHashes = random.longs(numberOfElements).toArray();
+        double[] weights = new double[numberOfElements];
+        Arrays.fill(weights, 1.);
+        assertThat(hasher.compute(ElementHashProvider.ofValues(elementHashes)))
+            .isEqualTo(
+                hasher.compute(WeightedElementHashProvider.ofValues(elementHashes, weights)));
+      }
+    }
+  }
+
+  @Test
+  void testZeroWeightsAreIgnored() {
+    SplittableRandom random = new SplittableRandom(0x1c9e5a3f7b2d4086L);
+    WeightedSimilarityHasher hasher = getSimilarityHashPolicy(100, 64).createHasher();
+    long[] elementHashes = random.longs(20).toArray();
+    double[] weights = random.doubles(20, 0.5, 2.).toArray();
+    byte[] expected = hasher.compute(WeightedElementHashProvider.ofValues(elementHashes, weights));
+
+    long[] extendedElementHashes = Arrays.copyOf(elementHashes, 30);
+    double[] extendedWeights = Arrays.copyOf(weights, 30);
+    for (int i = 20; i < 30; ++i) {
+      extendedElementHashes[i] = random.nextLong();
+    }
+    assertThat(
+            hasher.compute(
+                WeightedElementHashProvider.ofValues(extendedElementHashes, extendedWeights)))
+        .isEqualTo(expected);
+  }
+
+  @Test
+  void testDuplicateElementsUseMaximumWeight() {
+    SplittableRandom random = new SplittableRandom(0x5f2a8c1e9d3b7046L);
+    WeightedSimilarityHasher hasher = getSimilarityHashPolicy(100, 64).createHasher();
+    long[] elementHashes = random.longs(20).toArray();
+    double[] weights = random.doubles(20, 0.5, 2.).toArray();
+    byte[] expected = hasher.compute(WeightedElementHashProvider.ofValues(elementHashes, weights));
+
+    long[] extendedElementHashes = Arrays.copyOf(elementHashes, 40);
+    double[] extendedWeights = Arrays.copyOf(weights, 40);
+    for (int i = 20; i < 40; ++i) {
+      extendedElementHashes[i] = elementHashes[i - 20];
+      extendedWeights[i] = weights[i - 20] * random.nextDouble();
+    }
+    assertThat(
+            hasher.compute(
+                WeightedElementHashProvider.ofValues(extendedElementHashes, extendedWeights)))
+        .isEqualTo(expected);
+  }
+
+  @Test
+  void testOrderIndependence() {
+    SplittableRandom random = new SplittableRandom(0x8b3e6f1a2c9d5074L);
+    WeightedSimilarityHasher hasher = getSimilarityHashPolicy(100, 64).createHasher();
+    long[] elementHashes = random.longs(50).toArray();
+    double[] weights = random.doubles(50, 0., 3.).toArray();
+    byte[] expected = hasher.compute(WeightedElementHashProvider.ofValues(elementHashes, weights));
+    assertThat(
+            hasher.compute(
+                WeightedElementHashProvider.ofFunctions(
+                    i -> elementHashes[49 - i], i -> weights[49 - i], 50)))
+        .isEqualTo(expected);
+  }
+
+  @Test
+  void testInvalidWeights() {
+    WeightedSimilarityHasher hasher = getSimilarityHashPolicy(10, 64).createHasher();
+    long[] elementHashes = {0x4d7a1e9c3b5f2086L, 0x2e8c5a1f7d3b9046L};
+    for (double invalidWeight :
+        new double[] {-1., -Double.MIN_VALUE, Double.NaN, Double.POSITIVE_INFINITY}) {
+      assertThatIllegalArgumentException()
+          .isThrownBy(
+              () ->
+                  hasher.compute(
+                      WeightedElementHashProvider.ofValues(
+                          elementHashes, new double[] {1., invalidWeight})));
+    }
+    assertThatIllegalArgumentException()
+        .isThrownBy(
+            () ->
+                hasher.compute(
+                    WeightedElementHashProvider.ofValues(elementHashes, new double[] {0., 0.})));
+  }
+
+  @Test
+  void testNullWeightedElementHashProvider() {
+    WeightedSimilarityHasher hasher = getSimilarityHashPolicy(10, 64).createHasher();
+    assertThatNullPointerException()
+        .isThrownBy(() -> hasher.compute((WeightedElementHashProvider) null));
+  }
+
+  @Test
+  void testWeightedCheckSum() {
+    int numCycles = 3;
+    int maxSize = 100;
+    int maxNumComponents = 100;
+
+    SplittableRandom random = new SplittableRandom(0x5c2e8b1f9a7d3046L);
+    HashStream64 stream = Hashing.komihash4_3().hashStream();
+
+    for (int numComponents = 1; numComponents <= maxNumComponents; ++numComponents) {
+      WeightedSimilarityHasher hasher = getSimilarityHashPolicy(numComponents, 1).createHasher();
+      for (int size = 1; size <= maxSize; ++size) {
+        for (int cycleCounter = 0; cycleCounter < numCycles; ++cycleCounter) {
+          long[] elementHashes = random.longs(size).toArray();
+          double[] weights = random.doubles(size, 0.1, 10.).toArray();
+          byte[] similarityHash =
+              hasher.compute(WeightedElementHashProvider.ofValues(elementHashes, weights));
+          stream.putByteArray(similarityHash);
+        }
+      }
+    }
+
+    assertThat(stream.getAsLong()).isEqualTo(getWeightedCheckSum());
+  }
+}
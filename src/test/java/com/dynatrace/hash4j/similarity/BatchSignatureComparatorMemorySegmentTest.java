@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.junit.jupiter.api.Test;
+
+class BatchSignatureComparatorMemorySegmentTest {
+
+  @Test
+  void testMethodsForMemorySegment() {
+    BatchSignatureComparator comparator =
+        BatchSignatureComparator.create(SimilarityHashing.minHash(10, 8));
+    Object signatures = new byte[100];
+    assertThatExceptionOfType(UnsupportedOperationException.class)
+        .isThrownBy(() -> comparator.getNumberOfSignatures(signatures));
+    assertThatExceptionOfType(UnsupportedOperationException.class)
+        .isThrownBy(() -> comparator.compareOneToMany(new byte[10], signatures, new int[10]));
+    assertThatExceptionOfType(UnsupportedOperationException.class)
+        .isThrownBy(() -> comparator.compareManyToMany(signatures, signatures, new int[100]));
+    assertThatExceptionOfType(UnsupportedOperationException.class)
+        .isThrownBy(() -> comparator.findMostSimilar(new byte[10], signatures, 1));
+  }
+}
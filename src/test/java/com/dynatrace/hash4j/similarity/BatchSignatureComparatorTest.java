@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class BatchSignatureComparatorTest {
+
+  private static final int[] NUMBERS_OF_COMPONENTS = {1, 2, 3, 7, 8, 31, 64, 65, 100, 257};
+
+  // creates a block of random signatures, some of them are modified copies of the query signature
+  // to obtain non-trivial numbers of equal components, padding bits are random as well
+  static byte[] createSignatures(
+      SimilarityHashPolicy policy, byte[] query, int numSignatures, SplittableRandom random) {
+    int signatureSize = policy.getSignatureSizeInBytes();
+    byte[] signatures = new byte[numSignatures * signatureSize];
+    random.nextBytes(signatures);
+    for (int i = 0; i < numSignatures; i += 2) {
+      System.arraycopy(query, 0, signatures, i * signatureSize, signatureSize);
+      int numModifications = random.nextInt(signatureSize + 1);
+      for (int j = 0; j < numModifications; ++j) {
+        signatures[i * signatureSize + random.nextInt(signatureSize)] = (byte) random.nextInt();
+      }
+    }
+    return signatures;
+  }
+
+  static int[] getExpectedNumbersOfEqualComponents(
+      SimilarityHashPolicy policy, byte[] query, byte[] signatures) {
+    int signatureSize = policy.getSignatureSizeInBytes();
+    int[] expected = new int[signatures.length / signatureSize];
+    for (int i = 0; i < expected.length; ++i) {
+      byte[] signature =
+          Arrays.copyOfRange(signatures, i * signatureSize, (i + 1) * signatureSize);
+      expected[i] = policy.getNumberOfEqualComponents(query, signature);
+    }
+    return expected;
+  }
+
+  static int[] getExpectedMostSimilar(int[] numbersOfEqualComponents, int k) {
+    return IntStream.range(0, numbersOfEqualComponents.length)
+        .boxed()
+        .sorted(
+            Comparator.<Integer>comparingInt(i -> -numbersOfEqualComponents[i])
+                .thenComparingInt(i -> i))
+        .limit(k)
+        .mapToInt(i -> i)
+        .toArray();
+  }
+
+  @Test
+  void testCompareOneToMany() {
+    SplittableRandom random = new SplittableRandom(0x6a1f3c8e5b2d9047L);
+    for (int bitSize = 1; bitSize <= 64; ++bitSize) {
+      for (int numberOfComponents : NUMBERS_OF_COMPONENTS) {
+        SimilarityHashPolicy policy = SimilarityHashing.minHash(numberOfComponents, bitSize);
+        BatchSignatureComparator comparator = BatchSignatureComparator.create(policy);
+        byte[] query = new byte[policy.getSignatureSizeInBytes()];
+        random.nextBytes(query);
+        byte[] signatures = createSignatures(policy, query, 20, random);
+        int[] result = new int[21];
+        comparator.compareOneToMany(query, signatures, result);
+        assertThat(Arrays.copyOf(result, 20))
+            .isEqualTo(getExpectedNumbersOfEqualComponents(policy, query, signatures));
+        assertThat(result[20]).isZero();
+      }
+    }
+  }
+
+  @Test
+  void testCompareManyToMany() {
+    SplittableRandom random = new SplittableRandom(0x0d4b7e2a9f1c6358L);
+    for (int bitSize : new int[] {1, 3, 8, 16, 64}) {
+      SimilarityHashPolicy policy = SimilarityHashing.minHash(100, bitSize);
+      BatchSignatureComparator comparator = BatchSignatureComparator.create(policy);
+      int signatureSize = policy.getSignatureSizeInBytes();
+      byte[] query = new byte[signatureSize];
+      random.nextBytes(query);
+      byte[] signatures1 = createSignatures(policy, query, 7, random);
+      byte[] signatures2 = createSignatures(policy, query, 300, random);
+      int[] result = new int[7 * 300];
+      comparator.compareManyToMany(signatures1, signatures2, result);
+      for (int i = 0; i < 7; ++i) {
+        byte[] signature1 =
+            Arrays.copyOfRange(signatures1, i * signatureSize, (i + 1) * signatureSize);
+        assertThat(Arrays.copyOfRange(result, i * 300, (i + 1) * 300))
+            .isEqualTo(getExpectedNumbersOfEqualComponents(policy, signature1, signatures2));
+      }
+    }
+  }
+
+  @Test
+  void testFindMostSimilar() {
+    SplittableRandom random = new SplittableRandom(0x93c5e1a7f2b80d46L);
+    for (int bitSize : new int[] {1, 2, 5, 32}) {
+      SimilarityHashPolicy policy = SimilarityHashing.minHash(16, bitSize);
+      BatchSignatureComparator comparator = BatchSignatureComparator.create(policy);
+      byte[] query = new byte[policy.getSignatureSizeInBytes()];
+      random.nextBytes(query);
+      byte[] signatures = createSignatures(policy, query, 3000, random);
+      int[] numbersOfEqualComponents =
+          getExpectedNumbersOfEqualComponents(policy, query, signatures);
+      for (int k : new int[] {0, 1, 2, 10, 1000, 2999, 3000, 3001}) {
+        assertThat(comparator.findMostSimilar(query, signatures, k))
+            .isEqualTo(getExpectedMostSimilar(numbersOfEqualComponents, Math.min(k, 3000)));
+      }
+    }
+  }
+
+  @Test
+  void testEmptyBlock() {
+    SimilarityHashPolicy policy = SimilarityHashing.minHash(10, 4);
+    BatchSignatureComparator comparator = BatchSignatureComparator.create(policy);
+    byte[] query = new byte[policy.getSignatureSizeInBytes()];
+    assertThat(comparator.getNumberOfSignatures(new byte[0])).isZero();
+    comparator.compareOneToMany(query, new byte[0], new int[0]);
+    comparator.compareManyToMany(new byte[0], query, new int[0]);
+    assertThat(comparator.findMostSimilar(query, new byte[0], 5)).isEmpty();
+  }
+
+  @Test
+  void testGetLowBits() {
+    assertThat(BatchSignatureComparator.getLowBits(1)).isEqualTo(0xFFFFFFFFFFFFFFFFL);
+    assertThat(BatchSignatureComparator.getLowBits(2)).isEqualTo(0x5555555555555555L);
+    assertThat(BatchSignatureComparator.getLowBits(4)).isEqualTo(0x1111111111111111L);
+    assertThat(BatchSignatureComparator.getLowBits(8)).isEqualTo(0x0101010101010101L);
+    assertThat(BatchSignatureComparator.getLowBits(16)).isEqualTo(0x0001000100010001L);
+    assertThat(BatchSignatureComparator.getLowBits(32)).isEqualTo(0x0000000100000001L);
+    assertThat(BatchSignatureComparator.getLowBits(64)).isEqualTo(0x0000000000000001L);
+  }
+
+  @Test
+  void testInvalidArguments() {
+    SimilarityHashPolicy policy = SimilarityHashing.minHash(10, 4);
+    BatchSignatureComparator comparator = BatchSignatureComparator.create(policy);
+    assertThat(comparator.getSignatureSizeInBytes()).isEqualTo(5);
+    byte[] query = new byte[5];
+    byte[] signatures = new byte[15];
+    assertThatNullPointerException().isThrownBy(() -> BatchSignatureComparator.create(null));
+    assertThatNullPointerException()
+        .isThrownBy(() -> comparator.compareOneToMany(null, signatures, new int[3]));
+    assertThatNullPointerException()
+        .isThrownBy(() -> comparator.compareOneToMany(query, signatures, null));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> comparator.compareOneToMany(new byte[4], signatures, new int[3]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> comparator.compareOneToMany(query, new byte[14], new int[3]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> comparator.compareOneToMany(query, signatures, new int[2]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> comparator.compareManyToMany(signatures, new byte[9], new int[6]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> comparator.compareManyToMany(signatures, query, new int[2]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> comparator.findMostSimilar(query, signatures, -1));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> comparator.findMostSimilar(new byte[6], signatures, 1));
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.withPercentage;
+
+import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
+import org.junit.jupiter.api.Test;
+
+class FastWeightedMinHashPolicy_v1Test extends AbstractWeightedMinHashPolicyTest {
+
+  @Override
+  protected WeightedSimilarityHashPolicy getSimilarityHashPolicy(
+      int numberOfComponents, int bitsPerComponent) {
+    return new FastWeightedMinHashPolicy_v1(
+        numberOfComponents, bitsPerComponent, PseudoRandomGeneratorProvider.splitMix64_V1());
+  }
+
+  @Override
+  protected long getCheckSum() {
+    return 8314425613459002974L;
+  }
+
+  @Override
+  protected long getWeightedCheckSum() {
+    return 6615887246324614936L;
+  }
+
+  @Test
+  void testGetCellIndex() {
+    assertThat(FastWeightedMinHashPolicy_v1.getCellIndex(Float.MIN_NORMAL)).isEqualTo(1);
+    assertThat(FastWeightedMinHashPolicy_v1.getCellIndex(Math.nextDown(2. * Float.MIN_NORMAL)))
+        .isEqualTo(1);
+    assertThat(FastWeightedMinHashPolicy_v1.getCellIndex(2. * Float.MIN_NORMAL)).isEqualTo(2);
+    assertThat(FastWeightedMinHashPolicy_v1.getCellIndex(1.)).isEqualTo(127);
+    assertThat(FastWeightedMinHashPolicy_v1.getCellIndex(1.5)).isEqualTo(127);
+    assertThat(FastWeightedMinHashPolicy_v1.getCellIndex(2.)).isEqualTo(128);
+    assertThat(FastWeightedMinHashPolicy_v1.getCellIndex(Float.MAX_VALUE)).isEqualTo(254);
+  }
+
+  @Test
+  void testGetFirstCellIndex() {
+    assertThat(FastWeightedMinHashPolicy_v1.getFirstCellIndex(1)).isZero();
+    assertThat(FastWeightedMinHashPolicy_v1.getFirstCellIndex(2)).isZero();
+    assertThat(FastWeightedMinHashPolicy_v1.getFirstCellIndex(3)).isEqualTo(128);
+    assertThat(FastWeightedMinHashPolicy_v1.getFirstCellIndex(7)).isEqualTo(192);
+    assertThat(FastWeightedMinHashPolicy_v1.getFirstCellIndex(255)).isEqualTo(254);
+    assertThat(FastWeightedMinHashPolicy_v1.getFirstCellIndex(256)).isZero();
+    assertThat(FastWeightedMinHashPolicy_v1.getFirstCellIndex(383)).isEqualTo(127);
+    assertThat(FastWeightedMinHashPolicy_v1.getFirstCellIndex(510)).isEqualTo(254);
+  }
+
+  @Test
+  void testGetNormalizedTimeLimit() {
+    assertThat(FastWeightedMinHashPolicy_v1.getNormalizedTimeLimit(1, 0.99))
+        .isCloseTo(-Math.log(0.01), withPercentage(1e-10));
+    for (int numberOfComponents : new int[] {1, 2, 10, 100, 1000, 10000}) {
+      double limit = FastWeightedMinHashPolicy_v1.getNormalizedTimeLimit(numberOfComponents, 0.99);
+      assertThat(Math.pow(-Math.expm1(-limit), numberOfComponents))
+          .isCloseTo(0.99, withPercentage(1e-10));
+    }
+  }
+
+  @Test
+  void testWeightRange() {
+    WeightedSimilarityHashPolicy policy = getSimilarityHashPolicy(100, 64);
+    WeightedSimilarityHasher hasher = policy.createHasher();
+    long[] elementHashes = {0x6f1c3a9e5b2d8047L, 0x1a7e4c2f9b3d5086L};
+    byte[] signature1 =
+        hasher.compute(
+            WeightedElementHashProvider.ofValues(
+                elementHashes, new double[] {Float.MIN_NORMAL, Float.MAX_VALUE}));
+    byte[] signature2 =
+        hasher.compute(
+            WeightedElementHashProvider.ofValues(
+                elementHashes, new double[] {1., Float.MAX_VALUE}));
+    assertThat(policy.getFractionOfEqualComponents(signature1, signature2)).isEqualTo(1.);
+
+    for (double invalidWeight :
+        new double[] {
+          Double.MIN_VALUE, Math.nextDown((double) Float.MIN_NORMAL), 2. * Float.MAX_VALUE
+        }) {
+      assertThatIllegalArgumentException()
+          .isThrownBy(
+              () ->
+                  hasher.compute(
+                      WeightedElementHashProvider.ofValues(
+                          elementHashes, new double[] {1., invalidWeight})));
+    }
+  }
+}
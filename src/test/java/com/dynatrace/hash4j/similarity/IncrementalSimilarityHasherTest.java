@@ -0,0 +1,307 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.Test;
+
+class IncrementalSimilarityHasherTest {
+
+  private static final int[] NUMBERS_OF_COMPONENTS = {1, 2, 7, 64, 300};
+  private static final int[] NUMBERS_OF_ELEMENTS = {1, 2, 3, 10, 100, 1000, 10000};
+
+  private static void testEqualsCompute(IntFunction<SimilarityHashPolicy> policyFactory) {
+    SplittableRandom random = new SplittableRandom(0x7d2b9e4f1a6c3058L);
+    for (int numberOfComponents : NUMBERS_OF_COMPONENTS) {
+      SimilarityHashPolicy policy = policyFactory.apply(numberOfComponents);
+      SimilarityHasher hasher = policy.createHasher();
+      IncrementalSimilarityHasher incrementalHasher1 = policy.createIncrementalHasher();
+      IncrementalSimilarityHasher incrementalHasher2 = policy.createIncrementalHasher();
+      for (int numberOfElements : NUMBERS_OF_ELEMENTS) {
+        long[] elementHashes = random.longs(numberOfElements).toArray();
+        byte[] expected = hasher.compute(ElementHashProvider.ofValues(elementHashes));
+
+        // single elements
+        incrementalHasher1.reset();
+        for (long elementHash : elementHashes) {
+          incrementalHasher1.add(elementHash);
+        }
+        assertThat(incrementalHasher1.getSignature()).isEqualTo(expected);
+
+        // batch
+        incrementalHasher1.reset().addAll(ElementHashProvider.ofValues(elementHashes));
+        assertThat(incrementalHasher1.getSignature()).isEqualTo(expected);
+
+        // merge of two partial hashers
+        int splitIdx = random.nextInt(numberOfElements + 1);
+        incrementalHasher1.reset();
+        incrementalHasher2.reset();
+        for (int i = 0; i < numberOfElements; ++i) {
+          (i < splitIdx ? incrementalHasher1 : incrementalHasher2).add(elementHashes[i]);
+        }
+        assertThat(incrementalHasher1.merge(incrementalHasher2).getSignature()).isEqualTo(expected);
+      }
+    }
+  }
+
+  private static void testDuplicatesAreIgnored(IntFunction<SimilarityHashPolicy> policyFactory) {
+    SplittableRandom random = new SplittableRandom(0x4b8e2d6a1f9c3075L);
+    for (int numberOfComponents : NUMBERS_OF_COMPONENTS) {
+      IncrementalSimilarityHasher incrementalHasher =
+          policyFactory.apply(numberOfComponents).createIncrementalHasher();
+      for (int numberOfElements : NUMBERS_OF_ELEMENTS) {
+        ElementHashProvider elementHashProvider =
+            ElementHashProvider.ofValues(random.longs(numberOfElements).toArray());
+        byte[] expected = incrementalHasher.reset().addAll(elementHashProvider).getSignature();
+        incrementalHasher.addAll(elementHashProvider);
+        assertThat(incrementalHasher.getSignature()).isEqualTo(expected);
+      }
+    }
+  }
+
+  private static void testSnapshots(IntFunction<SimilarityHashPolicy> policyFactory) {
+    SplittableRandom random = new SplittableRandom(0x1e5c8a3f7b9d2046L);
+    for (int numberOfComponents : NUMBERS_OF_COMPONENTS) {
+      SimilarityHashPolicy policy = policyFactory.apply(numberOfComponents);
+      SimilarityHasher hasher = policy.createHasher();
+      IncrementalSimilarityHasher incrementalHasher = policy.createIncrementalHasher();
+      long[] elementHashes = random.longs(200).toArray();
+      for (int i = 0; i < elementHashes.length; ++i) {
+        incrementalHasher.add(elementHashes[i]);
+        assertThat(incrementalHasher.getSignature())
+            .isEqualTo(
+                hasher.compute(ElementHashProvider.ofValues(Arrays.copyOf(elementHashes, i + 1))));
+      }
+    }
+  }
+
+  private static void testEmpty(IntFunction<SimilarityHashPolicy> policyFactory) {
+    SimilarityHashPolicy policy = policyFactory.apply(10);
+    IncrementalSimilarityHasher incrementalHasher = policy.createIncrementalHasher();
+    IncrementalSimilarityHasher emptyHasher = policy.createIncrementalHasher();
+    assertThat(incrementalHasher.isEmpty()).isTrue();
+    assertThatIllegalStateException().isThrownBy(incrementalHasher::getSignature);
+    incrementalHasher.merge(emptyHasher);
+    assertThat(incrementalHasher.isEmpty()).isTrue();
+    incrementalHasher.add(0x3c9e1a7b5d2f8064L);
+    assertThat(incrementalHasher.isEmpty()).isFalse();
+    byte[] signature = incrementalHasher.getSignature();
+    incrementalHasher.merge(emptyHasher);
+    assertThat(incrementalHasher.getSignature()).isEqualTo(signature);
+    assertThat(emptyHasher.merge(incrementalHasher).getSignature()).isEqualTo(signature);
+    incrementalHasher.reset();
+    assertThat(incrementalHasher.isEmpty()).isTrue();
+    assertThatIllegalStateException().isThrownBy(incrementalHasher::getSignature);
+  }
+
+  private static void testInvalidArguments(IntFunction<SimilarityHashPolicy> policyFactory) {
+    IncrementalSimilarityHasher incrementalHasher =
+        policyFactory.apply(10).createIncrementalHasher();
+    assertThatNullPointerException().isThrownBy(() -> incrementalHasher.addAll(null));
+    assertThatNullPointerException().isThrownBy(() -> incrementalHasher.merge(null));
+    IncrementalSimilarityHasher otherHasher = policyFactory.apply(11).createIncrementalHasher();
+    assertThatIllegalArgumentException().isThrownBy(() -> incrementalHasher.merge(otherHasher));
+  }
+
+  private static void testMergeOfEquivalentPolicies(
+      IntFunction<SimilarityHashPolicy> policyFactory,
+      List<IntFunction<SimilarityHashPolicy>> nonEquivalentPolicyFactories) {
+    IncrementalSimilarityHasher incrementalHasher =
+        policyFactory.apply(10).createIncrementalHasher().add(0x3c8f1e5a7b2d9046L);
+    byte[] signature = incrementalHasher.getSignature();
+    assertThat(
+            incrementalHasher
+                .merge(policyFactory.apply(10).createIncrementalHasher().add(0x3c8f1e5a7b2d9046L))
+                .getSignature())
+        .isEqualTo(signature);
+    for (IntFunction<SimilarityHashPolicy> nonEquivalentPolicyFactory :
+        nonEquivalentPolicyFactories) {
+      IncrementalSimilarityHasher otherHasher =
+          nonEquivalentPolicyFactory.apply(10).createIncrementalHasher();
+      assertThatIllegalArgumentException().isThrownBy(() -> incrementalHasher.merge(otherHasher));
+    }
+  }
+
+  @Test
+  void testMinHashMergeOfEquivalentPolicies() {
+    testMergeOfEquivalentPolicies(
+        numberOfComponents -> SimilarityHashing.minHash(numberOfComponents, 8),
+        Arrays.asList(
+            numberOfComponents -> SimilarityHashing.minHash(numberOfComponents, 16),
+            numberOfComponents ->
+                new MinHashPolicy_v1(
+                    numberOfComponents, 8, PseudoRandomGeneratorProvider.wyRand_V1())));
+  }
+
+  @Test
+  void testSuperMinHashMergeOfEquivalentPolicies() {
+    testMergeOfEquivalentPolicies(
+        numberOfComponents -> SimilarityHashing.superMinHash(numberOfComponents, 8),
+        Arrays.asList(
+            numberOfComponents -> SimilarityHashing.superMinHash(numberOfComponents, 16),
+            numberOfComponents ->
+                new SuperMinHashPolicy_v1(
+                    numberOfComponents, 8, PseudoRandomGeneratorProvider.wyRand_V1())));
+  }
+
+  @Test
+  void testSimHashMergeOfEquivalentPolicies() {
+    testMergeOfEquivalentPolicies(
+        SimilarityHashing::simHash,
+        Collections.singletonList(
+            numberOfComponents ->
+                new SimHashPolicy_v1(
+                    numberOfComponents, PseudoRandomGeneratorProvider.wyRand_V1())));
+  }
+
+  @Test
+  void testFastSimHashMergeOfEquivalentPolicies() {
+    testMergeOfEquivalentPolicies(
+        SimilarityHashing::fastSimHash,
+        Collections.singletonList(
+            numberOfComponents ->
+                new FastSimHashPolicy_v1(
+                    numberOfComponents, PseudoRandomGeneratorProvider.wyRand_V1())));
+  }
+
+  @Test
+  void testMinHashEqualsCompute() {
+    testEqualsCompute(numberOfComponents -> SimilarityHashing.minHash(numberOfComponents, 64));
+  }
+
+  @Test
+  void testSuperMinHashEqualsCompute() {
+    testEqualsCompute(numberOfComponents -> SimilarityHashing.superMinHash(numberOfComponents, 64));
+  }
+
+  @Test
+  void testSimHashEqualsCompute() {
+    testEqualsCompute(SimilarityHashing::simHash);
+  }
+
+  @Test
+  void testFastSimHashEqualsCompute() {
+    testEqualsCompute(SimilarityHashing::fastSimHash);
+  }
+
+  @Test
+  void testMinHashDuplicatesAreIgnored() {
+    testDuplicatesAreIgnored(
+        numberOfComponents -> SimilarityHashing.minHash(numberOfComponents, 64));
+  }
+
+  @Test
+  void testSuperMinHashDuplicatesAreIgnored() {
+    testDuplicatesAreIgnored(
+        numberOfComponents -> SimilarityHashing.superMinHash(numberOfComponents, 64));
+  }
+
+  @Test
+  void testMinHashSnapshots() {
+    testSnapshots(numberOfComponents -> SimilarityHashing.minHash(numberOfComponents, 16));
+  }
+
+  @Test
+  void testSuperMinHashSnapshots() {
+    testSnapshots(numberOfComponents -> SimilarityHashing.superMinHash(numberOfComponents, 16));
+  }
+
+  @Test
+  void testSimHashSnapshots() {
+    testSnapshots(SimilarityHashing::simHash);
+  }
+
+  @Test
+  void testFastSimHashSnapshots() {
+    testSnapshots(SimilarityHashing::fastSimHash);
+  }
+
+  @Test
+  void testMinHashEmpty() {
+    testEmpty(numberOfComponents -> SimilarityHashing.minHash(numberOfComponents, 8));
+  }
+
+  @Test
+  void testSuperMinHashEmpty() {
+    testEmpty(numberOfComponents -> SimilarityHashing.superMinHash(numberOfComponents, 8));
+  }
+
+  @Test
+  void testSimHashEmpty() {
+    testEmpty(SimilarityHashing::simHash);
+  }
+
+  @Test
+  void testFastSimHashEmpty() {
+    testEmpty(SimilarityHashing::fastSimHash);
+  }
+
+  @Test
+  void testMinHashInvalidArguments() {
+    testInvalidArguments(numberOfComponents -> SimilarityHashing.minHash(numberOfComponents, 8));
+  }
+
+  @Test
+  void testSuperMinHashInvalidArguments() {
+    testInvalidArguments(
+        numberOfComponents -> SimilarityHashing.superMinHash(numberOfComponents, 8));
+  }
+
+  @Test
+  void testSimHashInvalidArguments() {
+    testInvalidArguments(SimilarityHashing::simHash);
+  }
+
+  @Test
+  void testFastSimHashInvalidArguments() {
+    testInvalidArguments(SimilarityHashing::fastSimHash);
+  }
+
+  @Test
+  void testMergeOfDifferentAlgorithms() {
+    IncrementalSimilarityHasher minHasher =
+        SimilarityHashing.minHash(10, 8).createIncrementalHasher();
+    IncrementalSimilarityHasher superMinHasher =
+        SimilarityHashing.superMinHash(10, 8).createIncrementalHasher();
+    assertThatIllegalArgumentException().isThrownBy(() -> minHasher.merge(superMinHasher));
+    assertThatIllegalArgumentException().isThrownBy(() -> superMinHasher.merge(minHasher));
+    IncrementalSimilarityHasher simHasher = SimilarityHashing.simHash(10).createIncrementalHasher();
+    IncrementalSimilarityHasher fastSimHasher =
+        SimilarityHashing.fastSimHash(10).createIncrementalHasher();
+    assertThatIllegalArgumentException().isThrownBy(() -> simHasher.merge(fastSimHasher));
+    assertThatIllegalArgumentException().isThrownBy(() -> fastSimHasher.merge(simHasher));
+    assertThatIllegalArgumentException().isThrownBy(() -> simHasher.merge(minHasher));
+  }
+
+  @Test
+  void testUnsupportedPolicies() {
+    assertThatExceptionOfType(UnsupportedOperationException.class)
+        .isThrownBy(() -> SimilarityHashing.onePermutationMinHash(64, 8).createIncrementalHasher());
+    assertThatExceptionOfType(UnsupportedOperationException.class)
+        .isThrownBy(() -> SimilarityHashing.weightedMinHash(64, 8).createIncrementalHasher());
+  }
+}
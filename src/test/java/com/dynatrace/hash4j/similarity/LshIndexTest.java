@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class LshIndexTest {
+
+  @Test
+  void testGetCandidateProbability() {
+    LshIndex index = LshIndex.create(SimilarityHashing.minHash(64, 16), 16, 4);
+    assertThat(index.getNumberOfBands()).isEqualTo(16);
+    assertThat(index.getRowsPerBand()).isEqualTo(4);
+    assertThat(index.getCandidateProbability(0.)).isZero();
+    assertThat(index.getCandidateProbability(1.)).isOne();
+    assertThat(index.getCandidateProbability(0.5))
+        .isCloseTo(1. - Math.pow(1. - Math.pow(0.5, 4), 16), within(1e-15));
+    assertThat(index.getCandidateProbability(1e-10)).isCloseTo(16e-40, within(1e-50));
+  }
+
+  @Test
+  void testEmptyIndex() {
+    SimilarityHashPolicy policy = SimilarityHashing.minHash(8, 16);
+    LshIndex index = LshIndex.create(policy, 2, 4);
+    assertThat(index.size()).isZero();
+    assertThat(index.getCandidates(new byte[policy.getSignatureSizeInBytes()])).isEmpty();
+  }
+
+  @Test
+  void testInvalidArguments() {
+    SimilarityHashPolicy policy = SimilarityHashing.minHash(8, 16);
+    assertThatNullPointerException().isThrownBy(() -> LshIndex.create(null, 2, 4));
+    assertThatIllegalArgumentException().isThrownBy(() -> LshIndex.create(policy, 0, 4));
+    assertThatIllegalArgumentException().isThrownBy(() -> LshIndex.create(policy, 2, 0));
+    assertThatIllegalArgumentException().isThrownBy(() -> LshIndex.create(policy, 3, 3));
+    LshIndex index = LshIndex.create(policy, 2, 4);
+    assertThatNullPointerException().isThrownBy(() -> index.add(null));
+    assertThatNullPointerException().isThrownBy(() -> index.getCandidates(null));
+    assertThatIllegalArgumentException().isThrownBy(() -> index.add(new byte[3]));
+    assertThatIllegalArgumentException().isThrownBy(() -> index.getCandidates(new byte[3]));
+    assertThatIllegalArgumentException().isThrownBy(() -> index.getCandidateProbability(-0.1));
+    assertThatIllegalArgumentException().isThrownBy(() -> index.getCandidateProbability(1.1));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> index.getCandidateProbability(Double.NaN));
+    assertThat(index.size()).isZero();
+  }
+
+  @Test
+  void testCandidatesAreDistinctAndContainSelf() {
+    SimilarityHashPolicy policy = SimilarityHashing.minHash(16, 4);
+    LshIndex index = LshIndex.create(policy, 8, 2);
+    SplittableRandom random = new SplittableRandom(0x5e3a1c7b9d2f4086L);
+    int numSignatures = 100_000;
+    byte[][] signatures = new byte[numSignatures][];
+    for (int i = 0; i < numSignatures; ++i) {
+      signatures[i] = new byte[policy.getSignatureSizeInBytes()];
+      random.nextBytes(signatures[i]);
+      assertThat(index.add(signatures[i])).isEqualTo(i);
+    }
+    assertThat(index.size()).isEqualTo(numSignatures);
+    boolean[] seen = new boolean[numSignatures];
+    for (int i = 0; i < numSignatures; i += 997) {
+      int[] candidates = index.getCandidates(signatures[i]);
+      assertThat(candidates).contains(i);
+      for (int candidate : candidates) {
+        assertThat(seen[candidate]).isFalse();
+        seen[candidate] = true;
+        boolean hasEqualBand = false;
+        for (int band = 0; band < 8; ++band) {
+          hasEqualBand |=
+              policy.getComponent(signatures[i], 2 * band)
+                      == policy.getComponent(signatures[candidate], 2 * band)
+                  && policy.getComponent(signatures[i], 2 * band + 1)
+                      == policy.getComponent(signatures[candidate], 2 * band + 1);
+        }
+        assertThat(hasEqualBand).isTrue();
+      }
+      for (int candidate : candidates) {
+        seen[candidate] = false;
+      }
+    }
+  }
+
+  private static void testCandidateProbability(int numSharedElements, long seed) {
+    int numElements = 100;
+    int numTrials = 2000;
+    SimilarityHasher hasher = SimilarityHashing.minHash(128, 32).createHasher();
+    LshIndex index = LshIndex.create(SimilarityHashing.minHash(128, 32), 16, 8);
+    SplittableRandom random = new SplittableRandom(seed);
+    long[][] elements = new long[numTrials][];
+    for (int i = 0; i < numTrials; ++i) {
+      elements[i] = random.longs(numElements).toArray();
+      index.add(hasher.compute(ElementHashProvider.ofValues(elements[i])));
+    }
+    double jaccardSimilarity =
+        numSharedElements / (double) (2 * numElements - numSharedElements);
+    int numHits = 0;
+    int numFalseHits = 0;
+    for (int i = 0; i < numTrials; ++i) {
+      long[] queryElements = random.longs(numElements).toArray();
+      System.arraycopy(elements[i], 0, queryElements, 0, numSharedElements);
+      byte[] querySignature = hasher.compute(ElementHashProvider.ofValues(queryElements));
+      for (int candidate : index.getCandidates(querySignature)) {
+        if (candidate == i) {
+          numHits += 1;
+        } else {
+          numFalseHits += 1;
+        }
+      }
+    }
+    double p = index.getCandidateProbability(jaccardSimilarity);
+    double expected = numTrials * p;
+    // allow deviations of 5 standard deviations
+    double tolerance = 5. * Math.sqrt(numTrials * p * (1. - p)) + 1e-9;
+    assertThat((double) numHits).isBetween(expected - tolerance, expected + tolerance);
+    // unrelated sets are almost never reported
+    assertThat(numFalseHits).isLessThan(10);
+  }
+
+  @Test
+  void testCandidateProbabilityHighSimilarity() {
+    testCandidateProbability(95, 0x2c7e9a1b4d6f8035L);
+  }
+
+  @Test
+  void testCandidateProbabilityMediumSimilarity() {
+    testCandidateProbability(60, 0x81d3f5a7c9e0b246L);
+  }
+
+  @Test
+  void testCandidateProbabilityLowSimilarity() {
+    testCandidateProbability(46, 0x4b6d8f0a2c1e3957L);
+  }
+}
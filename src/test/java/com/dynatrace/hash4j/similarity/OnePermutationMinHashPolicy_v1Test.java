@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withPercentage;
+
+import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class OnePermutationMinHashPolicy_v1Test extends AbstractMinHashPolicyTest {
+
+  @Override
+  protected SimilarityHashPolicy getSimilarityHashPolicy(
+      int numberOfComponents, int bitsPerComponent) {
+    return new OnePermutationMinHashPolicy_v1(
+        numberOfComponents, bitsPerComponent, PseudoRandomGeneratorProvider.splitMix64_V1());
+  }
+
+  @Override
+  protected long getCheckSum() {
+    return 7928211415588286009L;
+  }
+
+  @Test
+  void testGetNormalizedRoundLimit() {
+    assertThat(OnePermutationMinHashPolicy_v1.getNormalizedRoundLimit(1, 0.99))
+        .isCloseTo(-Math.log(0.01), withPercentage(1e-10));
+    for (int numberOfComponents : new int[] {1, 2, 10, 100, 1000, 10000}) {
+      double limit =
+          OnePermutationMinHashPolicy_v1.getNormalizedRoundLimit(numberOfComponents, 0.99);
+      assertThat(Math.pow(-Math.expm1(-limit / numberOfComponents), numberOfComponents))
+          .isCloseTo(0.99, withPercentage(1e-10));
+    }
+  }
+
+  @Test
+  void testGetInitialRoundLimit() {
+    assertThat(OnePermutationMinHashPolicy_v1.getInitialRoundLimit(100., 1)).isEqualTo(100);
+    assertThat(OnePermutationMinHashPolicy_v1.getInitialRoundLimit(100., 3)).isEqualTo(34);
+    assertThat(OnePermutationMinHashPolicy_v1.getInitialRoundLimit(100., 100)).isEqualTo(1);
+    assertThat(OnePermutationMinHashPolicy_v1.getInitialRoundLimit(100., 1000)).isEqualTo(1);
+    assertThat(OnePermutationMinHashPolicy_v1.getInitialRoundLimit(1e20, 1)).isEqualTo(1 << 30);
+  }
+
+  @Test
+  void testOrderAndDuplicateIndependence() {
+    SplittableRandom random = new SplittableRandom(0x2d8f4a1c7e3b9065L);
+    for (int numberOfComponents : new int[] {1, 10, 128, 1024}) {
+      SimilarityHasher hasher = getSimilarityHashPolicy(numberOfComponents, 64).createHasher();
+      for (int numberOfElements : new int[] {1, 2, 5, 100, 10000}) {
+        long[] elementHashes = random.longs(numberOfElements).toArray();
+        byte[] expected = hasher.compute(ElementHashProvider.ofValues(elementHashes));
+        long[] modifiedElementHashes = Arrays.copyOf(elementHashes, 2 * numberOfElements);
+        for (int i = 0; i < numberOfElements; ++i) {
+          modifiedElementHashes[numberOfElements + i] = elementHashes[random.nextInt(i + 1)];
+        }
+        for (int i = modifiedElementHashes.length - 1; i > 0; --i) {
+          int j = random.nextInt(i + 1);
+          long tmp = modifiedElementHashes[i];
+          modifiedElementHashes[i] = modifiedElementHashes[j];
+          modifiedElementHashes[j] = tmp;
+        }
+        assertThat(hasher.compute(ElementHashProvider.ofValues(modifiedElementHashes)))
+            .isEqualTo(expected);
+      }
+    }
+  }
+}
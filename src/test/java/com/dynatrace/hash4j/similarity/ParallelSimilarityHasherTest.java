@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class ParallelSimilarityHasherTest {
+
+  private static final int[] NUMBERS_OF_COMPONENTS = {1, 7, 64, 65, 300};
+  private static final int[] NUMBERS_OF_ELEMENTS = {1, 2, 100, 4096, 4097, 10001, 100000};
+
+  private static ForkJoinPool forkJoinPool;
+
+  @BeforeAll
+  static void createForkJoinPool() {
+    forkJoinPool = new ForkJoinPool(4);
+  }
+
+  @AfterAll
+  static void shutdownForkJoinPool() {
+    forkJoinPool.shutdown();
+  }
+
+  private static void testEqualsSequential(IntFunction<SimilarityHashPolicy> policyFactory) {
+    SplittableRandom random = new SplittableRandom(0x5e1b9d3a7c2f4086L);
+    for (int numberOfComponents : NUMBERS_OF_COMPONENTS) {
+      SimilarityHashPolicy policy = policyFactory.apply(numberOfComponents);
+      SimilarityHasher hasher = policy.createHasher();
+      SimilarityHasher parallelHasher = policy.createParallelHasher(forkJoinPool);
+      SimilarityHasher commonPoolParallelHasher =
+          policy.createParallelHasher(ForkJoinPool.commonPool());
+      for (int numberOfElements : NUMBERS_OF_ELEMENTS) {
+        ElementHashProvider elementHashProvider =
+            ElementHashProvider.ofValues(random.longs(numberOfElements).toArray());
+        byte[] expected = hasher.compute(elementHashProvider);
+        assertThat(parallelHasher.compute(elementHashProvider)).isEqualTo(expected);
+        assertThat(commonPoolParallelHasher.compute(elementHashProvider)).isEqualTo(expected);
+      }
+    }
+  }
+
+  @Test
+  void testMinHashEqualsSequential() {
+    testEqualsSequential(numberOfComponents -> SimilarityHashing.minHash(numberOfComponents, 64));
+  }
+
+  @Test
+  void testSuperMinHashEqualsSequential() {
+    testEqualsSequential(
+        numberOfComponents -> SimilarityHashing.superMinHash(numberOfComponents, 64));
+  }
+
+  @Test
+  void testSimHashEqualsSequential() {
+    testEqualsSequential(SimilarityHashing::simHash);
+  }
+
+  @Test
+  void testFastSimHashEqualsSequential() {
+    testEqualsSequential(SimilarityHashing::fastSimHash);
+  }
+
+  @Test
+  void testConcurrentComputations() throws Exception {
+    SplittableRandom random = new SplittableRandom(0x2a7d5f1e9c3b8064L);
+    SimilarityHashPolicy policy = SimilarityHashing.superMinHash(256, 16);
+    SimilarityHasher parallelHasher = policy.createParallelHasher(forkJoinPool);
+    ElementHashProvider[] elementHashProviders = new ElementHashProvider[8];
+    byte[][] expected = new byte[elementHashProviders.length][];
+    for (int i = 0; i < elementHashProviders.length; ++i) {
+      elementHashProviders[i] = ElementHashProvider.ofValues(random.longs(50000).toArray());
+      expected[i] = policy.createHasher().compute(elementHashProviders[i]);
+    }
+    ExecutorService executorService = Executors.newFixedThreadPool(elementHashProviders.length);
+    try {
+      @SuppressWarnings("unchecked")
+      Future<byte[]>[] futures = new Future[elementHashProviders.length];
+      for (int i = 0; i < elementHashProviders.length; ++i) {
+        ElementHashProvider elementHashProvider = elementHashProviders[i];
+        futures[i] = executorService.submit(() -> parallelHasher.compute(elementHashProvider));
+      }
+      for (int i = 0; i < elementHashProviders.length; ++i) {
+        assertThat(futures[i].get()).isEqualTo(expected[i]);
+      }
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  @Test
+  void testInvalidArguments() {
+    SimilarityHasher parallelHasher =
+        SimilarityHashing.minHash(10, 8).createParallelHasher(forkJoinPool);
+    assertThatNullPointerException().isThrownBy(() -> parallelHasher.compute(null));
+    assertThatIllegalArgumentException()
+        .isThrownBy(
+            () ->
+                parallelHasher.compute(
+                    new ElementHashProvider() {
+                      @Override
+                      public long getElementHash(int elementIndex) {
+                        return 0;
+                      }
+
+                      @Override
+                      public int getNumberOfElements() {
+                        return 0;
+                      }
+                    }));
+    assertThatNullPointerException()
+        .isThrownBy(() -> SimilarityHashing.minHash(10, 8).createParallelHasher(null));
+    assertThatNullPointerException()
+        .isThrownBy(() -> SimilarityHashing.fastSimHash(10).createParallelHasher(null));
+  }
+
+  @Test
+  void testUnsupportedPolicies() {
+    assertThatExceptionOfType(UnsupportedOperationException.class)
+        .isThrownBy(
+            () ->
+                SimilarityHashing.onePermutationMinHash(64, 8)
+                    .createParallelHasher(forkJoinPool));
+    assertThatExceptionOfType(UnsupportedOperationException.class)
+        .isThrownBy(
+            () -> SimilarityHashing.weightedMinHash(64, 8).createParallelHasher(forkJoinPool));
+    assertThatExceptionOfType(UnsupportedOperationException.class)
+        .isThrownBy(
+            () -> SimilarityHashing.fastWeightedMinHash(64, 8).createParallelHasher(forkJoinPool));
+  }
+}
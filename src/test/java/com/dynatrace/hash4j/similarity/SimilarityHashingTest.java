@@ -75,6 +75,29 @@ class SimilarityHashingTest {
     assertThat(signatureV1).isEqualTo(signatureDefault);
   }
 
+  @Test
+  void testOnePermutationMinHash() {
+    assertThat(SimilarityHashing.onePermutationMinHash(3, 5))
+        .isInstanceOf(OnePermutationMinHashPolicy_v1.class);
+    assertThat(SimilarityHashing.onePermutationMinHash(3, 5, OnePermutationMinHashVersion.DEFAULT))
+        .isInstanceOf(OnePermutationMinHashPolicy_v1.class);
+    assertThat(SimilarityHashing.onePermutationMinHash(3, 5, OnePermutationMinHashVersion.V1))
+        .isInstanceOf(OnePermutationMinHashPolicy_v1.class);
+  }
+
+  @Test
+  void testOnePermutationMinHashDefault() {
+    byte[] signatureDefault =
+        SimilarityHashing.onePermutationMinHash(128, 64)
+            .createHasher()
+            .compute(ELEMENT_HASH_PROVIDER);
+    byte[] signatureV1 =
+        SimilarityHashing.onePermutationMinHash(128, 64, OnePermutationMinHashVersion.DEFAULT)
+            .createHasher()
+            .compute(ELEMENT_HASH_PROVIDER);
+    assertThat(signatureV1).isEqualTo(signatureDefault);
+  }
+
   @Test
   void testFastSimHash() {
     assertThat(SimilarityHashing.fastSimHash(3)).isInstanceOf(FastSimHashPolicy_v1.class);
@@ -114,4 +137,48 @@ class SimilarityHashingTest {
             .compute(ELEMENT_HASH_PROVIDER);
     assertThat(signatureV1).isEqualTo(signatureDefault);
   }
+
+  @Test
+  void testWeightedMinHash() {
+    assertThat(SimilarityHashing.weightedMinHash(3, 5))
+        .isInstanceOf(WeightedMinHashPolicy_v1.class);
+    assertThat(SimilarityHashing.weightedMinHash(3, 5, WeightedMinHashVersion.DEFAULT))
+        .isInstanceOf(WeightedMinHashPolicy_v1.class);
+    assertThat(SimilarityHashing.weightedMinHash(3, 5, WeightedMinHashVersion.V1))
+        .isInstanceOf(WeightedMinHashPolicy_v1.class);
+  }
+
+  @Test
+  void testWeightedMinHashDefault() {
+    byte[] signatureDefault =
+        SimilarityHashing.weightedMinHash(128, 64).createHasher().compute(ELEMENT_HASH_PROVIDER);
+    byte[] signatureV1 =
+        SimilarityHashing.weightedMinHash(128, 64, WeightedMinHashVersion.DEFAULT)
+            .createHasher()
+            .compute(ELEMENT_HASH_PROVIDER);
+    assertThat(signatureV1).isEqualTo(signatureDefault);
+  }
+
+  @Test
+  void testFastWeightedMinHash() {
+    assertThat(SimilarityHashing.fastWeightedMinHash(3, 5))
+        .isInstanceOf(FastWeightedMinHashPolicy_v1.class);
+    assertThat(SimilarityHashing.fastWeightedMinHash(3, 5, FastWeightedMinHashVersion.DEFAULT))
+        .isInstanceOf(FastWeightedMinHashPolicy_v1.class);
+    assertThat(SimilarityHashing.fastWeightedMinHash(3, 5, FastWeightedMinHashVersion.V1))
+        .isInstanceOf(FastWeightedMinHashPolicy_v1.class);
+  }
+
+  @Test
+  void testFastWeightedMinHashDefault() {
+    byte[] signatureDefault =
+        SimilarityHashing.fastWeightedMinHash(128, 64)
+            .createHasher()
+            .compute(ELEMENT_HASH_PROVIDER);
+    byte[] signatureV1 =
+        SimilarityHashing.fastWeightedMinHash(128, 64, FastWeightedMinHashVersion.DEFAULT)
+            .createHasher()
+            .compute(ELEMENT_HASH_PROVIDER);
+    assertThat(signatureV1).isEqualTo(signatureDefault);
+  }
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+// the Java 25 implementation is tested by SimilarityVectorUtilJava25Test
+@DisabledForJreRange(min = JRE.JAVA_25)
+class SimilarityVectorUtilTest {
+
+  @Test
+  void testNotAvailable() {
+    assertThat(SimilarityVectorUtil.isAvailable()).isFalse();
+    byte[] query = new byte[64];
+    byte[] signatures = new byte[64];
+    int[] result = new int[1];
+    assertThatExceptionOfType(UnsupportedOperationException.class)
+        .isThrownBy(
+            () ->
+                SimilarityVectorUtil.countNonZeroComponents(
+                    query, 0, signatures, 0, 1, 64, 64, 8, 0x0101010101010101L, result, 0));
+  }
+}
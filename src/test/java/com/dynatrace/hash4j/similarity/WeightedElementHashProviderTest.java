@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+class WeightedElementHashProviderTest {
+
+  @Test
+  void testNullArray() {
+    assertThatNullPointerException()
+        .isThrownBy(() -> WeightedElementHashProvider.ofValues(null, new double[1]));
+    assertThatNullPointerException()
+        .isThrownBy(() -> WeightedElementHashProvider.ofValues(new long[1], null));
+  }
+
+  @Test
+  void testEmpty() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> WeightedElementHashProvider.ofValues(new long[0], new double[0]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(
+            () ->
+                WeightedElementHashProvider.ofCollection(
+                    Collections.emptySet(), x -> 0, x -> 1.));
+  }
+
+  @Test
+  void testDifferentLengths() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> WeightedElementHashProvider.ofValues(new long[2], new double[1]));
+  }
+
+  @Test
+  void testNullFunction() {
+    assertThatNullPointerException()
+        .isThrownBy(() -> WeightedElementHashProvider.ofFunctions(null, i -> 1., 5));
+    assertThatNullPointerException()
+        .isThrownBy(() -> WeightedElementHashProvider.ofFunctions(i -> i, null, 5));
+    assertThatNullPointerException()
+        .isThrownBy(() -> WeightedElementHashProvider.ofCollection(null, x -> 0, x -> 1.));
+    assertThatNullPointerException()
+        .isThrownBy(
+            () -> WeightedElementHashProvider.ofCollection(Collections.emptySet(), null, x -> 1.));
+    assertThatNullPointerException()
+        .isThrownBy(
+            () -> WeightedElementHashProvider.ofCollection(Collections.emptySet(), x -> 0, null));
+    assertThatNullPointerException()
+        .isThrownBy(() -> WeightedElementHashProvider.ofUnitWeights(null));
+  }
+
+  @Test
+  void testFunctionWithInvalidNumberOfElements() {
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> WeightedElementHashProvider.ofFunctions(i -> i, i -> 1., 0));
+  }
+
+  @Test
+  void testOfCollection() {
+    WeightedElementHashProvider provider =
+        WeightedElementHashProvider.ofCollection(
+            Arrays.asList("A", "BB", "CCC"), s -> s.charAt(0), s -> s.length() * 0.5);
+    assertThat(provider.getNumberOfElements()).isEqualTo(3);
+    assertThat(provider.getElementHash(1)).isEqualTo((long) 'B');
+    assertThat(provider.getElementWeight(2)).isEqualTo(1.5);
+  }
+
+  @Test
+  void testOfUnitWeights() {
+    WeightedElementHashProvider provider =
+        WeightedElementHashProvider.ofUnitWeights(ElementHashProvider.ofValues(3L, 5L));
+    assertThat(provider.getNumberOfElements()).isEqualTo(2);
+    assertThat(provider.getElementHash(1)).isEqualTo(5L);
+    assertThat(provider.getElementWeight(0)).isEqualTo(1.);
+    assertThat(provider.getElementWeight(1)).isEqualTo(1.);
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dynatrace.hash4j.random.PseudoRandomGeneratorProvider;
+import org.junit.jupiter.api.Test;
+
+class WeightedMinHashPolicy_v1Test extends AbstractWeightedMinHashPolicyTest {
+
+  @Override
+  protected WeightedSimilarityHashPolicy getSimilarityHashPolicy(
+      int numberOfComponents, int bitsPerComponent) {
+    return new WeightedMinHashPolicy_v1(
+        numberOfComponents, bitsPerComponent, PseudoRandomGeneratorProvider.splitMix64_V1());
+  }
+
+  @Override
+  protected long getCheckSum() {
+    return 7742358616517948059L;
+  }
+
+  @Override
+  protected long getWeightedCheckSum() {
+    return 2264108501287412713L;
+  }
+
+  @Test
+  void testExtremeWeights() {
+    WeightedSimilarityHashPolicy policy = getSimilarityHashPolicy(100, 64);
+    WeightedSimilarityHasher hasher = policy.createHasher();
+    long[] elementHashes = {0x6f1c3a9e5b2d8047L, 0x1a7e4c2f9b3d5086L};
+    byte[] signature1 =
+        hasher.compute(
+            WeightedElementHashProvider.ofValues(
+                elementHashes, new double[] {Double.MIN_VALUE, Double.MAX_VALUE}));
+    byte[] signature2 =
+        hasher.compute(
+            WeightedElementHashProvider.ofValues(
+                elementHashes, new double[] {1., Double.MAX_VALUE}));
+    assertThat(policy.getFractionOfEqualComponents(signature1, signature2)).isEqualTo(1.);
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dynatrace.hash4j.internal.VectorApiUtil;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class DistinctCountVectorUtilJava25Test {
+
+  private static void mergeUltraLogLogRegistersReference(
+      byte[] state, byte[] otherState, int from, int to) {
+    for (int i = from; i < to; ++i) {
+      if (otherState[i] != 0) {
+        state[i] =
+            UltraLogLog.pack(UltraLogLog.unpack(state[i]) | UltraLogLog.unpack(otherState[i]));
+      }
+    }
+  }
+
+  private static long getRegister(byte[] state, int idx) {
+    int bitOffset = 6 * idx;
+    int value = state[bitOffset >>> 3] & 0xFF;
+    if ((bitOffset >>> 3) + 1 < state.length) {
+      value |= (state[(bitOffset >>> 3) + 1] & 0xFF) << 8;
+    }
+    return (value >>> (bitOffset & 7)) & 0x3F;
+  }
+
+  private static void testUltraLogLogRegisterMerger(
+      DistinctCountVectorUtil.RegisterMerger registerMerger) {
+    // all valid register values, the smallest nonzero maximum update value is 2
+    byte[] registerValues = new byte[256];
+    int numRegisterValues = 0;
+    for (int r = 0; r < 256; ++r) {
+      if (r == 0 || r >= 8) {
+        registerValues[numRegisterValues++] = (byte) r;
+      }
+    }
+    byte[] state = new byte[numRegisterValues * numRegisterValues + 17];
+    byte[] otherState = new byte[state.length];
+    int k = 0;
+    for (int i = 0; i < numRegisterValues; ++i) {
+      for (int j = 0; j < numRegisterValues; ++j) {
+        state[k] = registerValues[i];
+        otherState[k] = registerValues[j];
+        k += 1;
+      }
+    }
+    SplittableRandom random = new SplittableRandom(0x2b8f0e6d4c1a7395L);
+    for (int i = 0; i < 100; ++i) {
+      int from = random.nextInt(64);
+      int to = from + random.nextInt(state.length - from + 1);
+      byte[] expectedState = state.clone();
+      byte[] actualState = state.clone();
+      int end = registerMerger.merge(actualState, otherState, from, to);
+      assertThat(end).isBetween(from, to);
+      assertThat(to - end).isLessThan(64);
+      mergeUltraLogLogRegistersReference(expectedState, otherState, from, end);
+      assertThat(actualState).isEqualTo(expectedState);
+    }
+  }
+
+  private static void testHyperLogLogRegisterMerger(
+      DistinctCountVectorUtil.RegisterMerger registerMerger) {
+    SplittableRandom random = new SplittableRandom(0x71c3e9a05d2f84b6L);
+    for (int i = 0; i < 100; ++i) {
+      int numGroups = random.nextInt(100);
+      byte[] state = new byte[6 * numGroups];
+      byte[] otherState = new byte[state.length];
+      random.nextBytes(state);
+      random.nextBytes(otherState);
+      int from = 6 * random.nextInt(numGroups + 1);
+      int to = from + 6 * random.nextInt((state.length - from) / 6 + 1);
+      byte[] actualState = state.clone();
+      int end = registerMerger.merge(actualState, otherState, from, to);
+      assertThat(end % 6).isZero();
+      assertThat(end).isBetween(from, to);
+      assertThat(to - end).isLessThan(64);
+      for (int idx = 0; idx < 8 * numGroups; ++idx) {
+        long expected = getRegister(state, idx);
+        if (idx >= (from / 6) * 8 && idx < (end / 6) * 8) {
+          expected = Math.max(expected, getRegister(otherState, idx));
+        }
+        assertThat(getRegister(actualState, idx)).isEqualTo(expected);
+      }
+    }
+  }
+
+  @Test
+  void testUltraLogLogRegisterMerger256() {
+    testUltraLogLogRegisterMerger(DistinctCountVectorUtil.getUltraLogLogRegisterMerger(256));
+  }
+
+  @Test
+  void testUltraLogLogRegisterMerger512() {
+    testUltraLogLogRegisterMerger(DistinctCountVectorUtil.getUltraLogLogRegisterMerger(512));
+  }
+
+  @Test
+  void testHyperLogLogRegisterMerger256() {
+    testHyperLogLogRegisterMerger(DistinctCountVectorUtil.getHyperLogLogRegisterMerger(256));
+  }
+
+  @Test
+  void testHyperLogLogRegisterMerger512() {
+    testHyperLogLogRegisterMerger(DistinctCountVectorUtil.getHyperLogLogRegisterMerger(512));
+  }
+
+  @Test
+  void testRegisterMergerSelection() {
+    assertThat(DistinctCountVectorUtil.getUltraLogLogRegisterMerger(0)).isNull();
+    assertThat(DistinctCountVectorUtil.getUltraLogLogRegisterMerger(128)).isNull();
+    assertThat(DistinctCountVectorUtil.getUltraLogLogRegisterMerger(256)).isNotNull();
+    assertThat(DistinctCountVectorUtil.getUltraLogLogRegisterMerger(512)).isNotNull();
+    assertThat(DistinctCountVectorUtil.getHyperLogLogRegisterMerger(0)).isNull();
+    assertThat(DistinctCountVectorUtil.getHyperLogLogRegisterMerger(128)).isNull();
+    assertThat(DistinctCountVectorUtil.getHyperLogLogRegisterMerger(256)).isNotNull();
+    assertThat(DistinctCountVectorUtil.getHyperLogLogRegisterMerger(512)).isNotNull();
+  }
+
+  @Test
+  void testAvailability() {
+    assertThat(DistinctCountVectorUtil.isAvailable())
+        .isEqualTo(
+            DistinctCountVectorUtil.getUltraLogLogRegisterMerger(
+                    VectorApiUtil.getPreferredVectorBitSize())
+                != null);
+  }
+}
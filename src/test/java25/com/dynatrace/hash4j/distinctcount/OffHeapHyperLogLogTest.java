@@ -0,0 +1,238 @@
+/*
+ * Copyright 2025-2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.distinctcount;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.reflect.Proxy;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class OffHeapHyperLogLogTest {
+
+  private static final int MIN_P = HyperLogLog.MIN_P;
+  private static final int MAX_P = 16;
+
+  private static int getStateLength(int p) {
+    return (6 << p) >>> 3;
+  }
+
+  private static void assertSameState(OffHeapHyperLogLog offHeapSketch, HyperLogLog sketch) {
+    assertThat(offHeapSketch.getP()).isEqualTo(sketch.getP());
+    assertThat(offHeapSketch.getState()).isEqualTo(sketch.getState());
+    assertThat(offHeapSketch.isEmpty()).isEqualTo(sketch.isEmpty());
+    assertThat(offHeapSketch.getStateChangeProbability())
+        .isEqualTo(sketch.getStateChangeProbability());
+    assertThat(offHeapSketch.getDistinctCountEstimate())
+        .isEqualTo(sketch.getDistinctCountEstimate());
+    assertThat(offHeapSketch.getDistinctCountEstimate(HyperLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR))
+        .isEqualTo(sketch.getDistinctCountEstimate(HyperLogLog.MAXIMUM_LIKELIHOOD_ESTIMATOR));
+    HyperLogLog.Estimator customEstimator = HyperLogLog.DEFAULT_ESTIMATOR::estimate;
+    assertThat(offHeapSketch.getDistinctCountEstimate(customEstimator))
+        .isEqualTo(sketch.getDistinctCountEstimate());
+  }
+
+  // wraps the given sketch such that it is not recognized as memory segment based sketch
+  private static OffHeapHyperLogLog foreignImplementation(OffHeapHyperLogLog sketch) {
+    return (OffHeapHyperLogLog)
+        Proxy.newProxyInstance(
+            OffHeapHyperLogLog.class.getClassLoader(),
+            new Class<?>[] {OffHeapHyperLogLog.class},
+            (proxy, method, args) -> method.invoke(sketch, args));
+  }
+
+  @Test
+  void testAdd() {
+    SplittableRandom random = new SplittableRandom(0x4f2c8e0b3f2d1a57L);
+    try (Arena arena = Arena.ofConfined()) {
+      for (int p = MIN_P; p <= MAX_P; ++p) {
+        MemorySegment segment = arena.allocate(getStateLength(p));
+        segment.fill((byte) 0x55);
+        OffHeapHyperLogLog offHeapSketch = OffHeapHyperLogLog.create(segment, p);
+        HyperLogLog sketch = HyperLogLog.create(p);
+        assertSameState(offHeapSketch, sketch);
+        for (int i = 0; i < 1000; ++i) {
+          long hash = random.nextLong();
+          if (i % 2 == 0) {
+            assertThat(offHeapSketch.add(hash)).isSameAs(offHeapSketch);
+            sketch.add(hash);
+          } else {
+            int token = HyperLogLog.computeToken(hash);
+            assertThat(offHeapSketch.addToken(token)).isSameAs(offHeapSketch);
+            sketch.addToken(token);
+          }
+        }
+        assertSameState(offHeapSketch, sketch);
+        assertSameState(OffHeapHyperLogLog.wrap(segment), sketch);
+        assertThat(offHeapSketch.reset()).isSameAs(offHeapSketch);
+        assertSameState(offHeapSketch, HyperLogLog.create(p));
+      }
+    }
+  }
+
+  @Test
+  void testAddWithStateChangeObserver() {
+    SplittableRandom random = new SplittableRandom(0x0d7a52c6ac1f0b3eL);
+    int p = 8;
+    OffHeapHyperLogLog offHeapSketch =
+        OffHeapHyperLogLog.create(MemorySegment.ofArray(new byte[getStateLength(p)]), p);
+    HyperLogLog sketch = HyperLogLog.create(p);
+    for (int i = 0; i < 10000; ++i) {
+      long hash = random.nextLong();
+      double[] expected = {0.};
+      double[] actual = {0.};
+      if (i % 2 == 0) {
+        sketch.add(hash, d -> expected[0] += d);
+        offHeapSketch.add(hash, d -> actual[0] += d);
+      } else {
+        int token = HyperLogLog.computeToken(hash);
+        sketch.addToken(token, d -> expected[0] += d);
+        offHeapSketch.addToken(token, d -> actual[0] += d);
+      }
+      assertThat(actual[0]).isEqualTo(expected[0]);
+    }
+    assertSameState(offHeapSketch, sketch);
+  }
+
+  @Test
+  void testMerge() {
+    SplittableRandom random = new SplittableRandom(0x6e1d9b3c55a02f47L);
+    for (int p1 = MIN_P; p1 <= 12; ++p1) {
+      for (int p2 = p1; p2 <= 12; ++p2) {
+        HyperLogLog sketch1 = HyperLogLog.create(p1);
+        HyperLogLog sketch2 = HyperLogLog.create(p2);
+        for (int i = 0; i < 3000; ++i) {
+          sketch1.add(random.nextLong());
+          sketch2.add(random.nextLong());
+        }
+        HyperLogLog expected = sketch1.copy().add(sketch2);
+
+        OffHeapHyperLogLog offHeapSketch1 =
+            OffHeapHyperLogLog.wrap(MemorySegment.ofArray(sketch1.copy().getState()));
+        OffHeapHyperLogLog offHeapSketch2 =
+            OffHeapHyperLogLog.wrap(MemorySegment.ofArray(sketch2.copy().getState()));
+
+        assertSameState(offHeapSketch1.add(offHeapSketch2), expected);
+        assertSameState(
+            OffHeapHyperLogLog.wrap(MemorySegment.ofArray(sketch1.copy().getState())).add(sketch2),
+            expected);
+        assertSameState(
+            OffHeapHyperLogLog.wrap(MemorySegment.ofArray(sketch1.copy().getState()))
+                .add(foreignImplementation(offHeapSketch2)),
+            expected);
+        if (p1 < p2) {
+          assertThatIllegalArgumentException().isThrownBy(() -> offHeapSketch2.add(sketch1));
+          assertThatIllegalArgumentException().isThrownBy(() -> offHeapSketch2.add(offHeapSketch1));
+        }
+      }
+    }
+  }
+
+  @Test
+  void testDownsize() {
+    SplittableRandom random = new SplittableRandom(0x2b7c64f1e9d8035aL);
+    for (int p = MIN_P; p <= 12; ++p) {
+      HyperLogLog sketch = HyperLogLog.create(p);
+      for (int i = 0; i < 3000; ++i) {
+        sketch.add(random.nextLong());
+      }
+      OffHeapHyperLogLog offHeapSketch =
+          OffHeapHyperLogLog.wrap(MemorySegment.ofArray(sketch.copy().getState()));
+      for (int targetP = MIN_P; targetP <= p; ++targetP) {
+        MemorySegment target = MemorySegment.ofArray(new byte[getStateLength(targetP)]);
+        target.fill((byte) 0x55);
+        assertSameState(offHeapSketch.downsize(target), sketch.downsize(targetP));
+      }
+      int largerStateLength = getStateLength(p + 1);
+      assertThatIllegalArgumentException()
+          .isThrownBy(
+              () -> offHeapSketch.downsize(MemorySegment.ofArray(new byte[largerStateLength])));
+      assertThatIllegalArgumentException()
+          .isThrownBy(() -> offHeapSketch.downsize(MemorySegment.ofArray(new byte[3])));
+      assertThatIllegalArgumentException().isThrownBy(() -> offHeapSketch.downsize(new byte[8]));
+      assertThatNullPointerException().isThrownBy(() -> offHeapSketch.downsize(null));
+    }
+  }
+
+  @Test
+  void testSlicesOfSharedSegment() {
+    int p = 6;
+    int numSketches = 10;
+    SplittableRandom random = new SplittableRandom(0x1f3a9c0e7b6d5248L);
+    try (Arena arena = Arena.ofConfined()) {
+      MemorySegment segment = arena.allocate((long) numSketches * getStateLength(p));
+      OffHeapHyperLogLog[] offHeapSketches = new OffHeapHyperLogLog[numSketches];
+      HyperLogLog[] sketches = new HyperLogLog[numSketches];
+      for (int i = 0; i < numSketches; ++i) {
+        offHeapSketches[i] =
+            OffHeapHyperLogLog.create(
+                segment.asSlice((long) i * getStateLength(p), getStateLength(p)), p);
+        sketches[i] = HyperLogLog.create(p);
+      }
+      for (int i = 0; i < 10000; ++i) {
+        int k = random.nextInt(numSketches);
+        long hash = random.nextLong();
+        offHeapSketches[k].add(hash);
+        sketches[k].add(hash);
+      }
+      for (int i = 0; i < numSketches; ++i) {
+        assertSameState(offHeapSketches[i], sketches[i]);
+      }
+    }
+  }
+
+  @Test
+  void testSaturatedSketch() {
+    int p = MIN_P;
+    HyperLogLog sketch = HyperLogLog.create(p);
+    for (int nlz = 0; nlz <= 64 - p; ++nlz) {
+      for (long idx = 0; idx < 1 << p; ++idx) {
+        sketch.add((idx << -p) | ((0xFFFFFFFFFFFFFFFFL >>> p) >>> nlz));
+      }
+    }
+    OffHeapHyperLogLog offHeapSketch =
+        OffHeapHyperLogLog.create(MemorySegment.ofArray(new byte[6]), p);
+    offHeapSketch.add(sketch);
+    assertSameState(offHeapSketch, sketch);
+    assertThat(offHeapSketch.getStateChangeProbability()).isZero();
+  }
+
+  @Test
+  void testInvalidArguments() {
+    assertThatNullPointerException().isThrownBy(() -> OffHeapHyperLogLog.create(null, 4));
+    assertThatNullPointerException().isThrownBy(() -> OffHeapHyperLogLog.wrap(null));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> OffHeapHyperLogLog.create(new byte[1 << 4], 4));
+    assertThatIllegalArgumentException().isThrownBy(() -> OffHeapHyperLogLog.wrap(new byte[16]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> OffHeapHyperLogLog.create(MemorySegment.ofArray(new byte[4]), 2));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> OffHeapHyperLogLog.create(MemorySegment.ofArray(new byte[32]), 4));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> OffHeapHyperLogLog.wrap(MemorySegment.ofArray(new byte[4])));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> OffHeapHyperLogLog.wrap(MemorySegment.ofArray(new byte[25])));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> OffHeapHyperLogLog.wrap(MemorySegment.ofArray(new long[1 << 24])));
+    OffHeapHyperLogLog sketch = OffHeapHyperLogLog.create(MemorySegment.ofArray(new byte[6]), 3);
+    assertThatNullPointerException().isThrownBy(() -> sketch.add((HyperLogLog) null));
+    assertThatNullPointerException().isThrownBy(() -> sketch.add((OffHeapHyperLogLog) null));
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025-2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.hashing;
+
+import static com.dynatrace.hash4j.hashing.XXH3Base.BLOCK_LEN_EXP;
+import static com.dynatrace.hash4j.hashing.XXH3Base.contrib;
+import static com.dynatrace.hash4j.hashing.XXH3Base.mixAcc;
+import static com.dynatrace.hash4j.internal.ByteArrayUtil.getLong;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dynatrace.hash4j.internal.VectorApiUtil;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class XXH3VectorUtilJava25Test {
+
+  private static void accumulateBlocksReference(
+      byte[] input, int off, int nbBlocks, long[] secret, long[] acc) {
+    for (int n = 0; n < nbBlocks; n++) {
+      final int offBlock = off + (n << BLOCK_LEN_EXP);
+      for (int s = 0; s < 16; s += 1) {
+        int offStripe = offBlock + (s << 6);
+        for (int i = 0; i < 8; ++i) {
+          long b = getLong(input, offStripe + 8 * i);
+          long bSwapped = getLong(input, offStripe + 8 * (i ^ 1));
+          acc[i] += bSwapped + contrib(b, secret[s + i]);
+        }
+      }
+      for (int i = 0; i < 8; ++i) {
+        acc[i] = mixAcc(acc[i], secret[16 + i]);
+      }
+    }
+  }
+
+  private static void testBlockAccumulator(XXH3VectorUtil.BlockAccumulator blockAccumulator) {
+    SplittableRandom random = new SplittableRandom(0x4d1c3b5e7a2f9e06L);
+    for (int i = 0; i < 100; ++i) {
+      int nbBlocks = random.nextInt(5);
+      int off = random.nextInt(64);
+      byte[] input = new byte[off + (nbBlocks << BLOCK_LEN_EXP) + random.nextInt(64)];
+      random.nextBytes(input);
+      long[] secret = ((XXH3Base) Hashing.xxh3_64(random.nextLong())).secret;
+      long[] expectedAcc = random.longs(8).toArray();
+      long[] acc = expectedAcc.clone();
+      accumulateBlocksReference(input, off, nbBlocks, secret, expectedAcc);
+      blockAccumulator.accumulateBlocks(input, off, nbBlocks, secret, acc);
+      assertThat(acc).isEqualTo(expectedAcc);
+    }
+  }
+
+  @Test
+  void testBlockAccumulator256() {
+    testBlockAccumulator(XXH3VectorUtil.getBlockAccumulator(256));
+  }
+
+  @Test
+  void testBlockAccumulator512() {
+    testBlockAccumulator(XXH3VectorUtil.getBlockAccumulator(512));
+  }
+
+  @Test
+  void testBlockAccumulatorSelection() {
+    assertThat(XXH3VectorUtil.getBlockAccumulator(0)).isNull();
+    assertThat(XXH3VectorUtil.getBlockAccumulator(128)).isNull();
+    assertThat(XXH3VectorUtil.getBlockAccumulator(256)).isNotNull();
+    assertThat(XXH3VectorUtil.getBlockAccumulator(512)).isNotNull();
+    assertThat(XXH3VectorUtil.getBlockAccumulator(1024)).isNotNull();
+  }
+
+  @Test
+  void testAvailability() {
+    assertThat(XXH3VectorUtil.isAvailable())
+        .isEqualTo(
+            XXH3VectorUtil.getBlockAccumulator(VectorApiUtil.getPreferredVectorBitSize()) != null);
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dynatrace.hash4j.internal.VectorApiUtil;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class RandomVectorUtilTest {
+
+  private static void testSplitMix64Kernel(RandomVectorUtil.SplitMix64Kernel kernel) {
+    SplittableRandom random = new SplittableRandom(0x2e6b4f1a9c3d7085L);
+    for (int i = 0; i < 100; ++i) {
+      int len = random.nextInt(100);
+      int off = random.nextInt(10);
+      long state = random.nextLong();
+      long[] expected = new long[off + len + random.nextInt(10)];
+      long[] actual = expected.clone();
+      int numValues = kernel.splitMix64(state, actual, off, len);
+      assertThat(numValues).isBetween(Math.max(0, len - 7), len);
+      SplitMix64V1 prg = new SplitMix64V1().reset(state);
+      for (int j = 0; j < numValues; ++j) {
+        expected[off + j] = prg.nextLong();
+      }
+      assertThat(actual).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void testSplitMix64Kernel256() {
+    testSplitMix64Kernel(RandomVectorUtil.getSplitMix64Kernel(256));
+  }
+
+  @Test
+  void testSplitMix64Kernel512() {
+    testSplitMix64Kernel(RandomVectorUtil.getSplitMix64Kernel(512));
+  }
+
+  @Test
+  void testSplitMix64KernelSelection() {
+    assertThat(RandomVectorUtil.getSplitMix64Kernel(0)).isNull();
+    assertThat(RandomVectorUtil.getSplitMix64Kernel(128)).isNull();
+    assertThat(RandomVectorUtil.getSplitMix64Kernel(256)).isNotNull();
+    assertThat(RandomVectorUtil.getSplitMix64Kernel(512)).isNotNull();
+    assertThat(RandomVectorUtil.getSplitMix64Kernel(1024)).isNotNull();
+  }
+
+  @Test
+  void testAvailability() {
+    assertThat(RandomVectorUtil.isAvailable())
+        .isEqualTo(
+            RandomVectorUtil.getSplitMix64Kernel(VectorApiUtil.getPreferredVectorBitSize())
+                != null);
+  }
+}
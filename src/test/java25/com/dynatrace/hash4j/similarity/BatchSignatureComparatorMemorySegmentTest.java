@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class BatchSignatureComparatorMemorySegmentTest {
+
+  private static final int[] NUMBERS_OF_COMPONENTS = {1, 3, 8, 31, 64, 65, 257};
+
+  private static MemorySegment toMemorySegment(Arena arena, byte[] signatures) {
+    MemorySegment segment = arena.allocate(signatures.length);
+    MemorySegment.copy(MemorySegment.ofArray(signatures), 0, segment, 0, signatures.length);
+    return segment;
+  }
+
+  @Test
+  void testCompareOneToMany() {
+    SplittableRandom random = new SplittableRandom(0x2b8d4f1e6a3c9075L);
+    try (Arena arena = Arena.ofConfined()) {
+      for (int bitSize = 1; bitSize <= 64; ++bitSize) {
+        for (int numberOfComponents : NUMBERS_OF_COMPONENTS) {
+          SimilarityHashPolicy policy = SimilarityHashing.minHash(numberOfComponents, bitSize);
+          BatchSignatureComparator comparator = BatchSignatureComparator.create(policy);
+          byte[] query = new byte[policy.getSignatureSizeInBytes()];
+          random.nextBytes(query);
+          byte[] signatures =
+              BatchSignatureComparatorTest.createSignatures(policy, query, 20, random);
+          int[] expected =
+              BatchSignatureComparatorTest.getExpectedNumbersOfEqualComponents(
+                  policy, query, signatures);
+          int[] actual = new int[20];
+          comparator.compareOneToMany(query, toMemorySegment(arena, signatures), actual);
+          assertThat(actual).isEqualTo(expected);
+          comparator.compareOneToMany(query, MemorySegment.ofArray(signatures), actual);
+          assertThat(actual).isEqualTo(expected);
+        }
+      }
+    }
+  }
+
+  @Test
+  void testCompareManyToMany() {
+    SplittableRandom random = new SplittableRandom(0x7e3a1c5f9d2b6048L);
+    try (Arena arena = Arena.ofConfined()) {
+      for (int bitSize : new int[] {1, 3, 8, 16, 64}) {
+        SimilarityHashPolicy policy = SimilarityHashing.minHash(100, bitSize);
+        BatchSignatureComparator comparator = BatchSignatureComparator.create(policy);
+        byte[] query = new byte[policy.getSignatureSizeInBytes()];
+        random.nextBytes(query);
+        byte[] signatures1 =
+            BatchSignatureComparatorTest.createSignatures(policy, query, 7, random);
+        byte[] signatures2 =
+            BatchSignatureComparatorTest.createSignatures(policy, query, 300, random);
+        int[] expected = new int[7 * 300];
+        comparator.compareManyToMany(signatures1, signatures2, expected);
+        int[] actual = new int[7 * 300];
+        comparator.compareManyToMany(
+            toMemorySegment(arena, signatures1), toMemorySegment(arena, signatures2), actual);
+        assertThat(actual).isEqualTo(expected);
+      }
+    }
+  }
+
+  @Test
+  void testFindMostSimilar() {
+    SplittableRandom random = new SplittableRandom(0x4c9f2e7a1b5d3086L);
+    try (Arena arena = Arena.ofConfined()) {
+      for (int bitSize : new int[] {1, 2, 5, 32}) {
+        SimilarityHashPolicy policy = SimilarityHashing.minHash(16, bitSize);
+        BatchSignatureComparator comparator = BatchSignatureComparator.create(policy);
+        byte[] query = new byte[policy.getSignatureSizeInBytes()];
+        random.nextBytes(query);
+        byte[] signatures =
+            BatchSignatureComparatorTest.createSignatures(policy, query, 3000, random);
+        MemorySegment segment = toMemorySegment(arena, signatures);
+        assertThat(comparator.getNumberOfSignatures(segment)).isEqualTo(3000);
+        for (int k : new int[] {0, 1, 10, 3000, 3001}) {
+          assertThat(comparator.findMostSimilar(query, segment, k))
+              .isEqualTo(comparator.findMostSimilar(query, signatures, k));
+        }
+      }
+    }
+  }
+
+  @Test
+  void testInvalidArguments() {
+    BatchSignatureComparator comparator =
+        BatchSignatureComparator.create(SimilarityHashing.minHash(10, 4));
+    byte[] query = new byte[5];
+    MemorySegment signatures = MemorySegment.ofArray(new byte[15]);
+    assertThatNullPointerException().isThrownBy(() -> comparator.getNumberOfSignatures(null));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> comparator.getNumberOfSignatures(new byte[15]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> comparator.getNumberOfSignatures(MemorySegment.ofArray(new byte[14])));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> comparator.compareOneToMany(query, signatures, new int[2]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> comparator.compareManyToMany(signatures, signatures, new int[8]));
+    assertThatIllegalArgumentException()
+        .isThrownBy(() -> comparator.findMostSimilar(query, signatures, -1));
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Dynatrace LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dynatrace.hash4j.similarity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dynatrace.hash4j.internal.VectorApiUtil;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class SimilarityVectorUtilJava25Test {
+
+  private static void testNonZeroComponentCounter(
+      SimilarityVectorUtil.NonZeroComponentCounter counter) {
+    SplittableRandom random = new SplittableRandom(0x5c1e9a3f7d2b4806L);
+    for (int i = 0; i < 1000; ++i) {
+      int bitSize = 1 << random.nextInt(7);
+      long lowBits = BatchSignatureComparator.getLowBits(bitSize);
+      int signatureSize = random.nextInt(300) + 1;
+      int len = (signatureSize >>> 3) << 3;
+      int numSignatures = random.nextInt(10);
+      int queryOff = random.nextInt(10);
+      int off = random.nextInt(10);
+      int resultOff = random.nextInt(10);
+      byte[] query = new byte[queryOff + signatureSize];
+      byte[] signatures = new byte[off + numSignatures * signatureSize];
+      random.nextBytes(query);
+      random.nextBytes(signatures);
+      int[] expected = new int[resultOff + numSignatures + random.nextInt(10)];
+      int[] actual = expected.clone();
+      int numProcessedBytes =
+          counter.countNonZeroComponents(
+              MemorySegment.ofArray(query),
+              queryOff,
+              MemorySegment.ofArray(signatures),
+              off,
+              numSignatures,
+              signatureSize,
+              len,
+              bitSize,
+              lowBits,
+              actual,
+              resultOff);
+      assertThat(numProcessedBytes).isBetween(Math.max(0, len - 63), len);
+      assertThat(numProcessedBytes % 32).isZero();
+      if (numProcessedBytes > 0) {
+        ByteBuffer queryBuffer = ByteBuffer.wrap(query).order(ByteOrder.LITTLE_ENDIAN);
+        ByteBuffer signaturesBuffer = ByteBuffer.wrap(signatures).order(ByteOrder.LITTLE_ENDIAN);
+        for (int j = 0; j < numSignatures; ++j) {
+          int count = 0;
+          for (int p = 0; p < numProcessedBytes; p += 8) {
+            long x =
+                queryBuffer.getLong(queryOff + p)
+                    ^ signaturesBuffer.getLong(off + j * signatureSize + p);
+            count += BatchSignatureComparator.countNonZeroComponents(x, bitSize, lowBits);
+          }
+          expected[resultOff + j] = count;
+        }
+      }
+      assertThat(actual).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void testNonZeroComponentCounter256() {
+    testNonZeroComponentCounter(SimilarityVectorUtil.getNonZeroComponentCounter(256));
+  }
+
+  @Test
+  void testNonZeroComponentCounter512() {
+    testNonZeroComponentCounter(SimilarityVectorUtil.getNonZeroComponentCounter(512));
+  }
+
+  @Test
+  void testNonZeroComponentCounterSelection() {
+    assertThat(SimilarityVectorUtil.getNonZeroComponentCounter(0)).isNull();
+    assertThat(SimilarityVectorUtil.getNonZeroComponentCounter(128)).isNull();
+    assertThat(SimilarityVectorUtil.getNonZeroComponentCounter(256)).isNotNull();
+    assertThat(SimilarityVectorUtil.getNonZeroComponentCounter(512)).isNotNull();
+    assertThat(SimilarityVectorUtil.getNonZeroComponentCounter(1024)).isNotNull();
+  }
+
+  @Test
+  void testAvailability() {
+    assertThat(SimilarityVectorUtil.isAvailable())
+        .isEqualTo(
+            SimilarityVectorUtil.getNonZeroComponentCounter(
+                    VectorApiUtil.getPreferredVectorBitSize())
+                != null);
+  }
+}